@@ -1,10 +1,14 @@
 package saviing.bank.account.api;
 
+import saviing.bank.account.api.request.ApplyBulkTransferRequest;
+import saviing.bank.account.api.request.ApplyTransferRequest;
 import saviing.bank.account.api.request.DepositAccountRequest;
 import saviing.bank.account.api.request.WithdrawAccountRequest;
 import saviing.bank.account.api.request.GetAccountRequest;
 import saviing.bank.account.api.response.AccountApiResponse;
 import saviing.bank.account.api.response.AccountInfoResponse;
+import saviing.bank.account.api.response.ApplyBulkTransferResponse;
+import saviing.bank.account.api.response.ApplyTransferResponse;
 import saviing.bank.account.api.response.BalanceUpdateResponse;
 
 /**
@@ -35,4 +39,22 @@ public interface AccountInternalApi {
      * @return 조회 결과
      */
     AccountApiResponse<AccountInfoResponse> getAccount(GetAccountRequest request);
+
+    /**
+     * 계좌 간 이체 반영 처리.
+     * 두 계좌를 ID 오름차순으로 한 번에 로드해 출금/입금을 반영하고 반영 전 스냅샷을 함께 반환한다.
+     *
+     * @param request 이체 반영 요청
+     * @return 처리 결과
+     */
+    AccountApiResponse<ApplyTransferResponse> applyTransfer(ApplyTransferRequest request);
+
+    /**
+     * 한 출금 계좌에서 여러 입금 계좌로의 일괄 이체 반영 처리.
+     * 관련 계좌를 ID 오름차순으로 한 번에 로드해 건별 조건을 검사하고, 계좌마다 합산 금액을 한 번씩 반영한다.
+     *
+     * @param request 일괄 이체 반영 요청
+     * @return 처리 결과
+     */
+    AccountApiResponse<ApplyBulkTransferResponse> applyBulkTransfer(ApplyBulkTransferRequest request);
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package saviing.bank.account.api.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 한 출금 계좌에서 여러 입금 계좌로의 일괄 이체 반영 요청 DTO.
+ * 출금 계좌 차감과 입금 계좌 가산을 한 번의 호출로 처리한다.
+ */
+public record ApplyBulkTransferRequest(
+    @NotNull @Positive Long sourceAccountId,
+    @NotEmpty List<@Valid Leg> legs
+) {
+
+    public ApplyBulkTransferRequest {
+        if (sourceAccountId == null || sourceAccountId <= 0) {
+            throw new IllegalArgumentException("sourceAccountId must be positive: " + sourceAccountId);
+        }
+        if (legs == null || legs.isEmpty()) {
+            throw new IllegalArgumentException("legs must not be empty");
+        }
+        legs = List.copyOf(legs);
+    }
+
+    public static ApplyBulkTransferRequest of(Long sourceAccountId, List<Leg> legs) {
+        return new ApplyBulkTransferRequest(sourceAccountId, legs);
+    }
+
+    /**
+     * 일괄 이체 한 건의 입금 계좌와 금액.
+     */
+    public record Leg(
+        @NotNull @Positive Long targetAccountId,
+        @NotNull @Positive Long amount
+    ) {
+
+        public Leg {
+            if (targetAccountId == null || targetAccountId <= 0) {
+                throw new IllegalArgumentException("targetAccountId must be positive: " + targetAccountId);
+            }
+            if (amount == null || amount <= 0) {
+                throw new IllegalArgumentException("amount must be positive: " + amount);
+            }
+        }
+
+        public static Leg of(Long targetAccountId, Long amount) {
+            return new Leg(targetAccountId, amount);
+        }
+    }
+}
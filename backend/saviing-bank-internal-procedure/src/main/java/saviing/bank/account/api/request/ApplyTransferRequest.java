@@ -0,0 +1,34 @@
+package saviing.bank.account.api.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 계좌 간 이체 반영 요청 DTO.
+ * 출금 계좌 차감과 입금 계좌 가산을 한 번의 호출로 처리한다.
+ */
+public record ApplyTransferRequest(
+    @NotNull @Positive Long sourceAccountId,
+    @NotNull @Positive Long targetAccountId,
+    @NotNull @Positive Long amount
+) {
+
+    public ApplyTransferRequest {
+        if (sourceAccountId == null || sourceAccountId <= 0) {
+            throw new IllegalArgumentException("sourceAccountId must be positive: " + sourceAccountId);
+        }
+        if (targetAccountId == null || targetAccountId <= 0) {
+            throw new IllegalArgumentException("targetAccountId must be positive: " + targetAccountId);
+        }
+        if (sourceAccountId.equals(targetAccountId)) {
+            throw new IllegalArgumentException("sourceAccountId and targetAccountId must differ: " + sourceAccountId);
+        }
+        if (amount == null || amount <= 0) {
+            throw new IllegalArgumentException("amount must be positive: " + amount);
+        }
+    }
+
+    public static ApplyTransferRequest of(Long sourceAccountId, Long targetAccountId, Long amount) {
+        return new ApplyTransferRequest(sourceAccountId, targetAccountId, amount);
+    }
+}
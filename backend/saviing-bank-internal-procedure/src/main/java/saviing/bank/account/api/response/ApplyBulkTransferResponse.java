@@ -0,0 +1,34 @@
+package saviing.bank.account.api.response;
+
+import java.util.List;
+
+/**
+ * 일괄 이체 반영 응답 DTO.
+ * 반영 전 출금 계좌 스냅샷과 요청 순서대로의 건별 반영 결과를 담는다.
+ *
+ * @param source 반영 전 출금 계좌 정보
+ * @param legs 건별 반영 결과 (요청 순서)
+ */
+public record ApplyBulkTransferResponse(
+    AccountInfoResponse source,
+    List<LegResult> legs
+) {
+
+    /**
+     * 일괄 이체 한 건의 반영 결과.
+     *
+     * @param applied 잔액 반영 여부
+     * @param target 반영 전 입금 계좌 정보 (계좌가 없으면 null)
+     * @param sourceBalanceAfter 이 건까지 반영한 출금 계좌 잔액 (미반영 시 null)
+     * @param targetBalanceAfter 이 건까지 반영한 입금 계좌 잔액 (미반영 시 null)
+     * @param rejectReason 미반영 사유 (반영 시 null)
+     */
+    public record LegResult(
+        boolean applied,
+        AccountInfoResponse target,
+        Long sourceBalanceAfter,
+        Long targetBalanceAfter,
+        String rejectReason
+    ) {
+    }
+}
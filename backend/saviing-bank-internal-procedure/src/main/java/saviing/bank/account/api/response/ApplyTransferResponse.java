@@ -0,0 +1,33 @@
+package saviing.bank.account.api.response;
+
+/**
+ * 계좌 간 이체 반영 응답 DTO.
+ * 반영 전 두 계좌의 스냅샷과, 반영된 경우 각 계좌의 잔액 변경 결과를 함께 담는다.
+ *
+ * @param applied 잔액 반영 여부 (계좌 상태/잔액 조건을 만족하지 못하면 false)
+ * @param source 반영 전 출금 계좌 정보
+ * @param target 반영 전 입금 계좌 정보
+ * @param withdrawal 출금 계좌 잔액 변경 결과 (미반영 시 null)
+ * @param deposit 입금 계좌 잔액 변경 결과 (미반영 시 null)
+ */
+public record ApplyTransferResponse(
+    boolean applied,
+    AccountInfoResponse source,
+    AccountInfoResponse target,
+    BalanceUpdateResponse withdrawal,
+    BalanceUpdateResponse deposit
+) {
+
+    public static ApplyTransferResponse applied(
+        AccountInfoResponse source,
+        AccountInfoResponse target,
+        BalanceUpdateResponse withdrawal,
+        BalanceUpdateResponse deposit
+    ) {
+        return new ApplyTransferResponse(true, source, target, withdrawal, deposit);
+    }
+
+    public static ApplyTransferResponse rejected(AccountInfoResponse source, AccountInfoResponse target) {
+        return new ApplyTransferResponse(false, source, target, null, null);
+    }
+}
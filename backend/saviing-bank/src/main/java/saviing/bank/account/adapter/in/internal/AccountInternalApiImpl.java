@@ -1,5 +1,7 @@
 package saviing.bank.account.adapter.in.internal;
 
+import java.util.List;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -7,16 +9,24 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import saviing.bank.account.api.AccountInternalApi;
+import saviing.bank.account.api.request.ApplyBulkTransferRequest;
+import saviing.bank.account.api.request.ApplyTransferRequest;
 import saviing.bank.account.api.request.DepositAccountRequest;
 import saviing.bank.account.api.request.WithdrawAccountRequest;
 import saviing.bank.account.api.request.GetAccountRequest;
 import saviing.bank.account.api.response.AccountApiResponse;
 import saviing.bank.account.api.response.AccountInfoResponse;
+import saviing.bank.account.api.response.ApplyBulkTransferResponse;
+import saviing.bank.account.api.response.ApplyTransferResponse;
 import saviing.bank.account.api.response.BalanceUpdateResponse;
 import saviing.bank.account.application.service.AccountBalanceService;
 import saviing.bank.account.application.port.in.GetAccountUseCase;
+import saviing.bank.account.application.port.in.command.DepositAccountCommand;
 import saviing.bank.account.application.port.in.result.BalanceUpdateResult;
+import saviing.bank.account.application.port.in.result.BulkTransferBalanceResult;
 import saviing.bank.account.application.port.in.result.GetAccountResult;
+import saviing.bank.account.application.port.in.result.TransferBalanceResult;
+import saviing.bank.account.exception.AccountException;
 import saviing.common.annotation.ExecutionTime;
 
 /**
@@ -109,4 +119,95 @@ public class AccountInternalApiImpl implements AccountInternalApi {
             return AccountApiResponse.Failure.of(e.getMessage());
         }
     }
+
+    @Override
+    @Transactional
+    public AccountApiResponse<ApplyTransferResponse> applyTransfer(ApplyTransferRequest request) {
+        log.info("Processing applyTransfer request: sourceAccountId={}, targetAccountId={}, amount={}",
+            request.sourceAccountId(), request.targetAccountId(), request.amount());
+
+        try {
+            TransferBalanceResult transferResult = accountBalanceService.applyTransfer(
+                request.sourceAccountId(),
+                request.targetAccountId(),
+                request.amount()
+            );
+
+            AccountInfoResponse source = toAccountInfo(transferResult.source());
+            AccountInfoResponse target = toAccountInfo(transferResult.target());
+            if (!transferResult.applied()) {
+                return AccountApiResponse.Success.of(ApplyTransferResponse.rejected(source, target));
+            }
+
+            ApplyTransferResponse apiResult = ApplyTransferResponse.applied(
+                source,
+                target,
+                toBalanceUpdate(transferResult.withdrawal()),
+                toBalanceUpdate(transferResult.deposit())
+            );
+
+            return AccountApiResponse.Success.of(apiResult);
+
+        } catch (AccountException e) {
+            // 잠금 경합 등 데이터 접근 예외는 호출자의 재시도/롤백 판단을 위해 그대로 전파하고 계좌 도메인 예외만 실패 응답으로 변환한다.
+            log.error("Error during applyTransfer: sourceAccountId=" + request.sourceAccountId()
+                + ", targetAccountId=" + request.targetAccountId(), e);
+            return AccountApiResponse.Failure.of(e.getMessage());
+        }
+    }
+
+    @Override
+    @Transactional
+    public AccountApiResponse<ApplyBulkTransferResponse> applyBulkTransfer(ApplyBulkTransferRequest request) {
+        log.info("Processing applyBulkTransfer request: sourceAccountId={}, legs={}",
+            request.sourceAccountId(), request.legs().size());
+
+        try {
+            List<DepositAccountCommand> legs = request.legs().stream()
+                .map(leg -> DepositAccountCommand.of(leg.targetAccountId(), leg.amount()))
+                .toList();
+            BulkTransferBalanceResult transferResult = accountBalanceService.applyBulkTransfer(
+                request.sourceAccountId(),
+                legs
+            );
+
+            List<ApplyBulkTransferResponse.LegResult> legResults = transferResult.legs().stream()
+                .map(leg -> new ApplyBulkTransferResponse.LegResult(
+                    leg.applied(),
+                    leg.target() != null ? toAccountInfo(leg.target()) : null,
+                    leg.sourceBalanceAfter(),
+                    leg.targetBalanceAfter(),
+                    leg.rejectReason()
+                ))
+                .toList();
+
+            return AccountApiResponse.Success.of(
+                new ApplyBulkTransferResponse(toAccountInfo(transferResult.source()), legResults)
+            );
+
+        } catch (AccountException e) {
+            log.error("Error during applyBulkTransfer: sourceAccountId=" + request.sourceAccountId(), e);
+            return AccountApiResponse.Failure.of(e.getMessage());
+        }
+    }
+
+    private AccountInfoResponse toAccountInfo(TransferBalanceResult.AccountState state) {
+        return new AccountInfoResponse(
+            state.accountId(),
+            state.accountNumber(),
+            state.customerId(),
+            state.balance(),
+            state.status(),
+            state.productId()
+        );
+    }
+
+    private BalanceUpdateResponse toBalanceUpdate(BalanceUpdateResult updateResult) {
+        return BalanceUpdateResponse.of(
+            updateResult.accountId(),
+            updateResult.previousBalance(),
+            updateResult.currentBalance(),
+            updateResult.transactionAmount()
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package saviing.bank.account.adapter.out.cache;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import saviing.bank.account.domain.model.Account;
+import saviing.bank.account.domain.model.AccountStatus;
+import saviing.bank.account.domain.model.CompoundingType;
+import saviing.bank.account.domain.model.TermUnit;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.account.domain.vo.AccountNumber;
+import saviing.bank.account.domain.vo.BasisPoints;
+import saviing.bank.account.domain.vo.ProductId;
+import saviing.bank.account.domain.vo.TermPeriod;
+import saviing.bank.common.vo.MoneyWon;
+
+/**
+ * 캐시에 보관하는 계좌 상태의 불변 스냅샷.
+ * 엔티티의 {@code @Version} 값을 함께 저장해 오래된 스냅샷을 걸러내며, Redis에는 JSON으로 저장한다.
+ */
+record AccountSnapshot(
+    Long accountId,
+    String accountNumber,
+    Long customerId,
+    Long productId,
+    CompoundingType compoundingType,
+    String maturityWithdrawalAccount,
+    Long targetAmount,
+    Integer termPeriodValue,
+    TermUnit termPeriodUnit,
+    LocalDate maturityDate,
+    AccountStatus status,
+    Instant openedAt,
+    Instant closedAt,
+    Instant lastAccrualTs,
+    Instant lastRateChangeAt,
+    Instant createdAt,
+    Instant updatedAt,
+    long balance,
+    BigDecimal interestAccrued,
+    short baseRateBps,
+    short bonusRateBps,
+    long version
+) {
+
+    static AccountSnapshot of(Account account, long version) {
+        return new AccountSnapshot(
+            account.getId().value(),
+            account.getAccountNumber().value(),
+            account.getCustomerId(),
+            account.getProductId().value(),
+            account.getCompoundingType(),
+            account.getMaturityWithdrawalAccount() != null ? account.getMaturityWithdrawalAccount().value() : null,
+            account.getTargetAmount() != null ? account.getTargetAmount().amount() : null,
+            account.getTermPeriod() != null ? account.getTermPeriod().value() : null,
+            account.getTermPeriod() != null ? account.getTermPeriod().unit() : null,
+            account.getMaturityDate(),
+            account.getStatus(),
+            account.getOpenedAt(),
+            account.getClosedAt(),
+            account.getLastAccrualTs(),
+            account.getLastRateChangeAt(),
+            account.getCreatedAt(),
+            account.getUpdatedAt(),
+            account.getBalance().amount(),
+            account.getInterestAccrued(),
+            account.getBaseRate().value(),
+            account.getBonusRate().value(),
+            version
+        );
+    }
+
+    Account toDomain() {
+        return Account.restore(
+            AccountId.of(accountId),
+            new AccountNumber(accountNumber),
+            customerId,
+            ProductId.of(productId),
+            compoundingType,
+            maturityWithdrawalAccount != null ? new AccountNumber(maturityWithdrawalAccount) : null,
+            targetAmount != null ? MoneyWon.of(targetAmount) : null,
+            (termPeriodValue != null && termPeriodUnit != null) ? TermPeriod.of(termPeriodValue, termPeriodUnit) : null,
+            maturityDate,
+            status,
+            openedAt,
+            closedAt,
+            lastAccrualTs,
+            lastRateChangeAt,
+            createdAt,
+            updatedAt,
+            MoneyWon.of(balance),
+            interestAccrued,
+            BasisPoints.of(baseRateBps),
+            BasisPoints.of(bonusRateBps)
+        );
+    }
+}
@@ -0,0 +1,309 @@
+package saviing.bank.account.adapter.out.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import saviing.bank.account.domain.model.Account;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.account.domain.vo.AccountNumber;
+
+/**
+ * 조회 전용 계좌 스냅샷 캐시
+ * 노드 로컬의 크기 제한 LRU를 1차 캐시로 사용하고, 설정 시 Redis를 노드 간 공유 2차 캐시로 사용한다.
+ * 계좌별로 마지막으로 커밋된 {@code @Version} 값을 기록해 두고 그보다 오래된 스냅샷은 저장하지도 반환하지도 않으므로,
+ * 같은 노드에서 커밋된 쓰기보다 오래된 잔액을 돌려주지 않는다.
+ * 다른 노드에서 커밋된 쓰기는 이 노드의 버전 기록에 남지 않으므로, 로컬 스냅샷과 Redis 키 모두 적재 후
+ * {@code account.snapshot-cache.ttl-seconds}가 지나면 만료시켜 다른 노드의 쓰기가 최대 TTL만큼 늦게 반영되도록 제한한다.
+ * Redis 장애는 캐시 미스로 취급하며 DB 조회 경로로 넘어간다.
+ */
+@Slf4j
+@Component
+public class AccountSnapshotCache {
+
+    private static final String REDIS_ID_KEY_PREFIX = "account:snapshot:id:";
+    private static final String REDIS_NUMBER_KEY_PREFIX = "account:snapshot:number:";
+    private static final String METRIC_PREFIX = "account_snapshot_cache";
+    // 버전 기록은 스냅샷보다 오래 남아야 늦게 도착한 옛 스냅샷을 걸러낼 수 있다.
+    private static final int COMMITTED_VERSION_CAPACITY_FACTOR = 4;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder requestCount = new LongAdder();
+
+    @Value("${account.snapshot-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${account.snapshot-cache.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${account.snapshot-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final Object lock = new Object();
+
+    private final Map<Long, LocalEntry> snapshotsById = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, LocalEntry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    // 계좌번호는 바뀌지 않으므로 계좌번호 → 계좌 ID 매핑은 무효화하지 않는다.
+    private final Map<String, Long> accountIdsByNumber = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private final Map<Long, Long> committedVersions = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > (long) maxSize * COMMITTED_VERSION_CAPACITY_FACTOR;
+        }
+    };
+
+    public AccountSnapshotCache(
+        StringRedisTemplate stringRedisTemplate,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.localHits = meterRegistry.counter(METRIC_PREFIX + ".requests", "tier", "local", "result", "hit");
+        this.redisHits = meterRegistry.counter(METRIC_PREFIX + ".requests", "tier", "redis", "result", "hit");
+        this.misses = meterRegistry.counter(METRIC_PREFIX + ".requests", "tier", "none", "result", "miss");
+        Gauge.builder(METRIC_PREFIX + ".hit_ratio", this, AccountSnapshotCache::hitRatio)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 계좌 ID로 캐시된 계좌를 조회한다.
+     *
+     * @param accountId 계좌 ID
+     * @return 캐시된 계좌 (없거나 오래된 경우 empty)
+     */
+    public Optional<Account> get(AccountId accountId) {
+        requestCount.increment();
+        Long id = accountId.value();
+        synchronized (lock) {
+            LocalEntry cached = snapshotsById.get(id);
+            if (cached != null) {
+                if (!isExpired(cached) && isCurrent(cached.snapshot())) {
+                    recordHit(localHits);
+                    return Optional.of(cached.snapshot().toDomain());
+                }
+                snapshotsById.remove(id);
+            }
+        }
+        Optional<AccountSnapshot> shared = readRedis(id);
+        if (shared.isPresent()) {
+            AccountSnapshot snapshot = shared.get();
+            synchronized (lock) {
+                if (isCurrent(snapshot)) {
+                    putLocal(snapshot);
+                    recordHit(redisHits);
+                    return Optional.of(snapshot.toDomain());
+                }
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 계좌번호에 해당하는 계좌 ID를 조회한다.
+     *
+     * @param accountNumber 계좌번호
+     * @return 계좌 ID (알 수 없는 경우 empty)
+     */
+    public Optional<AccountId> resolveId(AccountNumber accountNumber) {
+        synchronized (lock) {
+            Long id = accountIdsByNumber.get(accountNumber.value());
+            if (id != null) {
+                return Optional.of(AccountId.of(id));
+            }
+        }
+        if (!redisEnabled) {
+            return Optional.empty();
+        }
+        try {
+            String value = stringRedisTemplate.opsForValue().get(REDIS_NUMBER_KEY_PREFIX + accountNumber.value());
+            if (value == null) {
+                return Optional.empty();
+            }
+            Long id = Long.valueOf(value);
+            synchronized (lock) {
+                accountIdsByNumber.put(accountNumber.value(), id);
+            }
+            return Optional.of(AccountId.of(id));
+        } catch (Exception ex) {
+            log.warn("계좌 스냅샷 캐시 계좌번호 조회 실패: accountNumber={}, error={}", accountNumber.value(), ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB에서 읽은 계좌를 캐시에 저장한다.
+     * 이미 더 새로운 버전이 커밋된 계좌이거나, 커밋되지 않은 변경이 섞였을 수 있는 쓰기 트랜잭션 안에서 읽은 계좌라면 저장하지 않는다.
+     *
+     * @param account 저장할 계좌
+     * @param version 계좌를 읽을 때의 엔티티 버전
+     */
+    public void put(Account account, long version) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        AccountSnapshot snapshot = AccountSnapshot.of(account, version);
+        synchronized (lock) {
+            if (!isCurrent(snapshot)) {
+                return;
+            }
+            putLocal(snapshot);
+        }
+        writeRedis(snapshot);
+    }
+
+    /**
+     * 계좌 스냅샷을 즉시 비우고, 현재 트랜잭션이 끝나면 결과에 맞춰 다시 무효화한다.
+     * 커밋되면 커밋된 버전을 기록해 그보다 오래된 스냅샷이 다시 들어오지 못하게 한다.
+     * 트랜잭션 밖에서 호출되면 이미 커밋된 것으로 보고 바로 기록한다.
+     *
+     * @param accountId 계좌 ID
+     * @param committedVersion 커밋 후의 엔티티 버전 (트랜잭션 완료 시점에 평가)
+     */
+    public void evictOnCompletion(AccountId accountId, LongSupplier committedVersion) {
+        evict(accountId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markCommitted(accountId, committedVersion.getAsLong());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    markCommitted(accountId, committedVersion.getAsLong());
+                } else {
+                    evict(accountId);
+                }
+            }
+        });
+    }
+
+    /**
+     * 계좌의 커밋된 버전을 기록하고 캐시된 스냅샷을 비운다.
+     *
+     * @param accountId 계좌 ID
+     * @param version 커밋된 엔티티 버전
+     */
+    public void markCommitted(AccountId accountId, long version) {
+        synchronized (lock) {
+            committedVersions.merge(accountId.value(), version, Math::max);
+        }
+        evict(accountId);
+    }
+
+    /**
+     * 계좌 스냅샷을 로컬 캐시와 Redis에서 제거한다.
+     *
+     * @param accountId 계좌 ID
+     */
+    public void evict(AccountId accountId) {
+        synchronized (lock) {
+            snapshotsById.remove(accountId.value());
+        }
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(REDIS_ID_KEY_PREFIX + accountId.value());
+        } catch (Exception ex) {
+            log.warn("계좌 스냅샷 캐시 삭제 실패: accountId={}, error={}", accountId.value(), ex.getMessage());
+        }
+    }
+
+    /**
+     * 누적 조회 대비 캐시 적중 비율.
+     *
+     * @return 적중 비율 (조회가 없으면 0)
+     */
+    double hitRatio() {
+        long requests = requestCount.sum();
+        return requests == 0 ? 0.0 : (double) hitCount.sum() / requests;
+    }
+
+    private boolean isCurrent(AccountSnapshot snapshot) {
+        Long committed = committedVersions.get(snapshot.accountId());
+        return committed == null || snapshot.version() >= committed;
+    }
+
+    private boolean isExpired(LocalEntry entry) {
+        return System.nanoTime() - entry.loadedAtNanos() >= TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    private void putLocal(AccountSnapshot snapshot) {
+        snapshotsById.put(snapshot.accountId(), new LocalEntry(snapshot, System.nanoTime()));
+        accountIdsByNumber.put(snapshot.accountNumber(), snapshot.accountId());
+    }
+
+    private void recordHit(Counter tierCounter) {
+        tierCounter.increment();
+        hitCount.increment();
+    }
+
+    private Optional<AccountSnapshot> readRedis(Long accountId) {
+        if (!redisEnabled) {
+            return Optional.empty();
+        }
+        try {
+            String value = stringRedisTemplate.opsForValue().get(REDIS_ID_KEY_PREFIX + accountId);
+            if (value == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(value, AccountSnapshot.class));
+        } catch (Exception ex) {
+            log.warn("계좌 스냅샷 캐시 조회 실패: accountId={}, error={}", accountId, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeRedis(AccountSnapshot snapshot) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            Duration ttl = Duration.ofSeconds(ttlSeconds);
+            stringRedisTemplate.opsForValue()
+                .set(REDIS_ID_KEY_PREFIX + snapshot.accountId(), objectMapper.writeValueAsString(snapshot), ttl);
+            stringRedisTemplate.opsForValue()
+                .set(REDIS_NUMBER_KEY_PREFIX + snapshot.accountNumber(), String.valueOf(snapshot.accountId()), ttl);
+        } catch (Exception ex) {
+            log.warn("계좌 스냅샷 캐시 저장 실패: accountId={}, error={}", snapshot.accountId(), ex.getMessage());
+        }
+    }
+
+    private record LocalEntry(AccountSnapshot snapshot, long loadedAtNanos) {
+    }
+}
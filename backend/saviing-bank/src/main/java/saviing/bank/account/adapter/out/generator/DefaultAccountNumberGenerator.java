@@ -1,49 +1,141 @@
 package saviing.bank.account.adapter.out.generator;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Instant;
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 
 import saviing.common.annotation.ExecutionTime;
+import saviing.common.persistence.PooledIdGeneration;
 import saviing.bank.account.application.port.out.GenerateAccountNumberPort;
-import saviing.bank.account.application.port.out.LoadAccountPort;
 import saviing.bank.account.domain.vo.AccountNumber;
 
+/**
+ * 구간 할당 방식의 계좌번호 생성기
+ * {@value PooledIdGeneration#TABLE} 테이블의 {@value #SEGMENT} 카운터에서 일련번호 구간을 블록 단위로 임대받고,
+ * 구간 안에서는 {@link AtomicLong}으로 잠금 없이 일련번호를 나눠 준다.
+ * 카운터는 DB에 남으므로 여러 노드와 재기동 사이에서도 같은 구간이 두 번 임대되지 않아 존재 여부 조회가 필요 없다.
+ * 재기동 시 쓰지 않은 구간의 나머지는 버려진다.
+ *
+ * <p>계좌번호 형식은 {@code 1}(발급 체계 구분) + 12자리 일련번호 + Luhn 검증 숫자의 14자리다.
+ * 이전 방식으로 발급된 계좌번호는 항상 {@code 0}으로 시작하므로 겹치지 않는다.</p>
+ */
+@Slf4j
 @ExecutionTime
 @Component
 @RequiredArgsConstructor
 public class DefaultAccountNumberGenerator implements GenerateAccountNumberPort {
-    
-    private final LoadAccountPort loadAccountPort;
-    private final Random random = new Random();
-    
+
+    static final String SEGMENT = "account_number";
+    private static final String SCHEME_PREFIX = "1";
+    private static final int SERIAL_DIGITS = 12;
+    private static final long MAX_SERIAL = 999_999_999_999L;
+    private static final long INITIAL_SERIAL = 1L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${account.number.block-size:100}")
+    private int blockSize;
+
+    private volatile Block block = Block.EXHAUSTED;
+
     @Override
     public AccountNumber generateUniqueAccountNumber() {
-        AccountNumber accountNumber;
-        int attempts = 0;
-        int maxAttempts = 10;
-        
-        do {
-            accountNumber = generateAccountNumber();
-            attempts++;
-        } while (loadAccountPort.existsByAccountNumber(accountNumber) && attempts < maxAttempts);
-        
-        if (attempts >= maxAttempts) {
-            throw new RuntimeException("계좌번호 생성에 실패했습니다");
+        long serial = nextSerial();
+        String body = SCHEME_PREFIX + String.format("%0" + SERIAL_DIGITS + "d", serial);
+        return new AccountNumber(body + checkDigit(body));
+    }
+
+    private long nextSerial() {
+        while (true) {
+            Block current = block;
+            long serial = current.next().getAndIncrement();
+            if (serial < current.end()) {
+                return serial;
+            }
+            synchronized (this) {
+                // 다른 스레드가 이미 새 구간을 받아 왔다면 그 구간을 사용한다.
+                if (block == current) {
+                    block = leaseBlock();
+                }
+            }
         }
-        
-        return accountNumber;
     }
-    
-    private AccountNumber generateAccountNumber() {
-        // 간단한 계좌번호 생성 로직 (실제로는 더 복잡한 규칙이 필요할 수 있음)
-        long timestamp = Instant.now().toEpochMilli();
-        int randomPart = random.nextInt(9999);
-        
-        String accountNumberStr = String.format("%010d%04d", timestamp % 1000000000L, randomPart);
-        
-        return new AccountNumber(accountNumberStr);
+
+    /**
+     * 카운터에서 다음 구간을 임대한다.
+     * 호출 측 트랜잭션이 롤백되어도 임대한 구간이 반납되지 않도록 별도 트랜잭션에서 커밋한다.
+     */
+    private Block leaseBlock() {
+        TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+        txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Block leased = txTemplate.execute(status -> {
+            long start = lockCounter();
+            long end = start + blockSize;
+            if (end - 1 > MAX_SERIAL) {
+                throw new IllegalStateException("계좌번호 일련번호가 소진되었습니다");
+            }
+            jdbcTemplate.update(
+                "update " + PooledIdGeneration.TABLE
+                    + " set " + PooledIdGeneration.VALUE_COLUMN + " = ?"
+                    + " where " + PooledIdGeneration.SEGMENT_COLUMN + " = ?",
+                end, SEGMENT);
+            return new Block(new AtomicLong(start), end);
+        });
+        log.info("계좌번호 구간 임대: start={}, end={}", leased.next().get(), leased.end());
+        return leased;
+    }
+
+    private long lockCounter() {
+        String select = "select " + PooledIdGeneration.VALUE_COLUMN + " from " + PooledIdGeneration.TABLE
+            + " where " + PooledIdGeneration.SEGMENT_COLUMN + " = ? for update";
+        Long current = jdbcTemplate.query(select, rs -> rs.next() ? rs.getLong(1) : null, SEGMENT);
+        if (current != null) {
+            return current;
+        }
+        try {
+            jdbcTemplate.update(
+                "insert into " + PooledIdGeneration.TABLE
+                    + " (" + PooledIdGeneration.SEGMENT_COLUMN + ", " + PooledIdGeneration.VALUE_COLUMN + ") values (?, ?)",
+                SEGMENT, INITIAL_SERIAL);
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 먼저 카운터를 만들었다.
+        }
+        return jdbcTemplate.queryForObject(select, Long.class, SEGMENT);
+    }
+
+    /**
+     * Luhn(mod 10) 검증 숫자를 계산한다.
+     */
+    static int checkDigit(String body) {
+        int sum = 0;
+        boolean doubleDigit = true;
+        for (int i = body.length() - 1; i >= 0; i--) {
+            int digit = body.charAt(i) - '0';
+            if (doubleDigit) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubleDigit = !doubleDigit;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    /**
+     * 임대한 일련번호 구간 [next, end).
+     */
+    private record Block(AtomicLong next, long end) {
+        private static final Block EXHAUSTED = new Block(new AtomicLong(), 0L);
     }
-}
\ No newline at end of file
+}
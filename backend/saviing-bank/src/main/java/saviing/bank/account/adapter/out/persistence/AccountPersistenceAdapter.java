@@ -1,27 +1,47 @@
 package saviing.bank.account.adapter.out.persistence;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import saviing.common.annotation.ExecutionTime;
+import saviing.bank.account.adapter.out.cache.AccountSnapshotCache;
 import saviing.bank.account.adapter.out.persistence.entity.AccountJpaEntity;
+import saviing.bank.account.adapter.out.persistence.entity.AutoTransferScheduleJpaEntity;
 import saviing.bank.account.adapter.out.persistence.repository.JpaAccountRepository;
 import saviing.bank.account.application.port.out.LoadAccountPort;
+import saviing.bank.account.application.port.out.LoadAccountSnapshotPort;
 import saviing.bank.account.application.port.out.SaveAccountPort;
 import saviing.bank.account.domain.model.Account;
+import saviing.bank.account.domain.model.AccountStatus;
 import saviing.bank.account.domain.vo.AccountId;
 import saviing.bank.account.domain.vo.AccountNumber;
 
 @ExecutionTime
 @Repository
 @RequiredArgsConstructor
-public class AccountPersistenceAdapter implements LoadAccountPort, SaveAccountPort {
+public class AccountPersistenceAdapter implements LoadAccountPort, LoadAccountSnapshotPort, SaveAccountPort {
+
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
 
     private final JpaAccountRepository jpaAccountRepository;
+    private final AccountSnapshotCache accountSnapshotCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${account.lock.timeout-ms:3000}")
+    private long lockTimeoutMillis;
     
     @Override
     public Optional<Account> findById(AccountId id) {
@@ -29,12 +49,72 @@ public class AccountPersistenceAdapter implements LoadAccountPort, SaveAccountPo
             .map(AccountJpaEntity::toDomain);
     }
     
+    @Override
+    public List<Account> findAllByIds(Collection<AccountId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Long> idValues = ids.stream()
+            .map(AccountId::value)
+            .distinct()
+            .toList();
+        return jpaAccountRepository.findByIdInOrderByIdAsc(idValues)
+            .stream()
+            .map(AccountJpaEntity::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Account> lockAllByIds(Collection<AccountId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Long> idValues = ids.stream()
+            .map(AccountId::value)
+            .distinct()
+            .sorted()
+            .toList();
+        // 단일 SELECT ... FOR UPDATE 에서 ID 오름차순으로 행 잠금을 획득한다.
+        return entityManager.createQuery(
+                "select a from AccountJpaEntity a where a.id in :ids order by a.id asc",
+                AccountJpaEntity.class
+            )
+            .setParameter("ids", idValues)
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+            .setHint(LOCK_TIMEOUT_HINT, lockTimeoutMillis)
+            .getResultList()
+            .stream()
+            .map(AccountJpaEntity::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     public Optional<Account> findByAccountNumber(AccountNumber accountNumber) {
         return jpaAccountRepository.findByAccountNumber(accountNumber.value())
             .map(AccountJpaEntity::toDomain);
     }
     
+    @Override
+    public Optional<Account> findSnapshotById(AccountId id) {
+        Optional<Account> cached = accountSnapshotCache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return jpaAccountRepository.findById(id.value())
+            .map(this::toCachedDomain);
+    }
+
+    @Override
+    public Optional<Account> findSnapshotByAccountNumber(AccountNumber accountNumber) {
+        Optional<Account> cached = accountSnapshotCache.resolveId(accountNumber)
+            .flatMap(accountSnapshotCache::get);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return jpaAccountRepository.findByAccountNumber(accountNumber.value())
+            .map(this::toCachedDomain);
+    }
+
     @Override
     public List<Account> findByCustomerId(Long customerId) {
         return jpaAccountRepository.findByCustomerId(customerId)
@@ -43,10 +123,43 @@ public class AccountPersistenceAdapter implements LoadAccountPort, SaveAccountPo
             .collect(Collectors.toList());
     }
     
+    @Override
+    public List<AccountWithSchedule> findByCustomerIdWithSchedule(Long customerId) {
+        // 연관관계가 없는 두 엔티티를 계좌 ID로 외부 조인해 계좌와 스케줄을 한 번에 읽는다.
+        return entityManager.createQuery(
+                """
+                select a, s
+                from AccountJpaEntity a
+                left join AutoTransferScheduleJpaEntity s on s.accountId = a.id
+                where a.customerId = :customerId
+                order by a.id asc
+                """,
+                Object[].class
+            )
+            .setParameter("customerId", customerId)
+            .getResultList()
+            .stream()
+            .map(row -> new AccountWithSchedule(
+                ((AccountJpaEntity) row[0]).toDomain(),
+                row[1] != null ? ((AutoTransferScheduleJpaEntity) row[1]).toDomain() : null
+            ))
+            .toList();
+    }
+
     @Override
     public boolean existsByAccountNumber(AccountNumber accountNumber) {
         return jpaAccountRepository.existsByAccountNumber(accountNumber.value());
     }
+
+    @Override
+    public List<AccountId> findMaturedSavingsAccountIds(LocalDate referenceDate, long afterAccountId, int limit) {
+        return jpaAccountRepository.findMaturedSavingsAccountIds(
+                AccountStatus.ACTIVE, referenceDate, afterAccountId, PageRequest.of(0, limit)
+            )
+            .stream()
+            .map(AccountId::of)
+            .toList();
+    }
     
     @Override
     public Account save(Account account) {
@@ -55,6 +168,8 @@ public class AccountPersistenceAdapter implements LoadAccountPort, SaveAccountPo
                 .orElseThrow(() -> new IllegalStateException("Account not found: " + account.getId().value()));
             existing.updateFromDomain(account);
             AccountJpaEntity saved = jpaAccountRepository.save(existing);
+            // 커밋 시점의 버전은 플러시 후 관리 엔티티에 반영되므로 트랜잭션 완료 시 읽는다.
+            accountSnapshotCache.evictOnCompletion(account.getId(), saved::getVersion);
             return saved.toDomain();
         } else {
             AccountJpaEntity entity = AccountJpaEntity.fromDomain(account);
@@ -67,5 +182,12 @@ public class AccountPersistenceAdapter implements LoadAccountPort, SaveAccountPo
     public void delete(Account account) {
         AccountJpaEntity entity = AccountJpaEntity.fromDomain(account);
         jpaAccountRepository.delete(entity);
+        accountSnapshotCache.evictOnCompletion(account.getId(), () -> Long.MAX_VALUE);
+    }
+
+    private Account toCachedDomain(AccountJpaEntity entity) {
+        Account account = entity.toDomain();
+        accountSnapshotCache.put(account, entity.getVersion());
+        return account;
     }
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package saviing.bank.account.adapter.out.persistence;
 
 import java.util.Optional;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.time.LocalDate;
 import java.time.Instant;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import saviing.common.annotation.ExecutionTime;
@@ -38,6 +43,24 @@ public class AutoTransferSchedulePersistenceAdapter implements AutoTransferSched
             .map(AutoTransferScheduleJpaEntity::toDomain);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<AccountId, AutoTransferSchedule> findAllByAccountIds(Collection<AccountId> accountIds) {
+        if (accountIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> idValues = accountIds.stream()
+            .map(AccountId::value)
+            .distinct()
+            .toList();
+        return repository.findByAccountIdIn(idValues)
+            .stream()
+            .map(AutoTransferScheduleJpaEntity::toDomain)
+            .collect(Collectors.toMap(AutoTransferSchedule::getAccountId, Function.identity()));
+    }
+
     /**
      * 자동이체 스케줄을 새로 저장하고 식별자를 반환한다.
      *
@@ -78,6 +101,46 @@ public class AutoTransferSchedulePersistenceAdapter implements AutoTransferSched
             .toList();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DueSchedule> findDueSchedules(LocalDate referenceDate) {
+        return repository.findDueSchedules(referenceDate)
+            .stream()
+            .map(view -> new DueSchedule(
+                AutoTransferScheduleId.of(view.getId()),
+                view.getWithdrawAccountId() != null ? AccountId.of(view.getWithdrawAccountId()) : null
+            ))
+            .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DueSchedule> claimDueSchedules(
+        LocalDate referenceDate,
+        String claimedBy,
+        Instant now,
+        Instant claimedUntil,
+        int limit
+    ) {
+        List<AutoTransferScheduleJpaEntity> claimable = repository.findClaimableForUpdate(
+            referenceDate,
+            now,
+            PageRequest.of(0, limit)
+        );
+        // 잠금을 획득한 행에만 리스를 기록하며, 변경 내용은 트랜잭션 커밋 시 반영된다.
+        claimable.forEach(entity -> entity.claim(claimedBy, claimedUntil));
+        return claimable.stream()
+            .map(entity -> new DueSchedule(
+                AutoTransferScheduleId.of(entity.getId()),
+                AccountId.of(entity.getWithdrawAccountId())
+            ))
+            .toList();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,86 @@
+package saviing.bank.account.adapter.out.persistence;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import saviing.common.annotation.ExecutionTime;
+import saviing.bank.account.adapter.out.persistence.entity.EventOutboxJpaEntity;
+import saviing.bank.account.adapter.out.persistence.repository.JpaEventOutboxRepository;
+import saviing.bank.account.application.port.out.EventOutboxPort;
+
+/**
+ * 이벤트 아웃박스 퍼시스턴스 어댑터.
+ * 레코드 본문은 JSON 문자열로 저장한다.
+ */
+@ExecutionTime
+@Repository
+@RequiredArgsConstructor
+public class EventOutboxPersistenceAdapter implements EventOutboxPort {
+
+    private static final TypeReference<LinkedHashMap<String, String>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final JpaEventOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void append(OutboxEvent event) {
+        outboxRepository.save(EventOutboxJpaEntity.of(
+            event.streamKey(),
+            event.accountId(),
+            writePayload(event.payload()),
+            event.createdAt()
+        ));
+    }
+
+    @Override
+    public List<OutboxEvent> lockPendingEvents(int limit) {
+        return outboxRepository.findPendingForUpdate(PageRequest.of(0, limit))
+            .stream()
+            .map(this::toEvent)
+            .toList();
+    }
+
+    @Override
+    public void deleteAll(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        outboxRepository.deleteAllByIdInBatch(eventIds);
+    }
+
+    private OutboxEvent toEvent(EventOutboxJpaEntity entity) {
+        return new OutboxEvent(
+            entity.getId(),
+            entity.getStreamKey(),
+            entity.getAccountId(),
+            readPayload(entity.getPayload()),
+            entity.getCreatedAt()
+        );
+    }
+
+    private String writePayload(Map<String, String> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 본문을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private Map<String, String> readPayload(String payload) {
+        try {
+            return objectMapper.readValue(payload, PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 본문을 역직렬화할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package saviing.bank.account.adapter.out.persistence;
+
+import static saviing.common.persistence.UtcJdbcTimestamps.setTimestamp;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import saviing.common.annotation.ExecutionTime;
+import saviing.bank.account.adapter.out.cache.AccountSnapshotCache;
+import saviing.bank.account.adapter.out.persistence.entity.InterestAccrualCheckpointJpaEntity;
+import saviing.bank.account.adapter.out.persistence.repository.JpaAccountRepository;
+import saviing.bank.account.adapter.out.persistence.repository.JpaAccountRepository.AccrualView;
+import saviing.bank.account.adapter.out.persistence.repository.JpaInterestAccrualCheckpointRepository;
+import saviing.bank.account.application.port.out.InterestAccrualBatchPort;
+import saviing.bank.account.domain.model.AccountStatus;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.account.domain.vo.BasisPoints;
+
+/**
+ * 이자 적립 배치용 퍼시스턴스 어댑터.
+ * 조회는 키셋 페이지네이션 프로젝션으로, 갱신은 JDBC 배치 업데이트로 처리해 계좌당 왕복 비용을 줄인다.
+ */
+@ExecutionTime
+@Repository
+@RequiredArgsConstructor
+public class InterestAccrualBatchPersistenceAdapter implements InterestAccrualBatchPort {
+
+    private static final String UPDATE_ACCRUAL_SQL = """
+        update account
+           set interest_accrued = ?, last_accrual_ts = ?, updated_at = ?, version = version + 1
+         where account_id = ? and version = ?
+        """;
+
+    private final JpaAccountRepository accountRepository;
+    private final JpaInterestAccrualCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountSnapshotCache accountSnapshotCache;
+
+    /**
+     * 활성 적금 계좌를 계좌 ID 기준 키셋 페이지네이션으로 조회한다.
+     *
+     * @param afterAccountId 이 ID보다 큰 계좌부터 조회
+     * @param limit 최대 조회 건수
+     * @return 이자 적립 대상 목록
+     */
+    @Override
+    public List<AccrualTarget> findAccrualTargets(long afterAccountId, int limit) {
+        return accountRepository.findAccrualChunk(AccountStatus.ACTIVE, afterAccountId, PageRequest.of(0, limit))
+            .stream()
+            .map(this::toTarget)
+            .toList();
+    }
+
+    /**
+     * 이자 적립 결과를 JDBC 배치 업데이트로 반영한다.
+     * 버전 조건으로 조회 이후 변경된 계좌는 건너뛰며, 해당 계좌는 다음 실행에서 다시 계산된다.
+     * 반영된 계좌는 트랜잭션 완료 시 계좌 스냅샷 캐시에서 무효화한다.
+     *
+     * @param updates 반영할 이자 적립 결과 목록
+     * @return 실제로 반영된 계좌 수
+     */
+    @Override
+    public int applyAccruals(List<AccrualUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        Timestamp updatedAt = Timestamp.from(Instant.now());
+        int[][] results = jdbcTemplate.batchUpdate(UPDATE_ACCRUAL_SQL, updates, updates.size(),
+            (PreparedStatement ps, AccrualUpdate update) -> {
+                ps.setBigDecimal(1, update.interestAccrued());
+                setTimestamp(ps, 2, Timestamp.from(update.lastAccrualTs()));
+                setTimestamp(ps, 3, updatedAt);
+                ps.setLong(4, update.accountId().value());
+                ps.setLong(5, update.expectedVersion());
+            });
+
+        int applied = 0;
+        int index = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                AccrualUpdate update = updates.get(index++);
+                // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)도 반영된 것으로 본다.
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    applied++;
+                    long committedVersion = update.expectedVersion() + 1;
+                    accountSnapshotCache.evictOnCompletion(update.accountId(), () -> committedVersion);
+                }
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 배치 작업의 체크포인트를 조회한다.
+     *
+     * @param jobName 배치 작업 이름
+     * @return 체크포인트(Optional)
+     */
+    @Override
+    public Optional<AccrualCheckpoint> findCheckpoint(String jobName) {
+        return checkpointRepository.findById(jobName)
+            .map(InterestAccrualCheckpointJpaEntity::toDomain);
+    }
+
+    /**
+     * 배치 작업의 체크포인트를 저장한다.
+     *
+     * @param checkpoint 저장할 체크포인트
+     */
+    @Override
+    public void saveCheckpoint(AccrualCheckpoint checkpoint) {
+        checkpointRepository.findById(checkpoint.jobName())
+            .ifPresentOrElse(
+                entity -> entity.update(checkpoint),
+                () -> checkpointRepository.save(InterestAccrualCheckpointJpaEntity.fromDomain(checkpoint))
+            );
+    }
+
+    private AccrualTarget toTarget(AccrualView view) {
+        return new AccrualTarget(
+            AccountId.of(view.getId()),
+            view.getBalance(),
+            view.getInterestAccrued(),
+            toBasisPoints(view.getBaseRateBps()),
+            toBasisPoints(view.getBonusRateBps()),
+            view.getCompoundingType(),
+            view.getLastAccrualTs(),
+            view.getVersion()
+        );
+    }
+
+    private BasisPoints toBasisPoints(Short value) {
+        return value != null ? new BasisPoints(value) : BasisPoints.zero();
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -28,6 +29,7 @@ import saviing.bank.common.vo.MoneyWon;
 import saviing.bank.account.domain.vo.ProductId;
 import saviing.bank.account.domain.vo.TermPeriod;
 import saviing.bank.account.domain.model.TermUnit;
+import saviing.common.persistence.PooledIdGeneration;
 
 @ExecutionTime
 @Entity
@@ -37,7 +39,15 @@ import saviing.bank.account.domain.model.TermUnit;
 public class AccountJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "account_id")
+    @TableGenerator(
+        name = "account_id",
+        table = PooledIdGeneration.TABLE,
+        pkColumnName = PooledIdGeneration.SEGMENT_COLUMN,
+        valueColumnName = PooledIdGeneration.VALUE_COLUMN,
+        pkColumnValue = "account",
+        allocationSize = PooledIdGeneration.ALLOCATION_SIZE
+    )
     @Column(name = "account_id")
     private Long id;
     
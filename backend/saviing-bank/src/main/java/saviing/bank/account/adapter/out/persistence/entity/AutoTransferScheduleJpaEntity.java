@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.Instant;
 import java.time.LocalDate;
 
@@ -21,6 +22,7 @@ import saviing.bank.account.domain.model.AutoTransferSchedule;
 import saviing.bank.account.domain.vo.AccountId;
 import saviing.bank.account.domain.vo.AutoTransferScheduleId;
 import saviing.bank.common.vo.MoneyWon;
+import saviing.common.persistence.PooledIdGeneration;
 
 /**
  * 자동이체 스케줄을 저장하는 JPA 엔티티.
@@ -32,13 +34,22 @@ import saviing.bank.common.vo.MoneyWon;
     name = "account_auto_transfer",
     indexes = {
         @Index(name = "idx_auto_transfer_account_id", columnList = "account_id"),
-        @Index(name = "idx_auto_transfer_next_run", columnList = "enabled, next_run_date")
+        @Index(name = "idx_auto_transfer_next_run", columnList = "enabled, next_run_date"),
+        @Index(name = "idx_auto_transfer_claimed_until", columnList = "claimed_until")
     }
 )
 public class AutoTransferScheduleJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "account_auto_transfer_id")
+    @TableGenerator(
+        name = "account_auto_transfer_id",
+        table = PooledIdGeneration.TABLE,
+        pkColumnName = PooledIdGeneration.SEGMENT_COLUMN,
+        valueColumnName = PooledIdGeneration.VALUE_COLUMN,
+        pkColumnValue = "account_auto_transfer",
+        allocationSize = PooledIdGeneration.ALLOCATION_SIZE
+    )
     @Column(name = "auto_transfer_id")
     private Long id;
 
@@ -67,6 +78,12 @@ public class AutoTransferScheduleJpaEntity {
     @Column(name = "last_executed_at")
     private Instant lastExecutedAt;
 
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
@@ -133,4 +150,15 @@ public class AutoTransferScheduleJpaEntity {
         this.lastExecutedAt = schedule.getLastExecutedAt();
         this.updatedAt = schedule.getUpdatedAt();
     }
+
+    /**
+     * 스케줄러 노드가 실행 권한(리스)을 선점한다.
+     *
+     * @param claimedBy 선점한 노드 식별자
+     * @param claimedUntil 리스 만료 시각
+     */
+    public void claim(String claimedBy, Instant claimedUntil) {
+        this.claimedBy = claimedBy;
+        this.claimedUntil = claimedUntil;
+    }
 }
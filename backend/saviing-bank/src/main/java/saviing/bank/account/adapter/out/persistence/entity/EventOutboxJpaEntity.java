@@ -0,0 +1,53 @@
+package saviing.bank.account.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트림 발행 대기 이벤트를 저장하는 아웃박스 JPA 엔티티.
+ *
+ * <p>다른 엔티티와 달리 IDENTITY 채번을 유지한다. 이벤트는 입금 트랜잭션마다 한 건씩만 기록되어 배치 INSERT 이득이 없고,
+ * 같은 계좌의 입금은 계좌 행 잠금이나 버전 검사로 직렬화되므로 AUTO_INCREMENT 값이 인스턴스와 무관하게 계좌별 기록 순서를 그대로 나타낸다.
+ * 인스턴스별로 구간을 미리 할당받는 풀링 채번에서는 이 순서가 보장되지 않는다.</p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "event_outbox")
+public class EventOutboxJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long id;
+
+    @Column(name = "stream_key", nullable = false, length = 200)
+    private String streamKey;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "payload", nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public static EventOutboxJpaEntity of(String streamKey, Long accountId, String payload, Instant createdAt) {
+        EventOutboxJpaEntity entity = new EventOutboxJpaEntity();
+        entity.streamKey = streamKey;
+        entity.accountId = accountId;
+        entity.payload = payload;
+        entity.createdAt = createdAt;
+        return entity;
+    }
+}
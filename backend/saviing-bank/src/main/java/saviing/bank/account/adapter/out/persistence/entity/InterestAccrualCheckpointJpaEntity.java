@@ -0,0 +1,58 @@
+package saviing.bank.account.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import saviing.bank.account.application.port.out.InterestAccrualBatchPort.AccrualCheckpoint;
+
+/**
+ * 이자 적립 배치의 진행 상황을 저장하는 JPA 엔티티.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "interest_accrual_checkpoint")
+public class InterestAccrualCheckpointJpaEntity {
+
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "last_account_id", nullable = false)
+    private Long lastAccountId;
+
+    @Column(name = "completed", nullable = false)
+    private Boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public static InterestAccrualCheckpointJpaEntity fromDomain(AccrualCheckpoint checkpoint) {
+        InterestAccrualCheckpointJpaEntity entity = new InterestAccrualCheckpointJpaEntity();
+        entity.jobName = checkpoint.jobName();
+        entity.update(checkpoint);
+        return entity;
+    }
+
+    public void update(AccrualCheckpoint checkpoint) {
+        this.runDate = checkpoint.runDate();
+        this.lastAccountId = checkpoint.lastAccountId();
+        this.completed = checkpoint.completed();
+        this.updatedAt = Instant.now();
+    }
+
+    public AccrualCheckpoint toDomain() {
+        return new AccrualCheckpoint(jobName, runDate, lastAccountId, completed);
+    }
+}
@@ -1,17 +1,83 @@
 package saviing.bank.account.adapter.out.persistence.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import saviing.bank.account.adapter.out.persistence.entity.AccountJpaEntity;
+import saviing.bank.account.domain.model.AccountStatus;
+import saviing.bank.account.domain.model.CompoundingType;
 
 public interface JpaAccountRepository extends JpaRepository<AccountJpaEntity, Long> {
     
     Optional<AccountJpaEntity> findByAccountNumber(String accountNumber);
+
+    List<AccountJpaEntity> findByIdInOrderByIdAsc(Collection<Long> ids);
     
     List<AccountJpaEntity> findByCustomerId(Long customerId);
     
     boolean existsByAccountNumber(String accountNumber);
-}
\ No newline at end of file
+
+    /**
+     * 이자 적립 대상 적금 계좌를 계좌 ID 기준 키셋 페이지네이션으로 조회한다.
+     * 이자 계산에 필요한 컬럼만 프로젝션으로 읽어 엔티티 로딩 비용을 줄인다.
+     */
+    @Query("""
+        select a.id as id, a.balance as balance, a.interestAccrued as interestAccrued,
+               a.baseRateBps as baseRateBps, a.bonusRateBps as bonusRateBps,
+               a.compoundingType as compoundingType, a.lastAccrualTs as lastAccrualTs, a.version as version
+        from AccountJpaEntity a
+        where a.status = :status and a.termPeriodValue is not null and a.id > :lastId
+        order by a.id asc
+    """)
+    List<AccrualView> findAccrualChunk(
+        @Param("status") AccountStatus status,
+        @Param("lastId") Long lastId,
+        Pageable pageable
+    );
+
+    /**
+     * 만기일이 기준일 이전인 적금 계좌 ID를 계좌 ID 기준 키셋 페이지네이션으로 조회한다.
+     */
+    @Query("""
+        select a.id from AccountJpaEntity a
+        where a.status = :status and a.termPeriodValue is not null
+          and a.maturityDate <= :referenceDate and a.id > :lastId
+        order by a.id asc
+    """)
+    List<Long> findMaturedSavingsAccountIds(
+        @Param("status") AccountStatus status,
+        @Param("referenceDate") LocalDate referenceDate,
+        @Param("lastId") Long lastId,
+        Pageable pageable
+    );
+
+    /**
+     * 이자 적립 대상 조회용 프로젝션.
+     */
+    interface AccrualView {
+        Long getId();
+
+        Long getBalance();
+
+        BigDecimal getInterestAccrued();
+
+        Short getBaseRateBps();
+
+        Short getBonusRateBps();
+
+        CompoundingType getCompoundingType();
+
+        Instant getLastAccrualTs();
+
+        Long getVersion();
+    }
+}
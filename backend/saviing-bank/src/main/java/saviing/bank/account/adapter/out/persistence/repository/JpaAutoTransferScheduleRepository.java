@@ -1,19 +1,23 @@
 package saviing.bank.account.adapter.out.persistence.repository;
 
 import java.util.Optional;
+import java.util.Collection;
 import java.util.List;
 import java.time.LocalDate;
 import java.time.Instant;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import saviing.bank.account.adapter.out.persistence.entity.AutoTransferScheduleJpaEntity;
 import saviing.bank.account.domain.vo.AutoTransferScheduleId;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
 
 /**
@@ -29,7 +33,14 @@ public interface JpaAutoTransferScheduleRepository extends JpaRepository<AutoTra
      */
     Optional<AutoTransferScheduleJpaEntity> findByAccountId(Long accountId);
 
-    
+    /**
+     * 여러 계좌의 자동이체 스케줄을 IN 조건 한 번으로 조회한다.
+     *
+     * @param accountIds 조회할 계좌 ID 목록
+     * @return 자동이체 스케줄 목록
+     */
+    List<AutoTransferScheduleJpaEntity> findByAccountIdIn(Collection<Long> accountIds);
+
 
     /**
      * 활성화된 자동이체 중 지정된 날짜 이전(포함) 실행 예정인 항목의 ID만을 조회한다.
@@ -43,6 +54,54 @@ public interface JpaAutoTransferScheduleRepository extends JpaRepository<AutoTra
         where s.enabled = true and s.nextRunDate <= :referenceDate
     """)
     List<Long> findDueScheduleIds(@Param("referenceDate") LocalDate referenceDate);
+
+    /**
+     * 실행 예정인 자동이체의 ID와 출금 계좌 ID를 함께 조회한다.
+     * 병렬 실행 시 출금 계좌 단위로 작업을 분할하는 데 사용한다.
+     *
+     * @param referenceDate 기준 날짜
+     * @return 실행 대상 자동이체 ID/출금 계좌 ID 목록
+     */
+    @Query("""
+        select s.id as id, s.withdrawAccountId as withdrawAccountId
+        from AutoTransferScheduleJpaEntity s
+        where s.enabled = true and s.nextRunDate <= :referenceDate
+        order by s.withdrawAccountId, s.id
+    """)
+    List<DueScheduleView> findDueSchedules(@Param("referenceDate") LocalDate referenceDate);
+
+    /**
+     * 리스가 없거나 만료된 실행 예정 자동이체를 선점용으로 잠근다.
+     * 다른 노드가 이미 잠근 행은 건너뛰어(SKIP LOCKED) 노드 간 대기 없이 서로 다른 묶음을 가져간다.
+     *
+     * @param referenceDate 기준 날짜
+     * @param now 현재 시각 (리스 만료 판단 기준)
+     * @param pageable 한 번에 선점할 개수
+     * @return 잠금을 획득한 자동이체 스케줄 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        select s
+        from AutoTransferScheduleJpaEntity s
+        where s.enabled = true and s.nextRunDate <= :referenceDate
+          and (s.claimedUntil is null or s.claimedUntil < :now)
+        order by s.withdrawAccountId, s.id
+    """)
+    List<AutoTransferScheduleJpaEntity> findClaimableForUpdate(
+        @Param("referenceDate") LocalDate referenceDate,
+        @Param("now") Instant now,
+        Pageable pageable
+    );
+
+    /**
+     * 실행 예정 자동이체 조회용 프로젝션.
+     */
+    interface DueScheduleView {
+        Long getId();
+
+        Long getWithdrawAccountId();
+    }
     
     /**
      * 지정된 ID의 자동이체 스케줄을 조회한다.
@@ -65,7 +124,7 @@ public interface JpaAutoTransferScheduleRepository extends JpaRepository<AutoTra
      */
     @Transactional
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update AutoTransferScheduleJpaEntity s set s.nextRunDate = :nextRunDate, s.lastExecutedAt = null, s.updatedAt = :updatedAt where s.enabled = true")
+    @Query("update AutoTransferScheduleJpaEntity s set s.nextRunDate = :nextRunDate, s.lastExecutedAt = null, s.claimedBy = null, s.claimedUntil = null, s.updatedAt = :updatedAt where s.enabled = true")
     int resetAllNextRunDate(
         @Param("nextRunDate") LocalDate nextRunDate,
         @Param("updatedAt") Instant updatedAt
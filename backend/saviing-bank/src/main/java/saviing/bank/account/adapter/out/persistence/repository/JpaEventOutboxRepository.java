@@ -0,0 +1,29 @@
+package saviing.bank.account.adapter.out.persistence.repository;
+
+import java.util.List;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import saviing.bank.account.adapter.out.persistence.entity.EventOutboxJpaEntity;
+
+/**
+ * 이벤트 아웃박스를 관리하는 JPA 리포지토리.
+ */
+public interface JpaEventOutboxRepository extends JpaRepository<EventOutboxJpaEntity, Long> {
+
+    /**
+     * 가장 먼저 기록된 이벤트부터 잠그고 조회한다.
+     * SKIP LOCKED를 쓰지 않으므로 동시에 실행된 릴레이는 앞선 릴레이가 커밋할 때까지 기다렸다가 그 다음 이벤트를 가져간다.
+     *
+     * @param pageable 조회 건수
+     * @return 잠금을 획득한 이벤트 목록 (식별자 오름차순)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from EventOutboxJpaEntity e order by e.id asc")
+    List<EventOutboxJpaEntity> findPendingForUpdate(Pageable pageable);
+}
@@ -0,0 +1,11 @@
+package saviing.bank.account.adapter.out.persistence.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import saviing.bank.account.adapter.out.persistence.entity.InterestAccrualCheckpointJpaEntity;
+
+/**
+ * 이자 적립 배치 체크포인트를 관리하는 JPA 리포지토리.
+ */
+public interface JpaInterestAccrualCheckpointRepository extends JpaRepository<InterestAccrualCheckpointJpaEntity, String> {
+}
@@ -6,23 +6,25 @@ import java.util.Map;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.stream.MapRecord;
-import org.springframework.data.redis.connection.stream.StreamRecords;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import saviing.bank.account.application.port.out.EventOutboxPort;
+import saviing.bank.account.application.port.out.EventOutboxPort.OutboxEvent;
 import saviing.bank.account.application.service.ProductService;
 import saviing.bank.account.domain.model.Account;
 import saviing.bank.account.domain.model.Product;
 import saviing.bank.account.domain.model.ProductCategory;
 import saviing.bank.account.domain.vo.AccountId;
 import saviing.bank.account.domain.vo.ProductId;
+import saviing.bank.account.exception.ProductException;
 import saviing.bank.common.vo.MoneyWon;
 import saviing.bank.config.StreamProperties;
 
 /**
  * 적금 입금 이벤트 발행자
- * 적금 계좌 입금 시 Redis Stream을 통해 게임 서비스로 이벤트를 발행합니다.
+ * 적금 계좌 입금 시 게임 서비스로 보낼 이벤트를 입금 트랜잭션 안에서 아웃박스에 기록합니다.
+ * Redis Stream 발행은 {@link SavingsDepositOutboxRelay}가 비동기로 묶어서 처리하므로,
+ * 입금 경로는 데이터베이스만 사용하고 트랜잭션이 롤백되면 이벤트도 함께 사라집니다.
  */
 @Slf4j
 @Component
@@ -31,7 +33,7 @@ public class SavingsDepositEventPublisher {
 
     private static final String SCHEMA_VERSION = "v1";
 
-    private final StringRedisTemplate stringRedisTemplate;
+    private final EventOutboxPort eventOutboxPort;
     private final StreamProperties streamProperties;
     private final ProductService productService;
 
@@ -46,37 +48,35 @@ public class SavingsDepositEventPublisher {
             return;
         }
 
+        Product product;
         try {
-            Product product = productService.getProduct(account.getProductId());
-            if (product.getCategory() != ProductCategory.INSTALLMENT_SAVINGS) {
-                return;
-            }
-
-            Map<String, String> body = buildEventBody(account, transactionAmount);
-            MapRecord<String, String, String> record = StreamRecords
-                .mapBacked(body)
-                .withStreamKey(streamKey);
-
-            stringRedisTemplate.opsForStream().add(record);
-
-            trimStreamIfNeeded(streamKey);
-
-            log.info(
-                "적금 입금 이벤트 발행 완료: stream={}, customerId={}, accountId={}",
-                streamKey,
-                account.getCustomerId(),
-                account.getId() != null ? account.getId().value() : "N/A"
-            );
-        } catch (Exception ex) {
+            product = productService.getProduct(account.getProductId());
+        } catch (ProductException ex) {
             log.error(
-                "적금 입금 이벤트 발행 실패: accountId={}",
+                "적금 입금 이벤트 상품 조회 실패: accountId={}",
                 account.getId() != null ? account.getId().value() : "unknown",
                 ex
             );
+            return;
         }
+        if (product.getCategory() != ProductCategory.INSTALLMENT_SAVINGS) {
+            return;
+        }
+
+        // 아웃박스 기록 실패는 삼키지 않고 전파해 입금과 이벤트가 함께 커밋되거나 함께 롤백되게 한다.
+        Instant occurredAt = Instant.now();
+        Map<String, String> body = buildEventBody(account, transactionAmount, occurredAt);
+        eventOutboxPort.append(OutboxEvent.of(streamKey, account.getId().value(), body, occurredAt));
+
+        log.info(
+            "적금 입금 이벤트 기록 완료: stream={}, customerId={}, accountId={}",
+            streamKey,
+            account.getCustomerId(),
+            account.getId() != null ? account.getId().value() : "N/A"
+        );
     }
 
-    private Map<String, String> buildEventBody(Account account, MoneyWon transactionAmount) {
+    private Map<String, String> buildEventBody(Account account, MoneyWon transactionAmount, Instant occurredAt) {
         Map<String, String> body = new LinkedHashMap<>();
         body.put("version", SCHEMA_VERSION);
         body.put("customerId", String.valueOf(account.getCustomerId()));
@@ -92,14 +92,8 @@ public class SavingsDepositEventPublisher {
         }
 
         body.put("amount", String.valueOf(transactionAmount.amount()));
-        body.put("occurredAt", Instant.now().toString());
+        body.put("occurredAt", occurredAt.toString());
 
         return body;
     }
-
-    private void trimStreamIfNeeded(String streamKey) {
-        if (streamProperties.getMaxlenApprox() != null && streamProperties.getMaxlenApprox() > 0) {
-            stringRedisTemplate.opsForStream().trim(streamKey, streamProperties.getMaxlenApprox(), true);
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package saviing.bank.account.application.event;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import saviing.bank.account.application.port.out.EventOutboxPort;
+import saviing.bank.account.application.port.out.EventOutboxPort.OutboxEvent;
+import saviing.bank.config.StreamProperties;
+
+/**
+ * 아웃박스에 기록된 적금 입금 이벤트를 Redis Stream으로 내보내는 릴레이.
+ *
+ * 기록 순서대로 묶음을 잠그고, 묶음 전체를 하나의 파이프라인에서 {@code XADD ... MAXLEN ~}으로 보낸 뒤
+ * 같은 트랜잭션에서 아웃박스 행을 삭제한다. 한 연결에서 순서대로 보내므로 계좌별 이벤트 순서가 유지되며,
+ * 발행 후 삭제 전에 실패하면 다음 실행에서 다시 보내므로 최소 한 번 전달된다.
+ * 소비자가 중복을 걸러낼 수 있도록 레코드에 아웃박스 이벤트 ID({@code eventId})를 함께 싣는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SavingsDepositOutboxRelay {
+
+    static final String EVENT_ID_FIELD = "eventId";
+    private static final String METRIC_PREFIX = "savings_deposit.outbox.relay";
+
+    private final TransactionTemplate txTemplate;
+    private final EventOutboxPort eventOutboxPort;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StreamProperties streamProperties;
+    private final MeterRegistry meterRegistry;
+    @Value("${savings-deposit.outbox.relay.enabled:true}")
+    private boolean enabled;
+    @Value("${savings-deposit.outbox.relay.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 대기 중인 이벤트가 없을 때까지 묶음 단위로 발행한다.
+     * 발행에 실패하면 이벤트를 남겨 둔 채 다음 실행에서 다시 시도한다.
+     *
+     * @implNote 기본 실행 간격은 이전 실행 종료 후 500ms이며, {@code savings-deposit.outbox.relay.fixed-delay-ms} 프로퍼티로 조정할 수 있다.
+     */
+    @Scheduled(fixedDelayString = "${savings-deposit.outbox.relay.fixed-delay-ms:500}")
+    public void relayPendingEvents() {
+        if (!enabled) {
+            return;
+        }
+        int limit = Math.max(1, batchSize);
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch(limit);
+            } while (relayed == limit);
+        } catch (Exception e) {
+            meterRegistry.counter(METRIC_PREFIX + ".failures").increment();
+            log.warn("적금 입금 이벤트 릴레이 실패, 다음 실행에서 재시도합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 이벤트 한 묶음을 발행하고 아웃박스에서 제거한다.
+     *
+     * @param limit 묶음 최대 크기
+     * @return 발행한 이벤트 수
+     */
+    int relayBatch(int limit) {
+        Integer relayed = txTemplate.execute(status -> {
+            List<OutboxEvent> events = eventOutboxPort.lockPendingEvents(limit);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            publishPipelined(events);
+            eventOutboxPort.deleteAll(events.stream().map(OutboxEvent::eventId).toList());
+            return events.size();
+        });
+        int count = relayed != null ? relayed : 0;
+        if (count > 0) {
+            meterRegistry.counter(METRIC_PREFIX + ".events").increment(count);
+            log.debug("적금 입금 이벤트 릴레이 완료: count={}", count);
+        }
+        return count;
+    }
+
+    /**
+     * 묶음의 모든 {@code XADD}를 한 번의 파이프라인 왕복으로 보낸다.
+     * 명령 중 하나라도 실패하면 예외가 발생해 아웃박스 삭제가 롤백된다.
+     */
+    private void publishPipelined(List<OutboxEvent> events) {
+        RedisSerializer<String> serializer = stringRedisTemplate.getStringSerializer();
+        XAddOptions options = xAddOptions();
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OutboxEvent event : events) {
+                Map<String, String> body = new LinkedHashMap<>(event.payload());
+                body.put(EVENT_ID_FIELD, String.valueOf(event.eventId()));
+                ByteRecord record = StreamRecords.newRecord()
+                    .in(event.streamKey())
+                    .ofMap(body)
+                    .serialize(serializer);
+                connection.streamCommands().xAdd(record, options);
+            }
+            return null;
+        });
+        if (results.size() != events.size()) {
+            throw new IllegalStateException(
+                "XADD 응답 수가 이벤트 수와 다릅니다: expected=" + events.size() + ", actual=" + results.size());
+        }
+    }
+
+    private XAddOptions xAddOptions() {
+        Long maxlen = streamProperties.getMaxlenApprox();
+        if (maxlen == null || maxlen <= 0) {
+            return XAddOptions.none();
+        }
+        return XAddOptions.maxlen(maxlen).approximateTrimming(true);
+    }
+}
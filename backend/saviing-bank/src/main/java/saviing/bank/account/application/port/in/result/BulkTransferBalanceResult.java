@@ -0,0 +1,43 @@
+package saviing.bank.account.application.port.in.result;
+
+import java.util.List;
+
+import saviing.bank.account.application.port.in.result.TransferBalanceResult.AccountState;
+
+/**
+ * 한 출금 계좌에서 여러 입금 계좌로의 일괄 이체 반영 결과 (기본 타입 DTO).
+ *
+ * @param source 반영 전 출금 계좌 상태
+ * @param legs 요청 순서대로의 건별 반영 결과
+ */
+public record BulkTransferBalanceResult(
+    AccountState source,
+    List<LegResult> legs
+) {
+
+    /**
+     * 일괄 이체 한 건의 반영 결과.
+     *
+     * @param applied 잔액 반영 여부
+     * @param target 반영 전 입금 계좌 상태 (계좌가 없으면 null)
+     * @param sourceBalanceAfter 이 건까지 반영한 출금 계좌 잔액 (미반영 시 null)
+     * @param targetBalanceAfter 이 건까지 반영한 입금 계좌 잔액 (미반영 시 null)
+     * @param rejectReason 미반영 사유 (반영 시 null)
+     */
+    public record LegResult(
+        boolean applied,
+        AccountState target,
+        Long sourceBalanceAfter,
+        Long targetBalanceAfter,
+        String rejectReason
+    ) {
+
+        public static LegResult applied(AccountState target, Long sourceBalanceAfter, Long targetBalanceAfter) {
+            return new LegResult(true, target, sourceBalanceAfter, targetBalanceAfter, null);
+        }
+
+        public static LegResult rejected(AccountState target, String rejectReason) {
+            return new LegResult(false, target, null, null, rejectReason);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package saviing.bank.account.application.port.in.result;
+
+import saviing.bank.account.domain.model.Account;
+
+/**
+ * 계좌 간 이체 반영 처리 결과 (기본 타입 DTO).
+ *
+ * @param applied 잔액 반영 여부
+ * @param source 반영 전 출금 계좌 상태
+ * @param target 반영 전 입금 계좌 상태
+ * @param withdrawal 출금 계좌 잔액 변경 결과 (미반영 시 null)
+ * @param deposit 입금 계좌 잔액 변경 결과 (미반영 시 null)
+ */
+public record TransferBalanceResult(
+    boolean applied,
+    AccountState source,
+    AccountState target,
+    BalanceUpdateResult withdrawal,
+    BalanceUpdateResult deposit
+) {
+
+    public static TransferBalanceResult applied(
+        AccountState source,
+        AccountState target,
+        BalanceUpdateResult withdrawal,
+        BalanceUpdateResult deposit
+    ) {
+        return new TransferBalanceResult(true, source, target, withdrawal, deposit);
+    }
+
+    public static TransferBalanceResult rejected(AccountState source, AccountState target) {
+        return new TransferBalanceResult(false, source, target, null, null);
+    }
+
+    /**
+     * 이체 반영 시점의 계좌 상태 스냅샷.
+     */
+    public record AccountState(
+        Long accountId,
+        String accountNumber,
+        Long customerId,
+        Long balance,
+        String status,
+        Long productId
+    ) {
+
+        /**
+         * 도메인 객체로부터 현재 상태 스냅샷을 생성합니다.
+         *
+         * @param account 계좌
+         * @return AccountState
+         */
+        public static AccountState from(Account account) {
+            return new AccountState(
+                account.getId().value(),
+                account.getAccountNumber().value(),
+                account.getCustomerId(),
+                account.getBalance().amount(),
+                account.getStatus().name(),
+                account.getProductId().value()
+            );
+        }
+    }
+}
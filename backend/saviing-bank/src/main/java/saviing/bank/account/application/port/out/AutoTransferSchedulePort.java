@@ -1,7 +1,10 @@
 package saviing.bank.account.application.port.out;
 
 import java.util.Optional;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.time.Instant;
 import java.time.LocalDate;
 
 import saviing.bank.account.domain.model.AutoTransferSchedule;
@@ -21,6 +24,14 @@ public interface AutoTransferSchedulePort {
      */
     Optional<AutoTransferSchedule> findByAccountId(AccountId accountId);
 
+    /**
+     * 여러 계좌의 자동이체 스케줄을 한 번의 조회로 로드한다.
+     *
+     * @param accountIds 조회할 계좌 식별자 목록
+     * @return 계좌 식별자별 자동이체 스케줄 (스케줄이 없는 계좌는 포함되지 않는다)
+     */
+    Map<AccountId, AutoTransferSchedule> findAllByAccountIds(Collection<AccountId> accountIds);
+
     /**
      * 새로운 자동이체 스케줄을 저장하고 식별자를 반환한다.
      *
@@ -44,6 +55,33 @@ public interface AutoTransferSchedulePort {
      */
     List<AutoTransferScheduleId> findDueSchedulesIds(LocalDate referenceDate);
 
+    /**
+     * 지정된 날짜까지 실행 예정인 자동이체 스케줄을 출금 계좌 ID와 함께 조회한다.
+     *
+     * @param referenceDate 기준 날짜 (해당 날짜 이전/동일한 nextRunDate 대상)
+     * @return 실행 대상 자동이체 스케줄 ID와 출금 계좌 ID 목록 (출금 계좌, 스케줄 ID 순 정렬)
+     */
+    List<DueSchedule> findDueSchedules(LocalDate referenceDate);
+
+    /**
+     * 실행 예정이면서 리스가 없거나 만료된 자동이체 스케줄을 최대 {@code limit}건 선점한다.
+     * 구현체는 다른 노드가 잠근 행을 건너뛰어야 하며, 호출자는 트랜잭션 안에서 호출해야 한다.
+     *
+     * @param referenceDate 기준 날짜
+     * @param claimedBy 선점하는 노드 식별자
+     * @param now 현재 시각
+     * @param claimedUntil 리스 만료 시각
+     * @param limit 최대 선점 건수
+     * @return 선점한 자동이체 스케줄 ID와 출금 계좌 ID 목록
+     */
+    List<DueSchedule> claimDueSchedules(
+        LocalDate referenceDate,
+        String claimedBy,
+        Instant now,
+        Instant claimedUntil,
+        int limit
+    );
+
     /**
      * 지정된 ID의 자동이체 스케줄을 조회한다.
      * 구현체는 동시 실행을 방지하기 위해 행 잠금(PESSIMISTIC_WRITE)을 적용해야 한다.
@@ -59,4 +97,13 @@ public interface AutoTransferSchedulePort {
      * @param nextRunDate 리셋할 실행 예정일
      */
     void resetAllNextRunDate(LocalDate nextRunDate);
+
+    /**
+     * 실행 대상 자동이체 스케줄 요약.
+     *
+     * @param scheduleId 자동이체 스케줄 ID
+     * @param withdrawAccountId 출금 계좌 ID (미설정 시 null)
+     */
+    record DueSchedule(AutoTransferScheduleId scheduleId, AccountId withdrawAccountId) {
+    }
 }
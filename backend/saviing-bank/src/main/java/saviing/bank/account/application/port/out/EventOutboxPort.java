@@ -0,0 +1,55 @@
+package saviing.bank.account.application.port.out;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 스트림으로 내보낼 이벤트를 업무 트랜잭션과 함께 저장하고, 릴레이가 순서대로 꺼내 가는 아웃박스 포트.
+ */
+public interface EventOutboxPort {
+
+    /**
+     * 현재 트랜잭션에 이벤트를 아웃박스로 기록한다.
+     *
+     * @param event 기록할 이벤트 (식별자는 저장 시 채번된다)
+     */
+    void append(OutboxEvent event);
+
+    /**
+     * 발행 대기 중인 이벤트를 기록 순서대로 잠그고 조회한다.
+     * 여러 릴레이가 동시에 실행되더라도 같은 이벤트를 나눠 가져가 순서가 뒤바뀌지 않도록 행 잠금을 건다.
+     *
+     * @param limit 최대 조회 건수
+     * @return 기록 순서(식별자 오름차순)로 정렬된 이벤트 목록
+     */
+    List<OutboxEvent> lockPendingEvents(int limit);
+
+    /**
+     * 발행이 끝난 이벤트를 아웃박스에서 제거한다.
+     *
+     * @param eventIds 제거할 이벤트 식별자 목록
+     */
+    void deleteAll(List<Long> eventIds);
+
+    /**
+     * 아웃박스 이벤트.
+     *
+     * @param eventId 이벤트 식별자 (기록 전에는 null)
+     * @param streamKey 발행 대상 스트림 키
+     * @param accountId 순서를 보장할 기준 계좌 ID
+     * @param payload 스트림 레코드 본문
+     * @param createdAt 기록 시각
+     */
+    record OutboxEvent(
+        Long eventId,
+        String streamKey,
+        Long accountId,
+        Map<String, String> payload,
+        Instant createdAt
+    ) {
+        public static OutboxEvent of(String streamKey, Long accountId, Map<String, String> payload, Instant createdAt) {
+            return new OutboxEvent(null, streamKey, accountId, payload, createdAt);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package saviing.bank.account.application.port.out;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import saviing.bank.account.domain.model.CompoundingType;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.account.domain.vo.BasisPoints;
+
+/**
+ * 이자 적립 배치를 위한 대량 조회/갱신 포트 인터페이스.
+ * 계좌 도메인 모델 전체를 로딩하지 않고 이자 계산에 필요한 값만 주고받는다.
+ */
+public interface InterestAccrualBatchPort {
+
+    /**
+     * 이자 적립 대상(활성 적금) 계좌를 계좌 ID 오름차순으로 조회한다.
+     *
+     * @param afterAccountId 이 ID보다 큰 계좌부터 조회 (처음이면 0)
+     * @param limit 최대 조회 건수
+     * @return 이자 적립 대상 목록
+     */
+    List<AccrualTarget> findAccrualTargets(long afterAccountId, int limit);
+
+    /**
+     * 계산된 누적 이자를 일괄 반영한다.
+     * 조회 이후 다른 트랜잭션이 계좌를 변경했다면(버전 불일치) 해당 계좌는 반영하지 않는다.
+     *
+     * @param updates 반영할 이자 적립 결과 목록
+     * @return 실제로 반영된 계좌 수
+     */
+    int applyAccruals(List<AccrualUpdate> updates);
+
+    /**
+     * 배치 작업의 체크포인트를 조회한다.
+     *
+     * @param jobName 배치 작업 이름
+     * @return 체크포인트(Optional)
+     */
+    Optional<AccrualCheckpoint> findCheckpoint(String jobName);
+
+    /**
+     * 배치 작업의 체크포인트를 저장한다.
+     *
+     * @param checkpoint 저장할 체크포인트
+     */
+    void saveCheckpoint(AccrualCheckpoint checkpoint);
+
+    /**
+     * 이자 적립 대상 계좌 요약.
+     *
+     * @param accountId 계좌 ID
+     * @param balance 잔액 (KRW 원 단위)
+     * @param interestAccrued 현재 누적 이자
+     * @param baseRate 기본 금리
+     * @param bonusRate 보너스 금리
+     * @param compoundingType 복리 방식
+     * @param lastAccrualTs 마지막 이자 계산 시점
+     * @param version 조회 시점의 계좌 버전
+     */
+    record AccrualTarget(
+        AccountId accountId,
+        long balance,
+        BigDecimal interestAccrued,
+        BasisPoints baseRate,
+        BasisPoints bonusRate,
+        CompoundingType compoundingType,
+        Instant lastAccrualTs,
+        long version
+    ) {
+    }
+
+    /**
+     * 계좌별 이자 적립 결과.
+     *
+     * @param accountId 계좌 ID
+     * @param interestAccrued 갱신할 누적 이자
+     * @param lastAccrualTs 갱신할 마지막 이자 계산 시점
+     * @param expectedVersion 조회 시점의 계좌 버전
+     */
+    record AccrualUpdate(AccountId accountId, BigDecimal interestAccrued, Instant lastAccrualTs, long expectedVersion) {
+    }
+
+    /**
+     * 이자 적립 배치 체크포인트.
+     *
+     * @param jobName 배치 작업 이름
+     * @param runDate 실행 기준일
+     * @param lastAccountId 마지막으로 처리한 계좌 ID
+     * @param completed 실행 기준일의 처리 완료 여부
+     */
+    record AccrualCheckpoint(String jobName, LocalDate runDate, long lastAccountId, boolean completed) {
+    }
+}
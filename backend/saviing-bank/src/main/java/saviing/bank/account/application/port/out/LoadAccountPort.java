@@ -1,19 +1,60 @@
 package saviing.bank.account.application.port.out;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import saviing.bank.account.domain.model.Account;
+import saviing.bank.account.domain.model.AutoTransferSchedule;
 import saviing.bank.account.domain.vo.AccountId;
 import saviing.bank.account.domain.vo.AccountNumber;
 
 public interface LoadAccountPort {
     
     Optional<Account> findById(AccountId id);
+
+    /**
+     * 여러 계좌를 한 번의 조회로 로드한다. 결과는 계좌 ID 오름차순으로 정렬된다.
+     */
+    List<Account> findAllByIds(Collection<AccountId> ids);
+
+    /**
+     * 여러 계좌를 비관적 쓰기 잠금으로 로드한다.
+     * 잠금은 계좌 ID 오름차순으로 획득하므로 동시 송금 간 교착 상태가 발생하지 않는다.
+     */
+    List<Account> lockAllByIds(Collection<AccountId> ids);
     
     Optional<Account> findByAccountNumber(AccountNumber accountNumber);
     
     List<Account> findByCustomerId(Long customerId);
+
+    /**
+     * 고객의 계좌를 자동이체 스케줄과 함께 한 번의 조회로 로드한다. 결과는 계좌 ID 오름차순으로 정렬된다.
+     *
+     * @param customerId 고객 ID
+     * @return 계좌와 자동이체 스케줄 목록 (스케줄이 없으면 null)
+     */
+    List<AccountWithSchedule> findByCustomerIdWithSchedule(Long customerId);
     
     boolean existsByAccountNumber(AccountNumber accountNumber);
-}
\ No newline at end of file
+
+    /**
+     * 기준일까지 만기가 도래한 활성 적금 계좌 ID를 계좌 ID 오름차순으로 조회한다.
+     *
+     * @param referenceDate 만기 기준일
+     * @param afterAccountId 이 ID보다 큰 계좌부터 조회 (처음이면 0)
+     * @param limit 최대 조회 건수
+     * @return 만기 도래 계좌 ID 목록
+     */
+    List<AccountId> findMaturedSavingsAccountIds(LocalDate referenceDate, long afterAccountId, int limit);
+
+    /**
+     * 계좌와 자동이체 스케줄 조회 결과.
+     *
+     * @param account 계좌
+     * @param schedule 자동이체 스케줄 (없으면 null)
+     */
+    record AccountWithSchedule(Account account, AutoTransferSchedule schedule) {
+    }
+}
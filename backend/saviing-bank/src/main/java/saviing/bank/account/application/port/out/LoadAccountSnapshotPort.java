@@ -0,0 +1,31 @@
+package saviing.bank.account.application.port.out;
+
+import java.util.Optional;
+
+import saviing.bank.account.domain.model.Account;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.account.domain.vo.AccountNumber;
+
+/**
+ * 조회 전용 계좌 스냅샷 포트.
+ * 캐시를 거쳐 읽으므로 잔액 변경 등 쓰기 경로에서는 사용하지 않고 {@link LoadAccountPort}를 사용한다.
+ * 반환되는 계좌는 호출마다 새로 복원된 인스턴스이며, 같은 노드에서 마지막으로 커밋된 쓰기보다 오래된 상태를 반환하지 않는다.
+ */
+public interface LoadAccountSnapshotPort {
+
+    /**
+     * 계좌 ID로 계좌 스냅샷을 조회한다.
+     *
+     * @param id 계좌 ID
+     * @return 계좌 (Optional)
+     */
+    Optional<Account> findSnapshotById(AccountId id);
+
+    /**
+     * 계좌번호로 계좌 스냅샷을 조회한다.
+     *
+     * @param accountNumber 계좌번호
+     * @return 계좌 (Optional)
+     */
+    Optional<Account> findSnapshotByAccountNumber(AccountNumber accountNumber);
+}
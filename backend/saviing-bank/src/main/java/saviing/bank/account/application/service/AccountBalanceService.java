@@ -3,7 +3,16 @@ package saviing.bank.account.application.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,11 +20,16 @@ import saviing.bank.account.application.event.SavingsDepositEventPublisher;
 import saviing.bank.account.application.port.in.command.DepositAccountCommand;
 import saviing.bank.account.application.port.in.command.WithdrawAccountCommand;
 import saviing.bank.account.application.port.in.result.BalanceUpdateResult;
+import saviing.bank.account.application.port.in.result.BulkTransferBalanceResult;
+import saviing.bank.account.application.port.in.result.BulkTransferBalanceResult.LegResult;
+import saviing.bank.account.application.port.in.result.TransferBalanceResult;
+import saviing.bank.account.application.port.in.result.TransferBalanceResult.AccountState;
 import saviing.bank.account.application.port.out.LoadAccountPort;
 import saviing.bank.account.application.port.out.SaveAccountPort;
 import saviing.bank.account.domain.model.Account;
 import saviing.bank.account.domain.model.AccountStatus;
 import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.account.exception.AccountException;
 import saviing.bank.account.exception.InvalidAccountStateException;
 import saviing.bank.common.vo.MoneyWon;
 import saviing.common.annotation.ExecutionTime;
@@ -84,13 +98,188 @@ public class AccountBalanceService {
         // 저장
         Account savedAccount = saveAccountPort.save(account);
 
-        // 게임 적금 적립 이벤트 발행 (실패해도 본 거래에는 영향 없음)
+        // 게임 적금 적립 이벤트를 같은 트랜잭션의 아웃박스에 기록 (Redis 발행은 릴레이가 비동기로 처리)
         savingsDepositEventPublisher.publish(savedAccount, command.amount());
 
         // 결과 변환
         return BalanceUpdateResult.from(savedAccount, previousBalance, command.amount());
     }
 
+    /**
+     * 계좌 간 이체를 한 번의 로드/저장 사이클로 반영합니다.
+     *
+     * 두 계좌를 ID 오름차순 비관적 쓰기 잠금으로 한 번에 로드해 동시 송금 간 교착 상태를 막고,
+     * 출금/입금을 반영한 뒤 같은 순서로 저장합니다.
+     * 계좌 상태나 잔액 조건을 만족하지 못하면 잔액을 변경하지 않고 반영 전 스냅샷만 반환합니다.
+     * 계좌 도메인 예외는 잔액 저장 전에 발생하므로 호출자 트랜잭션을 롤백 전용으로 만들지 않아,
+     * 호출자가 실패 응답을 받은 뒤 송금 실패나 보상 실패 기록을 커밋할 수 있습니다.
+     *
+     * @param sourceAccountId 출금 계좌 ID
+     * @param targetAccountId 입금 계좌 ID
+     * @param amount 이체 금액 (원 단위)
+     * @return 이체 반영 결과
+     */
+    @Transactional(noRollbackFor = AccountException.class)
+    public TransferBalanceResult applyTransfer(Long sourceAccountId, Long targetAccountId, Long amount) {
+        WithdrawAccountCommand withdrawCommand = WithdrawAccountCommand.of(sourceAccountId, amount);
+        DepositAccountCommand depositCommand = DepositAccountCommand.of(targetAccountId, amount);
+
+        // 계좌 로드 (ID 오름차순 비관적 잠금, 동시 송금 간 교착 방지)
+        Map<AccountId, Account> accounts = loadAccountPort.lockAllByIds(
+                List.of(withdrawCommand.accountId(), depositCommand.accountId())
+            )
+            .stream()
+            .collect(Collectors.toMap(Account::getId, Function.identity()));
+        Account source = requireAccount(accounts, withdrawCommand.accountId());
+        Account target = requireAccount(accounts, depositCommand.accountId());
+
+        AccountState sourceState = AccountState.from(source);
+        AccountState targetState = AccountState.from(target);
+
+        // 상태/잔액 검증: 조건 미충족 시 잔액 변경 없이 스냅샷만 반환
+        if (source.getStatus() != AccountStatus.ACTIVE
+            || target.getStatus() != AccountStatus.ACTIVE
+            || source.getBalance().isLessThan(withdrawCommand.amount())) {
+            return TransferBalanceResult.rejected(sourceState, targetState);
+        }
+
+        MoneyWon sourcePreviousBalance = source.getBalance();
+        MoneyWon targetPreviousBalance = target.getBalance();
+
+        // 출금/입금 수행 (도메인 검증 포함)
+        source.withdraw(withdrawCommand.amount());
+        target.deposit(depositCommand.amount());
+
+        // 로드 순서와 동일하게 ID 오름차순으로 저장
+        Account savedSource;
+        Account savedTarget;
+        if (source.getId().value() < target.getId().value()) {
+            savedSource = saveAccountPort.save(source);
+            savedTarget = saveAccountPort.save(target);
+        } else {
+            savedTarget = saveAccountPort.save(target);
+            savedSource = saveAccountPort.save(source);
+        }
+
+        // 게임 적금 적립 이벤트를 같은 트랜잭션의 아웃박스에 기록 (Redis 발행은 릴레이가 비동기로 처리)
+        savingsDepositEventPublisher.publish(savedTarget, depositCommand.amount());
+
+        return TransferBalanceResult.applied(
+            sourceState,
+            targetState,
+            BalanceUpdateResult.from(savedSource, sourcePreviousBalance, withdrawCommand.amount()),
+            BalanceUpdateResult.from(savedTarget, targetPreviousBalance, depositCommand.amount())
+        );
+    }
+
+    /**
+     * 한 출금 계좌에서 여러 입금 계좌로의 이체를 한 번의 로드/저장 사이클로 반영합니다.
+     *
+     * 출금 계좌와 모든 입금 계좌를 ID 오름차순 비관적 쓰기 잠금으로 한 번에 로드한 뒤, 요청 순서대로
+     * 건별 조건(계좌 상태, 남은 잔액)을 검사해 반영 여부와 건별 잔액 변화를 계산합니다.
+     * 실제 잔액 변경은 출금 계좌에 반영 건 합계를 한 번, 입금 계좌마다 합산 금액을 한 번 적용하고 계좌별로 한 번씩 저장합니다.
+     * 조건을 만족하지 못한 건은 잔액을 변경하지 않고 사유와 함께 미반영으로 반환합니다.
+     *
+     * @param sourceAccountId 출금 계좌 ID
+     * @param legs 입금 계좌와 금액 목록 (요청 순서)
+     * @return 건별 반영 결과
+     */
+    @Transactional(noRollbackFor = AccountException.class)
+    public BulkTransferBalanceResult applyBulkTransfer(Long sourceAccountId, List<DepositAccountCommand> legs) {
+        AccountId sourceId = AccountId.of(sourceAccountId);
+        Set<AccountId> accountIds = new LinkedHashSet<>();
+        accountIds.add(sourceId);
+        legs.forEach(leg -> accountIds.add(leg.accountId()));
+
+        // 계좌 로드 (ID 오름차순 비관적 잠금, 동시 송금 간 교착 방지)
+        Map<AccountId, Account> accounts = loadAccountPort.lockAllByIds(accountIds)
+            .stream()
+            .collect(Collectors.toMap(Account::getId, Function.identity()));
+        Account source = requireAccount(accounts, sourceId);
+        AccountState sourceState = AccountState.from(source);
+
+        Map<AccountId, AccountState> targetStates = new HashMap<>();
+        Map<AccountId, MoneyWon> targetBalances = new HashMap<>();
+        Map<AccountId, MoneyWon> creditTotals = new LinkedHashMap<>();
+        MoneyWon sourceBalance = source.getBalance();
+        MoneyWon debitTotal = MoneyWon.zero();
+        List<LegResult> results = new ArrayList<>(legs.size());
+
+        for (DepositAccountCommand leg : legs) {
+            Account target = accounts.get(leg.accountId());
+            AccountState targetState = target != null
+                ? targetStates.computeIfAbsent(leg.accountId(), id -> AccountState.from(target))
+                : null;
+            String rejectReason = findBulkRejectReason(source, target, sourceBalance, leg.amount());
+            if (rejectReason != null) {
+                results.add(LegResult.rejected(targetState, rejectReason));
+                continue;
+            }
+
+            sourceBalance = sourceBalance.subtract(leg.amount());
+            MoneyWon targetBalance = targetBalances.getOrDefault(leg.accountId(), target.getBalance()).add(leg.amount());
+            targetBalances.put(leg.accountId(), targetBalance);
+            debitTotal = debitTotal.add(leg.amount());
+            creditTotals.merge(leg.accountId(), leg.amount(), MoneyWon::add);
+            results.add(LegResult.applied(targetState, sourceBalance.amount(), targetBalance.amount()));
+        }
+
+        if (debitTotal.isZero()) {
+            return new BulkTransferBalanceResult(sourceState, results);
+        }
+
+        // 출금 계좌는 반영 건 합계로 한 번, 입금 계좌는 합산 금액으로 한 번씩 반영 (도메인 검증 포함)
+        source.withdraw(debitTotal);
+        creditTotals.forEach((accountId, amount) -> accounts.get(accountId).deposit(amount));
+
+        // 로드 순서와 동일하게 ID 오름차순으로 저장
+        Map<AccountId, Account> saved = new HashMap<>();
+        accounts.values().stream()
+            .filter(account -> account == source || creditTotals.containsKey(account.getId()))
+            .sorted(Comparator.comparing(account -> account.getId().value()))
+            .forEach(account -> saved.put(account.getId(), saveAccountPort.save(account)));
+
+        // 게임 적금 적립 이벤트는 입금 계좌마다 합산 금액으로 한 번 기록
+        creditTotals.forEach((accountId, amount) -> savingsDepositEventPublisher.publish(saved.get(accountId), amount));
+
+        return new BulkTransferBalanceResult(sourceState, results);
+    }
+
+    /**
+     * 일괄 이체 한 건을 반영할 수 없는 사유를 반환합니다. 반영할 수 있으면 null을 반환합니다.
+     */
+    private String findBulkRejectReason(Account source, Account target, MoneyWon sourceBalance, MoneyWon amount) {
+        if (source.getStatus() != AccountStatus.ACTIVE) {
+            return "SOURCE_NOT_ACTIVE";
+        }
+        if (target == null) {
+            return "TARGET_NOT_FOUND";
+        }
+        if (target == source) {
+            return "SAME_ACCOUNT";
+        }
+        if (target.getStatus() != AccountStatus.ACTIVE) {
+            return "TARGET_NOT_ACTIVE";
+        }
+        if (sourceBalance.isLessThan(amount)) {
+            return "INSUFFICIENT_BALANCE";
+        }
+        return null;
+    }
+
+    /**
+     * 일괄 로드 결과에서 계좌를 꺼냅니다.
+     */
+    private Account requireAccount(Map<AccountId, Account> accounts, AccountId accountId) {
+        Account account = accounts.get(accountId);
+        if (account == null) {
+            throw new InvalidAccountStateException(Map.of(
+                "accountId", accountId.value(),
+                "reason", "NOT_FOUND"
+            ));
+        }
+        return account;
+    }
 
     /**
      * ACTIVE 상태의 계좌만 반환합니다.
@@ -33,6 +33,10 @@ import saviing.bank.account.exception.InvalidProductTypeException;
 import saviing.bank.account.exception.InvalidSavingsTermException;
 import saviing.bank.account.exception.InvalidTargetAmountException;
 import saviing.bank.account.exception.InvalidWithdrawalAccountException;
+import saviing.bank.transaction.application.port.out.SaveTransactionPort;
+import saviing.bank.transaction.domain.model.Transaction;
+import saviing.bank.transaction.domain.model.TransactionDirection;
+import saviing.bank.transaction.domain.model.TransactionType;
 
 @ExecutionTime
 @Service
@@ -40,11 +44,15 @@ import saviing.bank.account.exception.InvalidWithdrawalAccountException;
 @RequiredArgsConstructor
 public class AccountCommandService implements CreateAccountUseCase {
 
+    private static final MoneyWon OPENING_DEPOSIT = MoneyWon.of(10_000_000L);
+    private static final String OPENING_DEPOSIT_DESCRIPTION = "계좌 개설 지급";
+
     private final GenerateAccountNumberPort generateAccountNumberPort;
     private final SaveAccountPort saveAccountPort;
     private final LoadAccountPort loadAccountPort;
     private final ProductService productService;
     private final AutoTransferSchedulePort autoTransferSchedulePort;
+    private final SaveTransactionPort saveTransactionPort;
     
     @Override
     public CreateAccountResult createAccount(CreateAccountCommand command) {
@@ -74,12 +82,23 @@ public class AccountCommandService implements CreateAccountUseCase {
         );
 
         // 자유입출금 계좌 1000만원 지급 (테스트)
-        account.deposit(MoneyWon.of(10_000_000L));
+        account.deposit(OPENING_DEPOSIT);
 
         // 상품별 기본 금리 설정 (자유입출금은 0%)
         setDefaultInterestRate(account, product);
 
         Account savedAccount = saveAccountPort.save(account);
+        // 모든 잔액 변동이 거래로 남아야 원장 대사에서 잔액과 거래 합계가 맞으므로 지급액도 거래로 기록한다.
+        saveTransactionPort.saveTransaction(Transaction.create(
+            savedAccount.getId().value(),
+            TransactionType.OPENING_DEPOSIT,
+            TransactionDirection.CREDIT,
+            OPENING_DEPOSIT,
+            savedAccount.getBalance(),
+            LocalDate.now(),
+            Instant.now(),
+            OPENING_DEPOSIT_DESCRIPTION
+        ));
         return CreateAccountResult.from(savedAccount, product);
     }
 
@@ -12,6 +12,8 @@ import saviing.bank.account.application.port.in.GetAccountsByCustomerIdUseCase;
 import saviing.bank.account.application.port.in.GetAccountUseCase;
 import saviing.bank.account.application.port.in.result.GetAccountResult;
 import saviing.bank.account.application.port.out.LoadAccountPort;
+import saviing.bank.account.application.port.out.LoadAccountPort.AccountWithSchedule;
+import saviing.bank.account.application.port.out.LoadAccountSnapshotPort;
 import saviing.bank.account.application.port.out.AutoTransferSchedulePort;
 import saviing.bank.account.domain.model.Account;
 import saviing.bank.account.domain.model.Product;
@@ -27,12 +29,13 @@ import saviing.bank.account.exception.AccountNotFoundException;
 public class AccountQueryService implements GetAccountUseCase, GetAccountsByCustomerIdUseCase {
 
     private final LoadAccountPort loadAccountPort;
+    private final LoadAccountSnapshotPort loadAccountSnapshotPort;
     private final ProductService productService;
     private final AutoTransferSchedulePort autoTransferSchedulePort;
 
     @Override
     public GetAccountResult getAccount(Long accountId) {
-        Account account = loadAccountPort.findById(AccountId.of(accountId))
+        Account account = loadAccountSnapshotPort.findSnapshotById(AccountId.of(accountId))
             .orElseThrow(() -> new AccountNotFoundException(Map.of("accountId", accountId)));
         Product product = productService.getProduct(account.getProductId());
         AutoTransferSchedule schedule = account.isSavingsAccount()
@@ -43,7 +46,7 @@ public class AccountQueryService implements GetAccountUseCase, GetAccountsByCust
 
     @Override
     public GetAccountResult getAccountByNumber(String accountNumber) {
-        Account account = loadAccountPort.findByAccountNumber(new AccountNumber(accountNumber))
+        Account account = loadAccountSnapshotPort.findSnapshotByAccountNumber(new AccountNumber(accountNumber))
             .orElseThrow(() -> new AccountNotFoundException(Map.of("accountNumber", accountNumber)));
         Product product = productService.getProduct(account.getProductId());
         AutoTransferSchedule schedule = account.isSavingsAccount()
@@ -54,14 +57,14 @@ public class AccountQueryService implements GetAccountUseCase, GetAccountsByCust
 
     @Override
     public List<GetAccountResult> getAccountsByCustomerId(Long customerId) {
-        List<Account> accounts = loadAccountPort.findByCustomerId(customerId);
+        // 계좌와 자동이체 스케줄을 한 번의 조회로 읽어 계좌 수와 무관하게 쿼리 수를 고정한다.
+        List<AccountWithSchedule> accounts = loadAccountPort.findByCustomerIdWithSchedule(customerId);
 
         return accounts.stream()
-            .map(account -> {
+            .map(row -> {
+                Account account = row.account();
                 Product product = productService.getProduct(account.getProductId());
-                AutoTransferSchedule schedule = account.isSavingsAccount()
-                    ? autoTransferSchedulePort.findByAccountId(account.getId()).orElse(null)
-                    : null;
+                AutoTransferSchedule schedule = account.isSavingsAccount() ? row.schedule() : null;
                 return GetAccountResult.from(account, product, schedule);
             })
             .toList();
@@ -1,20 +1,38 @@
 package saviing.bank.account.application.service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import saviing.bank.account.application.port.out.AutoTransferSchedulePort;
+import saviing.bank.account.application.port.out.AutoTransferSchedulePort.DueSchedule;
+import saviing.bank.account.application.port.out.LoadAccountPort;
+import saviing.bank.account.domain.model.Account;
 import saviing.bank.account.domain.model.AutoTransferSchedule;
+import saviing.bank.account.domain.vo.AccountId;
 import saviing.bank.account.domain.vo.AutoTransferScheduleId;
+import saviing.bank.customer.service.CustomerService;
+import saviing.bank.transaction.application.service.TransferRetryExecutor;
 import saviing.bank.transaction.application.service.TransferService;
 import saviing.bank.transaction.application.port.in.command.TransferCommand;
 import saviing.bank.transaction.domain.model.transfer.TransferType;
@@ -23,17 +41,38 @@ import saviing.bank.transaction.domain.vo.IdempotencyKey;
 /**
  * 적금 자동이체를 定기적으로 실행하는 스케줄러.
  * Spring {@code @Scheduled}를 사용해 매일 지정된 시간에 실행 대상 스케줄을 처리한다.
+ * 병렬 모드에서는 출금 계좌 단위로 스케줄을 분할해 가상 스레드에서 동시에 실행하며,
+ * 같은 출금 계좌의 자동이체는 하나의 작업 안에서 순차적으로 실행한다.
+ * 선점 모드에서는 여러 노드가 실행 대상을 리스 단위로 나눠 가져가므로 각 스케줄은 한 노드에서만 실행된다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AutoTransferScheduler {
 
+    private static final String METRIC_PREFIX = "auto_transfer.scheduler";
+
     private final TransactionTemplate txTemplate;
     private final AutoTransferSchedulePort autoTransferSchedulePort;
+    private final LoadAccountPort loadAccountPort;
+    private final CustomerService customerService;
     private final TransferService transferService;
+    private final TransferRetryExecutor transferRetryExecutor;
+    private final MeterRegistry meterRegistry;
     @Value("${auto-transfer.scheduler.demo-reset-enabled:false}")
     private boolean demoResetEnabled;
+    @Value("${auto-transfer.scheduler.parallel.enabled:false}")
+    private boolean parallelEnabled;
+    @Value("${auto-transfer.scheduler.parallel.concurrency:8}")
+    private int parallelConcurrency;
+    @Value("${auto-transfer.scheduler.claim.enabled:true}")
+    private boolean claimEnabled;
+    @Value("${auto-transfer.scheduler.claim.node-id:${HOSTNAME:local}-${random.uuid}}")
+    private String claimNodeId;
+    @Value("${auto-transfer.scheduler.claim.chunk-size:500}")
+    private int claimChunkSize;
+    @Value("${auto-transfer.scheduler.claim.lease-seconds:300}")
+    private long claimLeaseSeconds;
 
     /**
      * 자동이체 스케줄을 실행한다.
@@ -46,19 +85,152 @@ public class AutoTransferScheduler {
         if (demoResetEnabled) {
             txTemplate.executeWithoutResult(status -> autoTransferSchedulePort.resetAllNextRunDate(today));
         }
-        List<AutoTransferScheduleId> scheduleIds = autoTransferSchedulePort.findDueSchedulesIds(today);
-        if (scheduleIds.isEmpty()) {
-            log.info("처리할 자동이체 스케줄이 없습니다. date={}", today);
+        RunStatistics statistics = new RunStatistics();
+        long startedAt = System.nanoTime();
+        if (claimEnabled) {
+            processClaimedSchedules(today, statistics);
+        } else {
+            List<DueSchedule> dueSchedules = autoTransferSchedulePort.findDueSchedules(today);
+            if (dueSchedules.isEmpty()) {
+                log.info("처리할 자동이체 스케줄이 없습니다. date={}", today);
+                return;
+            }
+            log.info("{}건의 자동이체 스케줄을 처리합니다. date={}, parallel={}", dueSchedules.size(), today, parallelEnabled);
+            processSchedules(dueSchedules, statistics);
+        }
+        recordRunMetrics(today, statistics, Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * 실행 대상을 묶음 단위로 선점하며 더 이상 선점할 스케줄이 없을 때까지 처리한다.
+     * 선점은 짧은 트랜잭션에서 수행하고, 실행 실패한 스케줄은 리스가 만료된 뒤 다시 선점 대상이 된다.
+     *
+     * @param today 실행 기준일
+     * @param statistics 실행 통계
+     */
+    private void processClaimedSchedules(LocalDate today, RunStatistics statistics) {
+        while (true) {
+            Instant now = Instant.now();
+            List<DueSchedule> claimed = txTemplate.execute(status -> autoTransferSchedulePort.claimDueSchedules(
+                today,
+                claimNodeId,
+                now,
+                now.plusSeconds(claimLeaseSeconds),
+                Math.max(1, claimChunkSize)
+            ));
+            if (claimed == null || claimed.isEmpty()) {
+                if (statistics.processed() == 0) {
+                    log.info("처리할 자동이체 스케줄이 없습니다. date={}, node={}", today, claimNodeId);
+                }
+                return;
+            }
+            log.info("{}건의 자동이체 스케줄을 선점해 처리합니다. date={}, node={}, parallel={}",
+                claimed.size(), today, claimNodeId, parallelEnabled);
+            processSchedules(claimed, statistics);
+        }
+    }
+
+    /**
+     * 설정된 모드(순차/병렬)에 따라 스케줄 목록을 실행한다.
+     *
+     * @param dueSchedules 실행 대상 스케줄 목록
+     * @param statistics 실행 통계
+     */
+    private void processSchedules(List<DueSchedule> dueSchedules, RunStatistics statistics) {
+        prefetchCustomerNames(dueSchedules);
+        if (parallelEnabled) {
+            processInParallel(dueSchedules, statistics);
             return;
         }
+        for (DueSchedule dueSchedule : dueSchedules) {
+            processSchedule(dueSchedule.scheduleId(), statistics);
+        }
+    }
+
+    /**
+     * 송금 거래 설명에 쓰일 고객 이름을 한 번의 조회로 캐시에 미리 채운다.
+     * 적금 계좌와 출금 계좌는 같은 고객의 계좌이므로 출금 계좌의 고객만 읽으면 된다.
+     * 미리 채우지 못해도 송금 시 개별 조회로 처리되므로 실패는 로그만 남긴다.
+     *
+     * @param dueSchedules 실행 대상 스케줄 목록
+     */
+    private void prefetchCustomerNames(List<DueSchedule> dueSchedules) {
+        List<AccountId> withdrawAccountIds = dueSchedules.stream()
+            .map(DueSchedule::withdrawAccountId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        if (withdrawAccountIds.isEmpty()) {
+            return;
+        }
+        try {
+            customerService.prefetchCustomerNames(loadAccountPort.findAllByIds(withdrawAccountIds)
+                .stream()
+                .map(Account::getCustomerId)
+                .toList());
+        } catch (Exception ex) {
+            log.warn("자동이체 고객 이름 미리 조회에 실패했습니다. message={}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 출금 계좌 단위로 분할한 스케줄을 제한된 동시성으로 실행한다.
+     *
+     * @param dueSchedules 실행 대상 스케줄 목록
+     * @param statistics 실행 통계
+     */
+    private void processInParallel(List<DueSchedule> dueSchedules, RunStatistics statistics) {
+        Map<Long, List<AutoTransferScheduleId>> partitions = partitionByWithdrawAccount(dueSchedules);
+        Semaphore permits = new Semaphore(Math.max(1, parallelConcurrency));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<AutoTransferScheduleId> partition : partitions.values()) {
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        // 같은 출금 계좌의 자동이체는 순차 실행해 계좌 잠금 경합을 피한다.
+                        for (AutoTransferScheduleId scheduleId : partition) {
+                            processSchedule(scheduleId, statistics);
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * 출금 계좌 ID 기준으로 스케줄을 묶는다. 출금 계좌가 없는 스케줄은 각자 별도 파티션으로 둔다.
+     */
+    private Map<Long, List<AutoTransferScheduleId>> partitionByWithdrawAccount(List<DueSchedule> dueSchedules) {
+        Map<Long, List<AutoTransferScheduleId>> partitions = new LinkedHashMap<>();
+        for (DueSchedule dueSchedule : dueSchedules) {
+            Long partitionKey = dueSchedule.withdrawAccountId() != null
+                ? dueSchedule.withdrawAccountId().value()
+                : -dueSchedule.scheduleId().value();
+            partitions.computeIfAbsent(partitionKey, key -> new ArrayList<>()).add(dueSchedule.scheduleId());
+        }
+        return partitions;
+    }
 
-        log.info("{}건의 자동이체 스케줄을 처리합니다. date={}", scheduleIds.size(), today);
-        for (AutoTransferScheduleId scheduleId : scheduleIds) {
-            txTemplate.executeWithoutResult(status -> {
+    /**
+     * 단일 스케줄을 별도 트랜잭션에서 실행하고 결과를 통계에 반영한다.
+     *
+     * @param scheduleId 실행할 자동이체 스케줄 ID
+     * @param statistics 실행 통계
+     */
+    private void processSchedule(AutoTransferScheduleId scheduleId, RunStatistics statistics) {
+        try {
+            // 계좌 잠금 경합으로 롤백된 경우 스케줄 트랜잭션 전체를 재시도한다.
+            Boolean succeeded = transferRetryExecutor.execute(() -> txTemplate.execute(status -> {
                 try {
                     AutoTransferSchedule schedule = autoTransferSchedulePort.findByIdForUpdate(scheduleId)
                         .orElseThrow(() -> new IllegalStateException("자동이체 스케줄을 찾을 수 없습니다: " + scheduleId.value()));
                     executeSchedule(schedule);
+                    return Boolean.TRUE;
+                } catch (ConcurrencyFailureException ex) {
+                    throw ex;
                 } catch (Exception ex) {
                     status.setRollbackOnly();
                     log.error("자동이체 실행에 실패했습니다. scheduleId={}, message={}",
@@ -66,8 +238,17 @@ public class AutoTransferScheduler {
                         ex.getMessage(),
                         ex
                     );
+                    return Boolean.FALSE;
                 }
-            });
+            }));
+            statistics.record(Boolean.TRUE.equals(succeeded));
+        } catch (Exception ex) {
+            statistics.record(false);
+            log.error("자동이체 실행에 실패했습니다. scheduleId={}, message={}",
+                scheduleId.value(),
+                ex.getMessage(),
+                ex
+            );
         }
     }
 
@@ -77,7 +258,8 @@ public class AutoTransferScheduler {
      * @param schedule 실행할 자동이체 스케줄
      */
     private void executeSchedule(AutoTransferSchedule schedule) {
-        if (!schedule.isEnabled()) {
+        // 다른 노드 또는 이전 실행에서 이미 처리된 스케줄은 건너뛴다.
+        if (!schedule.isDue(LocalDate.now())) {
             return;
         }
 
@@ -86,7 +268,12 @@ public class AutoTransferScheduler {
             return;
         }
 
-        IdempotencyKey idempotencyKey = IdempotencyKey.of("auto-transfer-%d-%s".formatted(schedule.getId().value(), Instant.now()));
+        // (스케줄 ID, 실행 예정일) 기반의 결정적 키로 재시작/재시도 시에도 같은 송금으로 식별되게 한다.
+        // 데모 리셋 모드는 같은 날짜를 반복 실행하므로 실행 시각을 키로 사용한다.
+        String runKey = demoResetEnabled ? Instant.now().toString() : String.valueOf(schedule.getNextRunDate());
+        IdempotencyKey idempotencyKey = IdempotencyKey.of(
+            "auto-transfer-%d-%s".formatted(schedule.getId().value(), runKey)
+        );
 
         TransferCommand command = TransferCommand.builder()
             .sourceAccountId(schedule.getWithdrawAccountId().value())
@@ -111,4 +298,51 @@ public class AutoTransferScheduler {
             schedule.getNextRunDate()
         );
     }
+
+    /**
+     * 실행 결과를 메트릭으로 기록하고 처리량을 로그로 남긴다.
+     */
+    private void recordRunMetrics(LocalDate runDate, RunStatistics statistics, Duration elapsed) {
+        String mode = parallelEnabled ? "parallel" : "sequential";
+        Timer.builder(METRIC_PREFIX + ".run.duration")
+            .tag("mode", mode)
+            .register(meterRegistry)
+            .record(elapsed);
+        meterRegistry.counter(METRIC_PREFIX + ".schedules", "mode", mode, "result", "success")
+            .increment(statistics.succeeded.get());
+        meterRegistry.counter(METRIC_PREFIX + ".schedules", "mode", mode, "result", "failure")
+            .increment(statistics.failed.get());
+
+        int processed = statistics.processed();
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        log.info("자동이체 스케줄 처리 완료. date={}, mode={}, processed={}, succeeded={}, failed={}, elapsedMs={}, throughput={}/s",
+            runDate,
+            mode,
+            processed,
+            statistics.succeeded.get(),
+            statistics.failed.get(),
+            elapsed.toMillis(),
+            String.format("%.1f", processed / seconds)
+        );
+    }
+
+    /**
+     * 한 번의 스케줄러 실행에 대한 성공/실패 집계.
+     */
+    private static final class RunStatistics {
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private int processed() {
+            return succeeded.get() + failed.get();
+        }
+
+        private void record(boolean success) {
+            if (success) {
+                succeeded.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+            }
+        }
+    }
 }
@@ -0,0 +1,172 @@
+package saviing.bank.account.application.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import saviing.bank.account.application.port.out.InterestAccrualBatchPort;
+import saviing.bank.account.application.port.out.InterestAccrualBatchPort.AccrualCheckpoint;
+import saviing.bank.account.application.port.out.InterestAccrualBatchPort.AccrualTarget;
+import saviing.bank.account.application.port.out.InterestAccrualBatchPort.AccrualUpdate;
+import saviing.bank.account.domain.service.InterestAccrualService;
+
+/**
+ * 활성 적금 계좌의 이자를 매일 적립하는 배치 서비스.
+ * 계좌를 ID 기준 키셋 페이지네이션으로 나눠 읽고, 묶음 안의 이자 계산은 여러 코어에서 병렬로 수행한 뒤
+ * JDBC 배치 업데이트로 한 번에 반영한다.
+ * 묶음마다 반영 결과와 체크포인트를 같은 트랜잭션에서 저장하므로 중단되더라도 마지막 묶음 다음부터 이어서 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterestAccrualBatchService {
+
+    static final String JOB_NAME = "interest-accrual";
+    private static final String METRIC_PREFIX = "interest_accrual.batch";
+
+    private final TransactionTemplate txTemplate;
+    private final InterestAccrualBatchPort interestAccrualBatchPort;
+    private final InterestAccrualService interestAccrualService;
+    private final MeterRegistry meterRegistry;
+    @Value("${interest-accrual.batch.enabled:true}")
+    private boolean enabled;
+    @Value("${interest-accrual.batch.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 오늘 날짜 기준으로 이자 적립 배치를 실행한다.
+     *
+     * @implNote 기본 실행 시각은 매일 00:30이며, {@code interest-accrual.batch.cron} 프로퍼티로 조정할 수 있다.
+     */
+    @Scheduled(cron = "${interest-accrual.batch.cron:0 30 0 * * *}")
+    public void accrueDailyInterest() {
+        if (!enabled) {
+            return;
+        }
+        accrue(LocalDate.now());
+    }
+
+    /**
+     * 지정한 기준일의 자정까지 발생한 이자를 적립한다.
+     * 같은 기준일로 이미 완료된 실행이 있으면 건너뛰고, 중단된 실행이 있으면 체크포인트 다음 계좌부터 이어서 처리한다.
+     *
+     * @param runDate 이자 적립 기준일
+     */
+    public void accrue(LocalDate runDate) {
+        Instant asOf = runDate.atStartOfDay(ZoneId.systemDefault()).toInstant();
+        AccrualCheckpoint checkpoint = interestAccrualBatchPort.findCheckpoint(JOB_NAME)
+            .filter(saved -> runDate.equals(saved.runDate()))
+            .orElse(new AccrualCheckpoint(JOB_NAME, runDate, 0L, false));
+        if (checkpoint.completed()) {
+            log.info("이미 완료된 이자 적립 배치입니다. date={}", runDate);
+            return;
+        }
+        if (checkpoint.lastAccountId() > 0) {
+            log.info("이자 적립 배치를 체크포인트부터 재개합니다. date={}, lastAccountId={}", runDate, checkpoint.lastAccountId());
+        }
+
+        int limit = Math.max(1, chunkSize);
+        long lastAccountId = checkpoint.lastAccountId();
+        long scanned = 0;
+        long applied = 0;
+        long startedAt = System.nanoTime();
+        while (true) {
+            List<AccrualTarget> targets = interestAccrualBatchPort.findAccrualTargets(lastAccountId, limit);
+            if (targets.isEmpty()) {
+                break;
+            }
+            long chunkLastAccountId = targets.get(targets.size() - 1).accountId().value();
+            List<AccrualUpdate> updates = computeAccruals(targets, asOf);
+
+            Integer chunkApplied = txTemplate.execute(status -> {
+                int count = interestAccrualBatchPort.applyAccruals(updates);
+                interestAccrualBatchPort.saveCheckpoint(
+                    new AccrualCheckpoint(JOB_NAME, runDate, chunkLastAccountId, false)
+                );
+                return count;
+            });
+
+            scanned += targets.size();
+            applied += chunkApplied != null ? chunkApplied : 0;
+            lastAccountId = chunkLastAccountId;
+            if (targets.size() < limit) {
+                break;
+            }
+        }
+
+        long finalLastAccountId = lastAccountId;
+        txTemplate.executeWithoutResult(status -> interestAccrualBatchPort.saveCheckpoint(
+            new AccrualCheckpoint(JOB_NAME, runDate, finalLastAccountId, true)
+        ));
+        recordRunMetrics(runDate, scanned, applied, Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * 묶음 안의 계좌별 이자를 병렬로 계산한다.
+     * 이미 기준 시점까지 적립된 계좌는 결과에서 제외한다.
+     */
+    private List<AccrualUpdate> computeAccruals(List<AccrualTarget> targets, Instant asOf) {
+        return targets.parallelStream()
+            .map(target -> computeAccrual(target, asOf))
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * {@code Account.accrueInterest}와 같은 규칙으로 단일 계좌의 이자 적립 결과를 계산한다.
+     * 잔액이 0이면 이자 없이 계산 시점만 갱신한다.
+     */
+    private AccrualUpdate computeAccrual(AccrualTarget target, Instant asOf) {
+        if (target.lastAccrualTs() != null && !target.lastAccrualTs().isBefore(asOf)) {
+            return null;
+        }
+        BigDecimal currentAccrued = target.interestAccrued() != null ? target.interestAccrued() : BigDecimal.ZERO;
+        if (target.balance() == 0) {
+            return new AccrualUpdate(target.accountId(), currentAccrued, asOf, target.version());
+        }
+        BigDecimal additionalInterest = interestAccrualService.computeAccrual(
+            target.balance(),
+            currentAccrued,
+            target.baseRate(),
+            target.bonusRate(),
+            target.compoundingType(),
+            target.lastAccrualTs(),
+            asOf
+        );
+        return new AccrualUpdate(target.accountId(), currentAccrued.add(additionalInterest), asOf, target.version());
+    }
+
+    /**
+     * 실행 결과를 메트릭으로 기록하고 처리량을 로그로 남긴다.
+     */
+    private void recordRunMetrics(LocalDate runDate, long scanned, long applied, Duration elapsed) {
+        Timer.builder(METRIC_PREFIX + ".run.duration")
+            .register(meterRegistry)
+            .record(elapsed);
+        meterRegistry.counter(METRIC_PREFIX + ".accounts", "result", "applied").increment(applied);
+        meterRegistry.counter(METRIC_PREFIX + ".accounts", "result", "skipped").increment(scanned - applied);
+
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        log.info("이자 적립 배치 완료. date={}, scanned={}, applied={}, elapsedMs={}, throughput={} accounts/s",
+            runDate,
+            scanned,
+            applied,
+            elapsed.toMillis(),
+            String.format("%.1f", scanned / seconds)
+        );
+    }
+}
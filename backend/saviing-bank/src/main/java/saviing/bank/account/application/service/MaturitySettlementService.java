@@ -0,0 +1,307 @@
+package saviing.bank.account.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import saviing.bank.account.application.port.out.LoadAccountPort;
+import saviing.bank.account.application.port.out.SaveAccountPort;
+import saviing.bank.account.domain.model.Account;
+import saviing.bank.account.domain.model.AccountStatus;
+import saviing.bank.account.domain.service.InterestAccrualService;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.account.exception.AccountNotFoundException;
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.in.command.TransferCommand;
+import saviing.bank.transaction.application.port.in.result.TransferResult;
+import saviing.bank.transaction.application.port.out.SaveTransactionPort;
+import saviing.bank.transaction.application.service.TransferRetryExecutor;
+import saviing.bank.transaction.application.service.TransferService;
+import saviing.bank.transaction.domain.model.Transaction;
+import saviing.bank.transaction.domain.model.TransactionDirection;
+import saviing.bank.transaction.domain.model.TransactionType;
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+import saviing.bank.transaction.domain.model.transfer.TransferType;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+
+/**
+ * 만기가 도래한 적금 계좌를 정산하는 배치 서비스.
+ * 계좌마다 만기일까지의 이자를 적립·지급하고, 잔액을 만기 출금 계좌로 송금한 뒤 계좌를 해지한다.
+ * 만기 계좌를 ID 기준 키셋 커서로 묶음 단위로 읽어 가상 스레드에서 병렬로 정산하며,
+ * 계좌 하나의 정산은 하나의 트랜잭션으로 처리해 실패한 계좌가 같은 묶음의 다른 계좌에 영향을 주지 않는다.
+ * 정산이 끝난 계좌는 해지 상태가 되어 조회 대상에서 빠지므로 중단된 실행은 남은 계좌부터 이어서 처리된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MaturitySettlementService {
+
+    private static final String METRIC_PREFIX = "maturity_settlement.batch";
+    private static final String INTEREST_DESCRIPTION = "적금 만기 이자";
+    private static final String SETTLEMENT_MEMO = "적금 만기 해지";
+
+    private final TransactionTemplate txTemplate;
+    private final LoadAccountPort loadAccountPort;
+    private final SaveAccountPort saveAccountPort;
+    private final InterestAccrualService interestAccrualService;
+    private final SaveTransactionPort saveTransactionPort;
+    private final TransferService transferService;
+    private final TransferRetryExecutor transferRetryExecutor;
+    private final MeterRegistry meterRegistry;
+    @Value("${maturity-settlement.batch.enabled:true}")
+    private boolean enabled;
+    @Value("${maturity-settlement.batch.chunk-size:200}")
+    private int chunkSize;
+    @Value("${maturity-settlement.batch.concurrency:8}")
+    private int concurrency;
+
+    /**
+     * 오늘 날짜 기준으로 만기 정산 배치를 실행한다.
+     *
+     * @implNote 기본 실행 시각은 이자 적립 배치 이후인 매일 01:00이며,
+     * {@code maturity-settlement.batch.cron} 프로퍼티로 조정할 수 있다.
+     */
+    @Scheduled(cron = "${maturity-settlement.batch.cron:0 0 1 * * *}")
+    public void settleMaturedAccounts() {
+        if (!enabled) {
+            return;
+        }
+        settle(LocalDate.now());
+    }
+
+    /**
+     * 기준일까지 만기가 도래한 적금 계좌를 모두 정산한다.
+     *
+     * @param referenceDate 만기 기준일
+     */
+    public void settle(LocalDate referenceDate) {
+        int limit = Math.max(1, chunkSize);
+        RunStatistics statistics = new RunStatistics();
+        long startedAt = System.nanoTime();
+        long lastAccountId = 0L;
+        while (true) {
+            List<AccountId> accountIds = loadAccountPort.findMaturedSavingsAccountIds(referenceDate, lastAccountId, limit);
+            if (accountIds.isEmpty()) {
+                break;
+            }
+            log.info("{}건의 만기 적금 계좌를 정산합니다. date={}, afterAccountId={}", accountIds.size(), referenceDate, lastAccountId);
+            settleChunk(accountIds, referenceDate, statistics);
+            lastAccountId = accountIds.get(accountIds.size() - 1).value();
+            if (accountIds.size() < limit) {
+                break;
+            }
+        }
+        recordRunMetrics(referenceDate, statistics, Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * 한 묶음의 계좌를 제한된 동시성으로 정산하고 모두 끝날 때까지 기다린다.
+     */
+    private void settleChunk(List<AccountId> accountIds, LocalDate referenceDate, RunStatistics statistics) {
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (AccountId accountId : accountIds) {
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        statistics.record(settleAccount(accountId, referenceDate));
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * 단일 계좌를 별도 트랜잭션에서 정산한다. 계좌 잠금 경합으로 롤백되면 트랜잭션 전체를 재시도한다.
+     *
+     * @return 정산 결과
+     */
+    private Outcome settleAccount(AccountId accountId, LocalDate referenceDate) {
+        try {
+            return transferRetryExecutor.execute(() -> txTemplate.execute(status -> settleInTransaction(accountId, referenceDate)));
+        } catch (Exception ex) {
+            log.error("만기 정산에 실패했습니다. accountId={}, message={}", accountId.value(), ex.getMessage(), ex);
+            return Outcome.FAILED;
+        }
+    }
+
+    /**
+     * 만기 이자 지급, 만기 출금 계좌로의 잔액 송금, 계좌 해지를 순서대로 수행한다.
+     * 실패 시 예외를 던져 트랜잭션 전체를 롤백하며, 해당 계좌는 다음 실행에서 다시 정산된다.
+     */
+    private Outcome settleInTransaction(AccountId accountId, LocalDate referenceDate) {
+        Account candidate = loadAccountPort.findById(accountId)
+            .orElseThrow(() -> new AccountNotFoundException(Map.of("accountId", accountId.value())));
+        if (!isSettleable(candidate, referenceDate)) {
+            return Outcome.SKIPPED;
+        }
+        if (candidate.getMaturityWithdrawalAccount() == null) {
+            log.warn("만기 출금 계좌가 설정되지 않은 적금을 건너뜁니다. accountId={}", accountId.value());
+            return Outcome.SKIPPED;
+        }
+
+        Account withdrawalAccount = loadAccountPort.findByAccountNumber(candidate.getMaturityWithdrawalAccount())
+            .orElseThrow(() -> new AccountNotFoundException(Map.of(
+                "accountNumber", candidate.getMaturityWithdrawalAccount().value()
+            )));
+
+        // 송금과 같은 순서(계좌 ID 오름차순)로 두 계좌를 함께 잠가 자동이체 등과의 교착을 피한다.
+        Account account = loadAccountPort.lockAllByIds(List.of(accountId, withdrawalAccount.getId())).stream()
+            .filter(locked -> locked.getId().equals(accountId))
+            .findFirst()
+            .orElseThrow(() -> new AccountNotFoundException(Map.of("accountId", accountId.value())));
+        // 다른 실행이나 수동 해지로 이미 처리된 계좌는 건너뛴다.
+        if (!isSettleable(account, referenceDate)) {
+            return Outcome.SKIPPED;
+        }
+
+        Instant now = Instant.now();
+        payMaturityInterest(account, referenceDate, now);
+        MoneyWon settlementAmount = account.getBalance();
+        if (settlementAmount.amount() > 0) {
+            transferToWithdrawalAccount(account, withdrawalAccount, settlementAmount, referenceDate);
+        }
+
+        // 송금으로 변경된 잔액을 반영하기 위해 다시 읽은 뒤 해지한다.
+        Account settled = loadAccountPort.findById(accountId)
+            .orElseThrow(() -> new AccountNotFoundException(Map.of("accountId", accountId.value())));
+        settled.close(now);
+        saveAccountPort.save(settled);
+
+        log.info("만기 정산 완료 accountId={}, withdrawalAccountId={}, amount={}",
+            accountId.value(),
+            withdrawalAccount.getId().value(),
+            settlementAmount.amount()
+        );
+        return Outcome.SETTLED;
+    }
+
+    private boolean isSettleable(Account account, LocalDate referenceDate) {
+        return account.getStatus() == AccountStatus.ACTIVE
+            && account.isSavingsAccount()
+            && account.getMaturityDate() != null
+            && !account.getMaturityDate().isAfter(referenceDate);
+    }
+
+    /**
+     * 만기일까지의 이자를 적립하고 원 단위 이자를 잔액에 지급한 뒤 이자 거래를 기록한다.
+     */
+    private void payMaturityInterest(Account account, LocalDate referenceDate, Instant postedAt) {
+        Instant maturityAt = account.getMaturityDate().atStartOfDay(ZoneId.systemDefault()).toInstant();
+        if (account.getLastAccrualTs() == null || account.getLastAccrualTs().isBefore(maturityAt)) {
+            account.accrueInterest(maturityAt, interestAccrualService);
+        }
+        MoneyWon interest = account.applyAccruedInterest();
+        saveAccountPort.save(account);
+
+        if (interest.amount() > 0) {
+            saveTransactionPort.saveTransaction(Transaction.create(
+                account.getId().value(),
+                TransactionType.INTEREST,
+                TransactionDirection.CREDIT,
+                interest,
+                account.getBalance(),
+                referenceDate,
+                postedAt,
+                INTEREST_DESCRIPTION
+            ));
+        }
+    }
+
+    /**
+     * 적금 잔액 전체를 원장을 거쳐 만기 출금 계좌로 송금한다.
+     * 계좌 ID 기반의 결정적 멱등성 키를 사용해 재실행 시에도 같은 송금으로 식별되게 한다.
+     */
+    private void transferToWithdrawalAccount(
+        Account account,
+        Account withdrawalAccount,
+        MoneyWon amount,
+        LocalDate referenceDate
+    ) {
+        TransferCommand command = TransferCommand.builder()
+            .sourceAccountId(account.getId().value())
+            .targetAccountId(withdrawalAccount.getId().value())
+            .amount(amount)
+            .valueDate(referenceDate)
+            .transferType(TransferType.INTERNAL)
+            .memo(SETTLEMENT_MEMO)
+            .idempotencyKey(IdempotencyKey.of("maturity-settlement-%d".formatted(account.getId().value())))
+            .build();
+
+        TransferResult result = transferService.transfer(command);
+        if (result.status() != TransferStatus.SETTLED) {
+            throw new IllegalStateException("만기 송금이 완료되지 않았습니다: status=%s, reason=%s"
+                .formatted(result.status(), result.failureReason()));
+        }
+    }
+
+    /**
+     * 실행 결과를 메트릭으로 기록하고 처리량을 로그로 남긴다.
+     */
+    private void recordRunMetrics(LocalDate referenceDate, RunStatistics statistics, Duration elapsed) {
+        Timer.builder(METRIC_PREFIX + ".run.duration")
+            .register(meterRegistry)
+            .record(elapsed);
+        for (Outcome outcome : Outcome.values()) {
+            meterRegistry.counter(METRIC_PREFIX + ".accounts", "result", outcome.name().toLowerCase())
+                .increment(statistics.count(outcome));
+        }
+
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        log.info("만기 정산 배치 완료. date={}, settled={}, skipped={}, failed={}, elapsedMs={}, throughput={} accounts/s",
+            referenceDate,
+            statistics.count(Outcome.SETTLED),
+            statistics.count(Outcome.SKIPPED),
+            statistics.count(Outcome.FAILED),
+            elapsed.toMillis(),
+            String.format("%.1f", statistics.processed() / seconds)
+        );
+    }
+
+    /**
+     * 계좌별 정산 결과.
+     */
+    private enum Outcome {
+        SETTLED,
+        SKIPPED,
+        FAILED
+    }
+
+    /**
+     * 한 번의 배치 실행에 대한 결과별 집계.
+     */
+    private static final class RunStatistics {
+        private final AtomicInteger[] counts = {new AtomicInteger(), new AtomicInteger(), new AtomicInteger()};
+
+        private void record(Outcome outcome) {
+            counts[outcome.ordinal()].incrementAndGet();
+        }
+
+        private int count(Outcome outcome) {
+            return counts[outcome.ordinal()].get();
+        }
+
+        private int processed() {
+            return count(Outcome.SETTLED) + count(Outcome.SKIPPED) + count(Outcome.FAILED);
+        }
+    }
+}
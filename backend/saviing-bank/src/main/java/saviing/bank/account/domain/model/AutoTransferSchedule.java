@@ -203,6 +203,16 @@ public class AutoTransferSchedule {
         this.updatedAt = executedAt;
     }
 
+    /**
+     * 기준 날짜에 실행해야 하는 스케줄인지 확인한다.
+     *
+     * @param today 기준 날짜(오늘)
+     * @return 활성화되어 있고 다음 실행일이 기준 날짜 이전(포함)인 경우 true
+     */
+    public boolean isDue(@NonNull LocalDate today) {
+        return enabled && nextRunDate != null && !nextRunDate.isAfter(today);
+    }
+
     /**
      * 오늘 기준으로 이번 주/월에 이미 납부했는지 확인한다.
      *
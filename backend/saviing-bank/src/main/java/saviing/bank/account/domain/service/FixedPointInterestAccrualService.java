@@ -0,0 +1,323 @@
+package saviing.bank.account.domain.service;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.common.lang.NonNull;
+import lombok.RequiredArgsConstructor;
+import saviing.bank.account.domain.model.CompoundingType;
+import saviing.bank.account.domain.vo.BasisPoints;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정소수점 {@code long} 연산으로 이자를 계산하는 도메인 서비스 구현입니다.
+ *
+ * {@link InterestAccrualServiceImpl}과 같은 반올림 규칙(소수점 6자리, HALF_EVEN)으로 같은 결과를 내며,
+ * 복리 계수 (1 + 기간이율)^n 을 복리 방식과 금리(베이시스 포인트)별 테이블로 미리 계산해 재사용합니다.
+ * 계수 테이블은 정확한 거듭제곱을 소수점 8자리로 반올림한 값이므로 BigDecimal 구현의 거듭제곱 결과와 동일합니다.
+ *
+ * {@code long} 범위를 벗어나거나 테이블 한도를 넘는 기간은 {@link InterestAccrualServiceImpl}로 위임합니다.
+ */
+@Primary
+@Service
+@RequiredArgsConstructor
+public class FixedPointInterestAccrualService implements InterestAccrualService {
+
+    private static final int SCALE = 6;
+    /** 소수점 6자리 고정소수점의 단위 */
+    private static final long SCALE_UNIT = 1_000_000L;
+    /** 복리 계수(소수점 8자리) 고정소수점의 단위 */
+    private static final long FACTOR_UNIT = 100_000_000L;
+    private static final long BASIS_POINTS_UNIT = 10_000L;
+    private static final long DAYS_IN_YEAR = 365L;
+    private static final long MONTHS_IN_YEAR = 12L;
+
+    /** 복리 방식별 계수 테이블의 최대 지수 (약 10년) */
+    private static final Map<CompoundingType, Integer> MAX_EXPONENTS = Map.of(
+        CompoundingType.DAILY, 3_660,
+        CompoundingType.MONTH, 120,
+        CompoundingType.YEAR, 10
+    );
+
+    private final InterestAccrualServiceImpl fallback;
+    private final Map<CompoundingType, AtomicReferenceArray<CompoundFactorTable>> factorTables = createFactorTables();
+
+    @Override
+    public BigDecimal computeAccrual(
+        long principalWon,
+        @NonNull BigDecimal currentAccrued,
+        @NonNull BasisPoints baseRate,
+        @NonNull BasisPoints bonusRate,
+        @NonNull CompoundingType compoundingType,
+        @NonNull Instant lastAccrualTs,
+        @NonNull Instant asOf
+    ) {
+        if (principalWon <= 0) {
+            return BigDecimal.ZERO;
+        }
+
+        if (!asOf.isAfter(lastAccrualTs)) {
+            return BigDecimal.ZERO;
+        }
+
+        int totalRateBps = baseRate.add(bonusRate).value();
+        try {
+            return switch (compoundingType) {
+                case SIMPLE -> computeSimpleInterest(principalWon, totalRateBps, lastAccrualTs, asOf);
+                case DAILY -> computeDailyCompoundInterest(principalWon, currentAccrued, totalRateBps, lastAccrualTs, asOf);
+                case MONTH -> computeMonthlyCompoundInterest(principalWon, currentAccrued, totalRateBps, lastAccrualTs, asOf);
+                case YEAR -> computeYearlyCompoundInterest(principalWon, currentAccrued, totalRateBps, lastAccrualTs, asOf);
+            };
+        } catch (ArithmeticException ex) {
+            // long 범위를 벗어나거나 고정소수점으로 표현할 수 없는 입력은 BigDecimal 구현으로 계산한다.
+            return fallback.computeAccrual(
+                principalWon, currentAccrued, baseRate, bonusRate, compoundingType, lastAccrualTs, asOf
+            );
+        }
+    }
+
+    /**
+     * 단리 이자를 계산합니다.
+     * 공식: 원금 × (금리bp / 10000) × (일수 / 365) 를 소수점 6자리로 반올림
+     */
+    private BigDecimal computeSimpleInterest(long principalWon, int totalRateBps, Instant from, Instant to) {
+        long daysBetween = ChronoUnit.DAYS.between(from, to);
+
+        // 원금 × bp × 일수 × 10^6 / (10^4 × 365)
+        long numerator = Math.multiplyExact(
+            Math.multiplyExact(Math.multiplyExact(principalWon, (long) totalRateBps), daysBetween),
+            SCALE_UNIT / BASIS_POINTS_UNIT
+        );
+        return BigDecimal.valueOf(divideHalfEven(numerator, DAYS_IN_YEAR), SCALE);
+    }
+
+    /**
+     * 일복리 이자를 계산합니다.
+     * 공식: (원금 + 누적이자) × ((1 + 일이율)^일수 - 1)
+     */
+    private BigDecimal computeDailyCompoundInterest(
+        long principalWon,
+        BigDecimal currentAccrued,
+        int totalRateBps,
+        Instant from,
+        Instant to
+    ) {
+        long daysBetween = ChronoUnit.DAYS.between(from, to);
+        if (daysBetween == 0) {
+            return BigDecimal.ZERO;
+        }
+        return computeCompoundInterest(principalWon, currentAccrued, CompoundingType.DAILY, totalRateBps, daysBetween);
+    }
+
+    /**
+     * 월복리 이자를 계산합니다.
+     * 1개월 미만인 경우 단리로 계산하고, 1개월 이상인 경우 월복리로 계산합니다.
+     */
+    private BigDecimal computeMonthlyCompoundInterest(
+        long principalWon,
+        BigDecimal currentAccrued,
+        int totalRateBps,
+        Instant from,
+        Instant to
+    ) {
+        long monthsBetween = ChronoUnit.MONTHS.between(from.atOffset(ZoneOffset.UTC), to.atOffset(ZoneOffset.UTC));
+        if (monthsBetween == 0) {
+            return computeSimpleInterest(principalWon, totalRateBps, from, to);
+        }
+        return computeCompoundInterest(principalWon, currentAccrued, CompoundingType.MONTH, totalRateBps, monthsBetween);
+    }
+
+    /**
+     * 연복리 이자를 계산합니다.
+     * 1년 미만인 경우 단리로 계산하고, 1년 이상인 경우 연복리로 계산합니다.
+     */
+    private BigDecimal computeYearlyCompoundInterest(
+        long principalWon,
+        BigDecimal currentAccrued,
+        int totalRateBps,
+        Instant from,
+        Instant to
+    ) {
+        long yearsBetween = ChronoUnit.YEARS.between(from.atOffset(ZoneOffset.UTC), to.atOffset(ZoneOffset.UTC));
+        if (yearsBetween == 0) {
+            return computeSimpleInterest(principalWon, totalRateBps, from, to);
+        }
+        return computeCompoundInterest(principalWon, currentAccrued, CompoundingType.YEAR, totalRateBps, yearsBetween);
+    }
+
+    /**
+     * 계수 테이블을 이용해 (원금 + 누적이자) × (계수 - 1) 을 소수점 6자리로 반올림해 계산합니다.
+     */
+    private BigDecimal computeCompoundInterest(
+        long principalWon,
+        BigDecimal currentAccrued,
+        CompoundingType compoundingType,
+        int totalRateBps,
+        long periods
+    ) {
+        long compoundFactor = factorTable(compoundingType, totalRateBps)
+            .factor(periods, MAX_EXPONENTS.get(compoundingType));
+
+        long compoundBase = Math.addExact(Math.multiplyExact(principalWon, SCALE_UNIT), toScaledLong(currentAccrued));
+        // (계수 - 1)[소수점 8자리] × 원리금[소수점 6자리] 는 long 범위를 넘기 쉬우므로 128비트로 곱한 뒤 반올림한다.
+        return BigDecimal.valueOf(multiplyDivideHalfEven(compoundFactor - FACTOR_UNIT, compoundBase, FACTOR_UNIT), SCALE);
+    }
+
+    /**
+     * 복리 방식과 금리에 해당하는 계수 테이블을 반환하며, 없으면 새로 만든다.
+     */
+    private CompoundFactorTable factorTable(CompoundingType compoundingType, int totalRateBps) {
+        AtomicReferenceArray<CompoundFactorTable> tables = factorTables.get(compoundingType);
+        CompoundFactorTable table = tables.get(totalRateBps);
+        if (table == null) {
+            tables.compareAndSet(totalRateBps, null, new CompoundFactorTable(periodRate(compoundingType, totalRateBps)));
+            table = tables.get(totalRateBps);
+        }
+        return table;
+    }
+
+    /**
+     * 기간 이율을 소수점 8자리 고정소수점으로 계산합니다.
+     * BigDecimal 구현의 {@code (bp / 10000).divide(기간 수, 8, HALF_EVEN)}와 같은 값입니다.
+     */
+    private static long periodRate(CompoundingType compoundingType, int totalRateBps) {
+        long annualRate = totalRateBps * (FACTOR_UNIT / BASIS_POINTS_UNIT);
+        return switch (compoundingType) {
+            case DAILY -> divideHalfEven(annualRate, DAYS_IN_YEAR);
+            case MONTH -> divideHalfEven(annualRate, MONTHS_IN_YEAR);
+            case YEAR, SIMPLE -> annualRate;
+        };
+    }
+
+    /**
+     * 누적 이자를 소수점 6자리 고정소수점으로 변환합니다.
+     *
+     * @throws ArithmeticException 소수점 6자리를 넘는 값이거나 long 범위를 벗어나는 경우
+     */
+    private static long toScaledLong(BigDecimal value) {
+        return value.movePointRight(SCALE).longValueExact();
+    }
+
+    /**
+     * 음이 아닌 정수 나눗셈을 HALF_EVEN으로 반올림합니다.
+     *
+     * @throws ArithmeticException 피제수가 음수인 경우
+     */
+    private static long divideHalfEven(long dividend, long divisor) {
+        if (dividend < 0) {
+            throw new ArithmeticException("음수는 고정소수점 반올림 대상이 아닙니다: " + dividend);
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        long twice = remainder * 2;
+        if (twice > divisor || (twice == divisor && (quotient & 1) == 1)) {
+            quotient++;
+        }
+        return quotient;
+    }
+
+    /**
+     * 음이 아닌 두 수의 128비트 곱을 나눈 몫을 HALF_EVEN으로 반올림합니다.
+     *
+     * @param divisor 2^31 미만의 양수
+     * @throws ArithmeticException 결과가 long 범위를 벗어나는 경우
+     */
+    private static long multiplyDivideHalfEven(long multiplicand, long multiplier, long divisor) {
+        if (multiplicand < 0 || multiplier < 0) {
+            throw new ArithmeticException("음수는 고정소수점 반올림 대상이 아닙니다");
+        }
+        long high = Math.multiplyHigh(multiplicand, multiplier);
+        long low = multiplicand * multiplier;
+        if (high == 0 && low >= 0) {
+            return divideHalfEven(low, divisor);
+        }
+        if (high >= divisor) {
+            throw new ArithmeticException("고정소수점 연산 결과가 long 범위를 벗어납니다");
+        }
+
+        // 128비트 피제수를 32비트씩 나눠 장제법으로 나눈다.
+        long upper = (high << 32) | (low >>> 32);
+        long upperQuotient = upper / divisor;
+        long lower = ((upper % divisor) << 32) | (low & 0xFFFF_FFFFL);
+        long lowerQuotient = lower / divisor;
+        long remainder = lower % divisor;
+        if (upperQuotient >= (1L << 31)) {
+            throw new ArithmeticException("고정소수점 연산 결과가 long 범위를 벗어납니다");
+        }
+
+        long quotient = (upperQuotient << 32) + lowerQuotient;
+        long twice = remainder * 2;
+        if (twice > divisor || (twice == divisor && (quotient & 1) == 1)) {
+            quotient = Math.incrementExact(quotient);
+        }
+        return quotient;
+    }
+
+    /**
+     * 복리 방식별로 금리(0 ~ {@link Short#MAX_VALUE} bp)를 인덱스로 하는 계수 테이블 배열을 만든다.
+     */
+    private static Map<CompoundingType, AtomicReferenceArray<CompoundFactorTable>> createFactorTables() {
+        Map<CompoundingType, AtomicReferenceArray<CompoundFactorTable>> tables = new EnumMap<>(CompoundingType.class);
+        for (CompoundingType compoundingType : MAX_EXPONENTS.keySet()) {
+            tables.put(compoundingType, new AtomicReferenceArray<>(Short.MAX_VALUE + 1));
+        }
+        return tables;
+    }
+
+    /**
+     * 하나의 기간 이율에 대한 복리 계수 (1 + r)^n 테이블.
+     * 필요한 지수까지 점진적으로 확장하며, 정확한 거듭제곱 값을 유지해 각 항목을 소수점 8자리로 반올림해 저장합니다.
+     */
+    private static final class CompoundFactorTable {
+
+        private final BigDecimal base;
+        private BigDecimal exactPower = BigDecimal.ONE;
+        private volatile long[] factors = {FACTOR_UNIT};
+
+        private CompoundFactorTable(long periodRate) {
+            this.base = BigDecimal.valueOf(FACTOR_UNIT + periodRate, 8);
+        }
+
+        /**
+         * (1 + r)^exponent 를 소수점 8자리 고정소수점으로 반환합니다.
+         *
+         * @throws ArithmeticException 지수가 테이블 한도를 넘거나 계수가 long 범위를 벗어나는 경우
+         */
+        private long factor(long exponent, int maxExponent) {
+            long[] current = factors;
+            if (exponent < current.length) {
+                return current[(int) exponent];
+            }
+            if (exponent > maxExponent) {
+                throw new ArithmeticException("복리 계수 테이블 한도를 넘는 기간입니다: " + exponent);
+            }
+            return grow((int) exponent)[(int) exponent];
+        }
+
+        private synchronized long[] grow(int exponent) {
+            long[] current = factors;
+            if (exponent < current.length) {
+                return current;
+            }
+            long[] extended = Arrays.copyOf(current, exponent + 1);
+            BigDecimal power = exactPower;
+            for (int n = current.length; n <= exponent; n++) {
+                power = power.multiply(base);
+                // 계수가 long 범위를 벗어나면 ArithmeticException으로 중단되며 테이블은 확장 전 상태를 유지한다.
+                extended[n] = power.setScale(8, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+            }
+            exactPower = power;
+            factors = extended;
+            return extended;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import saviing.bank.account.domain.vo.BasisPoints;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 
 @Service
@@ -127,7 +128,8 @@ public class InterestAccrualServiceImpl implements InterestAccrualService {
         Instant from,
         Instant to
     ) {
-        long monthsBetween = ChronoUnit.MONTHS.between(from, to);
+        // Instant는 월/연 단위 계산을 지원하지 않으므로 UTC 기준 일시로 변환해 계산한다.
+        long monthsBetween = ChronoUnit.MONTHS.between(from.atOffset(ZoneOffset.UTC), to.atOffset(ZoneOffset.UTC));
         if (monthsBetween == 0) {
             return computeSimpleInterest(principal, annualRate, from, to);
         }
@@ -162,7 +164,7 @@ public class InterestAccrualServiceImpl implements InterestAccrualService {
         Instant from,
         Instant to
     ) {
-        long yearsBetween = ChronoUnit.YEARS.between(from, to);
+        long yearsBetween = ChronoUnit.YEARS.between(from.atOffset(ZoneOffset.UTC), to.atOffset(ZoneOffset.UTC));
         if (yearsBetween == 0) {
             return computeSimpleInterest(principal, annualRate, from, to);
         }
@@ -0,0 +1,148 @@
+package saviing.bank.customer.cache;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 고객 이름 캐시
+ * 송금 거래 설명에 쓰는 고객 이름을 노드 로컬의 크기 제한 LRU에 보관한다.
+ * 항목은 TTL이 지나면 만료되어 다른 노드에서 바뀐 이름도 늦어도 TTL 안에 반영되고,
+ * 같은 노드에서 고객이 수정/삭제되면 {@link CustomerNameCacheInvalidator}가 즉시 비운다.
+ * 존재하지 않는 고객은 저장하지 않는다.
+ */
+@Component
+public class CustomerNameCache {
+
+    private static final String METRIC_PREFIX = "customer_name_cache";
+
+    private final Counter hits;
+    private final Counter misses;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder requestCount = new LongAdder();
+
+    @Value("${customer.name-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${customer.name-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private Clock clock = Clock.systemUTC();
+
+    private final Object lock = new Object();
+
+    private final Map<Long, Entry> namesById = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    public CustomerNameCache(MeterRegistry meterRegistry) {
+        this.hits = meterRegistry.counter(METRIC_PREFIX + ".requests", "result", "hit");
+        this.misses = meterRegistry.counter(METRIC_PREFIX + ".requests", "result", "miss");
+        Gauge.builder(METRIC_PREFIX + ".hit_ratio", this, CustomerNameCache::hitRatio)
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, CustomerNameCache::size)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 고객 이름을 조회한다. 만료된 항목은 제거하고 미스로 기록한다.
+     *
+     * @param customerId 고객 ID
+     * @return 고객 이름 (없거나 만료된 경우 empty)
+     */
+    public Optional<String> get(Long customerId) {
+        requestCount.increment();
+        long now = clock.millis();
+        synchronized (lock) {
+            Entry entry = namesById.get(customerId);
+            if (entry != null) {
+                if (now < entry.expiresAtMillis()) {
+                    hits.increment();
+                    hitCount.increment();
+                    return Optional.of(entry.name());
+                }
+                namesById.remove(customerId);
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 고객 이름을 TTL 동안 저장한다.
+     *
+     * @param customerId 고객 ID
+     * @param name 고객 이름
+     */
+    public void put(Long customerId, String name) {
+        if (customerId == null || name == null || maxSize <= 0) {
+            return;
+        }
+        long expiresAtMillis = clock.millis() + ttlSeconds * 1000L;
+        synchronized (lock) {
+            namesById.put(customerId, new Entry(name, expiresAtMillis));
+        }
+    }
+
+    /**
+     * 고객 이름을 즉시 비우고, 현재 트랜잭션이 끝나면 한 번 더 비운다.
+     * 커밋 전에 다른 스레드가 이전 이름을 다시 채워 넣었더라도 트랜잭션 완료 시점에 제거된다.
+     *
+     * @param customerId 고객 ID
+     */
+    public void evictOnCompletion(Long customerId) {
+        evict(customerId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(customerId);
+            }
+        });
+    }
+
+    /**
+     * 고객 이름을 캐시에서 제거한다.
+     *
+     * @param customerId 고객 ID
+     */
+    public void evict(Long customerId) {
+        synchronized (lock) {
+            namesById.remove(customerId);
+        }
+    }
+
+    /**
+     * 누적 조회 대비 캐시 적중 비율.
+     *
+     * @return 적중 비율 (조회가 없으면 0)
+     */
+    double hitRatio() {
+        long requests = requestCount.sum();
+        return requests == 0 ? 0.0 : (double) hitCount.sum() / requests;
+    }
+
+    int size() {
+        synchronized (lock) {
+            return namesById.size();
+        }
+    }
+
+    private record Entry(String name, long expiresAtMillis) {
+    }
+}
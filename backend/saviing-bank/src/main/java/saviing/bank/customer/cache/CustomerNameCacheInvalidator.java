@@ -0,0 +1,29 @@
+package saviing.bank.customer.cache;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import saviing.bank.customer.entity.Customer;
+
+/**
+ * 고객 엔티티 리스너
+ * 고객이 수정되거나 삭제되면 캐시된 고객 이름을 무효화한다.
+ * Hibernate가 Spring 빈 컨테이너를 통해 리스너를 생성하므로 빈으로 등록된 인스턴스가 사용된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerNameCacheInvalidator {
+
+    private final CustomerNameCache customerNameCache;
+
+    @PostUpdate
+    @PostRemove
+    void invalidate(Customer customer) {
+        if (customer.getCustomerId() != null) {
+            customerNameCache.evictOnCompletion(customer.getCustomerId());
+        }
+    }
+}
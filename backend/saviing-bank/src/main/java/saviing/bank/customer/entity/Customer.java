@@ -9,6 +9,8 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import saviing.bank.common.enums.OAuth2Provider;
+import saviing.bank.customer.cache.CustomerNameCacheInvalidator;
+import saviing.common.persistence.PooledIdGeneration;
 
 import java.time.LocalDateTime;
 
@@ -16,11 +18,19 @@ import java.time.LocalDateTime;
 @Table(name = "customer")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, CustomerNameCacheInvalidator.class})
 public class Customer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "customer_id")
+    @TableGenerator(
+        name = "customer_id",
+        table = PooledIdGeneration.TABLE,
+        pkColumnName = PooledIdGeneration.SEGMENT_COLUMN,
+        valueColumnName = PooledIdGeneration.VALUE_COLUMN,
+        pkColumnValue = "customer",
+        allocationSize = PooledIdGeneration.ALLOCATION_SIZE
+    )
     @Column(name = "customer_id")
     private Long customerId;
 
@@ -2,19 +2,29 @@ package saviing.bank.customer.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import saviing.bank.customer.cache.CustomerNameCache;
+import saviing.bank.customer.entity.Customer;
 import saviing.bank.customer.repository.CustomerRepository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * 고객 서비스
  * 고객 리포지토리를 통해 고객 이름 등 필요한 정보를 조회한다.
+ * 고객 이름은 {@link CustomerNameCache}를 먼저 확인하고, 미스인 경우에만 DB에서 읽어 캐시에 채운다.
  */
 @Service
 @RequiredArgsConstructor
 public class CustomerService {
 
     private final CustomerRepository customerRepository;
+    private final CustomerNameCache customerNameCache;
 
     /**
      * 고객 ID로 고객 이름을 조회한다
@@ -23,7 +33,50 @@ public class CustomerService {
      * @return 고객 이름 (Optional)
      */
     public Optional<String> getCustomerName(Long customerId) {
-        return customerRepository.findById(customerId)
-                .map(customer -> customer.getName());
+        Optional<String> cached = customerNameCache.get(customerId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<String> name = customerRepository.findById(customerId)
+                .map(Customer::getName);
+        name.ifPresent(value -> customerNameCache.put(customerId, value));
+        return name;
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 고객의 이름을 한 번에 조회한다
+     * 캐시에 없는 고객만 한 번의 IN 조회로 읽어 캐시에 채운다.
+     *
+     * @param customerIds 조회할 고객 ID 목록
+     * @return 고객 ID별 이름 (존재하지 않는 고객은 포함되지 않는다)
+     */
+    public Map<Long, String> getCustomerNames(Collection<Long> customerIds) {
+        Map<Long, String> names = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long customerId : new LinkedHashSet<>(customerIds)) {
+            if (customerId == null) {
+                continue;
+            }
+            customerNameCache.get(customerId).ifPresentOrElse(
+                    name -> names.put(customerId, name),
+                    () -> missingIds.add(customerId)
+            );
+        }
+        if (!missingIds.isEmpty()) {
+            for (Customer customer : customerRepository.findAllById(missingIds)) {
+                names.put(customer.getCustomerId(), customer.getName());
+                customerNameCache.put(customer.getCustomerId(), customer.getName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 배치 작업 전에 여러 고객의 이름을 캐시에 미리 채운다
+     *
+     * @param customerIds 미리 읽어 둘 고객 ID 목록
+     */
+    public void prefetchCustomerNames(Collection<Long> customerIds) {
+        getCustomerNames(customerIds);
+    }
+}
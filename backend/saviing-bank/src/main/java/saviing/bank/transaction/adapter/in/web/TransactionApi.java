@@ -1,7 +1,12 @@
 package saviing.bank.transaction.adapter.in.web;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,7 +19,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import saviing.bank.transaction.adapter.in.web.dto.response.PeriodBalanceResponse;
+import saviing.bank.transaction.adapter.in.web.dto.response.TransactionHistoryResponse;
 import saviing.bank.transaction.adapter.in.web.dto.response.TransactionResponse;
+import saviing.bank.transaction.adapter.in.web.statement.StatementFormat;
 import saviing.common.response.ApiResult;
 import saviing.common.response.ErrorResult;
 
@@ -70,4 +78,75 @@ public interface TransactionApi {
         @Parameter(description = "페이지 번호 (0부터 시작)") @Min(0) @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "페이지 크기 (최대 30)") @Min(1) @Max(30) @RequestParam(defaultValue = "20") int size
     );
+
+    @Operation(
+        summary = "계좌별 거래 내역 커서 조회",
+        description = "특정 계좌의 거래 내역을 최신순으로 조회합니다. "
+            + "첫 페이지는 커서 없이 요청하고, 다음 페이지는 응답의 nextCursorPostedAt/nextCursorTransactionId를 전달합니다."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "거래 내역 조회 성공",
+        useReturnTypeSchema = true
+    )
+    @ApiResponse(
+        responseCode = "400",
+        description = "커서 값 중 하나만 전달됨",
+        content = @Content(schema = @Schema(implementation = ErrorResult.class))
+    )
+    ApiResult<TransactionHistoryResponse> getTransactionHistory(
+        @Parameter(description = "조회할 계좌 ID", example = "1") @PathVariable Long accountId,
+        @Parameter(description = "커서 처리 일시 (직전 응답의 nextCursorPostedAt)", example = "2024-01-15T14:30:00Z")
+        @RequestParam(required = false) Instant cursorPostedAt,
+        @Parameter(description = "커서 거래 ID (직전 응답의 nextCursorTransactionId)", example = "120")
+        @RequestParam(required = false) Long cursorTransactionId,
+        @Parameter(description = "페이지 크기 (최대 30)") @Min(1) @Max(30) @RequestParam(defaultValue = "20") int size
+    );
+
+    @Operation(
+        summary = "계좌별 일별 잔액 조회",
+        description = "특정 계좌의 가치일 구간 시작/마감 잔액, 입출금 합계와 거래가 있었던 날의 일별 잔액을 조회합니다. "
+            + "거래 내역 대신 가치일별 잔액 스냅샷을 읽으므로 조회 비용이 거래 수가 아닌 일수에 비례합니다."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "일별 잔액 조회 성공",
+        useReturnTypeSchema = true
+    )
+    @ApiResponse(
+        responseCode = "400",
+        description = "조회 시작 가치일이 종료 가치일보다 늦음",
+        content = @Content(schema = @Schema(implementation = ErrorResult.class))
+    )
+    ApiResult<PeriodBalanceResponse> getDailyBalances(
+        @Parameter(description = "조회할 계좌 ID", example = "1") @PathVariable Long accountId,
+        @Parameter(description = "조회 시작 가치일 (포함)", example = "2024-01-01") @RequestParam LocalDate from,
+        @Parameter(description = "조회 종료 가치일 (포함)", example = "2024-01-31") @RequestParam LocalDate to
+    );
+
+    @Operation(
+        summary = "계좌별 거래 명세 내보내기",
+        description = "특정 계좌의 가치일 구간 거래를 가치일 오름차순으로 CSV 또는 NDJSON 파일로 내려받습니다. "
+            + "거래 수와 관계없이 서버 메모리를 일정하게 사용하도록 읽는 즉시 응답 스트림에 씁니다."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "거래 명세 내보내기 성공",
+        content = {
+            @Content(mediaType = "text/csv"),
+            @Content(mediaType = "application/x-ndjson")
+        }
+    )
+    @ApiResponse(
+        responseCode = "400",
+        description = "조회 시작 가치일이 종료 가치일보다 늦음",
+        content = @Content(schema = @Schema(implementation = ErrorResult.class))
+    )
+    void exportStatement(
+        @Parameter(description = "조회할 계좌 ID", example = "1") @PathVariable Long accountId,
+        @Parameter(description = "조회 시작 가치일 (포함)", example = "2024-01-01") @RequestParam LocalDate from,
+        @Parameter(description = "조회 종료 가치일 (포함)", example = "2024-12-31") @RequestParam LocalDate to,
+        @Parameter(description = "내보내기 형식 (CSV, NDJSON)") @RequestParam(defaultValue = "CSV") StatementFormat format,
+        @Parameter(hidden = true) HttpServletResponse response
+    ) throws IOException;
 }
@@ -8,7 +8,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import saviing.bank.transaction.adapter.in.web.dto.request.BulkTransferRequest;
 import saviing.bank.transaction.adapter.in.web.dto.request.TransferRequest;
+import saviing.bank.transaction.adapter.in.web.dto.response.BulkTransferResponse;
 import saviing.bank.transaction.adapter.in.web.dto.response.TransferResponse;
 import saviing.common.response.ApiResult;
 import saviing.common.response.ErrorResult;
@@ -51,4 +53,34 @@ public interface TransferApi {
      * @return 송금 결과 응답
      */
     ApiResult<TransferResponse> transfer(@Valid @RequestBody TransferRequest request);
+
+    @Operation(
+        summary = "일괄 송금",
+        description = "한 출금 계좌에서 여러 입금 계좌로 송금합니다. 건마다 멱등키가 필요하며, "
+            + "잔액 부족이나 입금 계좌 상태로 처리되지 않은 건은 해당 건만 실패로 기록하고 나머지 건은 계속 처리합니다. "
+            + "이미 처리된 멱등키의 건은 기존 결과를 replayed=true로 돌려줍니다.",
+        requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            required = true,
+            content = @Content(
+                schema = @Schema(implementation = BulkTransferRequest.class)
+            )
+        )
+    )
+    @ApiResponse(
+        responseCode = "201",
+        description = "일괄 송금 처리 완료 (건별 상태는 legs 참고)",
+        useReturnTypeSchema = true
+    )
+    @ApiResponse(
+        responseCode = "400",
+        description = "건수 초과, 멱등키 누락/중복 등 요청 오류",
+        content = @Content(schema = @Schema(implementation = ErrorResult.class))
+    )
+    /**
+     * 일괄 송금 요청을 처리한다.
+     *
+     * @param request 일괄 송금 요청 본문
+     * @return 건별 송금 결과 응답
+     */
+    ApiResult<BulkTransferResponse> bulkTransfer(@Valid @RequestBody BulkTransferRequest request);
 }
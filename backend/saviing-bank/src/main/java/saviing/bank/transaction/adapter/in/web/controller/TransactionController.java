@@ -1,7 +1,12 @@
 package saviing.bank.transaction.adapter.in.web.controller;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.http.HttpStatus;
@@ -12,13 +17,23 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 
 import saviing.bank.transaction.adapter.in.web.TransactionApi;
+import saviing.bank.transaction.adapter.in.web.dto.response.PeriodBalanceResponse;
+import saviing.bank.transaction.adapter.in.web.dto.response.TransactionHistoryResponse;
 import saviing.bank.transaction.adapter.in.web.dto.response.TransactionResponse;
+import saviing.bank.transaction.adapter.in.web.statement.StatementFormat;
+import saviing.bank.transaction.adapter.in.web.statement.TransactionStatementWriter;
+import saviing.bank.transaction.application.port.in.ExportTransactionStatementUseCase;
+import saviing.bank.transaction.application.port.in.GetDailyBalancesUseCase;
 import saviing.bank.transaction.application.port.in.GetTransactionUseCase;
 import saviing.bank.transaction.application.port.in.GetTransactionsByAccountUseCase;
+import saviing.bank.transaction.application.port.in.result.PeriodBalanceResult;
+import saviing.bank.transaction.application.port.in.result.TransactionHistoryResult;
 import saviing.bank.transaction.application.port.in.result.TransactionResult;
+import saviing.bank.transaction.domain.vo.TransactionCursor;
 import saviing.bank.transaction.domain.vo.TransactionId;
 import saviing.common.annotation.ExecutionTime;
 import saviing.common.response.ApiResult;
@@ -32,6 +47,9 @@ public class TransactionController implements TransactionApi {
 
     private final GetTransactionUseCase getTransactionUseCase;
     private final GetTransactionsByAccountUseCase getTransactionsByAccountUseCase;
+    private final ExportTransactionStatementUseCase exportTransactionStatementUseCase;
+    private final GetDailyBalancesUseCase getDailyBalancesUseCase;
+    private final ObjectMapper objectMapper;
 
     @Override
     @GetMapping("/{transactionId}")
@@ -59,4 +77,47 @@ public class TransactionController implements TransactionApi {
         return ApiResult.of(HttpStatus.OK, responses);
     }
 
+    @Override
+    @GetMapping("/accounts/{accountId}/history")
+    public ApiResult<TransactionHistoryResponse> getTransactionHistory(
+        @PathVariable Long accountId,
+        @RequestParam(required = false) Instant cursorPostedAt,
+        @RequestParam(required = false) Long cursorTransactionId,
+        @Min(1) @Max(30) @RequestParam(defaultValue = "20") int size
+    ) {
+        TransactionHistoryResult result = getTransactionsByAccountUseCase.getTransactionHistory(
+            accountId,
+            TransactionCursor.ofNullable(cursorPostedAt, cursorTransactionId),
+            size
+        );
+
+        return ApiResult.of(HttpStatus.OK, TransactionHistoryResponse.from(result));
+    }
+
+    @Override
+    @GetMapping("/accounts/{accountId}/daily-balances")
+    public ApiResult<PeriodBalanceResponse> getDailyBalances(
+        @PathVariable Long accountId,
+        @RequestParam LocalDate from,
+        @RequestParam LocalDate to
+    ) {
+        PeriodBalanceResult result = getDailyBalancesUseCase.getDailyBalances(accountId, from, to);
+
+        return ApiResult.of(HttpStatus.OK, PeriodBalanceResponse.from(result));
+    }
+
+    @Override
+    @GetMapping("/accounts/{accountId}/statement")
+    public void exportStatement(
+        @PathVariable Long accountId,
+        @RequestParam LocalDate from,
+        @RequestParam LocalDate to,
+        @RequestParam(defaultValue = "CSV") StatementFormat format,
+        HttpServletResponse response
+    ) throws IOException {
+        TransactionStatementWriter writer = new TransactionStatementWriter(
+            response, format, objectMapper, "statement-" + accountId + "-" + from + "-" + to);
+        exportTransactionStatementUseCase.exportStatement(accountId, from, to, writer);
+        writer.finish();
+    }
 }
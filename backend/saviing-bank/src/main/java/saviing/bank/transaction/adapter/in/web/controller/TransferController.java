@@ -11,10 +11,14 @@ import lombok.RequiredArgsConstructor;
 import jakarta.validation.Valid;
 
 import saviing.bank.transaction.adapter.in.web.TransferApi;
+import saviing.bank.transaction.adapter.in.web.dto.request.BulkTransferRequest;
 import saviing.bank.transaction.adapter.in.web.dto.request.TransferRequest;
+import saviing.bank.transaction.adapter.in.web.dto.response.BulkTransferResponse;
 import saviing.bank.transaction.adapter.in.web.dto.response.TransferResponse;
+import saviing.bank.transaction.application.port.in.BulkTransferUseCase;
 import saviing.bank.transaction.application.port.in.TransferUseCase;
 import saviing.bank.transaction.application.port.in.command.TransferCommand;
+import saviing.bank.transaction.application.port.in.result.BulkTransferResult;
 import saviing.bank.transaction.application.port.in.result.TransferResult;
 import saviing.common.annotation.ExecutionTime;
 import saviing.common.response.ApiResult;
@@ -29,6 +33,7 @@ import saviing.common.response.ApiResult;
 public class TransferController implements TransferApi {
 
     private final TransferUseCase transferUseCase;
+    private final BulkTransferUseCase bulkTransferUseCase;
 
     /**
      * REST 엔드포인트에서 송금 요청을 처리한다.
@@ -40,4 +45,14 @@ public class TransferController implements TransferApi {
         TransferResult result = transferUseCase.transfer(command);
         return ApiResult.of(HttpStatus.CREATED, TransferResponse.from(result));
     }
+
+    /**
+     * REST 엔드포인트에서 일괄 송금 요청을 처리한다.
+     */
+    @Override
+    @PostMapping("/transfer/bulk")
+    public ApiResult<BulkTransferResponse> bulkTransfer(@Valid @RequestBody BulkTransferRequest request) {
+        BulkTransferResult result = bulkTransferUseCase.bulkTransfer(request.toCommand());
+        return ApiResult.of(HttpStatus.CREATED, BulkTransferResponse.from(result));
+    }
 }
@@ -0,0 +1,48 @@
+package saviing.bank.transaction.adapter.in.web.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import saviing.bank.transaction.application.port.in.command.BulkTransferCommand;
+
+/**
+ * REST 일괄 송금 요청 바디를 표현하는 DTO.
+ */
+public record BulkTransferRequest(
+    @NotNull @Positive Long sourceAccountId,
+    @NotEmpty List<@Valid @NotNull Leg> legs
+) {
+
+    /**
+     * 일괄 송금 한 건의 요청 바디.
+     */
+    public record Leg(
+        @NotNull @Positive Long targetAccountId,
+        @NotNull @Positive Long amount,
+        String memo,
+        @NotBlank String idempotencyKey
+    ) {
+    }
+
+    /**
+     * 컨트롤러에서 사용할 애플리케이션 커맨드로 변환한다.
+     */
+    public BulkTransferCommand toCommand() {
+        return BulkTransferCommand.builder()
+            .sourceAccountId(sourceAccountId)
+            .legs(legs.stream()
+                .map(leg -> BulkTransferCommand.Leg.of(
+                    leg.targetAccountId(),
+                    leg.amount(),
+                    leg.memo(),
+                    leg.idempotencyKey()
+                ))
+                .toList())
+            .build();
+    }
+}
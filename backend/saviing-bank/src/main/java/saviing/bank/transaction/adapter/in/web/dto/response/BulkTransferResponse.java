@@ -0,0 +1,46 @@
+package saviing.bank.transaction.adapter.in.web.dto.response;
+
+import java.util.List;
+
+import saviing.bank.transaction.application.port.in.result.BulkTransferResult;
+
+/**
+ * 일괄 송금 처리 결과를 REST 응답으로 제공하기 위한 DTO.
+ */
+public record BulkTransferResponse(
+    Long sourceAccountId,
+    int settledCount,
+    int failedCount,
+    int replayedCount,
+    List<LegResponse> legs
+) {
+
+    /**
+     * 일괄 송금 한 건의 응답.
+     *
+     * @param index 요청 내 순번 (0부터)
+     * @param replayed 같은 멱등 키로 이미 처리되어 기존 결과를 돌려준 건인지 여부
+     * @param transfer 송금 결과
+     */
+    public record LegResponse(
+        int index,
+        boolean replayed,
+        TransferResponse transfer
+    ) {
+    }
+
+    /**
+     * 애플리케이션 결과를 응답 DTO로 변환한다.
+     */
+    public static BulkTransferResponse from(BulkTransferResult result) {
+        return new BulkTransferResponse(
+            result.sourceAccountId(),
+            result.settledCount(),
+            result.failedCount(),
+            result.replayedCount(),
+            result.legs().stream()
+                .map(leg -> new LegResponse(leg.index(), leg.replayed(), TransferResponse.from(leg.transfer())))
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package saviing.bank.transaction.adapter.in.web.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.NonNull;
+
+import saviing.bank.transaction.application.port.in.result.DailyBalanceResult;
+
+@Builder
+@Schema(description = "가치일별 잔액 응답")
+public record DailyBalanceResponse(
+    @Schema(description = "가치일", example = "2024-01-15")
+    LocalDate valueDate,
+
+    @Schema(description = "그날 첫 거래 직전 잔액 (원)", example = "1000000")
+    BigDecimal openingBalance,
+
+    @Schema(description = "그날 마지막 거래 직후 잔액 (원)", example = "1050000")
+    BigDecimal closingBalance,
+
+    @Schema(description = "입금 합계 (원)", example = "100000")
+    BigDecimal totalCredit,
+
+    @Schema(description = "출금 합계 (원)", example = "50000")
+    BigDecimal totalDebit,
+
+    @Schema(description = "거래 건수", example = "3")
+    int transactionCount
+) {
+
+    public static DailyBalanceResponse from(@NonNull DailyBalanceResult result) {
+        return DailyBalanceResponse.builder()
+            .valueDate(result.valueDate())
+            .openingBalance(result.openingBalance())
+            .closingBalance(result.closingBalance())
+            .totalCredit(result.totalCredit())
+            .totalDebit(result.totalDebit())
+            .transactionCount(result.transactionCount())
+            .build();
+    }
+}
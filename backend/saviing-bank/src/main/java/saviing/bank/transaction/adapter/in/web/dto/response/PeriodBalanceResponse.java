@@ -0,0 +1,55 @@
+package saviing.bank.transaction.adapter.in.web.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.NonNull;
+
+import saviing.bank.transaction.application.port.in.result.PeriodBalanceResult;
+
+@Builder
+@Schema(description = "기간 잔액 요약 응답")
+public record PeriodBalanceResponse(
+    @Schema(description = "계좌 ID", example = "1")
+    Long accountId,
+
+    @Schema(description = "조회 시작 가치일", example = "2024-01-01")
+    LocalDate fromValueDate,
+
+    @Schema(description = "조회 종료 가치일", example = "2024-01-31")
+    LocalDate toValueDate,
+
+    @Schema(description = "기간 시작 잔액 (원)", example = "1000000")
+    BigDecimal openingBalance,
+
+    @Schema(description = "기간 마감 잔액 (원)", example = "1200000")
+    BigDecimal closingBalance,
+
+    @Schema(description = "기간 입금 합계 (원)", example = "400000")
+    BigDecimal totalCredit,
+
+    @Schema(description = "기간 출금 합계 (원)", example = "200000")
+    BigDecimal totalDebit,
+
+    @Schema(description = "거래가 있었던 날의 일별 잔액 (가치일 오름차순)")
+    List<DailyBalanceResponse> days
+) {
+
+    public static PeriodBalanceResponse from(@NonNull PeriodBalanceResult result) {
+        return PeriodBalanceResponse.builder()
+            .accountId(result.accountId())
+            .fromValueDate(result.fromValueDate())
+            .toValueDate(result.toValueDate())
+            .openingBalance(result.openingBalance())
+            .closingBalance(result.closingBalance())
+            .totalCredit(result.totalCredit())
+            .totalDebit(result.totalDebit())
+            .days(result.days().stream()
+                .map(DailyBalanceResponse::from)
+                .toList())
+            .build();
+    }
+}
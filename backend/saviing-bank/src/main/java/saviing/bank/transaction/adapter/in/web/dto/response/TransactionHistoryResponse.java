@@ -0,0 +1,40 @@
+package saviing.bank.transaction.adapter.in.web.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.NonNull;
+
+import saviing.bank.transaction.application.port.in.result.TransactionHistoryResult;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "커서 기반 거래 내역 응답")
+public record TransactionHistoryResponse(
+    @Schema(description = "거래 목록 (최신순)")
+    List<TransactionResponse> transactions,
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    boolean hasNext,
+
+    @Schema(description = "다음 페이지 조회 시 전달할 커서 처리 일시", example = "2024-01-15T14:30:00Z")
+    Instant nextCursorPostedAt,
+
+    @Schema(description = "다음 페이지 조회 시 전달할 커서 거래 ID", example = "120")
+    Long nextCursorTransactionId
+) {
+
+    public static TransactionHistoryResponse from(@NonNull TransactionHistoryResult result) {
+        return TransactionHistoryResponse.builder()
+            .transactions(result.transactions().stream()
+                .map(TransactionResponse::from)
+                .toList())
+            .hasNext(result.hasNext())
+            .nextCursorPostedAt(result.nextCursorPostedAt())
+            .nextCursorTransactionId(result.nextCursorTransactionId())
+            .build();
+    }
+}
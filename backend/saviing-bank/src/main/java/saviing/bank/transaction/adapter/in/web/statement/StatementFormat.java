@@ -0,0 +1,18 @@
+package saviing.bank.transaction.adapter.in.web.statement;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 거래 명세 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StatementFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+}
@@ -0,0 +1,124 @@
+package saviing.bank.transaction.adapter.in.web.statement;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+import saviing.bank.transaction.application.port.in.result.TransactionResult;
+
+/**
+ * 거래 명세를 CSV 또는 NDJSON으로 서블릿 출력 스트림에 바로 쓰는 작성기
+ * 첫 거래를 쓰거나 {@link #finish()}를 호출할 때 응답 헤더를 정하므로,
+ * 그 전에 발생한 예외는 일반 오류 응답으로 처리된다.
+ */
+public class TransactionStatementWriter implements Consumer<TransactionResult> {
+
+    private static final String CSV_HEADER =
+        "transactionId,valueDate,postedAt,transactionType,direction,amount,balanceAfter,status,description";
+    // 엑셀에서 한글이 깨지지 않도록 CSV 앞에 UTF-8 BOM을 붙인다.
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private final HttpServletResponse response;
+    private final StatementFormat format;
+    private final ObjectMapper objectMapper;
+    private final String fileName;
+    private Writer writer;
+
+    public TransactionStatementWriter(
+        HttpServletResponse response,
+        StatementFormat format,
+        ObjectMapper objectMapper,
+        String fileName
+    ) {
+        this.response = response;
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.fileName = fileName;
+    }
+
+    @Override
+    public void accept(TransactionResult transaction) {
+        try {
+            open();
+            if (format == StatementFormat.CSV) {
+                writeCsvLine(transaction);
+            } else {
+                writer.write(objectMapper.writeValueAsString(transaction));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 남은 내용을 내보낸다. 거래가 한 건도 없어도 헤더가 포함된 빈 명세를 응답한다.
+     */
+    public void finish() throws IOException {
+        open();
+        writer.flush();
+    }
+
+    private void open() throws IOException {
+        if (writer != null) {
+            return;
+        }
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename(fileName + "." + format.getFileExtension(), StandardCharsets.UTF_8)
+            .build()
+            .toString());
+        writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        if (format == StatementFormat.CSV) {
+            writer.write(UTF8_BOM);
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+    }
+
+    private void writeCsvLine(TransactionResult transaction) throws IOException {
+        writer.write(String.valueOf(transaction.transactionId()));
+        writer.write(',');
+        writer.write(String.valueOf(transaction.valueDate()));
+        writer.write(',');
+        writer.write(String.valueOf(transaction.postedAt()));
+        writer.write(',');
+        writer.write(transaction.transactionType());
+        writer.write(',');
+        writer.write(transaction.direction());
+        writer.write(',');
+        writer.write(transaction.amount().toPlainString());
+        writer.write(',');
+        writer.write(transaction.balanceAfter().toPlainString());
+        writer.write(',');
+        writer.write(transaction.status());
+        writer.write(',');
+        writer.write(escapeCsv(transaction.description()));
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 규칙으로 값을 감싸고, 스프레드시트가 수식으로 해석하지 않도록 수식 시작 문자 앞에 작은따옴표를 붙인다.
+     */
+    static String escapeCsv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String safe = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (safe.indexOf(',') < 0 && safe.indexOf('"') < 0 && safe.indexOf('\n') < 0 && safe.indexOf('\r') < 0) {
+            return safe;
+        }
+        return '"' + safe.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,98 @@
+package saviing.bank.transaction.adapter.out.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import saviing.bank.transaction.application.port.out.TransferReplayCachePort;
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+
+/**
+ * 완료된 송금 상태를 보관하는 멱등 재호출 캐시 어댑터
+ * 노드 로컬의 크기 제한 LRU를 1차 캐시로 사용하고, 설정 시 Redis를 노드 간 공유 2차 캐시로 사용한다.
+ * Redis 장애는 캐시 미스로 취급하며 원장 조회 경로로 넘어간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferReplayCacheAdapter implements TransferReplayCachePort {
+
+    private static final String REDIS_KEY_PREFIX = "transfer:replay:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${transfer.replay-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${transfer.replay-cache.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${transfer.replay-cache.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    private final Map<String, TransferStatus> localCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TransferStatus> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    @Override
+    public Optional<TransferStatus> findCompletedStatus(Long sourceAccountId, IdempotencyKey idempotencyKey) {
+        String cacheKey = cacheKey(sourceAccountId, idempotencyKey);
+        synchronized (localCache) {
+            TransferStatus cached = localCache.get(cacheKey);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        if (!redisEnabled) {
+            return Optional.empty();
+        }
+        try {
+            String value = stringRedisTemplate.opsForValue().get(REDIS_KEY_PREFIX + cacheKey);
+            if (value == null) {
+                return Optional.empty();
+            }
+            TransferStatus status = TransferStatus.valueOf(value);
+            synchronized (localCache) {
+                localCache.put(cacheKey, status);
+            }
+            return Optional.of(status);
+        } catch (Exception ex) {
+            log.warn("송금 재호출 캐시 조회 실패: key={}, error={}", cacheKey, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void putCompletedStatus(Long sourceAccountId, IdempotencyKey idempotencyKey, TransferStatus status) {
+        if (status == null || !status.isTerminal()) {
+            return;
+        }
+        String cacheKey = cacheKey(sourceAccountId, idempotencyKey);
+        synchronized (localCache) {
+            localCache.put(cacheKey, status);
+        }
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(REDIS_KEY_PREFIX + cacheKey, status.name(), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception ex) {
+            log.warn("송금 재호출 캐시 저장 실패: key={}, error={}", cacheKey, ex.getMessage());
+        }
+    }
+
+    private String cacheKey(Long sourceAccountId, IdempotencyKey idempotencyKey) {
+        return sourceAccountId + ":" + idempotencyKey.value();
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.stereotype.Component;
 import saviing.bank.customer.service.CustomerService;
 import saviing.bank.transaction.application.port.out.LoadCustomerNamePort;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -21,4 +23,9 @@ public class TransactionCustomerAdapter implements LoadCustomerNamePort {
     public Optional<String> loadCustomerName(Long customerId) {
         return customerService.getCustomerName(customerId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<Long, String> loadCustomerNames(Collection<Long> customerIds) {
+        return customerService.getCustomerNames(customerIds);
+    }
+}
@@ -0,0 +1,372 @@
+package saviing.bank.transaction.adapter.out.persistence;
+
+import static saviing.common.persistence.UtcJdbcTimestamps.getInstant;
+import static saviing.common.persistence.UtcJdbcTimestamps.setTimestamp;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import saviing.common.annotation.ExecutionTime;
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.adapter.out.persistence.entity.DailyBalanceJpaEntity;
+import saviing.bank.transaction.adapter.out.persistence.repository.JpaDailyBalanceRepository;
+import saviing.bank.transaction.application.port.out.DailyBalancePort;
+import saviing.bank.transaction.domain.model.Transaction;
+import saviing.bank.transaction.domain.model.TransactionDirection;
+import saviing.bank.transaction.domain.model.TransactionStatus;
+
+/**
+ * 계좌 일별 잔액 스냅샷 퍼시스턴스 어댑터.
+ * 거래 저장 시에는 한 번의 upsert로 해당 가치일 행을 누적하고, 조회는 JPA 리포지토리로 처리한다.
+ *
+ * <p>마감 잔액은 거래 금액만큼 증감시켜 가치일 순서의 잔액 흐름을 유지한다. 거래 후 잔액은 처리 시점의 잔액이므로,
+ * 이미 더 늦은 가치일 행이 있는 소급 거래는 그 이후 행들의 시작/마감 잔액도 같은 금액만큼 다시 잇는다.
+ * 같은 계좌의 거래는 계좌 잠금으로 직렬화되므로 재구성도 계좌 행을 잠근 뒤 수행한다.</p>
+ */
+@ExecutionTime
+@Repository
+@RequiredArgsConstructor
+public class DailyBalancePersistenceAdapter implements DailyBalancePort {
+
+    private static final String UPSERT_SQL = """
+        insert into account_daily_balance (account_id, value_date, opening_balance, closing_balance,
+                                           total_credit, total_debit, transaction_count, updated_at)
+        values (?, ?, ?, ?, ?, ?, 1, ?)
+        on duplicate key update
+            closing_balance = closing_balance + values(total_credit) - values(total_debit),
+            total_credit = total_credit + values(total_credit),
+            total_debit = total_debit + values(total_debit),
+            transaction_count = transaction_count + 1,
+            updated_at = values(updated_at)
+        """;
+
+    private static final String LATEST_VALUE_DATES_SQL = """
+        select account_id, max(value_date) as latest_value_date
+          from account_daily_balance
+         where account_id in (%s)
+         group by account_id
+        """;
+
+    private static final String LATER_NET_SQL = """
+        select coalesce(sum(total_credit - total_debit), 0)
+          from account_daily_balance
+         where account_id = ? and value_date > ?
+        """;
+
+    private static final String SHIFT_LATER_DAYS_SQL = """
+        update account_daily_balance
+           set opening_balance = opening_balance + ?,
+               closing_balance = closing_balance + ?,
+               updated_at = ?
+         where account_id = ? and value_date > ?
+        """;
+
+    private static final String LOCK_ACCOUNT_SQL = "select account_id from account where account_id = ? for update";
+
+    private static final String INSERT_SQL = """
+        insert into account_daily_balance (account_id, value_date, opening_balance, closing_balance,
+                                           total_credit, total_debit, transaction_count, updated_at)
+        values (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    /**
+     * 보관된 송금의 거래도 잔액 흐름의 일부이므로 원본과 보관 테이블을 함께 읽는다.
+     * 첫 거래 직전 잔액을 처리 순서 기준으로 구해야 하므로 가치일로 거르지 않고 모두 읽는다.
+     */
+    private static final String POSTED_TRANSACTIONS_SQL = """
+        select value_date, direction, amount, balance_after, posted_at, txn_id
+          from (
+                select value_date, direction, amount, balance_after, posted_at, txn_id
+                  from transaction
+                 where account_id = ? and status = ?
+                union all
+                select value_date, direction, amount, balance_after, posted_at, txn_id
+                  from transaction_archive
+                 where account_id = ? and status = ?
+               ) posted
+         order by value_date, posted_at, txn_id
+        """;
+
+    private static final String ACCOUNTS_WITH_TRANSACTIONS_SQL = """
+        select account_id
+          from (
+                select account_id from transaction where account_id > ?
+                union
+                select account_id from transaction_archive where account_id > ?
+               ) accounts
+         order by account_id
+         limit ?
+        """;
+
+    private final JpaDailyBalanceRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 확정 거래를 해당 가치일 스냅샷에 upsert로 누적한다.
+     * 그날 첫 거래면 거래 직전 잔액을 시작 잔액으로 행을 만들고, 이후 거래는 합계와 마감 잔액에 거래 금액을 더한다.
+     *
+     * @param transaction 저장된 거래
+     */
+    @Override
+    public void applyTransaction(Transaction transaction) {
+        applyTransactions(List.of(transaction));
+    }
+
+    /**
+     * 여러 확정 거래를 같은 upsert 문의 JDBC 배치로 누적한다.
+     * 소급 거래가 섞여 있으면 이후 가치일을 다시 이어야 하므로 전달 순서대로 한 건씩 반영한다.
+     *
+     * @param transactions 저장된 거래 (같은 계좌의 거래는 처리 순서대로)
+     */
+    @Override
+    public void applyTransactions(List<Transaction> transactions) {
+        List<Transaction> posted = transactions.stream()
+            .filter(transaction -> transaction.getStatus() == TransactionStatus.POSTED)
+            .toList();
+        if (posted.isEmpty()) {
+            return;
+        }
+        Timestamp updatedAt = Timestamp.from(Instant.now());
+        List<Boolean> backdated = markBackdated(posted);
+        if (!backdated.contains(Boolean.TRUE)) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, posted, posted.size(),
+                (PreparedStatement ps, Transaction transaction) -> setUpsertParameters(ps, transaction, 0L, updatedAt));
+            return;
+        }
+        for (int i = 0; i < posted.size(); i++) {
+            Transaction transaction = posted.get(i);
+            long laterNet = backdated.get(i) ? rechainLaterDays(transaction, updatedAt) : 0L;
+            jdbcTemplate.update(UPSERT_SQL, ps -> setUpsertParameters(ps, transaction, laterNet, updatedAt));
+        }
+    }
+
+    /**
+     * 거래마다 같은 계좌에 더 늦은 가치일 행이 이미 있는지 표시한다.
+     * 앞선 거래가 만들 가치일도 반영하도록 전달 순서대로 계좌별 최종 가치일을 갱신하며 판단한다.
+     */
+    private List<Boolean> markBackdated(List<Transaction> posted) {
+        List<Long> accountIds = posted.stream().map(Transaction::getAccountId).distinct().toList();
+        Map<Long, LocalDate> latestValueDates = new HashMap<>();
+        jdbcTemplate.query(
+            LATEST_VALUE_DATES_SQL.formatted(String.join(", ", Collections.nCopies(accountIds.size(), "?"))),
+            rs -> {
+                latestValueDates.put(rs.getLong("account_id"), rs.getObject("latest_value_date", LocalDate.class));
+            },
+            accountIds.toArray());
+
+        List<Boolean> backdated = new ArrayList<>(posted.size());
+        for (Transaction transaction : posted) {
+            LocalDate latest = latestValueDates.get(transaction.getAccountId());
+            backdated.add(latest != null && transaction.getValueDate().isBefore(latest));
+            if (latest == null || transaction.getValueDate().isAfter(latest)) {
+                latestValueDates.put(transaction.getAccountId(), transaction.getValueDate());
+            }
+        }
+        return backdated;
+    }
+
+    /**
+     * 소급 거래의 가치일 이후 행들의 시작/마감 잔액을 거래 금액만큼 옮긴다.
+     *
+     * @return 옮기기 전 이후 가치일들의 순증감 합계 (거래 후 잔액에서 빼면 해당 가치일 기준 잔액이 된다)
+     */
+    private long rechainLaterDays(Transaction transaction, Timestamp updatedAt) {
+        Long laterNet = jdbcTemplate.queryForObject(
+            LATER_NET_SQL, Long.class, transaction.getAccountId(), transaction.getValueDate());
+        long delta = signedAmount(transaction);
+        jdbcTemplate.update(SHIFT_LATER_DAYS_SQL, ps -> {
+            ps.setLong(1, delta);
+            ps.setLong(2, delta);
+            setTimestamp(ps, 3, updatedAt);
+            ps.setLong(4, transaction.getAccountId());
+            ps.setObject(5, transaction.getValueDate());
+        });
+        return laterNet != null ? laterNet : 0L;
+    }
+
+    @Override
+    public List<DailyBalance> loadDailyBalances(Long accountId, LocalDate fromValueDate, LocalDate toValueDate) {
+        return repository.findByAccountIdAndValueDateBetweenOrderByValueDateAsc(accountId, fromValueDate, toValueDate)
+            .stream()
+            .map(DailyBalanceJpaEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    public Optional<DailyBalance> loadLatestBefore(Long accountId, LocalDate valueDate) {
+        return repository.findFirstByAccountIdAndValueDateLessThanOrderByValueDateDesc(accountId, valueDate)
+            .map(DailyBalanceJpaEntity::toDomain);
+    }
+
+    @Override
+    public List<Long> findAccountIdsWithTransactions(long afterAccountId, int limit) {
+        return jdbcTemplate.queryForList(
+            ACCOUNTS_WITH_TRANSACTIONS_SQL, Long.class, afterAccountId, afterAccountId, limit);
+    }
+
+    /**
+     * 지정한 가치일까지의 스냅샷을 지우고 확정 거래를 가치일 순으로 한 번 읽어 다시 쌓는다.
+     * 실시간 누적과 겹치지 않도록 거래 처리와 같은 계좌 행 잠금을 먼저 잡고, 삭제와 재삽입은 호출 측 트랜잭션에서 함께 커밋된다.
+     *
+     * <p>거래 후 잔액은 처리 시점 기준이라 소급 거래가 있으면 가치일 순서와 맞지 않으므로, 처리 순서상 첫 거래 직전
+     * 잔액에서 출발해 가치일 순으로 거래 금액을 누적한다.</p>
+     *
+     * @param accountId 계좌 ID
+     * @param throughValueDate 재구성할 마지막 가치일 (포함)
+     * @return 재구성된 스냅샷 일수
+     */
+    @Override
+    public int rebuildDailyBalances(Long accountId, LocalDate throughValueDate) {
+        jdbcTemplate.query(LOCK_ACCOUNT_SQL, rs -> { }, accountId);
+        jdbcTemplate.update(
+            "delete from account_daily_balance where account_id = ? and value_date <= ?",
+            accountId, throughValueDate);
+
+        List<PostedRow> rows = jdbcTemplate.query(POSTED_TRANSACTIONS_SQL, (rs, rowNum) -> new PostedRow(
+                rs.getObject("value_date", LocalDate.class),
+                TransactionDirection.CREDIT.name().equals(rs.getString("direction")),
+                rs.getLong("amount"),
+                rs.getLong("balance_after"),
+                getInstant(rs, "posted_at"),
+                rs.getLong("txn_id")
+            ),
+            accountId, TransactionStatus.POSTED.name(), accountId, TransactionStatus.POSTED.name());
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        PostedRow first = rows.stream()
+            .min(Comparator.comparing(PostedRow::postedAt).thenComparingLong(PostedRow::txnId))
+            .orElseThrow();
+        long running = first.balanceAfter() - first.signedAmount();
+        List<DailyBalance> days = new ArrayList<>();
+        DailyBalanceAccumulator current = null;
+        for (PostedRow row : rows) {
+            if (row.valueDate().isAfter(throughValueDate)) {
+                break;
+            }
+            if (current == null || !current.valueDate.equals(row.valueDate())) {
+                if (current != null) {
+                    days.add(current.toDailyBalance(accountId));
+                }
+                current = new DailyBalanceAccumulator(row.valueDate(), running);
+            }
+            running += row.signedAmount();
+            current.add(row.credit(), row.amount(), running);
+        }
+        if (current != null) {
+            days.add(current.toDailyBalance(accountId));
+        }
+        if (days.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp updatedAt = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, days, days.size(), (PreparedStatement ps, DailyBalance day) -> {
+            ps.setLong(1, day.accountId());
+            ps.setObject(2, day.valueDate());
+            ps.setLong(3, day.openingBalance().amount());
+            ps.setLong(4, day.closingBalance().amount());
+            ps.setLong(5, day.totalCredit().amount());
+            ps.setLong(6, day.totalDebit().amount());
+            ps.setInt(7, day.transactionCount());
+            setTimestamp(ps, 8, updatedAt);
+        });
+        return days.size();
+    }
+
+    /**
+     * 그날 첫 거래면 거래 직전 잔액이 시작 잔액이 되도록 거래 후 잔액에서 거래 금액을 되돌려 계산한다.
+     * 소급 거래는 이후 가치일들의 순증감도 빼서 해당 가치일 기준 잔액으로 맞춘다.
+     */
+    private void setUpsertParameters(PreparedStatement ps, Transaction transaction, long laterNet,
+                                     Timestamp updatedAt) throws SQLException {
+        long amount = transaction.getAmount().amount();
+        boolean credit = transaction.getDirection() == TransactionDirection.CREDIT;
+        long closingBalance = transaction.getBalanceAfter().amount() - laterNet;
+        long openingBalance = closingBalance - signedAmount(transaction);
+
+        ps.setLong(1, transaction.getAccountId());
+        ps.setObject(2, transaction.getValueDate());
+        ps.setLong(3, openingBalance);
+        ps.setLong(4, closingBalance);
+        ps.setLong(5, credit ? amount : 0L);
+        ps.setLong(6, credit ? 0L : amount);
+        setTimestamp(ps, 7, updatedAt);
+    }
+
+    private long signedAmount(Transaction transaction) {
+        long amount = transaction.getAmount().amount();
+        return transaction.getDirection() == TransactionDirection.CREDIT ? amount : -amount;
+    }
+
+    /**
+     * 재구성에 읽은 확정 거래 한 건.
+     */
+    private record PostedRow(
+        LocalDate valueDate,
+        boolean credit,
+        long amount,
+        long balanceAfter,
+        Instant postedAt,
+        long txnId
+    ) {
+        private long signedAmount() {
+            return credit ? amount : -amount;
+        }
+    }
+
+    /**
+     * 재구성 중 한 가치일의 거래를 접는 누산기.
+     */
+    private static final class DailyBalanceAccumulator {
+        private final LocalDate valueDate;
+        private final long openingBalance;
+        private long closingBalance;
+        private long totalCredit;
+        private long totalDebit;
+        private int transactionCount;
+
+        private DailyBalanceAccumulator(LocalDate valueDate, long openingBalance) {
+            this.valueDate = valueDate;
+            this.openingBalance = openingBalance;
+            this.closingBalance = openingBalance;
+        }
+
+        private void add(boolean credit, long amount, long balanceAfter) {
+            if (credit) {
+                totalCredit += amount;
+            } else {
+                totalDebit += amount;
+            }
+            closingBalance = balanceAfter;
+            transactionCount++;
+        }
+
+        private DailyBalance toDailyBalance(Long accountId) {
+            return new DailyBalance(
+                accountId,
+                valueDate,
+                MoneyWon.of(openingBalance),
+                MoneyWon.of(closingBalance),
+                MoneyWon.of(totalCredit),
+                MoneyWon.of(totalDebit),
+                transactionCount
+            );
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package saviing.bank.transaction.adapter.out.persistence;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Component;
@@ -39,6 +41,32 @@ public class LedgerPersistenceAdapter implements LedgerPersistencePort {
             .map(ledgerMapper::toDomain);
     }
 
+    @Override
+    public Optional<Transfer> lockBySourceAccountIdAndIdempotencyKey(Long sourceAccountId, IdempotencyKey idempotencyKey) {
+        if (sourceAccountId == null || idempotencyKey == null) {
+            return Optional.empty();
+        }
+        return ledgerPairJpaRepository.lockBySourceAccountIdAndIdempotencyKey(sourceAccountId, idempotencyKey.value())
+            .map(ledgerMapper::toDomain);
+    }
+
+    @Override
+    public List<Transfer> lockAllBySourceAccountIdAndIdempotencyKeys(
+        Long sourceAccountId,
+        Collection<IdempotencyKey> idempotencyKeys
+    ) {
+        if (sourceAccountId == null || idempotencyKeys == null || idempotencyKeys.isEmpty()) {
+            return List.of();
+        }
+        List<String> keys = idempotencyKeys.stream()
+            .map(IdempotencyKey::value)
+            .toList();
+        return ledgerPairJpaRepository.lockAllBySourceAccountIdAndIdempotencyKeyIn(sourceAccountId, keys)
+            .stream()
+            .map(ledgerMapper::toDomain)
+            .toList();
+    }
+
     @Override
     public Transfer save(Transfer ledgerPair) {
         TransferJpaEntity entity = ledgerMapper.toEntity(ledgerPair);
@@ -76,4 +104,32 @@ public class LedgerPersistenceAdapter implements LedgerPersistencePort {
         ledgerPairJpaRepository.flush();
         return ledgerMapper.toDomain(saved);
     }
+
+    @Override
+    public Transfer update(Transfer ledgerPair) {
+        if (ledgerPair.getId() == null) {
+            return saveAndFlush(ledgerPair);
+        }
+
+        // 같은 영속성 컨텍스트에서 이미 로드된 엔티티는 1차 캐시에서 반환되므로 추가 SELECT가 발생하지 않는다.
+        TransferJpaEntity entity = ledgerPairJpaRepository.findById(ledgerPair.getId())
+            .orElseThrow(() -> new LedgerNotFoundException(
+                Map.of(
+                    "transferId", String.valueOf(ledgerPair.getId()),
+                    "sourceAccountId", String.valueOf(ledgerPair.getSourceAccountId())
+                )
+            ));
+        ledgerMapper.updateEntity(ledgerPair, entity);
+        return ledgerPair;
+    }
+
+    @Override
+    public List<Transfer> saveAll(List<Transfer> ledgerPairs) {
+        List<TransferJpaEntity> entities = ledgerPairs.stream()
+            .map(ledgerMapper::toEntity)
+            .toList();
+        return ledgerPairJpaRepository.saveAll(entities).stream()
+            .map(ledgerMapper::toDomain)
+            .toList();
+    }
 }
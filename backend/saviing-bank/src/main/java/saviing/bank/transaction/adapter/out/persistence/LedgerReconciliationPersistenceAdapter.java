@@ -0,0 +1,161 @@
+package saviing.bank.transaction.adapter.out.persistence;
+
+import static saviing.common.persistence.UtcJdbcTimestamps.getInstant;
+import static saviing.common.persistence.UtcJdbcTimestamps.setTimestamp;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import saviing.common.annotation.ExecutionTime;
+import saviing.bank.transaction.application.port.out.LedgerReconciliationPort;
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+
+/**
+ * 원장 대사 배치용 퍼시스턴스 어댑터.
+ * 계좌는 키셋 페이지네이션으로, 거래/원장 합계는 계좌 ID 구간 조건의 그룹 쿼리로 읽어
+ * 구간마다 고정된 수의 쿼리로 처리하고 행을 엔티티로 적재하지 않는다.
+ * 거래/원장 합계는 보관 테이블로 옮겨진 행까지 합산해야 계좌 잔액과 맞으므로 원본과 보관 테이블을 함께 읽는다.
+ */
+@ExecutionTime
+@Repository
+@RequiredArgsConstructor
+public class LedgerReconciliationPersistenceAdapter implements LedgerReconciliationPort {
+
+    private static final String ACCOUNT_CHUNK_SQL = """
+        select account_id, balance
+          from account
+         where account_id > ?
+         order by account_id
+         limit ?
+        """;
+
+    private static final String TRANSACTION_TOTALS_SQL = """
+        select account_id,
+               sum(case when direction = 'CREDIT' then amount else -amount end) as net_amount,
+               sum(case when txn_type in ('TRANSFER_IN', 'TRANSFER_OUT')
+                        then case when direction = 'CREDIT' then amount else -amount end
+                        else 0 end) as transfer_net_amount
+          from (
+                select account_id, txn_type, direction, amount
+                  from transaction
+                 where account_id between ? and ? and status = 'POSTED'
+                union all
+                select account_id, txn_type, direction, amount
+                  from transaction_archive
+                 where account_id between ? and ? and status = 'POSTED'
+               ) posted
+         group by account_id
+        """;
+
+    private static final String LEDGER_TOTALS_SQL = """
+        select account_id,
+               sum(case when direction = 'CREDIT' then amount else -amount end) as net_amount
+          from (
+                select account_id, direction, amount
+                  from ledger_entry
+                 where account_id between ? and ? and status = 'POSTED'
+                union all
+                select account_id, direction, amount
+                  from ledger_entry_archive
+                 where account_id between ? and ? and status = 'POSTED'
+               ) posted
+         group by account_id
+        """;
+
+    /**
+     * 종료 상태가 아닌 송금 상태 목록은 상수이므로 SQL에 리터럴로 넣는다.
+     */
+    private static final String STUCK_TRANSFER_SQL = """
+        select transfer_id, status, source_account_id, target_account_id, amount, updated_at
+          from transfer
+         where status in (%s) and updated_at < ? and transfer_id > ?
+         order by transfer_id
+         limit ?
+        """.formatted(Arrays.stream(TransferStatus.values())
+            .filter(status -> !status.isTerminal())
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", ")));
+
+    private static final String COMPENSATION_FAILURE_SQL = """
+        select transfer_id, status, source_account_id, target_account_id, amount, updated_at
+          from transfer
+         where status = 'FAILED' and failure_reason like '%compensationStatus=FAILED%' and transfer_id > ?
+         order by transfer_id
+         limit ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<AccountBalance> findAccountBalances(long afterAccountId, int limit) {
+        return jdbcTemplate.query(ACCOUNT_CHUNK_SQL, this::toAccountBalance, afterAccountId, limit);
+    }
+
+    @Override
+    public Optional<AccountBalance> findAccountBalance(long accountId) {
+        return jdbcTemplate.query(
+            "select account_id, balance from account where account_id = ?",
+            this::toAccountBalance, accountId
+        ).stream().findFirst();
+    }
+
+    @Override
+    public Map<Long, TransactionTotals> sumPostedTransactions(long fromAccountId, long toAccountId) {
+        Map<Long, TransactionTotals> totals = new HashMap<>();
+        jdbcTemplate.query(TRANSACTION_TOTALS_SQL, rs -> {
+            totals.put(rs.getLong("account_id"),
+                new TransactionTotals(rs.getLong("net_amount"), rs.getLong("transfer_net_amount")));
+        }, fromAccountId, toAccountId, fromAccountId, toAccountId);
+        return totals;
+    }
+
+    @Override
+    public Map<Long, Long> sumPostedLedgerEntries(long fromAccountId, long toAccountId) {
+        Map<Long, Long> totals = new HashMap<>();
+        jdbcTemplate.query(LEDGER_TOTALS_SQL, rs -> {
+            totals.put(rs.getLong("account_id"), rs.getLong("net_amount"));
+        }, fromAccountId, toAccountId, fromAccountId, toAccountId);
+        return totals;
+    }
+
+    @Override
+    public List<TransferFinding> findStuckTransfers(Instant updatedBefore, long afterTransferId, int limit) {
+        return jdbcTemplate.query(STUCK_TRANSFER_SQL, ps -> {
+            setTimestamp(ps, 1, Timestamp.from(updatedBefore));
+            ps.setLong(2, afterTransferId);
+            ps.setInt(3, limit);
+        }, this::toTransferFinding);
+    }
+
+    @Override
+    public List<TransferFinding> findCompensationFailures(long afterTransferId, int limit) {
+        return jdbcTemplate.query(COMPENSATION_FAILURE_SQL, this::toTransferFinding, afterTransferId, limit);
+    }
+
+    private AccountBalance toAccountBalance(ResultSet rs, int rowNum) throws SQLException {
+        return new AccountBalance(rs.getLong("account_id"), rs.getLong("balance"));
+    }
+
+    private TransferFinding toTransferFinding(ResultSet rs, int rowNum) throws SQLException {
+        return new TransferFinding(
+            rs.getLong("transfer_id"),
+            TransferStatus.valueOf(rs.getString("status")),
+            rs.getLong("source_account_id"),
+            rs.getLong("target_account_id"),
+            rs.getLong("amount"),
+            getInstant(rs, "updated_at")
+        );
+    }
+}
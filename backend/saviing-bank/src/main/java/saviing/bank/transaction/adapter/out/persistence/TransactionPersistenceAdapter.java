@@ -1,58 +1,202 @@
 package saviing.bank.transaction.adapter.out.persistence;
 
+import static saviing.common.persistence.UtcJdbcTimestamps.getInstant;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 
 import saviing.bank.transaction.adapter.out.persistence.entity.TransactionJpaEntity;
+import saviing.bank.transaction.adapter.out.persistence.entity.archive.TransactionArchiveJpaEntity;
+import saviing.bank.transaction.adapter.out.persistence.repository.JpaTransactionArchiveRepository;
 import saviing.bank.transaction.adapter.out.persistence.repository.JpaTransactionRepository;
+import saviing.bank.transaction.adapter.out.persistence.repository.JpaTransactionRepository.TransactionHistoryView;
+import saviing.bank.transaction.application.port.out.DailyBalancePort;
 import saviing.bank.transaction.application.port.out.LoadTransactionPort;
 import saviing.bank.transaction.application.port.out.SaveTransactionPort;
+import saviing.bank.common.vo.MoneyWon;
 import saviing.bank.transaction.domain.model.Transaction;
+import saviing.bank.transaction.domain.model.TransactionDirection;
+import saviing.bank.transaction.domain.model.TransactionStatus;
+import saviing.bank.transaction.domain.model.TransactionType;
+import saviing.bank.transaction.domain.vo.TransactionCursor;
 import saviing.bank.transaction.domain.vo.TransactionId;
 import saviing.bank.transaction.exception.TransactionNotFoundException;
 
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * 거래 퍼시스턴스 어댑터.
+ * 조회는 원본 테이블과 보관 테이블을 같은 정렬/커서 조건으로 읽어 병합하고, 저장과 수정은 원본 테이블에만 한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class TransactionPersistenceAdapter implements LoadTransactionPort, SaveTransactionPort {
 
+    private static final Comparator<Transaction> LATEST_FIRST = Comparator
+        .comparing(Transaction::getPostedAt, Comparator.reverseOrder())
+        .thenComparing(transaction -> transaction.getId().value(), Comparator.reverseOrder());
+
+    private static final Comparator<TransactionHistoryView> HISTORY_LATEST_FIRST = Comparator
+        .comparing(TransactionHistoryView::getPostedAt, Comparator.reverseOrder())
+        .thenComparing(TransactionHistoryView::getTxnId, Comparator.reverseOrder());
+
+    /**
+     * 가치일, 거래 ID 순의 거래 명세. 보관된 송금의 거래도 명세에 포함한다.
+     */
+    private static final String STATEMENT_SQL = """
+        select txn_id, account_id, txn_type, direction, amount, balance_after, value_date, posted_at, status,
+               description
+          from (
+                select txn_id, account_id, txn_type, direction, amount, balance_after, value_date, posted_at,
+                       status, description
+                  from transaction
+                 where account_id = ? and value_date between ? and ?
+                union all
+                select txn_id, account_id, txn_type, direction, amount, balance_after, value_date, posted_at,
+                       status, description
+                  from transaction_archive
+                 where account_id = ? and value_date between ? and ?
+               ) statement_lines
+         order by value_date, txn_id
+        """;
+
     private final JpaTransactionRepository repository;
+    private final JpaTransactionArchiveRepository archiveRepository;
+    private final DailyBalancePort dailyBalancePort;
+    private final JdbcTemplate jdbcTemplate;
+    @Value("${transaction.statement.fetch-size:500}")
+    private int statementFetchSize;
 
     @Override
     public Optional<Transaction> loadTransaction(TransactionId transactionId) {
         return repository.findById(transactionId.value())
-            .map(TransactionJpaEntity::toDomain);
+            .map(TransactionJpaEntity::toDomain)
+            .or(() -> archiveRepository.findById(transactionId.value())
+                .map(TransactionArchiveJpaEntity::toDomain));
     }
 
     @Override
+    @Deprecated
     public List<Transaction> loadTransactionsByAccount(Long accountId) {
-        return repository.findByAccountIdOrderByPostedAtDesc(accountId)
-            .stream()
-            .map(TransactionJpaEntity::toDomain)
-            .toList();
+        List<Transaction> transactions = new ArrayList<>();
+        repository.findByAccountIdOrderByPostedAtDesc(accountId)
+            .forEach(entity -> transactions.add(entity.toDomain()));
+        archiveRepository.findByAccountIdOrderByPostedAtDesc(accountId)
+            .forEach(entity -> transactions.add(entity.toDomain()));
+        transactions.sort(LATEST_FIRST);
+        return transactions;
     }
 
     @Override
     public List<Transaction> loadTransactionsByAccount(Long accountId, int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size);
-        return repository.findByAccountIdOrderByPostedAtDesc(accountId, pageRequest)
-            .stream()
-            .map(TransactionJpaEntity::toDomain)
+        // 병합 결과의 페이지는 각 테이블의 앞쪽 (page + 1) * size건 안에 있으므로 그만큼만 읽어 병합한다.
+        int offset = page * size;
+        PageRequest pageRequest = PageRequest.of(0, offset + size);
+        List<Transaction> transactions = new ArrayList<>();
+        repository.findByAccountIdOrderByPostedAtDesc(accountId, pageRequest)
+            .forEach(entity -> transactions.add(entity.toDomain()));
+        archiveRepository.findByAccountIdOrderByPostedAtDesc(accountId, pageRequest)
+            .forEach(entity -> transactions.add(entity.toDomain()));
+        return transactions.stream()
+            .sorted(LATEST_FIRST)
+            .skip(offset)
+            .limit(size)
             .toList();
     }
 
+    @Override
+    public List<TransactionSummary> loadTransactionHistory(Long accountId, TransactionCursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        List<TransactionHistoryView> views = new ArrayList<>(limit * 2);
+        if (cursor == null) {
+            views.addAll(repository.findHistoryFirst(accountId, pageRequest));
+            views.addAll(archiveRepository.findHistoryFirst(accountId, pageRequest));
+        } else {
+            views.addAll(repository.findHistorySeek(accountId, cursor.postedAt(), cursor.transactionId(), pageRequest));
+            views.addAll(archiveRepository.findHistorySeek(
+                accountId, cursor.postedAt(), cursor.transactionId(), pageRequest));
+        }
+        return views.stream()
+            .sorted(HISTORY_LATEST_FIRST)
+            .limit(limit)
+            .map(this::toSummary)
+            .toList();
+    }
+
+    /**
+     * 원본과 보관 테이블을 한 문장으로 합쳐 읽어 드라이버의 스트리밍 결과 집합 하나로 처리한다.
+     * fetch size는 이 조회에만 적용되며, 운영 MySQL에서는 {@link Integer#MIN_VALUE}로 설정해 행 단위로 스트리밍한다.
+     */
+    @Override
+    public void forEachStatementLine(Long accountId, LocalDate fromValueDate, LocalDate toValueDate,
+                                     Consumer<TransactionSummary> action) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                    STATEMENT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(statementFetchSize);
+                ps.setLong(1, accountId);
+                ps.setObject(2, fromValueDate);
+                ps.setObject(3, toValueDate);
+                ps.setLong(4, accountId);
+                ps.setObject(5, fromValueDate);
+                ps.setObject(6, toValueDate);
+                return ps;
+            },
+            rs -> {
+                action.accept(toStatementLine(rs));
+            }
+        );
+    }
+
     @Override
     public TransactionId saveTransaction(Transaction transaction) {
         TransactionJpaEntity entity = TransactionJpaEntity.fromDomain(transaction);
         TransactionJpaEntity saved = repository.save(entity);
+        // 일별 잔액 스냅샷을 같은 트랜잭션에서 누적해 거래와 함께 커밋되거나 롤백되게 한다.
+        dailyBalancePort.applyTransaction(transaction);
         return TransactionId.of(saved.getTxnId());
     }
 
+    @Override
+    public List<TransferTransactionIds> saveTransferTransactions(List<TransferTransactions> pairs) {
+        List<TransferTransactionIds> ids = new ArrayList<>(pairs.size());
+        List<Transaction> saved = new ArrayList<>(pairs.size() * 2);
+        for (TransferTransactions pair : pairs) {
+            // 풀링 식별자는 persist 시점에 채번되므로 플러시 없이 서로의 ID로 연관 관계를 채운다.
+            TransactionJpaEntity debitEntity = repository.save(TransactionJpaEntity.fromDomain(pair.debit()));
+            TransactionJpaEntity creditEntity = repository.save(TransactionJpaEntity.fromDomain(pair.credit()));
+            TransactionId debitId = TransactionId.of(debitEntity.getTxnId());
+            TransactionId creditId = TransactionId.of(creditEntity.getTxnId());
+            pair.debit().setRelatedTransaction(creditId);
+            pair.credit().setRelatedTransaction(debitId);
+            debitEntity.updateFromDomain(pair.debit());
+            creditEntity.updateFromDomain(pair.credit());
+            saved.add(pair.debit());
+            saved.add(pair.credit());
+            ids.add(new TransferTransactionIds(debitId, creditId));
+        }
+        dailyBalancePort.applyTransactions(saved);
+        return ids;
+    }
+
+    /**
+     * 보관된 거래는 종료된 송금의 거래이므로 수정 대상이 아니며, 원본 테이블의 거래만 수정한다.
+     */
     @Override
     public void updateTransaction(Transaction transaction) {
         TransactionJpaEntity entity = repository.findById(transaction.getId().value())
@@ -63,4 +207,34 @@ public class TransactionPersistenceAdapter implements LoadTransactionPort, SaveT
         entity.updateFromDomain(transaction);
         repository.save(entity);
     }
+
+    private TransactionSummary toStatementLine(ResultSet rs) throws SQLException {
+        return new TransactionSummary(
+            TransactionId.of(rs.getLong("txn_id")),
+            rs.getLong("account_id"),
+            TransactionType.valueOf(rs.getString("txn_type")),
+            TransactionDirection.valueOf(rs.getString("direction")),
+            MoneyWon.of(rs.getLong("amount")),
+            MoneyWon.of(rs.getLong("balance_after")),
+            rs.getObject("value_date", LocalDate.class),
+            getInstant(rs, "posted_at"),
+            TransactionStatus.valueOf(rs.getString("status")),
+            rs.getString("description")
+        );
+    }
+
+    private TransactionSummary toSummary(TransactionHistoryView view) {
+        return new TransactionSummary(
+            TransactionId.of(view.getTxnId()),
+            view.getAccountId(),
+            view.getTxnType(),
+            view.getDirection(),
+            MoneyWon.of(view.getAmount()),
+            MoneyWon.of(view.getBalanceAfter()),
+            view.getValueDate(),
+            view.getPostedAt(),
+            view.getStatus(),
+            view.getDescription()
+        );
+    }
 }
@@ -0,0 +1,146 @@
+package saviing.bank.transaction.adapter.out.persistence;
+
+import static saviing.common.persistence.UtcJdbcTimestamps.setTimestamp;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import saviing.common.annotation.ExecutionTime;
+import saviing.bank.transaction.application.port.out.TransferArchivePort;
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+
+/**
+ * 송금 보관 배치용 퍼시스턴스 어댑터.
+ * 묶음마다 {@code insert ... select}와 {@code delete}를 테이블별로 한 번씩 실행해 행을 엔티티로 적재하지 않고 옮긴다.
+ * 거래는 원장 엔트리의 {@code transaction_id}로 연결된 행만 옮기므로, 삭제는 거래 → 원장 엔트리 → 송금 순으로 수행한다.
+ */
+@ExecutionTime
+@Repository
+@RequiredArgsConstructor
+public class TransferArchivePersistenceAdapter implements TransferArchivePort {
+
+    /**
+     * 종료 상태 목록은 상수이므로 SQL에 리터럴로 넣는다.
+     * 보상에 실패한 송금은 원장 대사가 원본 테이블에서 보고하므로 옮기지 않는다.
+     */
+    private static final String ARCHIVABLE_TRANSFER_SQL = """
+        select transfer_id
+          from transfer
+         where status in (%s) and updated_at < ? and transfer_id > ?
+           and (failure_reason is null or failure_reason not like '%%compensationStatus=FAILED%%')
+         order by transfer_id
+         limit ?
+        """.formatted(Arrays.stream(TransferStatus.values())
+            .filter(TransferStatus::isTerminal)
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", ")));
+
+    private static final String LINKED_TRANSACTION_IDS = """
+        select transaction_id from ledger_entry where transfer_id in (%s) and transaction_id is not null
+        """;
+
+    private static final String ARCHIVE_TRANSACTIONS_SQL = """
+        insert into transaction_archive (txn_id, account_id, txn_type, direction, amount, balance_after, value_date,
+                                         posted_at, status, related_txn_id, description, created_at, updated_at,
+                                         archived_at)
+        select txn_id, account_id, txn_type, direction, amount, balance_after, value_date,
+               posted_at, status, related_txn_id, description, created_at, updated_at, ?
+          from transaction
+         where txn_id in (%s)
+        """;
+
+    private static final String ARCHIVE_LEDGER_ENTRIES_SQL = """
+        insert into ledger_entry_archive (ledger_entry_id, transfer_id, account_id, direction, amount, currency, status,
+                                          value_date, posted_at, idempotency_key, transaction_id, created_at,
+                                          updated_at, archived_at)
+        select ledger_entry_id, transfer_id, account_id, direction, amount, currency, status,
+               value_date, posted_at, idempotency_key, transaction_id, created_at, updated_at, ?
+          from ledger_entry
+         where transfer_id in (%s)
+        """;
+
+    private static final String ARCHIVE_TRANSFERS_SQL = """
+        insert into transfer_archive (transfer_id, transfer_type, status, source_account_id, target_account_id, amount,
+                                      currency, value_date, idempotency_key, failure_reason, created_at, updated_at,
+                                      archived_at)
+        select transfer_id, transfer_type, status, source_account_id, target_account_id, amount,
+               currency, value_date, idempotency_key, failure_reason, created_at, updated_at, ?
+          from transfer
+         where transfer_id in (%s)
+        """;
+
+    private static final String CHECKPOINT_UPSERT_SQL = """
+        insert into archive_checkpoint (job_name, last_id, updated_at)
+        values (?, ?, ?)
+        on duplicate key update
+            last_id = values(last_id),
+            updated_at = values(updated_at)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> findArchivableTransferIds(Instant updatedBefore, long afterTransferId, int limit) {
+        return jdbcTemplate.query(ARCHIVABLE_TRANSFER_SQL, ps -> {
+            setTimestamp(ps, 1, Timestamp.from(updatedBefore));
+            ps.setLong(2, afterTransferId);
+            ps.setInt(3, limit);
+        }, (rs, rowNum) -> rs.getLong("transfer_id"));
+    }
+
+    @Override
+    public ArchivedRows archiveTransfers(List<Long> transferIds, Instant archivedAt) {
+        if (transferIds.isEmpty()) {
+            return ArchivedRows.EMPTY;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(transferIds.size(), "?"));
+        String linkedTransactionIds = LINKED_TRANSACTION_IDS.formatted(placeholders);
+        Timestamp archivedTimestamp = Timestamp.from(archivedAt);
+
+        // 원본 행을 보관 테이블로 복사한다 (첫 번째 파라미터는 보관 시각).
+        int transactions = copy(ARCHIVE_TRANSACTIONS_SQL.formatted(linkedTransactionIds), archivedTimestamp, transferIds);
+        int ledgerEntries = copy(ARCHIVE_LEDGER_ENTRIES_SQL.formatted(placeholders), archivedTimestamp, transferIds);
+        int transfers = copy(ARCHIVE_TRANSFERS_SQL.formatted(placeholders), archivedTimestamp, transferIds);
+
+        // 거래는 원장 엔트리를 통해 찾으므로 원장 엔트리보다 먼저, 송금은 외래 키 때문에 마지막에 삭제한다.
+        Object[] ids = transferIds.toArray();
+        jdbcTemplate.update("delete from transaction where txn_id in (" + linkedTransactionIds + ")", ids);
+        jdbcTemplate.update("delete from ledger_entry where transfer_id in (" + placeholders + ")", ids);
+        jdbcTemplate.update("delete from transfer where transfer_id in (" + placeholders + ")", ids);
+        return new ArchivedRows(transfers, ledgerEntries, transactions);
+    }
+
+    @Override
+    public long loadCheckpoint(String jobName) {
+        return jdbcTemplate.query(
+            "select last_id from archive_checkpoint where job_name = ? for update",
+            (rs, rowNum) -> rs.getLong("last_id"), jobName
+        ).stream().findFirst().orElse(0L);
+    }
+
+    @Override
+    public void saveCheckpoint(String jobName, long lastId, Instant updatedAt) {
+        jdbcTemplate.update(CHECKPOINT_UPSERT_SQL, ps -> {
+            ps.setString(1, jobName);
+            ps.setLong(2, lastId);
+            setTimestamp(ps, 3, Timestamp.from(updatedAt));
+        });
+    }
+
+    private int copy(String sql, Timestamp archivedAt, List<Long> transferIds) {
+        return jdbcTemplate.update(sql, ps -> {
+            setTimestamp(ps, 1, archivedAt);
+            for (int i = 0; i < transferIds.size(); i++) {
+                ps.setLong(i + 2, transferIds.get(i));
+            }
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package saviing.bank.transaction.adapter.out.persistence;
+
+import static saviing.common.persistence.UtcJdbcTimestamps.setTimestamp;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import saviing.common.annotation.ExecutionTime;
+import saviing.bank.transaction.application.port.out.TransferRecoveryPort;
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+
+/**
+ * 정체 송금 복구 배치용 퍼시스턴스 어댑터.
+ * 상태 조건으로 {@code idx_transfer_status} 인덱스를 타서 소수의 비종료 송금만 읽고, 행을 엔티티로 적재하지 않는다.
+ */
+@ExecutionTime
+@Repository
+@RequiredArgsConstructor
+public class TransferRecoveryPersistenceAdapter implements TransferRecoveryPort {
+
+    /**
+     * 종료 상태가 아닌 송금 상태 목록은 상수이므로 SQL에 리터럴로 넣는다.
+     */
+    private static final String STUCK_TRANSFER_SQL = """
+        select transfer_id, status, source_account_id, idempotency_key
+          from transfer
+         where status in (%s) and updated_at < ? and transfer_id > ? and idempotency_key is not null
+         order by transfer_id
+         limit ?
+        """.formatted(Arrays.stream(TransferStatus.values())
+            .filter(status -> !status.isTerminal())
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", ")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<StuckTransfer> findStuckTransfers(Instant updatedBefore, long afterTransferId, int limit) {
+        return jdbcTemplate.query(STUCK_TRANSFER_SQL, ps -> {
+            setTimestamp(ps, 1, Timestamp.from(updatedBefore));
+            ps.setLong(2, afterTransferId);
+            ps.setInt(3, limit);
+        }, (rs, rowNum) -> new StuckTransfer(
+            rs.getLong("transfer_id"),
+            TransferStatus.valueOf(rs.getString("status")),
+            rs.getLong("source_account_id"),
+            rs.getString("idempotency_key")
+        ));
+    }
+}
@@ -0,0 +1,82 @@
+package saviing.bank.transaction.adapter.out.persistence.entity;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.out.DailyBalancePort.DailyBalance;
+
+/**
+ * 계좌의 가치일별 잔액/입출금 합계 스냅샷 JPA 엔티티.
+ * 거래 저장 시 JDBC upsert로 갱신되는 조회 전용 프로젝션이며, (계좌 ID, 가치일)이 기본 키다.
+ */
+@Entity
+@Table(name = "account_daily_balance")
+@IdClass(DailyBalanceJpaEntity.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyBalanceJpaEntity {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Column(name = "value_date")
+    private LocalDate valueDate;
+
+    @Column(name = "opening_balance", nullable = false)
+    private Long openingBalance;
+
+    @Column(name = "closing_balance", nullable = false)
+    private Long closingBalance;
+
+    @Column(name = "total_credit", nullable = false)
+    private Long totalCredit;
+
+    @Column(name = "total_debit", nullable = false)
+    private Long totalDebit;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Integer transactionCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public DailyBalance toDomain() {
+        return new DailyBalance(
+            accountId,
+            valueDate,
+            MoneyWon.of(openingBalance),
+            MoneyWon.of(closingBalance),
+            MoneyWon.of(totalCredit),
+            MoneyWon.of(totalDebit),
+            transactionCount
+        );
+    }
+
+    /**
+     * (계좌 ID, 가치일) 복합 키.
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long accountId;
+        private LocalDate valueDate;
+    }
+}
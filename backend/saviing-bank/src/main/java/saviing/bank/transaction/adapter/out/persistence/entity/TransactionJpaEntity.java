@@ -12,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -23,12 +24,13 @@ import saviing.bank.transaction.domain.model.TransactionStatus;
 import saviing.bank.transaction.domain.model.TransactionType;
 import saviing.bank.common.vo.MoneyWon;
 import saviing.bank.transaction.domain.vo.TransactionId;
+import saviing.common.persistence.PooledIdGeneration;
 
 @Entity
 @Table(
     name = "transaction",
     indexes = {
-        @Index(name = "idx_account_posted_at", columnList = "account_id, posted_at"),
+        @Index(name = "idx_account_posted_at", columnList = "account_id, posted_at, txn_id"),
         @Index(name = "idx_value_date", columnList = "value_date"),
         @Index(name = "idx_related_txn_id", columnList = "related_txn_id")
     }
@@ -38,15 +40,24 @@ import saviing.bank.transaction.domain.vo.TransactionId;
 public class TransactionJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "transaction_id")
+    @TableGenerator(
+        name = "transaction_id",
+        table = PooledIdGeneration.TABLE,
+        pkColumnName = PooledIdGeneration.SEGMENT_COLUMN,
+        valueColumnName = PooledIdGeneration.VALUE_COLUMN,
+        pkColumnValue = "transaction",
+        allocationSize = PooledIdGeneration.ALLOCATION_SIZE
+    )
     @Column(name = "txn_id")
     private Long txnId;
 
     @Column(name = "account_id", nullable = false)
     private Long accountId;
 
+    // 거래 유형을 추가할 때 컬럼 변경이 필요 없도록 MySQL 네이티브 enum 대신 varchar로 저장한다.
     @Enumerated(EnumType.STRING)
-    @Column(name = "txn_type", nullable = false)
+    @Column(name = "txn_type", nullable = false, length = 32, columnDefinition = "varchar(32)")
     private TransactionType txnType;
 
     @Enumerated(EnumType.STRING)
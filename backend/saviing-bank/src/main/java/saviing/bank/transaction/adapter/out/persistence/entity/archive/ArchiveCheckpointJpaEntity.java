@@ -0,0 +1,33 @@
+package saviing.bank.transaction.adapter.out.persistence.entity.archive;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 배치 진행 체크포인트 JPA 엔티티.
+ * 작업 이름별로 현재 회차에서 마지막으로 처리한 키를 기록하며, 보관 배치가 JDBC upsert로 갱신한다.
+ */
+@Entity
+@Table(name = "archive_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchiveCheckpointJpaEntity {
+
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
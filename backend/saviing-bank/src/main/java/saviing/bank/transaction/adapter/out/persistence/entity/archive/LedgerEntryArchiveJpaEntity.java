@@ -0,0 +1,81 @@
+package saviing.bank.transaction.adapter.out.persistence.entity.archive;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import saviing.bank.transaction.domain.model.TransactionDirection;
+import saviing.bank.transaction.domain.model.transfer.LedgerEntryStatus;
+
+/**
+ * 보관된 송금의 원장 엔트리를 옮겨 두는 보관 테이블 JPA 엔티티.
+ * {@code ledger_entry} 테이블과 같은 컬럼에 보관 시각을 더하며, 송금과는 ID로만 연결한다.
+ */
+@Entity
+@Table(
+    name = "ledger_entry_archive",
+    indexes = {
+        @Index(name = "idx_ledger_entry_archive_transfer", columnList = "transfer_id"),
+        @Index(name = "idx_ledger_entry_archive_account", columnList = "account_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LedgerEntryArchiveJpaEntity {
+
+    @Id
+    @Column(name = "ledger_entry_id")
+    private Long id;
+
+    @Column(name = "transfer_id", nullable = false)
+    private Long transferId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "direction", nullable = false, length = 16)
+    private TransactionDirection direction;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private LedgerEntryStatus status;
+
+    @Column(name = "value_date", nullable = false)
+    private LocalDate valueDate;
+
+    @Column(name = "posted_at")
+    private Instant postedAt;
+
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
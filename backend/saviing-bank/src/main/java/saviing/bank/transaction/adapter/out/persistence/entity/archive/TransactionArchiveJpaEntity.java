@@ -0,0 +1,105 @@
+package saviing.bank.transaction.adapter.out.persistence.entity.archive;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.domain.model.Transaction;
+import saviing.bank.transaction.domain.model.TransactionDirection;
+import saviing.bank.transaction.domain.model.TransactionStatus;
+import saviing.bank.transaction.domain.model.TransactionType;
+import saviing.bank.transaction.domain.vo.TransactionId;
+
+/**
+ * 보관 기간이 지난 송금의 거래를 옮겨 두는 보관 테이블 JPA 엔티티.
+ * {@code transaction} 테이블과 같은 컬럼에 보관 시각을 더하며, 행은 보관 배치가 JDBC로 옮기고 이후 변경되지 않는다.
+ */
+@Entity
+@Table(
+    name = "transaction_archive",
+    indexes = {
+        @Index(name = "idx_txn_archive_account_posted_at", columnList = "account_id, posted_at, txn_id"),
+        @Index(name = "idx_txn_archive_account_value_date", columnList = "account_id, value_date, txn_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TransactionArchiveJpaEntity {
+
+    @Id
+    @Column(name = "txn_id")
+    private Long txnId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    // 거래 유형을 추가할 때 컬럼 변경이 필요 없도록 MySQL 네이티브 enum 대신 varchar로 저장한다.
+    @Enumerated(EnumType.STRING)
+    @Column(name = "txn_type", nullable = false, length = 32, columnDefinition = "varchar(32)")
+    private TransactionType txnType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "direction", nullable = false)
+    private TransactionDirection direction;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "balance_after", nullable = false)
+    private Long balanceAfter;
+
+    @Column(name = "value_date", nullable = false)
+    private LocalDate valueDate;
+
+    @Column(name = "posted_at", nullable = false)
+    private Instant postedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private TransactionStatus status;
+
+    @Column(name = "related_txn_id")
+    private Long relatedTxnId;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+
+    public Transaction toDomain() {
+        return Transaction.restore(
+            TransactionId.of(txnId),
+            accountId,
+            txnType,
+            direction,
+            MoneyWon.of(amount),
+            MoneyWon.of(balanceAfter),
+            valueDate,
+            postedAt,
+            status,
+            relatedTxnId != null ? TransactionId.of(relatedTxnId) : null,
+            description,
+            createdAt,
+            updatedAt
+        );
+    }
+}
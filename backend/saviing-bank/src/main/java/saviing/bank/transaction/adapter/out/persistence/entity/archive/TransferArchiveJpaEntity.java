@@ -0,0 +1,78 @@
+package saviing.bank.transaction.adapter.out.persistence.entity.archive;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+import saviing.bank.transaction.domain.model.transfer.TransferType;
+
+/**
+ * 보관 기간이 지난 종료 상태 송금을 옮겨 두는 보관 테이블 JPA 엔티티.
+ * {@code transfer} 테이블과 같은 컬럼에 보관 시각을 더한다.
+ */
+@Entity
+@Table(
+    name = "transfer_archive",
+    indexes = {
+        @Index(name = "idx_transfer_archive_source_idem", columnList = "source_account_id, idempotency_key"),
+        @Index(name = "idx_transfer_archive_target_account", columnList = "target_account_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TransferArchiveJpaEntity {
+
+    @Id
+    @Column(name = "transfer_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transfer_type", nullable = false, length = 32)
+    private TransferType transferType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 32)
+    private TransferStatus status;
+
+    @Column(name = "source_account_id", nullable = false)
+    private Long sourceAccountId;
+
+    @Column(name = "target_account_id", nullable = false)
+    private Long targetAccountId;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "value_date", nullable = false)
+    private LocalDate valueDate;
+
+    @Column(name = "idempotency_key", nullable = false, length = 64)
+    private String idempotencyKey;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
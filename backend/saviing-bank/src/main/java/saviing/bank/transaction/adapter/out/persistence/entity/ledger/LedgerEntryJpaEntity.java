@@ -15,6 +15,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 
 import lombok.AccessLevel;
@@ -24,6 +25,7 @@ import lombok.NoArgsConstructor;
 import saviing.bank.transaction.domain.model.TransactionDirection;
 import saviing.bank.transaction.domain.model.transfer.LedgerEntryStatus;
 import saviing.common.annotation.ExecutionTime;
+import saviing.common.persistence.PooledIdGeneration;
 
 /**
  * LedgerEntry 애그리거트를 저장하기 위한 JPA 엔티티.
@@ -45,7 +47,15 @@ import saviing.common.annotation.ExecutionTime;
 public class LedgerEntryJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ledger_entry_id")
+    @TableGenerator(
+        name = "ledger_entry_id",
+        table = PooledIdGeneration.TABLE,
+        pkColumnName = PooledIdGeneration.SEGMENT_COLUMN,
+        valueColumnName = PooledIdGeneration.VALUE_COLUMN,
+        pkColumnValue = "ledger_entry",
+        allocationSize = PooledIdGeneration.ALLOCATION_SIZE
+    )
     @Column(name = "ledger_entry_id")
     private Long id;
 
@@ -17,6 +17,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 
 import lombok.AccessLevel;
@@ -26,6 +27,7 @@ import lombok.NoArgsConstructor;
 import saviing.bank.transaction.domain.model.transfer.TransferStatus;
 import saviing.bank.transaction.domain.model.transfer.TransferType;
 import saviing.common.annotation.ExecutionTime;
+import saviing.common.persistence.PooledIdGeneration;
 
 /**
  * Transfer 애그리거트를 저장하기 위한 JPA 엔티티.
@@ -48,7 +50,15 @@ import saviing.common.annotation.ExecutionTime;
 public class TransferJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "transfer_id")
+    @TableGenerator(
+        name = "transfer_id",
+        table = PooledIdGeneration.TABLE,
+        pkColumnName = PooledIdGeneration.SEGMENT_COLUMN,
+        valueColumnName = PooledIdGeneration.VALUE_COLUMN,
+        pkColumnValue = "transfer",
+        allocationSize = PooledIdGeneration.ALLOCATION_SIZE
+    )
     @Column(name = "transfer_id")
     private Long id;
 
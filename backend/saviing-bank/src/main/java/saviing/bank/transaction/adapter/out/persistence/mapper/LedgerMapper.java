@@ -24,6 +24,7 @@ public class LedgerMapper {
             .toList();
 
         return Transfer.restore(
+            entity.getId(),
             entity.getTransferType(),
             entity.getStatus(),
             entity.getIdempotencyKey() != null ? IdempotencyKey.of(entity.getIdempotencyKey()) : null,
@@ -0,0 +1,25 @@
+package saviing.bank.transaction.adapter.out.persistence.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import saviing.bank.transaction.adapter.out.persistence.entity.DailyBalanceJpaEntity;
+
+@Repository
+public interface JpaDailyBalanceRepository extends JpaRepository<DailyBalanceJpaEntity, DailyBalanceJpaEntity.Key> {
+
+    List<DailyBalanceJpaEntity> findByAccountIdAndValueDateBetweenOrderByValueDateAsc(
+        Long accountId,
+        LocalDate fromValueDate,
+        LocalDate toValueDate
+    );
+
+    Optional<DailyBalanceJpaEntity> findFirstByAccountIdAndValueDateLessThanOrderByValueDateDesc(
+        Long accountId,
+        LocalDate valueDate
+    );
+}
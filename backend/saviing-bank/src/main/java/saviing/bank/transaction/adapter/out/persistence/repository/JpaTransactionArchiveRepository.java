@@ -0,0 +1,62 @@
+package saviing.bank.transaction.adapter.out.persistence.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import saviing.bank.transaction.adapter.out.persistence.entity.archive.TransactionArchiveJpaEntity;
+import saviing.bank.transaction.adapter.out.persistence.repository.JpaTransactionRepository.TransactionHistoryView;
+
+/**
+ * 보관 거래 리포지토리.
+ * 원본 거래 리포지토리와 같은 정렬/커서 조건으로 조회해 어댑터에서 두 결과를 병합할 수 있게 한다.
+ */
+@Repository
+public interface JpaTransactionArchiveRepository extends JpaRepository<TransactionArchiveJpaEntity, Long> {
+
+    @Query("SELECT t FROM TransactionArchiveJpaEntity t WHERE t.accountId = :accountId ORDER BY t.postedAt DESC")
+    List<TransactionArchiveJpaEntity> findByAccountIdOrderByPostedAtDesc(@Param("accountId") Long accountId);
+
+    @Query("SELECT t FROM TransactionArchiveJpaEntity t WHERE t.accountId = :accountId ORDER BY t.postedAt DESC")
+    List<TransactionArchiveJpaEntity> findByAccountIdOrderByPostedAtDesc(
+        @Param("accountId") Long accountId,
+        Pageable pageable
+    );
+
+    /**
+     * 계좌의 최신 보관 거래 요약을 조회한다 (키셋 페이지네이션 첫 페이지).
+     */
+    @Query("""
+        SELECT t.txnId AS txnId, t.accountId AS accountId, t.txnType AS txnType, t.direction AS direction,
+               t.amount AS amount, t.balanceAfter AS balanceAfter, t.valueDate AS valueDate,
+               t.postedAt AS postedAt, t.status AS status, t.description AS description
+        FROM TransactionArchiveJpaEntity t
+        WHERE t.accountId = :accountId
+        ORDER BY t.postedAt DESC, t.txnId DESC
+    """)
+    List<TransactionHistoryView> findHistoryFirst(@Param("accountId") Long accountId, Pageable pageable);
+
+    /**
+     * (처리 일시, 거래 ID) 커서 이전의 보관 거래 요약을 조회한다.
+     */
+    @Query("""
+        SELECT t.txnId AS txnId, t.accountId AS accountId, t.txnType AS txnType, t.direction AS direction,
+               t.amount AS amount, t.balanceAfter AS balanceAfter, t.valueDate AS valueDate,
+               t.postedAt AS postedAt, t.status AS status, t.description AS description
+        FROM TransactionArchiveJpaEntity t
+        WHERE t.accountId = :accountId
+          AND (t.postedAt < :postedAt OR (t.postedAt = :postedAt AND t.txnId < :txnId))
+        ORDER BY t.postedAt DESC, t.txnId DESC
+    """)
+    List<TransactionHistoryView> findHistorySeek(
+        @Param("accountId") Long accountId,
+        @Param("postedAt") Instant postedAt,
+        @Param("txnId") Long txnId,
+        Pageable pageable
+    );
+}
@@ -1,6 +1,9 @@
 package saviing.bank.transaction.adapter.out.persistence.repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -8,10 +11,17 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import saviing.bank.transaction.adapter.out.persistence.entity.TransactionJpaEntity;
+import saviing.bank.transaction.domain.model.TransactionDirection;
+import saviing.bank.transaction.domain.model.TransactionStatus;
+import saviing.bank.transaction.domain.model.TransactionType;
 
 @Repository
 public interface JpaTransactionRepository extends JpaRepository<TransactionJpaEntity, Long> {
 
+    /**
+     * @deprecated 거래 내역 전체를 한 번에 로드하므로 {@link #findHistorySeek}를 사용한다
+     */
+    @Deprecated
     @Query("SELECT t FROM TransactionJpaEntity t WHERE t.accountId = :accountId ORDER BY t.postedAt DESC")
     List<TransactionJpaEntity> findByAccountIdOrderByPostedAtDesc(@Param("accountId") Long accountId);
 
@@ -20,4 +30,62 @@ public interface JpaTransactionRepository extends JpaRepository<TransactionJpaEn
         @Param("accountId") Long accountId,
         Pageable pageable
     );
+
+    /**
+     * 계좌의 최신 거래 요약을 조회한다 (키셋 페이지네이션 첫 페이지).
+     */
+    @Query("""
+        SELECT t.txnId AS txnId, t.accountId AS accountId, t.txnType AS txnType, t.direction AS direction,
+               t.amount AS amount, t.balanceAfter AS balanceAfter, t.valueDate AS valueDate,
+               t.postedAt AS postedAt, t.status AS status, t.description AS description
+        FROM TransactionJpaEntity t
+        WHERE t.accountId = :accountId
+        ORDER BY t.postedAt DESC, t.txnId DESC
+    """)
+    List<TransactionHistoryView> findHistoryFirst(@Param("accountId") Long accountId, Pageable pageable);
+
+    /**
+     * (처리 일시, 거래 ID) 커서 이전의 거래 요약을 조회한다.
+     * idx_account_posted_at(account_id, posted_at, txn_id) 인덱스 범위 탐색으로 커서 위치부터 바로 읽는다.
+     */
+    @Query("""
+        SELECT t.txnId AS txnId, t.accountId AS accountId, t.txnType AS txnType, t.direction AS direction,
+               t.amount AS amount, t.balanceAfter AS balanceAfter, t.valueDate AS valueDate,
+               t.postedAt AS postedAt, t.status AS status, t.description AS description
+        FROM TransactionJpaEntity t
+        WHERE t.accountId = :accountId
+          AND (t.postedAt < :postedAt OR (t.postedAt = :postedAt AND t.txnId < :txnId))
+        ORDER BY t.postedAt DESC, t.txnId DESC
+    """)
+    List<TransactionHistoryView> findHistorySeek(
+        @Param("accountId") Long accountId,
+        @Param("postedAt") Instant postedAt,
+        @Param("txnId") Long txnId,
+        Pageable pageable
+    );
+
+    /**
+     * 거래 내역 목록 조회용 프로젝션.
+     */
+    interface TransactionHistoryView {
+        Long getTxnId();
+
+        Long getAccountId();
+
+        TransactionType getTxnType();
+
+        TransactionDirection getDirection();
+
+        Long getAmount();
+
+        Long getBalanceAfter();
+
+        LocalDate getValueDate();
+
+        Instant getPostedAt();
+
+        TransactionStatus getStatus();
+
+        String getDescription();
+    }
 }
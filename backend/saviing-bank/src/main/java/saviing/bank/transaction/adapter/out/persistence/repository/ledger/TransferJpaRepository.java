@@ -1,5 +1,7 @@
 package saviing.bank.transaction.adapter.out.persistence.repository.ledger;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -26,4 +28,11 @@ public interface TransferJpaRepository extends JpaRepository<TransferJpaEntity,
         @Param("sourceAccountId") Long sourceAccountId,
         @Param("idempotencyKey") String idempotencyKey
     );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select lp from TransferJpaEntity lp left join fetch lp.entries where lp.sourceAccountId = :sourceAccountId and lp.idempotencyKey in :idempotencyKeys")
+    List<TransferJpaEntity> lockAllBySourceAccountIdAndIdempotencyKeyIn(
+        @Param("sourceAccountId") Long sourceAccountId,
+        @Param("idempotencyKeys") Collection<String> idempotencyKeys
+    );
 }
@@ -0,0 +1,19 @@
+package saviing.bank.transaction.application.port.in;
+
+import saviing.bank.transaction.application.port.in.command.BulkTransferCommand;
+import saviing.bank.transaction.application.port.in.result.BulkTransferResult;
+
+/**
+ * 한 출금 계좌에서 여러 입금 계좌로 송금하는 일괄 송금 유즈케이스.
+ */
+public interface BulkTransferUseCase {
+
+    /**
+     * 일괄 송금 명령을 처리하고 건별 결과를 반환한다.
+     * 건별 실패(잔액 부족, 입금 계좌 상태 등)는 해당 건만 실패로 기록하고 나머지 건은 계속 처리한다.
+     *
+     * @param command 일괄 송금 요청 정보
+     * @return 요청 순서대로의 건별 송금 결과
+     */
+    BulkTransferResult bulkTransfer(BulkTransferCommand command);
+}
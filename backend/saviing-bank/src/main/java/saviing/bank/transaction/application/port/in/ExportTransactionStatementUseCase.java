@@ -0,0 +1,26 @@
+package saviing.bank.transaction.application.port.in;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import saviing.bank.transaction.application.port.in.result.TransactionResult;
+
+/**
+ * 거래 명세 내보내기 유즈케이스
+ * 계좌의 가치일 구간 거래를 목록으로 모으지 않고 한 건씩 전달해 장기 계좌의 전체 명세도 일정한 메모리로 내보낸다.
+ */
+public interface ExportTransactionStatementUseCase {
+
+    /**
+     * 계좌의 가치일 구간 거래를 가치일, 거래 ID 오름차순으로 한 건씩 전달한다
+     * 구간 검증은 첫 거래를 전달하기 전에 끝나므로, 검증 실패 시 아무것도 전달되지 않는다.
+     *
+     * @param accountId 계좌 ID
+     * @param fromValueDate 조회 시작 가치일 (포함)
+     * @param toValueDate 조회 종료 가치일 (포함)
+     * @param consumer 거래마다 호출할 소비자
+     * @throws saviing.bank.transaction.exception.InvalidValueDateException 시작 가치일이 종료 가치일보다 늦은 경우
+     */
+    void exportStatement(Long accountId, LocalDate fromValueDate, LocalDate toValueDate,
+                         Consumer<TransactionResult> consumer);
+}
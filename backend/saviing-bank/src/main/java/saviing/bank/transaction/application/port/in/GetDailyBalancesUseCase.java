@@ -0,0 +1,24 @@
+package saviing.bank.transaction.application.port.in;
+
+import java.time.LocalDate;
+
+import saviing.bank.transaction.application.port.in.result.PeriodBalanceResult;
+
+/**
+ * 계좌 일별 잔액 조회 유즈케이스
+ * 거래 내역 대신 가치일별 잔액 스냅샷을 읽어 기간 요약을 거래 수가 아닌 일수에 비례하는 비용으로 조회한다.
+ */
+public interface GetDailyBalancesUseCase {
+
+    /**
+     * 계좌의 가치일 구간 일별 잔액과 기간 합계를 조회한다
+     * 거래가 없는 날은 일별 목록에서 빠지며, 그 사이 잔액은 직전 거래일의 마감 잔액과 같다.
+     *
+     * @param accountId 계좌 ID
+     * @param fromValueDate 조회 시작 가치일 (포함)
+     * @param toValueDate 조회 종료 가치일 (포함)
+     * @return 기간 시작/마감 잔액, 입출금 합계와 거래가 있었던 날의 일별 잔액
+     * @throws saviing.bank.transaction.exception.InvalidValueDateException 시작 가치일이 종료 가치일보다 늦은 경우
+     */
+    PeriodBalanceResult getDailyBalances(Long accountId, LocalDate fromValueDate, LocalDate toValueDate);
+}
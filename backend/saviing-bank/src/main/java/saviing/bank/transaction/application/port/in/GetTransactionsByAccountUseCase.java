@@ -2,7 +2,9 @@ package saviing.bank.transaction.application.port.in;
 
 import java.util.List;
 
+import saviing.bank.transaction.application.port.in.result.TransactionHistoryResult;
 import saviing.bank.transaction.application.port.in.result.TransactionResult;
+import saviing.bank.transaction.domain.vo.TransactionCursor;
 
 /**
  * 계좌별 거래 내역 조회 유즈케이스
@@ -15,7 +17,9 @@ public interface GetTransactionsByAccountUseCase {
      *
      * @param accountId 계좌 ID
      * @return 거래 내역 목록
+     * @deprecated 거래 내역 전체를 한 번에 로드하므로 {@link #getTransactionHistory}를 사용한다
      */
+    @Deprecated
     List<TransactionResult> getTransactionsByAccount(Long accountId);
 
     /**
@@ -27,4 +31,14 @@ public interface GetTransactionsByAccountUseCase {
      * @return 거래 내역 목록
      */
     List<TransactionResult> getTransactionsByAccount(Long accountId, int page, int size);
+
+    /**
+     * 계좌 ID로 거래 내역을 (처리 일시, 거래 ID) 커서 기반으로 최신순 조회한다
+     *
+     * @param accountId 계좌 ID
+     * @param cursor 직전 페이지 마지막 거래 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 거래 내역과 다음 페이지 커서
+     */
+    TransactionHistoryResult getTransactionHistory(Long accountId, TransactionCursor cursor, int size);
 }
\ No newline at end of file
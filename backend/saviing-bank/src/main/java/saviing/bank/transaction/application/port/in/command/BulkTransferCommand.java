@@ -0,0 +1,75 @@
+package saviing.bank.transaction.application.port.in.command;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.domain.model.transfer.TransferType;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+
+/**
+ * 한 출금 계좌에서 여러 입금 계좌로의 일괄 송금 요청 정보를 담는 커맨드.
+ * 건마다 입금 계좌, 금액, 메모와 멱등 키를 가진다.
+ */
+@Builder
+public record BulkTransferCommand(
+    @NonNull Long sourceAccountId,
+    @NonNull LocalDate valueDate,
+    @NonNull TransferType transferType,
+    @NonNull List<Leg> legs,
+    Instant requestedAt
+) {
+
+    public BulkTransferCommand {
+        legs = List.copyOf(legs);
+    }
+
+    /**
+     * 일괄 송금 한 건의 요청 정보.
+     *
+     * @param targetAccountId 입금 계좌 ID
+     * @param amount 송금 금액
+     * @param memo 입금 거래 메모
+     * @param idempotencyKey 건별 멱등 키
+     */
+    public record Leg(
+        @NonNull Long targetAccountId,
+        @NonNull MoneyWon amount,
+        String memo,
+        IdempotencyKey idempotencyKey
+    ) {
+
+        public static Leg of(Long targetAccountId, Long amount, String memo, String idempotencyKey) {
+            return new Leg(
+                targetAccountId,
+                MoneyWon.of(amount),
+                memo,
+                idempotencyKey != null ? IdempotencyKey.of(idempotencyKey) : null
+            );
+        }
+    }
+
+    public static class BulkTransferCommandBuilder {
+        private LocalDate valueDate;
+        private TransferType transferType;
+        private Instant requestedAt;
+
+        public BulkTransferCommand build() {
+            LocalDate resolvedValueDate = valueDate != null ? valueDate : LocalDate.now();
+            TransferType resolvedTransferType = transferType != null ? transferType : TransferType.INTERNAL;
+            Instant resolvedRequestedAt = requestedAt != null ? requestedAt : Instant.now();
+
+            return new BulkTransferCommand(
+                sourceAccountId,
+                resolvedValueDate,
+                resolvedTransferType,
+                legs,
+                resolvedRequestedAt
+            );
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package saviing.bank.transaction.application.port.in.result;
+
+import java.util.List;
+
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+
+/**
+ * 일괄 송금 처리 결과.
+ *
+ * @param sourceAccountId 출금 계좌 ID
+ * @param settledCount 이번 요청으로 정산 완료된 건수
+ * @param failedCount 이번 요청으로 실패 처리된 건수
+ * @param replayedCount 같은 멱등 키로 이미 처리되어 기존 결과를 돌려준 건수
+ * @param legs 요청 순서대로의 건별 결과
+ */
+public record BulkTransferResult(
+    Long sourceAccountId,
+    int settledCount,
+    int failedCount,
+    int replayedCount,
+    List<LegResult> legs
+) {
+
+    public static BulkTransferResult of(Long sourceAccountId, List<LegResult> legs) {
+        int settled = 0;
+        int failed = 0;
+        int replayed = 0;
+        for (LegResult leg : legs) {
+            if (leg.replayed()) {
+                replayed++;
+            } else if (leg.transfer().status() == TransferStatus.SETTLED) {
+                settled++;
+            } else {
+                failed++;
+            }
+        }
+        return new BulkTransferResult(sourceAccountId, settled, failed, replayed, List.copyOf(legs));
+    }
+
+    /**
+     * 일괄 송금 한 건의 결과.
+     *
+     * @param index 요청 내 순번 (0부터)
+     * @param replayed 같은 멱등 키로 이미 처리된 송금인지 여부
+     * @param transfer 송금 결과
+     */
+    public record LegResult(
+        int index,
+        boolean replayed,
+        TransferResult transfer
+    ) {
+    }
+}
@@ -0,0 +1,46 @@
+package saviing.bank.transaction.application.port.in.result;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import lombok.Builder;
+
+import saviing.bank.transaction.application.port.out.DailyBalancePort.DailyBalance;
+
+/**
+ * 가치일 하루의 잔액과 입출금 합계를 나타내는 DTO
+ *
+ * @param valueDate 가치일
+ * @param openingBalance 그날 첫 거래 직전 잔액
+ * @param closingBalance 그날 마지막 거래 직후 잔액
+ * @param totalCredit 입금 합계
+ * @param totalDebit 출금 합계
+ * @param transactionCount 거래 건수
+ */
+@Builder
+public record DailyBalanceResult(
+    LocalDate valueDate,
+    BigDecimal openingBalance,
+    BigDecimal closingBalance,
+    BigDecimal totalCredit,
+    BigDecimal totalDebit,
+    int transactionCount
+) {
+
+    /**
+     * 일별 잔액 스냅샷으로부터 결과를 생성한다
+     *
+     * @param dailyBalance 일별 잔액 스냅샷
+     * @return 일별 잔액 결과
+     */
+    public static DailyBalanceResult from(DailyBalance dailyBalance) {
+        return DailyBalanceResult.builder()
+            .valueDate(dailyBalance.valueDate())
+            .openingBalance(BigDecimal.valueOf(dailyBalance.openingBalance().amount()))
+            .closingBalance(BigDecimal.valueOf(dailyBalance.closingBalance().amount()))
+            .totalCredit(BigDecimal.valueOf(dailyBalance.totalCredit().amount()))
+            .totalDebit(BigDecimal.valueOf(dailyBalance.totalDebit().amount()))
+            .transactionCount(dailyBalance.transactionCount())
+            .build();
+    }
+}
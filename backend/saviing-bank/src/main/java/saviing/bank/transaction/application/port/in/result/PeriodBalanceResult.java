@@ -0,0 +1,71 @@
+package saviing.bank.transaction.application.port.in.result;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.out.DailyBalancePort.DailyBalance;
+
+/**
+ * 가치일 구간의 잔액 요약을 나타내는 DTO
+ *
+ * @param accountId 계좌 ID
+ * @param fromValueDate 조회 시작 가치일
+ * @param toValueDate 조회 종료 가치일
+ * @param openingBalance 기간 시작 잔액
+ * @param closingBalance 기간 마감 잔액
+ * @param totalCredit 기간 입금 합계
+ * @param totalDebit 기간 출금 합계
+ * @param days 거래가 있었던 날의 일별 잔액 (가치일 오름차순)
+ */
+public record PeriodBalanceResult(
+    Long accountId,
+    LocalDate fromValueDate,
+    LocalDate toValueDate,
+    BigDecimal openingBalance,
+    BigDecimal closingBalance,
+    BigDecimal totalCredit,
+    BigDecimal totalDebit,
+    List<DailyBalanceResult> days
+) {
+
+    /**
+     * 구간의 일별 스냅샷과 구간 직전 잔액으로 기간 요약을 만든다
+     * 구간 안에 거래가 없으면 시작 잔액과 마감 잔액 모두 구간 직전 잔액이 된다.
+     *
+     * @param accountId 계좌 ID
+     * @param fromValueDate 조회 시작 가치일
+     * @param toValueDate 조회 종료 가치일
+     * @param carriedBalance 구간 직전 마지막 거래일의 마감 잔액 (구간 안에 거래가 있으면 사용하지 않으며 null일 수 있다)
+     * @param dailyBalances 구간의 일별 스냅샷 (가치일 오름차순)
+     * @return 기간 잔액 요약
+     */
+    public static PeriodBalanceResult of(
+        Long accountId,
+        LocalDate fromValueDate,
+        LocalDate toValueDate,
+        MoneyWon carriedBalance,
+        List<DailyBalance> dailyBalances
+    ) {
+        long openingBalance = dailyBalances.isEmpty()
+            ? carriedBalance.amount()
+            : dailyBalances.get(0).openingBalance().amount();
+        long closingBalance = dailyBalances.isEmpty()
+            ? carriedBalance.amount()
+            : dailyBalances.get(dailyBalances.size() - 1).closingBalance().amount();
+        long totalCredit = dailyBalances.stream().mapToLong(day -> day.totalCredit().amount()).sum();
+        long totalDebit = dailyBalances.stream().mapToLong(day -> day.totalDebit().amount()).sum();
+
+        return new PeriodBalanceResult(
+            accountId,
+            fromValueDate,
+            toValueDate,
+            BigDecimal.valueOf(openingBalance),
+            BigDecimal.valueOf(closingBalance),
+            BigDecimal.valueOf(totalCredit),
+            BigDecimal.valueOf(totalDebit),
+            dailyBalances.stream().map(DailyBalanceResult::from).toList()
+        );
+    }
+}
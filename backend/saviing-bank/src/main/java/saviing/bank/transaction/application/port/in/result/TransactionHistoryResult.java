@@ -0,0 +1,44 @@
+package saviing.bank.transaction.application.port.in.result;
+
+import java.time.Instant;
+import java.util.List;
+
+import saviing.bank.transaction.application.port.out.LoadTransactionPort.TransactionSummary;
+
+/**
+ * 키셋 페이지네이션 거래 내역 조회 결과를 나타내는 DTO
+ * 한 페이지의 거래 목록과 다음 페이지를 조회할 커서를 함께 전달한다.
+ *
+ * @param transactions 거래 목록 (최신순)
+ * @param hasNext 다음 페이지 존재 여부
+ * @param nextCursorPostedAt 다음 페이지 커서의 처리 일시 (마지막 페이지면 null)
+ * @param nextCursorTransactionId 다음 페이지 커서의 거래 ID (마지막 페이지면 null)
+ */
+public record TransactionHistoryResult(
+    List<TransactionResult> transactions,
+    boolean hasNext,
+    Instant nextCursorPostedAt,
+    Long nextCursorTransactionId
+) {
+
+    /**
+     * 페이지 크기보다 하나 더 조회한 거래 요약 목록으로 결과를 생성한다
+     *
+     * @param summaries 페이지 크기 + 1건까지 조회한 거래 요약 목록
+     * @param size 페이지 크기
+     * @return 거래 내역 조회 결과
+     */
+    public static TransactionHistoryResult of(List<TransactionSummary> summaries, int size) {
+        boolean hasNext = summaries.size() > size;
+        List<TransactionResult> transactions = summaries.stream()
+            .limit(size)
+            .map(TransactionResult::from)
+            .toList();
+
+        if (!hasNext) {
+            return new TransactionHistoryResult(transactions, false, null, null);
+        }
+        TransactionResult last = transactions.get(transactions.size() - 1);
+        return new TransactionHistoryResult(transactions, true, last.postedAt(), last.transactionId());
+    }
+}
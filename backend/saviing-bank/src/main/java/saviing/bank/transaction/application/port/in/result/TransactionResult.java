@@ -5,6 +5,8 @@ import java.time.LocalDate;
 
 import lombok.Builder;
 
+import saviing.bank.transaction.application.port.out.LoadTransactionPort.TransactionSummary;
+
 import java.math.BigDecimal;
 
 /**
@@ -52,4 +54,26 @@ public record TransactionResult(
             .updatedAt(transaction.getUpdatedAt())
             .build();
     }
+
+    /**
+     * 거래 요약으로부터 TransactionResult를 생성하는 팩토리 메서드
+     * 목록 조회용 요약에는 연관 거래와 생성/수정 일시가 없으므로 해당 필드는 비워 둔다.
+     *
+     * @param summary 거래 요약
+     * @return TransactionResult 인스턴스
+     */
+    public static TransactionResult from(TransactionSummary summary) {
+        return TransactionResult.builder()
+            .transactionId(summary.transactionId().value())
+            .accountId(summary.accountId())
+            .transactionType(summary.transactionType().name())
+            .direction(summary.direction().name())
+            .amount(BigDecimal.valueOf(summary.amount().amount()))
+            .balanceAfter(BigDecimal.valueOf(summary.balanceAfter().amount()))
+            .valueDate(summary.valueDate())
+            .postedAt(summary.postedAt())
+            .status(summary.status().name())
+            .description(summary.description())
+            .build();
+    }
 }
@@ -9,6 +9,7 @@ import saviing.bank.common.vo.MoneyWon;
 import saviing.bank.transaction.domain.model.transfer.TransferStatus;
 import saviing.bank.transaction.domain.vo.IdempotencyKey;
 import saviing.bank.transaction.domain.vo.TransactionId;
+import saviing.bank.transaction.domain.vo.TransferSnapshot;
 
 /**
  * 송금 처리 결과를 표현하는 DTO.
@@ -28,4 +29,25 @@ public record TransferResult(
     TransactionId debitTransactionId,
     TransactionId creditTransactionId
 ) {
+
+    /**
+     * Ledger 스냅샷을 송금 결과로 변환한다.
+     */
+    public static TransferResult from(TransferSnapshot snapshot) {
+        TransactionId debitId = snapshot.debitEntry() != null ? snapshot.debitEntry().transactionId() : null;
+        TransactionId creditId = snapshot.creditEntry() != null ? snapshot.creditEntry().transactionId() : null;
+        return TransferResult.builder()
+            .idempotencyKey(snapshot.idempotencyKey())
+            .sourceAccountId(snapshot.sourceAccountId())
+            .targetAccountId(snapshot.targetAccountId())
+            .amount(snapshot.amount())
+            .valueDate(snapshot.valueDate())
+            .debitTransactionId(debitId)
+            .creditTransactionId(creditId)
+            .requestedAt(snapshot.createdAt())
+            .status(snapshot.status())
+            .completedAt(snapshot.updatedAt())
+            .failureReason(snapshot.failureReason())
+            .build();
+    }
 }
@@ -0,0 +1,90 @@
+package saviing.bank.transaction.application.port.out;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.domain.model.Transaction;
+
+/**
+ * 계좌 일별 잔액 스냅샷 포트
+ * 거래 저장 시 가치일별 시작/마감 잔액과 입출금 합계를 누적하고, 기간 조회와 기존 거래 기반 재구성을 제공한다.
+ */
+public interface DailyBalancePort {
+
+    /**
+     * 저장된 거래를 해당 가치일의 스냅샷에 누적한다
+     * 거래 저장과 같은 트랜잭션에서 호출되어야 하며, 확정(POSTED) 거래만 반영한다.
+     *
+     * @param transaction 저장된 거래
+     */
+    void applyTransaction(Transaction transaction);
+
+    /**
+     * 여러 거래를 한 번의 배치 upsert로 가치일 스냅샷에 누적한다
+     *
+     * @param transactions 저장된 거래 (같은 계좌의 거래는 처리 순서대로)
+     */
+    void applyTransactions(List<Transaction> transactions);
+
+    /**
+     * 계좌의 가치일 구간 스냅샷을 가치일 오름차순으로 조회한다
+     * 거래가 없는 날은 포함되지 않는다.
+     *
+     * @param accountId 계좌 ID
+     * @param fromValueDate 조회 시작 가치일 (포함)
+     * @param toValueDate 조회 종료 가치일 (포함)
+     * @return 일별 스냅샷 목록
+     */
+    List<DailyBalance> loadDailyBalances(Long accountId, LocalDate fromValueDate, LocalDate toValueDate);
+
+    /**
+     * 지정한 가치일 이전의 가장 최근 스냅샷을 조회한다
+     *
+     * @param accountId 계좌 ID
+     * @param valueDate 기준 가치일 (미포함)
+     * @return 가장 최근 스냅샷 (Optional)
+     */
+    Optional<DailyBalance> loadLatestBefore(Long accountId, LocalDate valueDate);
+
+    /**
+     * 거래가 있는 계좌 ID를 키셋 페이지네이션으로 조회한다
+     *
+     * @param afterAccountId 이 ID보다 큰 계좌부터 조회
+     * @param limit 최대 조회 건수
+     * @return 계좌 ID 목록 (오름차순)
+     */
+    List<Long> findAccountIdsWithTransactions(long afterAccountId, int limit);
+
+    /**
+     * 계좌의 확정 거래로 지정한 가치일까지의 스냅샷을 다시 만든다
+     *
+     * @param accountId 계좌 ID
+     * @param throughValueDate 재구성할 마지막 가치일 (포함)
+     * @return 재구성된 스냅샷 일수
+     */
+    int rebuildDailyBalances(Long accountId, LocalDate throughValueDate);
+
+    /**
+     * 계좌의 가치일별 잔액 스냅샷
+     *
+     * @param accountId 계좌 ID
+     * @param valueDate 가치일
+     * @param openingBalance 그날 첫 거래 직전 잔액
+     * @param closingBalance 그날 마지막 거래 직후 잔액
+     * @param totalCredit 입금 합계
+     * @param totalDebit 출금 합계
+     * @param transactionCount 거래 건수
+     */
+    record DailyBalance(
+        Long accountId,
+        LocalDate valueDate,
+        MoneyWon openingBalance,
+        MoneyWon closingBalance,
+        MoneyWon totalCredit,
+        MoneyWon totalDebit,
+        int transactionCount
+    ) {
+    }
+}
@@ -1,5 +1,7 @@
 package saviing.bank.transaction.application.port.out;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import saviing.bank.transaction.domain.model.transfer.Transfer;
@@ -15,6 +17,19 @@ public interface LedgerPersistencePort {
      */
     Optional<Transfer> findBySourceAccountIdAndIdempotencyKey(Long sourceAccountId, IdempotencyKey idempotencyKey);
 
+    /**
+     * 출금 계좌와 멱등 키 조합으로 Transfer를 비관적 잠금과 함께 조회한다.
+     */
+    Optional<Transfer> lockBySourceAccountIdAndIdempotencyKey(Long sourceAccountId, IdempotencyKey idempotencyKey);
+
+    /**
+     * 출금 계좌와 여러 멱등 키 조합의 Transfer를 한 번의 조회로 비관적 잠금과 함께 조회한다.
+     */
+    List<Transfer> lockAllBySourceAccountIdAndIdempotencyKeys(
+        Long sourceAccountId,
+        Collection<IdempotencyKey> idempotencyKeys
+    );
+
     /**
      * Transfer를 저장한다.
      */
@@ -24,4 +39,14 @@ public interface LedgerPersistencePort {
      * Transfer를 업데이트하고 즉시 플러시한다.
      */
     Transfer saveAndFlush(Transfer ledgerPair);
+
+    /**
+     * 이미 영속화된 Transfer의 상태를 반영하되 플러시는 트랜잭션 커밋 시점으로 미룬다.
+     */
+    Transfer update(Transfer ledgerPair);
+
+    /**
+     * 여러 Transfer를 저장하되 플러시는 트랜잭션 커밋 시점으로 미뤄 INSERT가 배치로 묶이게 한다.
+     */
+    List<Transfer> saveAll(List<Transfer> ledgerPairs);
 }
@@ -0,0 +1,109 @@
+package saviing.bank.transaction.application.port.out;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+
+/**
+ * 원장 대사 배치 포트
+ * 계좌 잔액과 확정 거래/원장 합계를 계좌 ID 구간 단위로 집계하고, 정리되지 않은 송금을 조회한다.
+ */
+public interface LedgerReconciliationPort {
+
+    /**
+     * 계좌 잔액을 계좌 ID 기준 키셋 페이지네이션으로 조회한다
+     *
+     * @param afterAccountId 이 ID보다 큰 계좌부터 조회
+     * @param limit 최대 조회 건수
+     * @return 계좌 잔액 목록 (계좌 ID 오름차순)
+     */
+    List<AccountBalance> findAccountBalances(long afterAccountId, int limit);
+
+    /**
+     * 단일 계좌의 잔액을 조회한다
+     *
+     * @param accountId 계좌 ID
+     * @return 계좌 잔액 (Optional)
+     */
+    Optional<AccountBalance> findAccountBalance(long accountId);
+
+    /**
+     * 계좌 ID 구간의 확정(POSTED) 거래 합계를 계좌별로 한 번의 그룹 쿼리로 집계한다
+     *
+     * @param fromAccountId 시작 계좌 ID (포함)
+     * @param toAccountId 종료 계좌 ID (포함)
+     * @return 계좌 ID별 거래 합계 (거래가 없는 계좌는 포함되지 않는다)
+     */
+    Map<Long, TransactionTotals> sumPostedTransactions(long fromAccountId, long toAccountId);
+
+    /**
+     * 계좌 ID 구간의 확정(POSTED) 원장 엔트리 순증감을 계좌별로 한 번의 그룹 쿼리로 집계한다
+     *
+     * @param fromAccountId 시작 계좌 ID (포함)
+     * @param toAccountId 종료 계좌 ID (포함)
+     * @return 계좌 ID별 원장 순증감 (원장 엔트리가 없는 계좌는 포함되지 않는다)
+     */
+    Map<Long, Long> sumPostedLedgerEntries(long fromAccountId, long toAccountId);
+
+    /**
+     * 지정한 시각 이전부터 종료 상태가 아닌 송금을 송금 ID 기준 키셋 페이지네이션으로 조회한다
+     *
+     * @param updatedBefore 이 시각 이전에 마지막으로 갱신된 송금만 조회
+     * @param afterTransferId 이 ID보다 큰 송금부터 조회
+     * @param limit 최대 조회 건수
+     * @return 정체된 송금 목록 (송금 ID 오름차순)
+     */
+    List<TransferFinding> findStuckTransfers(Instant updatedBefore, long afterTransferId, int limit);
+
+    /**
+     * 보상 처리에 실패한 송금을 송금 ID 기준 키셋 페이지네이션으로 조회한다
+     *
+     * @param afterTransferId 이 ID보다 큰 송금부터 조회
+     * @param limit 최대 조회 건수
+     * @return 보상 실패 송금 목록 (송금 ID 오름차순)
+     */
+    List<TransferFinding> findCompensationFailures(long afterTransferId, int limit);
+
+    /**
+     * 계좌 잔액
+     *
+     * @param accountId 계좌 ID
+     * @param balance 잔액
+     */
+    record AccountBalance(long accountId, long balance) {
+    }
+
+    /**
+     * 계좌의 확정 거래 합계
+     *
+     * @param netAmount 모든 확정 거래의 순증감 (입금 - 출금)
+     * @param transferNetAmount 송금 입출금(TRANSFER_IN/TRANSFER_OUT) 거래의 순증감
+     */
+    record TransactionTotals(long netAmount, long transferNetAmount) {
+
+        public static final TransactionTotals EMPTY = new TransactionTotals(0L, 0L);
+    }
+
+    /**
+     * 대사 결과로 보고할 송금
+     *
+     * @param transferId 송금 ID
+     * @param status 송금 상태
+     * @param sourceAccountId 출금 계좌 ID
+     * @param targetAccountId 입금 계좌 ID
+     * @param amount 송금 금액
+     * @param updatedAt 마지막 갱신 시각
+     */
+    record TransferFinding(
+        long transferId,
+        TransferStatus status,
+        long sourceAccountId,
+        long targetAccountId,
+        long amount,
+        Instant updatedAt
+    ) {
+    }
+}
@@ -1,5 +1,7 @@
 package saviing.bank.transaction.application.port.out;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -15,4 +17,12 @@ public interface LoadCustomerNamePort {
      * @return 고객 이름 (Optional)
      */
     Optional<String> loadCustomerName(Long customerId);
-}
\ No newline at end of file
+
+    /**
+     * 여러 고객의 이름을 한 번에 조회한다
+     *
+     * @param customerIds 조회할 고객 ID 목록
+     * @return 고객 ID별 이름 (존재하지 않는 고객은 포함되지 않는다)
+     */
+    Map<Long, String> loadCustomerNames(Collection<Long> customerIds);
+}
@@ -1,9 +1,17 @@
 package saviing.bank.transaction.application.port.out;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import saviing.bank.common.vo.MoneyWon;
 import saviing.bank.transaction.domain.model.Transaction;
+import saviing.bank.transaction.domain.model.TransactionDirection;
+import saviing.bank.transaction.domain.model.TransactionStatus;
+import saviing.bank.transaction.domain.model.TransactionType;
+import saviing.bank.transaction.domain.vo.TransactionCursor;
 import saviing.bank.transaction.domain.vo.TransactionId;
 
 /**
@@ -25,11 +33,13 @@ public interface LoadTransactionPort {
      *
      * @param accountId 계좌 ID
      * @return 거래 내역 목록
+     * @deprecated 거래 내역 전체를 한 번에 로드하므로 {@link #loadTransactionHistory}를 사용한다
      */
+    @Deprecated
     List<Transaction> loadTransactionsByAccount(Long accountId);
 
     /**
-     * 계좌 ID로 거래 내역을 페이지롌이션하여 조회한다
+     * 계좌 ID로 거래 내역을 페이지네이션하여 조회한다
      *
      * @param accountId 계좌 ID
      * @param page 페이지 번호 (0부터 시작)
@@ -37,4 +47,45 @@ public interface LoadTransactionPort {
      * @return 거래 내역 목록
      */
     List<Transaction> loadTransactionsByAccount(Long accountId, int page, int size);
+
+    /**
+     * 계좌 ID로 거래 내역을 최신순 키셋 페이지네이션으로 조회한다
+     * (처리 일시, 거래 ID) 커서보다 이전 거래만 조회하므로 페이지 깊이와 관계없이 일정한 비용으로 조회한다.
+     *
+     * @param accountId 계좌 ID
+     * @param cursor 직전 페이지 마지막 거래 커서 (첫 페이지면 null)
+     * @param limit 최대 조회 건수
+     * @return 거래 요약 목록 (처리 일시, 거래 ID 내림차순)
+     */
+    List<TransactionSummary> loadTransactionHistory(Long accountId, TransactionCursor cursor, int limit);
+
+    /**
+     * 계좌의 가치일 구간 거래를 가치일, 거래 ID 오름차순으로 하나씩 읽어 전달한다
+     * 결과를 목록으로 모으지 않고 전진 전용 커서로 읽으므로 거래 수와 관계없이 메모리 사용량이 일정하다.
+     * 커서가 열려 있는 동안 트랜잭션이 유지되어야 하므로 트랜잭션 안에서 호출해야 한다.
+     *
+     * @param accountId 계좌 ID
+     * @param fromValueDate 조회 시작 가치일 (포함)
+     * @param toValueDate 조회 종료 가치일 (포함)
+     * @param action 거래 요약마다 실행할 동작
+     */
+    void forEachStatementLine(Long accountId, LocalDate fromValueDate, LocalDate toValueDate,
+                              Consumer<TransactionSummary> action);
+
+    /**
+     * 거래 내역 목록 조회용 거래 요약
+     */
+    record TransactionSummary(
+        TransactionId transactionId,
+        Long accountId,
+        TransactionType transactionType,
+        TransactionDirection direction,
+        MoneyWon amount,
+        MoneyWon balanceAfter,
+        LocalDate valueDate,
+        Instant postedAt,
+        TransactionStatus status,
+        String description
+    ) {
+    }
 }
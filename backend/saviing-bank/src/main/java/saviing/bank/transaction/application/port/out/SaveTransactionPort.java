@@ -1,5 +1,7 @@
 package saviing.bank.transaction.application.port.out;
 
+import java.util.List;
+
 import saviing.bank.transaction.domain.model.Transaction;
 import saviing.bank.transaction.domain.vo.TransactionId;
 
@@ -23,4 +25,31 @@ public interface SaveTransactionPort {
      * @param transaction 업데이트할 거래 엔티티
      */
     void updateTransaction(Transaction transaction);
+
+    /**
+     * 송금의 출금/입금 거래 쌍을 한 번에 저장하고 서로 연관시킨다.
+     * INSERT는 커밋 시점에 배치로 묶이고, 일별 잔액 스냅샷도 한 번의 배치로 누적한다.
+     *
+     * @param pairs 저장할 거래 쌍 (같은 계좌의 거래는 잔액 반영 순서대로 전달해야 한다)
+     * @return 입력 순서대로 저장된 거래 ID 쌍
+     */
+    List<TransferTransactionIds> saveTransferTransactions(List<TransferTransactions> pairs);
+
+    /**
+     * 한 송금의 출금/입금 거래 쌍
+     *
+     * @param debit 출금 거래
+     * @param credit 입금 거래
+     */
+    record TransferTransactions(Transaction debit, Transaction credit) {
+    }
+
+    /**
+     * 저장된 출금/입금 거래 ID 쌍
+     *
+     * @param debitTransactionId 출금 거래 ID
+     * @param creditTransactionId 입금 거래 ID
+     */
+    record TransferTransactionIds(TransactionId debitTransactionId, TransactionId creditTransactionId) {
+    }
 }
\ No newline at end of file
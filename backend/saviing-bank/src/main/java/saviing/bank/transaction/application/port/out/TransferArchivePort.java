@@ -0,0 +1,70 @@
+package saviing.bank.transaction.application.port.out;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 송금 보관 배치 포트
+ * 보관 기간이 지난 종료 상태 송금과 그 원장 엔트리/거래를 보관 테이블로 옮기고, 진행 체크포인트를 관리한다.
+ */
+public interface TransferArchivePort {
+
+    /**
+     * 보관 대상 송금 ID를 송금 ID 기준 키셋 페이지네이션으로 조회한다
+     * 종료 상태이면서 지정한 시각 이전에 마지막으로 갱신된 송금만 대상이며, 보상에 실패한 송금은 확인이 필요하므로 제외한다.
+     *
+     * @param updatedBefore 이 시각 이전에 마지막으로 갱신된 송금만 조회
+     * @param afterTransferId 이 ID보다 큰 송금부터 조회
+     * @param limit 최대 조회 건수
+     * @return 보관 대상 송금 ID 목록 (오름차순)
+     */
+    List<Long> findArchivableTransferIds(Instant updatedBefore, long afterTransferId, int limit);
+
+    /**
+     * 송금과 그 원장 엔트리, 원장 엔트리에 연결된 거래를 보관 테이블로 복사한 뒤 원본 테이블에서 삭제한다
+     * 호출 측 트랜잭션 안에서 복사와 삭제가 함께 커밋된다.
+     *
+     * @param transferIds 보관할 송금 ID 목록
+     * @param archivedAt 보관 시각
+     * @return 옮긴 행 수
+     */
+    ArchivedRows archiveTransfers(List<Long> transferIds, Instant archivedAt);
+
+    /**
+     * 작업의 체크포인트를 잠금과 함께 조회한다
+     * 기록이 있으면 호출 측 트랜잭션이 끝날 때까지 행을 잠가 여러 노드의 같은 작업이 한 묶음씩 번갈아 진행하게 한다.
+     *
+     * @param jobName 작업 이름
+     * @return 현재 회차에서 마지막으로 처리한 키 (기록이 없으면 0)
+     */
+    long loadCheckpoint(String jobName);
+
+    /**
+     * 작업의 체크포인트를 기록한다
+     *
+     * @param jobName 작업 이름
+     * @param lastId 현재 회차에서 마지막으로 처리한 키 (회차가 끝나면 0)
+     * @param updatedAt 기록 시각
+     */
+    void saveCheckpoint(String jobName, long lastId, Instant updatedAt);
+
+    /**
+     * 보관 테이블로 옮긴 행 수
+     *
+     * @param transfers 송금 수
+     * @param ledgerEntries 원장 엔트리 수
+     * @param transactions 거래 수
+     */
+    record ArchivedRows(int transfers, int ledgerEntries, int transactions) {
+
+        public static final ArchivedRows EMPTY = new ArchivedRows(0, 0, 0);
+
+        public ArchivedRows plus(ArchivedRows other) {
+            return new ArchivedRows(
+                transfers + other.transfers,
+                ledgerEntries + other.ledgerEntries,
+                transactions + other.transactions
+            );
+        }
+    }
+}
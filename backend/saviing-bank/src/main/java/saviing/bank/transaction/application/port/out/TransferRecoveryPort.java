@@ -0,0 +1,35 @@
+package saviing.bank.transaction.application.port.out;
+
+import java.time.Instant;
+import java.util.List;
+
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+
+/**
+ * 정체 송금 복구 배치 포트
+ * 오래 종료되지 않은 송금을 복구 대상으로 조회한다.
+ */
+public interface TransferRecoveryPort {
+
+    /**
+     * 지정한 시각 이전부터 종료 상태가 아닌 송금을 송금 ID 기준 키셋 페이지네이션으로 조회한다
+     * 복구는 멱등 키로 송금을 잠그므로 멱등 키가 있는 송금만 조회한다.
+     *
+     * @param updatedBefore 이 시각 이전에 마지막으로 갱신된 송금만 조회
+     * @param afterTransferId 이 ID보다 큰 송금부터 조회
+     * @param limit 최대 조회 건수
+     * @return 복구 대상 송금 목록 (송금 ID 오름차순)
+     */
+    List<StuckTransfer> findStuckTransfers(Instant updatedBefore, long afterTransferId, int limit);
+
+    /**
+     * 복구 대상 송금
+     *
+     * @param transferId 송금 ID
+     * @param status 조회 시점의 송금 상태
+     * @param sourceAccountId 출금 계좌 ID
+     * @param idempotencyKey 멱등 키
+     */
+    record StuckTransfer(long transferId, TransferStatus status, long sourceAccountId, String idempotencyKey) {
+    }
+}
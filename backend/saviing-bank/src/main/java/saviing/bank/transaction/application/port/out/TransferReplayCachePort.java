@@ -0,0 +1,32 @@
+package saviing.bank.transaction.application.port.out;
+
+import java.util.Optional;
+
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+
+/**
+ * 완료된 송금의 멱등 재호출 응답 캐시 포트
+ * 최근 완료된 송금 키를 기억해 재시도 요청을 원장 조회 없이 응답할 수 있도록 한다.
+ */
+public interface TransferReplayCachePort {
+
+    /**
+     * 완료된 송금의 최종 상태를 조회한다
+     *
+     * @param sourceAccountId 출금 계좌 ID
+     * @param idempotencyKey 멱등키
+     * @return 완료된 송금의 최종 상태 (캐시에 없으면 empty)
+     */
+    Optional<TransferStatus> findCompletedStatus(Long sourceAccountId, IdempotencyKey idempotencyKey);
+
+    /**
+     * 완료된 송금의 최종 상태를 기록한다
+     * 호출자는 송금 결과가 커밋된 이후에만 호출해야 한다.
+     *
+     * @param sourceAccountId 출금 계좌 ID
+     * @param idempotencyKey 멱등키
+     * @param status 최종 상태 (SETTLED/FAILED)
+     */
+    void putCompletedStatus(Long sourceAccountId, IdempotencyKey idempotencyKey, TransferStatus status);
+}
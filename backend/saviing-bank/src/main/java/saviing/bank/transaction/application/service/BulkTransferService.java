@@ -0,0 +1,316 @@
+package saviing.bank.transaction.application.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import saviing.bank.account.api.AccountInternalApi;
+import saviing.bank.account.api.request.ApplyBulkTransferRequest;
+import saviing.bank.account.api.response.AccountApiResponse;
+import saviing.bank.account.api.response.AccountInfoResponse;
+import saviing.bank.account.api.response.ApplyBulkTransferResponse;
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.in.BulkTransferUseCase;
+import saviing.bank.transaction.application.port.in.command.BulkTransferCommand;
+import saviing.bank.transaction.application.port.in.result.BulkTransferResult;
+import saviing.bank.transaction.application.port.in.result.BulkTransferResult.LegResult;
+import saviing.bank.transaction.application.port.in.result.TransferResult;
+import saviing.bank.transaction.application.port.out.LedgerPersistencePort;
+import saviing.bank.transaction.application.port.out.LoadCustomerNamePort;
+import saviing.bank.transaction.application.port.out.SaveTransactionPort;
+import saviing.bank.transaction.application.port.out.SaveTransactionPort.TransferTransactionIds;
+import saviing.bank.transaction.application.port.out.SaveTransactionPort.TransferTransactions;
+import saviing.bank.transaction.application.port.out.TransferReplayCachePort;
+import saviing.bank.transaction.domain.model.Transaction;
+import saviing.bank.transaction.domain.model.TransactionDirection;
+import saviing.bank.transaction.domain.model.TransactionType;
+import saviing.bank.transaction.domain.model.transfer.Transfer;
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+import saviing.bank.transaction.domain.service.TransferDomainService;
+import saviing.bank.transaction.domain.vo.AccountSnapshot;
+import saviing.bank.transaction.domain.vo.AccountStatusSnapshot;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+import saviing.bank.transaction.exception.AccountApiCallException;
+import saviing.bank.transaction.exception.TransferValidationException;
+import saviing.common.annotation.ExecutionTime;
+
+/**
+ * 한 출금 계좌에서 여러 입금 계좌로의 송금을 한 트랜잭션에서 처리하는 일괄 송금 서비스.
+ *
+ * <p>건마다 송금 유즈케이스를 반복 호출하는 대신 다음을 한 번씩만 수행한다.</p>
+ * <ul>
+ *     <li>건별 멱등 키에 해당하는 기존 Transfer를 한 번의 잠금 조회로 확인</li>
+ *     <li>Account BC에 한 번 호출해 관련 계좌를 ID 오름차순으로 한 번에 잠그고,
+ *         출금 계좌에는 반영 건 합계를, 입금 계좌에는 계좌별 합산 금액을 한 번씩 반영</li>
+ *     <li>거래/Transfer/원장 엔트리를 플러시 없이 영속화해 커밋 시점에 JDBC 배치로 INSERT</li>
+ * </ul>
+ *
+ * <p>잔액 부족이나 입금 계좌 상태로 반영되지 않은 건은 해당 건만 FAILED로 기록하고 나머지는 계속 처리한다.
+ * 잠금 경합으로 롤백되면 {@link TransferRetryExecutor}가 트랜잭션 전체를 다시 실행한다.</p>
+ */
+@Slf4j
+@ExecutionTime
+@Service
+@RequiredArgsConstructor
+public class BulkTransferService implements BulkTransferUseCase {
+
+    private static final String UNKNOWN_CUSTOMER_NAME = "(알 수 없음)";
+
+    private final LedgerPersistencePort ledgerPersistencePort;
+    private final SaveTransactionPort saveTransactionPort;
+    private final LoadCustomerNamePort loadCustomerNamePort;
+    private final AccountInternalApi accountInternalApi;
+    private final TransferReplayCachePort transferReplayCachePort;
+    private final TransferDomainService transferDomainService;
+    private final TransferRetryExecutor transferRetryExecutor;
+    private final TransactionTemplate txTemplate;
+
+    @Value("${transfer.bulk.max-legs:100}")
+    private int maxLegs;
+
+    /**
+     * 일괄 송금 명령을 처리한다. 요청 전체 검증 실패는 예외로, 건별 실패는 결과의 FAILED 건으로 반환한다.
+     *
+     * @param command 일괄 송금 요청 정보
+     * @return 요청 순서대로의 건별 송금 결과
+     */
+    @Override
+    public BulkTransferResult bulkTransfer(BulkTransferCommand command) {
+        validateCommand(command);
+        return transferRetryExecutor.execute(() -> txTemplate.execute(status -> process(command)));
+    }
+
+    private BulkTransferResult process(BulkTransferCommand command) {
+        Long sourceAccountId = command.sourceAccountId();
+        List<BulkTransferCommand.Leg> legs = command.legs();
+
+        // 같은 멱등 키로 이미 처리된 건은 한 번의 잠금 조회로 찾아 기존 결과를 돌려준다.
+        Map<IdempotencyKey, Transfer> existing = ledgerPersistencePort.lockAllBySourceAccountIdAndIdempotencyKeys(
+                sourceAccountId,
+                legs.stream().map(BulkTransferCommand.Leg::idempotencyKey).toList()
+            )
+            .stream()
+            .collect(Collectors.toMap(Transfer::getIdempotencyKey, Function.identity()));
+
+        LegResult[] results = new LegResult[legs.size()];
+        List<Integer> newLegIndexes = new ArrayList<>();
+        for (int i = 0; i < legs.size(); i++) {
+            Transfer replayed = existing.get(legs.get(i).idempotencyKey());
+            if (replayed != null) {
+                results[i] = new LegResult(i, true, TransferResult.from(replayed.toSnapshot()));
+            } else {
+                newLegIndexes.add(i);
+            }
+        }
+        if (newLegIndexes.isEmpty()) {
+            log.info("일괄 송금 멱등 재호출 감지: sourceAccountId={}, legs={}", sourceAccountId, legs.size());
+            return BulkTransferResult.of(sourceAccountId, List.of(results));
+        }
+
+        log.info("일괄 송금 시작: sourceAccountId={}, legs={}, newLegs={}",
+            sourceAccountId, legs.size(), newLegIndexes.size());
+        ApplyBulkTransferResponse balanceUpdate = applyBulkTransfer(command, newLegIndexes);
+        AccountInfoResponse source = balanceUpdate.source();
+        Map<Long, String> customerNames = loadCustomerNames(source, balanceUpdate.legs());
+        String senderName = customerName(source.customerId(), customerNames);
+
+        Instant now = Instant.now();
+        List<Transfer> transfers = new ArrayList<>(newLegIndexes.size());
+        List<TransferTransactions> transactions = new ArrayList<>();
+        List<Transfer> settled = new ArrayList<>();
+        for (int i = 0; i < newLegIndexes.size(); i++) {
+            BulkTransferCommand.Leg leg = legs.get(newLegIndexes.get(i));
+            ApplyBulkTransferResponse.LegResult legResult = balanceUpdate.legs().get(i);
+            Transfer transfer = Transfer.create(
+                sourceAccountId,
+                leg.targetAccountId(),
+                leg.amount(),
+                command.valueDate(),
+                command.transferType(),
+                leg.idempotencyKey(),
+                now
+            );
+            transfers.add(transfer);
+
+            if (!legResult.applied()) {
+                transfer.markFailed("일괄 송금 반영 거절: " + legResult.rejectReason(), now);
+                continue;
+            }
+
+            // 반영 전 스냅샷으로 검증한다. 검증이 실패하면 트랜잭션 롤백으로 모든 건의 잔액이 함께 원복된다.
+            transferDomainService.validatePreconditions(
+                toAccountSnapshot(source, legResult.sourceBalanceAfter() + leg.amount().amount()),
+                toAccountSnapshot(legResult.target(), legResult.targetBalanceAfter() - leg.amount().amount()),
+                leg.amount(),
+                command.valueDate(),
+                command.transferType()
+            );
+
+            String recipientName = customerName(legResult.target().customerId(), customerNames);
+            String depositDescription = (leg.memo() != null && !leg.memo().trim().isEmpty())
+                ? leg.memo()
+                : senderName;
+            transactions.add(new TransferTransactions(
+                Transaction.create(
+                    sourceAccountId,
+                    TransactionType.TRANSFER_OUT,
+                    TransactionDirection.DEBIT,
+                    leg.amount(),
+                    MoneyWon.of(legResult.sourceBalanceAfter()),
+                    command.valueDate(),
+                    now,
+                    recipientName
+                ),
+                Transaction.create(
+                    leg.targetAccountId(),
+                    TransactionType.TRANSFER_IN,
+                    TransactionDirection.CREDIT,
+                    leg.amount(),
+                    MoneyWon.of(legResult.targetBalanceAfter()),
+                    command.valueDate(),
+                    now,
+                    depositDescription
+                )
+            ));
+            settled.add(transfer);
+        }
+
+        List<TransferTransactionIds> transactionIds = saveTransactionPort.saveTransferTransactions(transactions);
+        for (int i = 0; i < settled.size(); i++) {
+            Transfer transfer = settled.get(i);
+            TransferTransactionIds ids = transactionIds.get(i);
+            transfer.markEntryPosted(TransactionDirection.DEBIT, ids.debitTransactionId(), now);
+            transfer.markEntryPosted(TransactionDirection.CREDIT, ids.creditTransactionId(), now);
+            transfer.markSettled(now);
+        }
+
+        List<Transfer> saved = ledgerPersistencePort.saveAll(transfers);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = newLegIndexes.get(i);
+            Transfer transfer = saved.get(i);
+            results[index] = new LegResult(index, false, TransferResult.from(transfer.toSnapshot()));
+            cacheAfterCommit(sourceAccountId, transfer.getIdempotencyKey(), transfer.getStatus());
+        }
+
+        BulkTransferResult result = BulkTransferResult.of(sourceAccountId, List.of(results));
+        log.info("일괄 송금 완료: sourceAccountId={}, settled={}, failed={}, replayed={}",
+            sourceAccountId, result.settledCount(), result.failedCount(), result.replayedCount());
+        return result;
+    }
+
+    /**
+     * 건수 상한, 멱등 키 유무와 요청 내 중복, 출금/입금 계좌 동일 여부를 검증한다.
+     */
+    private void validateCommand(BulkTransferCommand command) {
+        List<BulkTransferCommand.Leg> legs = command.legs();
+        if (legs.isEmpty() || legs.size() > maxLegs) {
+            throw new TransferValidationException(
+                "일괄 송금 건수가 허용 범위를 벗어났습니다",
+                Map.of("legs", legs.size(), "maxLegs", maxLegs)
+            );
+        }
+
+        Set<IdempotencyKey> keys = new HashSet<>();
+        for (int i = 0; i < legs.size(); i++) {
+            BulkTransferCommand.Leg leg = legs.get(i);
+            if (leg.idempotencyKey() == null) {
+                throw new TransferValidationException(
+                    "멱등성 키가 필요합니다",
+                    Map.of("sourceAccountId", command.sourceAccountId(), "legIndex", i)
+                );
+            }
+            if (!keys.add(leg.idempotencyKey())) {
+                throw new TransferValidationException(
+                    "요청 안에 중복된 멱등성 키가 있습니다",
+                    Map.of("idempotencyKey", leg.idempotencyKey().value(), "legIndex", i)
+                );
+            }
+            if (leg.targetAccountId().equals(command.sourceAccountId())) {
+                throw new TransferValidationException(
+                    "출금 계좌와 입금 계좌가 같습니다",
+                    Map.of("sourceAccountId", command.sourceAccountId(), "legIndex", i)
+                );
+            }
+            if (!leg.amount().isPositive()) {
+                throw new TransferValidationException(
+                    "송금 금액은 0보다 커야 합니다",
+                    Map.of("amount", leg.amount().amount(), "legIndex", i)
+                );
+            }
+        }
+    }
+
+    /**
+     * AccountInternalApi를 한 번 호출해 새 건들의 출금/입금을 반영하고 건별 결과를 받는다.
+     */
+    private ApplyBulkTransferResponse applyBulkTransfer(BulkTransferCommand command, List<Integer> legIndexes) {
+        List<ApplyBulkTransferRequest.Leg> requestLegs = legIndexes.stream()
+            .map(command.legs()::get)
+            .map(leg -> ApplyBulkTransferRequest.Leg.of(leg.targetAccountId(), leg.amount().amount()))
+            .toList();
+        AccountApiResponse<ApplyBulkTransferResponse> response = accountInternalApi.applyBulkTransfer(
+            ApplyBulkTransferRequest.of(command.sourceAccountId(), requestLegs)
+        );
+        if (response instanceof AccountApiResponse.Success<ApplyBulkTransferResponse>(ApplyBulkTransferResponse data)) {
+            return data;
+        }
+        throw new AccountApiCallException(
+            "일괄 이체 반영에 실패했습니다",
+            Map.of("sourceAccountId", command.sourceAccountId(), "legs", requestLegs.size())
+        );
+    }
+
+    /**
+     * 송금자와 반영된 건의 수취인 이름을 한 번에 조회한다.
+     */
+    private Map<Long, String> loadCustomerNames(
+        AccountInfoResponse source,
+        List<ApplyBulkTransferResponse.LegResult> legResults
+    ) {
+        Set<Long> customerIds = new HashSet<>();
+        customerIds.add(source.customerId());
+        legResults.stream()
+            .filter(ApplyBulkTransferResponse.LegResult::applied)
+            .forEach(legResult -> customerIds.add(legResult.target().customerId()));
+        return loadCustomerNamePort.loadCustomerNames(customerIds);
+    }
+
+    private String customerName(Long customerId, Map<Long, String> names) {
+        return names.getOrDefault(customerId, UNKNOWN_CUSTOMER_NAME);
+    }
+
+    private AccountSnapshot toAccountSnapshot(AccountInfoResponse data, long balance) {
+        return new AccountSnapshot(
+            data.accountId(),
+            data.customerId(),
+            MoneyWon.of(balance),
+            AccountStatusSnapshot.from(data.status())
+        );
+    }
+
+    /**
+     * 송금 결과가 커밋된 뒤에 재호출 캐시에 기록한다. 롤백된 결과가 캐시에 남지 않도록 커밋 이후로 미룬다.
+     */
+    private void cacheAfterCommit(Long sourceAccountId, IdempotencyKey idempotencyKey, TransferStatus status) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                transferReplayCachePort.putCompletedStatus(sourceAccountId, idempotencyKey, status);
+            }
+        });
+    }
+}
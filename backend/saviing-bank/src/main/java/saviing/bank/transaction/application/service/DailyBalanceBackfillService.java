@@ -0,0 +1,101 @@
+package saviing.bank.transaction.application.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import saviing.bank.transaction.application.port.out.DailyBalancePort;
+
+/**
+ * 기존 거래로 계좌 일별 잔액 스냅샷을 채우는 배치 서비스.
+ * 거래가 있는 계좌를 ID 기준 키셋 페이지네이션으로 나눠 읽고, 계좌마다 별도 트랜잭션에서 스냅샷을 다시 만든다.
+ * 오늘 거래는 거래 저장 시 누적되는 중이므로 어제 가치일까지만 재구성한다.
+ *
+ * <p>스냅샷 도입 전 거래를 채우기 위한 작업이므로 기본적으로 꺼져 있으며, 배포 직후 한 번 켜서 실행한다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyBalanceBackfillService {
+
+    private static final String METRIC_PREFIX = "daily_balance.backfill";
+
+    private final TransactionTemplate txTemplate;
+    private final DailyBalancePort dailyBalancePort;
+    private final MeterRegistry meterRegistry;
+    @Value("${daily-balance.backfill.enabled:false}")
+    private boolean enabled;
+    @Value("${daily-balance.backfill.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 어제 가치일까지 일별 잔액 스냅샷을 재구성한다.
+     *
+     * @implNote 기본 실행 시각은 매일 02:00이며, {@code daily-balance.backfill.cron} 프로퍼티로 조정할 수 있다.
+     */
+    @Scheduled(cron = "${daily-balance.backfill.cron:0 0 2 * * *}")
+    public void backfillDailyBalances() {
+        if (!enabled) {
+            return;
+        }
+        backfill(LocalDate.now().minusDays(1));
+    }
+
+    /**
+     * 거래가 있는 모든 계좌의 일별 잔액 스냅샷을 지정한 가치일까지 재구성한다.
+     *
+     * @param throughValueDate 재구성할 마지막 가치일 (포함)
+     */
+    public void backfill(LocalDate throughValueDate) {
+        int limit = Math.max(1, chunkSize);
+        long lastAccountId = 0L;
+        long accounts = 0;
+        long days = 0;
+        long startedAt = System.nanoTime();
+        while (true) {
+            List<Long> accountIds = dailyBalancePort.findAccountIdsWithTransactions(lastAccountId, limit);
+            if (accountIds.isEmpty()) {
+                break;
+            }
+            for (Long accountId : accountIds) {
+                Integer rebuilt = txTemplate.execute(
+                    status -> dailyBalancePort.rebuildDailyBalances(accountId, throughValueDate));
+                days += rebuilt != null ? rebuilt : 0;
+            }
+            accounts += accountIds.size();
+            lastAccountId = accountIds.get(accountIds.size() - 1);
+            if (accountIds.size() < limit) {
+                break;
+            }
+        }
+        recordRunMetrics(throughValueDate, accounts, days, Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * 실행 결과를 메트릭으로 기록하고 처리량을 로그로 남긴다.
+     */
+    private void recordRunMetrics(LocalDate throughValueDate, long accounts, long days, Duration elapsed) {
+        Timer.builder(METRIC_PREFIX + ".run.duration")
+            .register(meterRegistry)
+            .record(elapsed);
+        meterRegistry.counter(METRIC_PREFIX + ".accounts").increment(accounts);
+        meterRegistry.counter(METRIC_PREFIX + ".days").increment(days);
+
+        log.info("일별 잔액 스냅샷 재구성 완료. through={}, accounts={}, days={}, elapsedMs={}",
+            throughValueDate,
+            accounts,
+            days,
+            elapsed.toMillis()
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package saviing.bank.transaction.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import saviing.bank.transaction.application.port.out.LedgerReconciliationPort.TransferFinding;
+
+/**
+ * 원장 대사 배치 실행 결과.
+ * 건수는 전체를 세고, 상세 목록은 설정한 개수까지만 담는다.
+ *
+ * @param startedAt 실행 시작 시각
+ * @param elapsed 실행 소요 시간
+ * @param accountsScanned 대사한 계좌 수
+ * @param balanceMismatchCount 잔액이 확정 거래 합계와 다른 계좌 수
+ * @param ledgerMismatchCount 확정 원장 합계가 송금 거래 합계와 다른 계좌 수
+ * @param stuckTransferCount 종료 상태에 이르지 못하고 정체된 송금 수
+ * @param compensationFailureCount 보상 처리에 실패한 송금 수
+ * @param mismatches 불일치 계좌 상세 (최대 보고 개수까지)
+ * @param stuckTransfers 정체된 송금 상세 (최대 보고 개수까지)
+ * @param compensationFailures 보상 실패 송금 상세 (최대 보고 개수까지)
+ */
+public record LedgerReconciliationReport(
+    Instant startedAt,
+    Duration elapsed,
+    long accountsScanned,
+    long balanceMismatchCount,
+    long ledgerMismatchCount,
+    long stuckTransferCount,
+    long compensationFailureCount,
+    List<AccountMismatch> mismatches,
+    List<TransferFinding> stuckTransfers,
+    List<TransferFinding> compensationFailures
+) {
+
+    /**
+     * 발견한 문제가 하나도 없는지 확인한다
+     *
+     * @return 불일치, 정체, 보상 실패가 모두 없으면 true
+     */
+    public boolean isClean() {
+        return balanceMismatchCount == 0
+            && ledgerMismatchCount == 0
+            && stuckTransferCount == 0
+            && compensationFailureCount == 0;
+    }
+
+    /**
+     * 대사에서 불일치가 확인된 계좌
+     *
+     * @param accountId 계좌 ID
+     * @param balance 계좌 잔액
+     * @param transactionNetAmount 확정 거래 순증감 합계
+     * @param transferNetAmount 송금 입출금 거래 순증감 합계
+     * @param ledgerNetAmount 확정 원장 엔트리 순증감 합계
+     */
+    public record AccountMismatch(
+        long accountId,
+        long balance,
+        long transactionNetAmount,
+        long transferNetAmount,
+        long ledgerNetAmount
+    ) {
+
+        public boolean isBalanceMismatch() {
+            return balance != transactionNetAmount;
+        }
+
+        public boolean isLedgerMismatch() {
+            return transferNetAmount != ledgerNetAmount;
+        }
+    }
+}
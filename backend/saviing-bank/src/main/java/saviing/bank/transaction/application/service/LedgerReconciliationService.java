@@ -0,0 +1,316 @@
+package saviing.bank.transaction.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import saviing.bank.transaction.application.port.out.LedgerReconciliationPort;
+import saviing.bank.transaction.application.port.out.LedgerReconciliationPort.AccountBalance;
+import saviing.bank.transaction.application.port.out.LedgerReconciliationPort.TransactionTotals;
+import saviing.bank.transaction.application.port.out.LedgerReconciliationPort.TransferFinding;
+import saviing.bank.transaction.application.service.LedgerReconciliationReport.AccountMismatch;
+
+/**
+ * 계좌 잔액과 확정 거래/원장 합계를 대사하는 배치 서비스.
+ * 계좌를 ID 기준 키셋 페이지네이션으로 나눠 읽고, 묶음마다 같은 계좌 ID 구간의 거래/원장 합계를 그룹 쿼리 한 번씩으로 집계한 뒤
+ * 전용 {@link ForkJoinPool}에서 병렬로 비교한다. 묶음 단위로만 메모리에 올리므로 전체 행 수와 무관하게 일정한 메모리로 끝난다.
+ *
+ * <p>대사 규칙은 두 가지다.</p>
+ * <ul>
+ *     <li>계좌 잔액 = 확정(POSTED) 거래의 입금 - 출금 합계. 이자, 보상(REVERSAL) 거래를 포함한 모든 잔액 변동이 거래로 남는다.</li>
+ *     <li>확정 원장 엔트리의 순증감 = 송금 입출금(TRANSFER_IN/TRANSFER_OUT) 거래의 순증감. 원장은 송금만 기록한다.</li>
+ * </ul>
+ *
+ * <p>묶음의 세 조회는 하나의 읽기 전용 REPEATABLE READ 트랜잭션에서 같은 스냅샷으로 읽는다.
+ * 불일치 후보는 새 스냅샷에서 한 번 더 확인한 뒤에만 보고해 진행 중인 송금으로 인한 오탐을 줄인다.
+ * 이와 함께 오래 종료되지 않은 송금과 보상 처리에 실패한 송금을 찾아 보고서와 메트릭으로 남긴다.</p>
+ */
+@Slf4j
+@Service
+public class LedgerReconciliationService {
+
+    private static final String METRIC_PREFIX = "ledger_reconciliation";
+
+    private final LedgerReconciliationPort ledgerReconciliationPort;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    @Value("${ledger-reconciliation.enabled:true}")
+    private boolean enabled;
+    @Value("${ledger-reconciliation.chunk-size:1000}")
+    private int chunkSize;
+    @Value("${ledger-reconciliation.parallelism:0}")
+    private int parallelism;
+    @Value("${ledger-reconciliation.stuck-transfer-minutes:30}")
+    private long stuckTransferMinutes;
+    @Value("${ledger-reconciliation.max-reported-findings:100}")
+    private int maxReportedFindings;
+
+    private volatile LedgerReconciliationReport lastReport;
+
+    public LedgerReconciliationService(
+        LedgerReconciliationPort ledgerReconciliationPort,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.ledgerReconciliationPort = ledgerReconciliationPort;
+        this.transactionManager = transactionManager;
+        this.meterRegistry = meterRegistry;
+        registerLastRunGauge("balance_mismatch", LedgerReconciliationReport::balanceMismatchCount);
+        registerLastRunGauge("ledger_mismatch", LedgerReconciliationReport::ledgerMismatchCount);
+        registerLastRunGauge("stuck_transfer", LedgerReconciliationReport::stuckTransferCount);
+        registerLastRunGauge("compensation_failure", LedgerReconciliationReport::compensationFailureCount);
+    }
+
+    /**
+     * 원장 대사를 실행한다.
+     *
+     * @implNote 기본 실행 시각은 매일 04:00이며, {@code ledger-reconciliation.cron} 프로퍼티로 조정할 수 있다.
+     */
+    @Scheduled(cron = "${ledger-reconciliation.cron:0 0 4 * * *}")
+    public void reconcileDaily() {
+        if (!enabled) {
+            return;
+        }
+        reconcile();
+    }
+
+    /**
+     * 모든 계좌를 대사하고 정체/보상 실패 송금을 찾아 보고서를 만든다.
+     *
+     * @return 대사 결과 보고서
+     */
+    public LedgerReconciliationReport reconcile() {
+        Instant startedAt = Instant.now();
+        long startedNanos = System.nanoTime();
+        int limit = Math.max(1, chunkSize);
+        int maxReported = Math.max(0, maxReportedFindings);
+        TransactionTemplate snapshotTemplate = snapshotTemplate();
+
+        long accountsScanned = 0;
+        long balanceMismatches = 0;
+        long ledgerMismatches = 0;
+        List<AccountMismatch> reportedMismatches = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        try {
+            long lastAccountId = 0L;
+            while (true) {
+                long afterAccountId = lastAccountId;
+                AccountChunk chunk = snapshotTemplate.execute(status -> loadChunk(afterAccountId, limit));
+                if (chunk == null || chunk.accounts().isEmpty()) {
+                    break;
+                }
+                List<AccountMismatch> candidates = pool.submit(() -> chunk.accounts().parallelStream()
+                    .map(chunk::compare)
+                    .filter(Objects::nonNull)
+                    .toList()
+                ).join();
+
+                for (AccountMismatch candidate : candidates) {
+                    AccountMismatch confirmed = snapshotTemplate.execute(status -> recheck(candidate.accountId()));
+                    if (confirmed == null) {
+                        continue;
+                    }
+                    balanceMismatches += confirmed.isBalanceMismatch() ? 1 : 0;
+                    ledgerMismatches += confirmed.isLedgerMismatch() ? 1 : 0;
+                    if (reportedMismatches.size() < maxReported) {
+                        reportedMismatches.add(confirmed);
+                        log.warn("원장 대사 불일치: {}", confirmed);
+                    }
+                }
+
+                accountsScanned += chunk.accounts().size();
+                lastAccountId = chunk.accounts().get(chunk.accounts().size() - 1).accountId();
+                if (chunk.accounts().size() < limit) {
+                    break;
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        Instant stuckBefore = startedAt.minus(Duration.ofMinutes(stuckTransferMinutes));
+        List<TransferFinding> stuckTransfers = new ArrayList<>();
+        long stuckTransferCount = scanTransfers(
+            afterId -> ledgerReconciliationPort.findStuckTransfers(stuckBefore, afterId, limit),
+            limit, maxReported, stuckTransfers, "정체된 송금");
+        List<TransferFinding> compensationFailures = new ArrayList<>();
+        long compensationFailureCount = scanTransfers(
+            afterId -> ledgerReconciliationPort.findCompensationFailures(afterId, limit),
+            limit, maxReported, compensationFailures, "보상 실패 송금");
+
+        LedgerReconciliationReport report = new LedgerReconciliationReport(
+            startedAt,
+            Duration.ofNanos(System.nanoTime() - startedNanos),
+            accountsScanned,
+            balanceMismatches,
+            ledgerMismatches,
+            stuckTransferCount,
+            compensationFailureCount,
+            List.copyOf(reportedMismatches),
+            List.copyOf(stuckTransfers),
+            List.copyOf(compensationFailures)
+        );
+        lastReport = report;
+        recordRunMetrics(report);
+        return report;
+    }
+
+    /**
+     * 마지막 실행 보고서를 반환한다.
+     *
+     * @return 마지막 보고서 (아직 실행 전이면 null)
+     */
+    public LedgerReconciliationReport getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 계좌 묶음과 같은 계좌 ID 구간의 거래/원장 합계를 읽는다.
+     */
+    private AccountChunk loadChunk(long afterAccountId, int limit) {
+        List<AccountBalance> accounts = ledgerReconciliationPort.findAccountBalances(afterAccountId, limit);
+        if (accounts.isEmpty()) {
+            return new AccountChunk(accounts, Map.of(), Map.of());
+        }
+        long fromAccountId = accounts.get(0).accountId();
+        long toAccountId = accounts.get(accounts.size() - 1).accountId();
+        return new AccountChunk(
+            accounts,
+            ledgerReconciliationPort.sumPostedTransactions(fromAccountId, toAccountId),
+            ledgerReconciliationPort.sumPostedLedgerEntries(fromAccountId, toAccountId)
+        );
+    }
+
+    /**
+     * 불일치 후보 계좌를 새 스냅샷에서 다시 대사한다.
+     *
+     * @return 여전히 불일치하면 불일치 정보, 해소되었거나 계좌가 없으면 null
+     */
+    private AccountMismatch recheck(long accountId) {
+        return ledgerReconciliationPort.findAccountBalance(accountId)
+            .map(account -> new AccountChunk(
+                List.of(account),
+                ledgerReconciliationPort.sumPostedTransactions(accountId, accountId),
+                ledgerReconciliationPort.sumPostedLedgerEntries(accountId, accountId)
+            ).compare(account))
+            .orElse(null);
+    }
+
+    /**
+     * 송금을 송금 ID 키셋 페이지네이션으로 끝까지 훑으며 건수를 세고, 최대 보고 개수까지 상세를 담는다.
+     */
+    private long scanTransfers(
+        LongFunction<List<TransferFinding>> finder,
+        int limit,
+        int maxReported,
+        List<TransferFinding> reported,
+        String label
+    ) {
+        long count = 0;
+        long lastTransferId = 0L;
+        while (true) {
+            List<TransferFinding> findings = finder.apply(lastTransferId);
+            for (TransferFinding finding : findings) {
+                if (reported.size() < maxReported) {
+                    reported.add(finding);
+                    log.warn("원장 대사 {}: {}", label, finding);
+                }
+            }
+            count += findings.size();
+            if (findings.size() < limit) {
+                return count;
+            }
+            lastTransferId = findings.get(findings.size() - 1).transferId();
+        }
+    }
+
+    private TransactionTemplate snapshotTemplate() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        return template;
+    }
+
+    private void registerLastRunGauge(String finding, ToLongFunction<LedgerReconciliationReport> count) {
+        Gauge.builder(METRIC_PREFIX + ".last_run.findings", this, service -> {
+                LedgerReconciliationReport report = service.lastReport;
+                return report != null ? count.applyAsLong(report) : 0;
+            })
+            .tag("type", finding)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 실행 결과를 메트릭으로 기록하고 요약을 로그로 남긴다.
+     */
+    private void recordRunMetrics(LedgerReconciliationReport report) {
+        Timer.builder(METRIC_PREFIX + ".run.duration")
+            .register(meterRegistry)
+            .record(report.elapsed());
+        meterRegistry.counter(METRIC_PREFIX + ".accounts").increment(report.accountsScanned());
+
+        double seconds = Math.max(report.elapsed().toMillis(), 1) / 1000.0;
+        String summary = "원장 대사 완료. accounts={}, balanceMismatches={}, ledgerMismatches={}, stuckTransfers={}, "
+            + "compensationFailures={}, elapsedMs={}, throughput={} accounts/s";
+        Object[] arguments = {
+            report.accountsScanned(),
+            report.balanceMismatchCount(),
+            report.ledgerMismatchCount(),
+            report.stuckTransferCount(),
+            report.compensationFailureCount(),
+            report.elapsed().toMillis(),
+            String.format("%.1f", report.accountsScanned() / seconds)
+        };
+        if (report.isClean()) {
+            log.info(summary, arguments);
+        } else {
+            log.warn(summary, arguments);
+        }
+    }
+
+    /**
+     * 같은 스냅샷에서 읽은 계좌 묶음과 계좌별 거래/원장 합계.
+     */
+    private record AccountChunk(
+        List<AccountBalance> accounts,
+        Map<Long, TransactionTotals> transactionTotals,
+        Map<Long, Long> ledgerTotals
+    ) {
+
+        /**
+         * 계좌 하나를 대사한다.
+         *
+         * @return 불일치하면 불일치 정보, 일치하면 null
+         */
+        private AccountMismatch compare(AccountBalance account) {
+            TransactionTotals totals = transactionTotals.getOrDefault(account.accountId(), TransactionTotals.EMPTY);
+            long ledgerNetAmount = ledgerTotals.getOrDefault(account.accountId(), 0L);
+            AccountMismatch result = new AccountMismatch(
+                account.accountId(),
+                account.balance(),
+                totals.netAmount(),
+                totals.transferNetAmount(),
+                ledgerNetAmount
+            );
+            return result.isBalanceMismatch() || result.isLedgerMismatch() ? result : null;
+        }
+    }
+}
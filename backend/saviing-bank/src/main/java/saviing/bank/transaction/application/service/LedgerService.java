@@ -2,8 +2,13 @@ package saviing.bank.transaction.application.service;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.HashMap;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,14 +29,23 @@ import java.util.Map;
 /**
  * Transfer 애그리거트의 상태 변이를 담당하는 애플리케이션 서비스.
  * 저장소 접근은 포트를 통해 숨기고 송금 상태 전이를 일관되게 처리한다.
+ *
+ * <p>쓰기 지연 모드({@code transfer.ledger.write-behind-enabled})에서는 트랜잭션 동안 로드한
+ * Transfer 애그리거트를 보관하고, 상태 전이(REQUESTED → DEBIT_POSTED → CREDIT_POSTED → SETTLED)를
+ * 커밋 시점의 한 번의 플러시로 기록한다.
  */
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class LedgerService {
 
+    private static final Object WORKING_SET_KEY = LedgerService.class.getName() + ".WORKING_SET";
+
     private final LedgerPersistencePort ledgerPersistencePort;
 
+    @Value("${transfer.ledger.write-behind-enabled:true}")
+    private boolean writeBehindEnabled;
+
     /**
      * 송금 요청에 대해 Transfer를 조회하거나 새로 생성한다.
      */
@@ -48,9 +62,13 @@ public class LedgerService {
         }
 
         Transfer ledgerPair = null;
+        Map<String, Transfer> workingSet = workingSet();
 
         if (idempotencyKey != null && sourceAccountId != null) {
-            ledgerPair = ledgerPersistencePort.findBySourceAccountIdAndIdempotencyKey(sourceAccountId, idempotencyKey)
+            // 쓰기 지연 모드에서는 이후 상태 전이 시 재잠금하지 않으므로 최초 조회에서 한 번만 잠근다.
+            ledgerPair = (workingSet != null
+                ? ledgerPersistencePort.lockBySourceAccountIdAndIdempotencyKey(sourceAccountId, idempotencyKey)
+                : ledgerPersistencePort.findBySourceAccountIdAndIdempotencyKey(sourceAccountId, idempotencyKey))
                 .orElse(null);
         }
 
@@ -65,6 +83,9 @@ public class LedgerService {
             );
         }
 
+        if (workingSet != null && idempotencyKey != null) {
+            workingSet.put(workingSetKey(sourceAccountId, idempotencyKey), ledgerPair);
+        }
         return ledgerPair.toSnapshot();
     }
 
@@ -104,21 +125,14 @@ public class LedgerService {
         if (sourceAccountId == null) {
             throw new IllegalArgumentException("sourceAccountId must not be null");
         }
-        Transfer ledgerPair = ledgerPersistencePort.findBySourceAccountIdAndIdempotencyKey(sourceAccountId, idempotencyKey)
-            .orElseThrow(() -> new LedgerNotFoundException(
-                Map.of(
-                    "sourceAccountId", String.valueOf(sourceAccountId),
-                    "idempotencyKey", idempotencyKey.value()
-                )
-            ));
+        Transfer ledgerPair = loadTransfer(sourceAccountId, idempotencyKey);
 
         if (ledgerPair.getStatus() == TransferStatus.FAILED || ledgerPair.getStatus() == TransferStatus.VOID) {
             throw new InvalidLedgerStateException("Cannot post entry for transfer in status " + ledgerPair.getStatus());
         }
 
         ledgerPair.markEntryPosted(direction, transactionId, postedAt);
-        Transfer updated = ledgerPersistencePort.saveAndFlush(ledgerPair);
-        return updated.toSnapshot();
+        return persist(ledgerPair);
     }
 
     /**
@@ -128,16 +142,9 @@ public class LedgerService {
         if (sourceAccountId == null) {
             throw new IllegalArgumentException("sourceAccountId must not be null");
         }
-        Transfer ledgerPair = ledgerPersistencePort.findBySourceAccountIdAndIdempotencyKey(sourceAccountId, idempotencyKey)
-            .orElseThrow(() -> new LedgerNotFoundException(
-                Map.of(
-                    "sourceAccountId", String.valueOf(sourceAccountId),
-                    "idempotencyKey", idempotencyKey.value()
-                )
-            ));
+        Transfer ledgerPair = loadTransfer(sourceAccountId, idempotencyKey);
         ledgerPair.markFailed(reason, Instant.now());
-        Transfer updated = ledgerPersistencePort.saveAndFlush(ledgerPair);
-        return updated.toSnapshot();
+        return persist(ledgerPair);
     }
 
     /**
@@ -147,16 +154,9 @@ public class LedgerService {
         if (sourceAccountId == null) {
             throw new IllegalArgumentException("sourceAccountId must not be null");
         }
-        Transfer ledgerPair = ledgerPersistencePort.findBySourceAccountIdAndIdempotencyKey(sourceAccountId, idempotencyKey)
-            .orElseThrow(() -> new LedgerNotFoundException(
-                Map.of(
-                    "sourceAccountId", String.valueOf(sourceAccountId),
-                    "idempotencyKey", idempotencyKey.value()
-                )
-            ));
+        Transfer ledgerPair = loadTransfer(sourceAccountId, idempotencyKey);
         ledgerPair.markSettled(settledAt);
-        Transfer updated = ledgerPersistencePort.saveAndFlush(ledgerPair);
-        return updated.toSnapshot();
+        return persist(ledgerPair);
     }
 
     /**
@@ -167,8 +167,98 @@ public class LedgerService {
         if (sourceAccountId == null) {
             throw new IllegalArgumentException("sourceAccountId must not be null");
         }
+        Map<String, Transfer> workingSet = workingSet();
+        if (workingSet != null && idempotencyKey != null) {
+            Transfer cached = workingSet.get(workingSetKey(sourceAccountId, idempotencyKey));
+            if (cached != null) {
+                return cached.getStatus();
+            }
+        }
         return ledgerPersistencePort.findBySourceAccountIdAndIdempotencyKey(sourceAccountId, idempotencyKey)
             .map(Transfer::getStatus)
             .orElse(TransferStatus.REQUESTED);
     }
+
+    /**
+     * 현재 트랜잭션에서 이미 로드한 Transfer가 있으면 재사용하고, 없으면 저장소에서 조회한다.
+     */
+    private Transfer loadTransfer(Long sourceAccountId, IdempotencyKey idempotencyKey) {
+        Map<String, Transfer> workingSet = workingSet();
+        if (workingSet != null && idempotencyKey != null) {
+            Transfer cached = workingSet.get(workingSetKey(sourceAccountId, idempotencyKey));
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Transfer loaded = ledgerPersistencePort.findBySourceAccountIdAndIdempotencyKey(sourceAccountId, idempotencyKey)
+            .orElseThrow(() -> new LedgerNotFoundException(
+                Map.of(
+                    "sourceAccountId", String.valueOf(sourceAccountId),
+                    "idempotencyKey", idempotencyKey.value()
+                )
+            ));
+        if (workingSet != null) {
+            workingSet.put(workingSetKey(sourceAccountId, idempotencyKey), loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 상태가 변경된 Transfer를 저장한다.
+     * 쓰기 지연 모드에서는 영속성 컨텍스트에만 반영하고 플러시는 커밋 시점에 한 번 수행된다.
+     */
+    private TransferSnapshot persist(Transfer ledgerPair) {
+        if (workingSet() != null) {
+            return ledgerPersistencePort.update(ledgerPair).toSnapshot();
+        }
+        return ledgerPersistencePort.saveAndFlush(ledgerPair).toSnapshot();
+    }
+
+    /**
+     * 현재 트랜잭션에 바인딩된 Transfer 작업 집합을 반환한다.
+     * 쓰기 지연 모드가 꺼져 있거나 트랜잭션 동기화가 비활성화된 경우 null을 반환한다.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Transfer> workingSet() {
+        if (!writeBehindEnabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        Map<String, Transfer> workingSet =
+            (Map<String, Transfer>) TransactionSynchronizationManager.getResource(WORKING_SET_KEY);
+        if (workingSet != null) {
+            return workingSet;
+        }
+
+        Map<String, Transfer> created = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(WORKING_SET_KEY, created);
+        TransactionSynchronizationManager.registerSynchronization(new WorkingSetSynchronization(created));
+        return created;
+    }
+
+    private String workingSetKey(Long sourceAccountId, IdempotencyKey idempotencyKey) {
+        return sourceAccountId + ":" + idempotencyKey.value();
+    }
+
+    /**
+     * 트랜잭션 종료/중단 시 작업 집합의 바인딩을 정리한다.
+     */
+    private record WorkingSetSynchronization(Map<String, Transfer> workingSet) implements TransactionSynchronization {
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(WORKING_SET_KEY);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(WORKING_SET_KEY, workingSet);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(WORKING_SET_KEY);
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package saviing.bank.transaction.application.service;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+import saviing.bank.transaction.application.port.in.TransferUseCase;
+import saviing.bank.transaction.application.port.in.command.TransferCommand;
+import saviing.bank.transaction.application.port.in.result.TransferResult;
+
+/**
+ * 외부 어댑터에 노출되는 송금 유즈케이스 구현.
+ * 트랜잭션 단위인 {@link TransferService}를 감싸 계좌 잠금 경합 시 트랜잭션 전체를 재시도한다.
+ */
+@Primary
+@Service
+@RequiredArgsConstructor
+public class RetryingTransferService implements TransferUseCase {
+
+    private final TransferService transferService;
+    private final TransferRetryExecutor transferRetryExecutor;
+
+    /**
+     * 송금 명령을 처리한다. 경합으로 롤백된 경우 같은 멱등성 키로 다시 실행한다.
+     *
+     * @param command 송금 요청 정보
+     * @return 송금 처리 결과
+     */
+    @Override
+    public TransferResult transfer(TransferCommand command) {
+        return transferRetryExecutor.execute(() -> transferService.transfer(command));
+    }
+}
@@ -1,20 +1,31 @@
 package saviing.bank.transaction.application.service;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.in.ExportTransactionStatementUseCase;
+import saviing.bank.transaction.application.port.in.GetDailyBalancesUseCase;
 import saviing.bank.transaction.application.port.in.GetTransactionUseCase;
 import saviing.bank.transaction.application.port.in.GetTransactionsByAccountUseCase;
+import saviing.bank.transaction.application.port.in.result.PeriodBalanceResult;
+import saviing.bank.transaction.application.port.in.result.TransactionHistoryResult;
 import saviing.bank.transaction.application.port.in.result.TransactionResult;
+import saviing.bank.transaction.exception.InvalidValueDateException;
 import saviing.bank.transaction.exception.TransactionNotFoundException;
 
 import java.util.Map;
+import saviing.bank.transaction.application.port.out.DailyBalancePort;
+import saviing.bank.transaction.application.port.out.DailyBalancePort.DailyBalance;
 import saviing.bank.transaction.application.port.out.LoadTransactionPort;
 import saviing.bank.transaction.domain.model.Transaction;
+import saviing.bank.transaction.domain.vo.TransactionCursor;
 import saviing.bank.transaction.domain.vo.TransactionId;
 import saviing.common.annotation.ExecutionTime;
 
@@ -26,9 +37,11 @@ import saviing.common.annotation.ExecutionTime;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class TransactionQueryService implements GetTransactionUseCase, GetTransactionsByAccountUseCase {
+public class TransactionQueryService implements GetTransactionUseCase, GetTransactionsByAccountUseCase,
+    ExportTransactionStatementUseCase, GetDailyBalancesUseCase {
 
     private final LoadTransactionPort loadTransactionPort;
+    private final DailyBalancePort dailyBalancePort;
 
     /**
      * 거래 ID로 거래 정보를 조회한다
@@ -54,6 +67,7 @@ public class TransactionQueryService implements GetTransactionUseCase, GetTransa
      * @return 거래 내역 목록
      */
     @Override
+    @Deprecated
     public List<TransactionResult> getTransactionsByAccount(Long accountId) {
         List<Transaction> transactions = loadTransactionPort.loadTransactionsByAccount(accountId);
         return transactions.stream()
@@ -77,6 +91,70 @@ public class TransactionQueryService implements GetTransactionUseCase, GetTransa
             .toList();
     }
 
+    /**
+     * 계좌 ID로 거래 내역을 커서 기반으로 조회한다
+     * 다음 페이지 존재 여부를 판단하기 위해 페이지 크기보다 한 건 더 조회한다.
+     *
+     * @param accountId 계좌 ID
+     * @param cursor 직전 페이지 마지막 거래 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 거래 내역과 다음 페이지 커서
+     */
+    @Override
+    public TransactionHistoryResult getTransactionHistory(Long accountId, TransactionCursor cursor, int size) {
+        return TransactionHistoryResult.of(
+            loadTransactionPort.loadTransactionHistory(accountId, cursor, size + 1),
+            size
+        );
+    }
+
+    /**
+     * 계좌의 가치일 구간 거래를 전진 전용 커서로 읽어 한 건씩 전달한다
+     *
+     * @param accountId 계좌 ID
+     * @param fromValueDate 조회 시작 가치일 (포함)
+     * @param toValueDate 조회 종료 가치일 (포함)
+     * @param consumer 거래마다 호출할 소비자
+     * @throws InvalidValueDateException 시작 가치일이 종료 가치일보다 늦은 경우
+     */
+    @Override
+    public void exportStatement(Long accountId, LocalDate fromValueDate, LocalDate toValueDate,
+                                Consumer<TransactionResult> consumer) {
+        validateValueDateRange(fromValueDate, toValueDate);
+        loadTransactionPort.forEachStatementLine(accountId, fromValueDate, toValueDate,
+            summary -> consumer.accept(TransactionResult.from(summary)));
+    }
+
+    /**
+     * 계좌의 가치일 구간 일별 잔액 스냅샷을 읽어 기간 요약을 만든다
+     * 구간 안에 거래가 없을 때만 구간 직전 스냅샷을 추가로 조회해 잔액을 이월한다.
+     *
+     * @param accountId 계좌 ID
+     * @param fromValueDate 조회 시작 가치일 (포함)
+     * @param toValueDate 조회 종료 가치일 (포함)
+     * @return 기간 잔액 요약
+     * @throws InvalidValueDateException 시작 가치일이 종료 가치일보다 늦은 경우
+     */
+    @Override
+    public PeriodBalanceResult getDailyBalances(Long accountId, LocalDate fromValueDate, LocalDate toValueDate) {
+        validateValueDateRange(fromValueDate, toValueDate);
+        List<DailyBalance> dailyBalances = dailyBalancePort.loadDailyBalances(accountId, fromValueDate, toValueDate);
+        MoneyWon carriedBalance = dailyBalances.isEmpty()
+            ? dailyBalancePort.loadLatestBefore(accountId, fromValueDate)
+                .map(DailyBalance::closingBalance)
+                .orElse(MoneyWon.zero())
+            : null;
+        return PeriodBalanceResult.of(accountId, fromValueDate, toValueDate, carriedBalance, dailyBalances);
+    }
+
+    private void validateValueDateRange(LocalDate fromValueDate, LocalDate toValueDate) {
+        if (fromValueDate.isAfter(toValueDate)) {
+            throw new InvalidValueDateException(
+                "조회 시작 가치일이 종료 가치일보다 늦습니다",
+                Map.of("fromValueDate", fromValueDate, "toValueDate", toValueDate)
+            );
+        }
+    }
 
     /**
      * Transaction 도메인 엔티티를 TransactionResult DTO로 변환한다
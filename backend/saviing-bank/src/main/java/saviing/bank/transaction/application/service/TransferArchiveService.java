@@ -0,0 +1,124 @@
+package saviing.bank.transaction.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import saviing.bank.transaction.application.port.out.TransferArchivePort;
+import saviing.bank.transaction.application.port.out.TransferArchivePort.ArchivedRows;
+
+/**
+ * 보관 기간이 지난 종료 상태 송금을 보관 테이블로 옮기는 배치 서비스.
+ * 대상 송금을 송금 ID 기준 키셋 페이지네이션으로 나눠 읽고, 묶음마다 별도 트랜잭션에서 송금/원장 엔트리/거래를 옮긴 뒤
+ * 같은 트랜잭션에서 체크포인트를 기록한다. 중단된 회차는 다음 실행에서 체크포인트 다음 송금부터 이어서 처리하고,
+ * 회차를 끝까지 마치면 체크포인트를 0으로 되돌려 그사이 종료 상태가 된 이전 송금도 다음 회차에서 다시 살핀다.
+ *
+ * <p>보관된 송금은 멱등 키 조회 대상에서 빠지므로, 보관 기간은 클라이언트 재시도 기간보다 충분히 길게 잡는다.
+ * 거래 내역 조회와 원장 대사는 원본과 보관 테이블을 함께 읽는다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransferArchiveService {
+
+    static final String JOB_NAME = "transfer-archive";
+    private static final String METRIC_PREFIX = "transfer.archive";
+
+    private final TransactionTemplate txTemplate;
+    private final TransferArchivePort transferArchivePort;
+    private final MeterRegistry meterRegistry;
+    @Value("${transfer.archive.enabled:true}")
+    private boolean enabled;
+    @Value("${transfer.archive.horizon-days:90}")
+    private long horizonDays;
+    @Value("${transfer.archive.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 보관 기간이 지난 송금을 보관 테이블로 옮긴다.
+     *
+     * @implNote 기본 실행 시각은 매일 03:00이며, {@code transfer.archive.cron} 프로퍼티로 조정할 수 있다.
+     */
+    @Scheduled(cron = "${transfer.archive.cron:0 0 3 * * *}")
+    public void archiveExpiredTransfers() {
+        if (!enabled) {
+            return;
+        }
+        archive(Instant.now().minus(horizonDays, ChronoUnit.DAYS));
+    }
+
+    /**
+     * 지정한 시각 이전에 종료된 송금을 더 이상 대상이 없을 때까지 묶음 단위로 옮긴다.
+     *
+     * @param updatedBefore 이 시각 이전에 마지막으로 갱신된 송금만 옮긴다
+     * @return 옮긴 행 수
+     */
+    public ArchivedRows archive(Instant updatedBefore) {
+        int limit = Math.max(1, chunkSize);
+        ArchivedRows total = ArchivedRows.EMPTY;
+        int chunks = 0;
+        long startedAt = System.nanoTime();
+        while (true) {
+            ArchivedRows archived = txTemplate.execute(status -> archiveChunk(updatedBefore, limit));
+            if (archived == null || archived.transfers() == 0) {
+                break;
+            }
+            total = total.plus(archived);
+            chunks++;
+        }
+        recordRunMetrics(total, chunks, Duration.ofNanos(System.nanoTime() - startedAt));
+        return total;
+    }
+
+    /**
+     * 체크포인트 다음 송금부터 한 묶음을 옮기고 체크포인트를 기록한다.
+     * 대상이 더 없으면 체크포인트를 0으로 되돌리고 빈 결과를 반환한다.
+     */
+    private ArchivedRows archiveChunk(Instant updatedBefore, int limit) {
+        Instant now = Instant.now();
+        long checkpoint = transferArchivePort.loadCheckpoint(JOB_NAME);
+        List<Long> transferIds = transferArchivePort.findArchivableTransferIds(updatedBefore, checkpoint, limit);
+        if (transferIds.isEmpty()) {
+            if (checkpoint != 0L) {
+                transferArchivePort.saveCheckpoint(JOB_NAME, 0L, now);
+            }
+            return ArchivedRows.EMPTY;
+        }
+        ArchivedRows archived = transferArchivePort.archiveTransfers(transferIds, now);
+        transferArchivePort.saveCheckpoint(JOB_NAME, transferIds.get(transferIds.size() - 1), now);
+        log.debug("송금 보관 묶음 완료: fromTransferId={}, toTransferId={}, transfers={}",
+            transferIds.get(0), transferIds.get(transferIds.size() - 1), archived.transfers());
+        return archived;
+    }
+
+    /**
+     * 실행 결과를 메트릭으로 기록하고 처리량을 로그로 남긴다.
+     */
+    private void recordRunMetrics(ArchivedRows total, int chunks, Duration elapsed) {
+        Timer.builder(METRIC_PREFIX + ".run.duration")
+            .register(meterRegistry)
+            .record(elapsed);
+        meterRegistry.counter(METRIC_PREFIX + ".rows", "table", "transfer").increment(total.transfers());
+        meterRegistry.counter(METRIC_PREFIX + ".rows", "table", "ledger_entry").increment(total.ledgerEntries());
+        meterRegistry.counter(METRIC_PREFIX + ".rows", "table", "transaction").increment(total.transactions());
+
+        log.info("송금 보관 완료. chunks={}, transfers={}, ledgerEntries={}, transactions={}, elapsedMs={}",
+            chunks,
+            total.transfers(),
+            total.ledgerEntries(),
+            total.transactions(),
+            elapsed.toMillis()
+        );
+    }
+}
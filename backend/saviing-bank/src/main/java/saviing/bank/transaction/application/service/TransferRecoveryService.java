@@ -0,0 +1,283 @@
+package saviing.bank.transaction.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import saviing.bank.account.api.AccountInternalApi;
+import saviing.bank.account.api.request.ApplyTransferRequest;
+import saviing.bank.account.api.response.AccountApiResponse;
+import saviing.bank.account.api.response.ApplyTransferResponse;
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.out.LedgerPersistencePort;
+import saviing.bank.transaction.application.port.out.LoadCustomerNamePort;
+import saviing.bank.transaction.application.port.out.LoadTransactionPort;
+import saviing.bank.transaction.application.port.out.SaveTransactionPort;
+import saviing.bank.transaction.application.port.out.TransferRecoveryPort;
+import saviing.bank.transaction.application.port.out.TransferRecoveryPort.StuckTransfer;
+import saviing.bank.transaction.application.port.out.TransferReplayCachePort;
+import saviing.bank.transaction.domain.model.Transaction;
+import saviing.bank.transaction.domain.model.TransactionDirection;
+import saviing.bank.transaction.domain.model.TransactionType;
+import saviing.bank.transaction.domain.model.transfer.LedgerEntry;
+import saviing.bank.transaction.domain.model.transfer.LedgerEntryStatus;
+import saviing.bank.transaction.domain.model.transfer.Transfer;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+import saviing.bank.transaction.domain.vo.TransactionId;
+import saviing.bank.transaction.exception.TransactionNotFoundException;
+
+/**
+ * 오래 종료 상태에 이르지 못한 송금을 원장 엔트리 상태에 따라 마무리하는 복구 배치 서비스.
+ * 정체 송금을 송금 ID 기준 키셋 페이지네이션으로 나눠 읽고, 전용 {@link ForkJoinPool}에서 송금마다 별도 트랜잭션으로 복구한다.
+ * 복구 트랜잭션은 송금 처리와 같은 멱등 키 비관적 잠금을 먼저 잡으므로 진행 중인 송금이나 다른 노드의 복구와 겹치지 않는다.
+ *
+ * <p>계좌 잔액은 출금/입금을 한 번에 반영하고 출금 엔트리 확정과 함께 커밋되므로, 원장 엔트리로 다음과 같이 판단한다.</p>
+ * <ul>
+ *     <li>입금 엔트리 확정: 두 거래가 모두 남아 있으므로 거래를 서로 연결하고 정산 완료로 마무리한다.</li>
+ *     <li>출금 엔트리만 확정: 입금 거래가 없으므로 입금 계좌에서 출금 계좌로 금액을 되돌리고 실패로 마무리한다.</li>
+ *     <li>확정된 엔트리 없음: 잔액이 바뀌지 않았으므로 보상 없이 실패로 마무리한다.</li>
+ * </ul>
+ *
+ * <p>보상에 실패한 송금은 {@code compensationStatus=FAILED} 사유로 실패 처리되어 원장 대사에서 보상 실패로 보고된다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransferRecoveryService {
+
+    static final String RECOVERY_FAILURE_MESSAGE = "처리 중 중단된 송금을 복구 배치가 실패 처리했습니다.";
+    private static final String METRIC_PREFIX = "transfer.recovery";
+    private static final String UNKNOWN_CUSTOMER_NAME = "(알 수 없음)";
+
+    private final TransactionTemplate txTemplate;
+    private final TransferRecoveryPort transferRecoveryPort;
+    private final LedgerPersistencePort ledgerPersistencePort;
+    private final SaveTransactionPort saveTransactionPort;
+    private final LoadTransactionPort loadTransactionPort;
+    private final LoadCustomerNamePort loadCustomerNamePort;
+    private final AccountInternalApi accountInternalApi;
+    private final TransferReplayCachePort transferReplayCachePort;
+    private final MeterRegistry meterRegistry;
+    @Value("${transfer.recovery.enabled:true}")
+    private boolean enabled;
+    @Value("${transfer.recovery.stuck-minutes:5}")
+    private long stuckMinutes;
+    @Value("${transfer.recovery.chunk-size:100}")
+    private int chunkSize;
+    @Value("${transfer.recovery.parallelism:4}")
+    private int parallelism;
+
+    /**
+     * 정체 송금을 복구한다.
+     *
+     * @implNote 기본 실행 간격은 이전 실행 종료 후 1분이며, {@code transfer.recovery.fixed-delay-ms} 프로퍼티로 조정할 수 있다.
+     */
+    @Scheduled(fixedDelayString = "${transfer.recovery.fixed-delay-ms:60000}")
+    public void recoverStuckTransfers() {
+        if (!enabled) {
+            return;
+        }
+        recover(Instant.now().minus(stuckMinutes, ChronoUnit.MINUTES));
+    }
+
+    /**
+     * 지정한 시각 이전부터 종료되지 않은 송금을 끝까지 훑으며 복구한다.
+     *
+     * @param updatedBefore 이 시각 이전에 마지막으로 갱신된 송금만 복구한다
+     * @return 복구 결과별 송금 수
+     */
+    public Map<RecoveryOutcome, Long> recover(Instant updatedBefore) {
+        int limit = Math.max(1, chunkSize);
+        Map<RecoveryOutcome, Long> outcomes = new EnumMap<>(RecoveryOutcome.class);
+        long startedAt = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try {
+            long lastTransferId = 0L;
+            while (true) {
+                List<StuckTransfer> chunk = transferRecoveryPort.findStuckTransfers(updatedBefore, lastTransferId, limit);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                Map<RecoveryOutcome, Long> chunkOutcomes = pool.submit(() -> chunk.parallelStream()
+                    .map(stuck -> recoverSafely(stuck, updatedBefore))
+                    .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                ).join();
+                chunkOutcomes.forEach((outcome, count) -> outcomes.merge(outcome, count, Long::sum));
+
+                lastTransferId = chunk.get(chunk.size() - 1).transferId();
+                if (chunk.size() < limit) {
+                    break;
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        recordRunMetrics(outcomes, Duration.ofNanos(System.nanoTime() - startedAt));
+        return outcomes;
+    }
+
+    /**
+     * 송금 하나를 별도 트랜잭션으로 복구한다. 실패하면 트랜잭션을 롤백하고 다음 실행에서 다시 시도한다.
+     */
+    private RecoveryOutcome recoverSafely(StuckTransfer stuck, Instant updatedBefore) {
+        try {
+            return txTemplate.execute(status -> recoverTransfer(stuck, updatedBefore));
+        } catch (RuntimeException e) {
+            log.warn("정체 송금 복구 실패: transferId={}, status={}, reason={}",
+                stuck.transferId(), stuck.status(), e.getMessage(), e);
+            return RecoveryOutcome.ERROR;
+        }
+    }
+
+    /**
+     * 송금을 잠근 뒤 여전히 정체 상태인지 다시 확인하고, 원장 엔트리 상태에 따라 정산하거나 실패 처리한다.
+     */
+    private RecoveryOutcome recoverTransfer(StuckTransfer stuck, Instant updatedBefore) {
+        IdempotencyKey idempotencyKey = IdempotencyKey.of(stuck.idempotencyKey());
+        Transfer transfer = ledgerPersistencePort.lockBySourceAccountIdAndIdempotencyKey(
+                stuck.sourceAccountId(), idempotencyKey)
+            .orElse(null);
+        // 잠금을 기다리는 사이 진행 중이던 송금이 끝났거나 다른 노드가 복구했으면 건너뛴다.
+        if (transfer == null || transfer.getStatus().isTerminal() || !transfer.getUpdatedAt().isBefore(updatedBefore)) {
+            return RecoveryOutcome.SKIPPED;
+        }
+
+        LedgerEntry debit = transfer.getEntry(TransactionDirection.DEBIT);
+        LedgerEntry credit = transfer.getEntry(TransactionDirection.CREDIT);
+        RecoveryOutcome outcome;
+        if (credit.getStatus() == LedgerEntryStatus.POSTED) {
+            transfer.markSettled(Instant.now());
+            linkTransactions(debit.getTransactionId(), credit.getTransactionId());
+            outcome = RecoveryOutcome.SETTLED;
+        } else if (debit.getStatus() == LedgerEntryStatus.POSTED) {
+            String compensation = compensateDebit(transfer);
+            transfer.markFailed(RECOVERY_FAILURE_MESSAGE + compensation, Instant.now());
+            outcome = compensation.contains("compensationStatus=SUCCESS")
+                ? RecoveryOutcome.COMPENSATED
+                : RecoveryOutcome.COMPENSATION_FAILED;
+        } else {
+            transfer.markFailed(RECOVERY_FAILURE_MESSAGE, Instant.now());
+            outcome = RecoveryOutcome.FAILED;
+        }
+        ledgerPersistencePort.update(transfer);
+        cacheAfterCommit(transfer);
+
+        log.warn("정체 송금 복구: transferId={}, idempotencyKey={}, from={}, outcome={}",
+            stuck.transferId(), idempotencyKey.value(), stuck.status(), outcome);
+        return outcome;
+    }
+
+    /**
+     * 입금 계좌에 반영된 금액을 출금 계좌로 되돌리고 출금 계좌에 보상 거래를 남긴다.
+     * 입금 거래는 기록되지 않았으므로 입금 계좌에는 보상 거래를 남기지 않아야 계좌 잔액과 거래 합계가 맞는다.
+     */
+    private String compensateDebit(Transfer transfer) {
+        AccountApiResponse<ApplyTransferResponse> response = accountInternalApi.applyTransfer(
+            ApplyTransferRequest.of(transfer.getTargetAccountId(), transfer.getSourceAccountId(),
+                transfer.getAmount().amount())
+        );
+        if (!(response instanceof AccountApiResponse.Success<ApplyTransferResponse>(ApplyTransferResponse data))
+            || !data.applied()) {
+            log.warn("[COMPENSATION-FAILED] 정체 송금 보상 처리 실패 - idempotencyKey: {}",
+                transfer.getIdempotencyKey().value());
+            return "; compensationStatus=FAILED";
+        }
+
+        String recipientName = loadCustomerNamePort.loadCustomerName(data.source().customerId())
+            .orElse(UNKNOWN_CUSTOMER_NAME);
+        TransactionId compensationTxId = saveTransactionPort.saveTransaction(Transaction.create(
+            transfer.getSourceAccountId(),
+            TransactionType.REVERSAL,
+            TransactionDirection.CREDIT,
+            transfer.getAmount(),
+            MoneyWon.of(data.deposit().currentBalance()),
+            transfer.getValueDate(),
+            Instant.now(),
+            recipientName + " 송금취소"
+        ));
+        return "; compensationStatus=SUCCESS; compensationTxId=" + compensationTxId.value();
+    }
+
+    /**
+     * 출금 거래와 입금 거래를 서로 연관시키도록 업데이트한다.
+     */
+    private void linkTransactions(TransactionId debitTransactionId, TransactionId creditTransactionId) {
+        Transaction debit = loadTransactionPort.loadTransaction(debitTransactionId)
+            .orElseThrow(() -> new TransactionNotFoundException(
+                Map.of("transactionId", debitTransactionId.value())
+            ));
+        Transaction credit = loadTransactionPort.loadTransaction(creditTransactionId)
+            .orElseThrow(() -> new TransactionNotFoundException(
+                Map.of("transactionId", creditTransactionId.value())
+            ));
+        debit.setRelatedTransaction(creditTransactionId);
+        credit.setRelatedTransaction(debitTransactionId);
+        saveTransactionPort.updateTransaction(debit);
+        saveTransactionPort.updateTransaction(credit);
+    }
+
+    /**
+     * 복구 결과가 커밋된 뒤에 재호출 캐시에 기록해 같은 멱등 키의 재요청이 원장 조회 없이 응답받게 한다.
+     */
+    private void cacheAfterCommit(Transfer transfer) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                transferReplayCachePort.putCompletedStatus(
+                    transfer.getSourceAccountId(), transfer.getIdempotencyKey(), transfer.getStatus());
+            }
+        });
+    }
+
+    /**
+     * 실행 결과를 메트릭으로 기록하고 처리량을 로그로 남긴다.
+     */
+    private void recordRunMetrics(Map<RecoveryOutcome, Long> outcomes, Duration elapsed) {
+        Timer.builder(METRIC_PREFIX + ".run.duration")
+            .register(meterRegistry)
+            .record(elapsed);
+        outcomes.forEach((outcome, count) -> meterRegistry
+            .counter(METRIC_PREFIX + ".transfers", "outcome", outcome.name().toLowerCase())
+            .increment(count));
+
+        if (!outcomes.isEmpty()) {
+            log.info("정체 송금 복구 완료. outcomes={}, elapsedMs={}", outcomes, elapsed.toMillis());
+        }
+    }
+
+    /**
+     * 송금 하나의 복구 결과
+     */
+    public enum RecoveryOutcome {
+        /** 두 엔트리가 확정되어 정산 완료로 마무리 */
+        SETTLED,
+        /** 출금만 확정되어 금액을 되돌리고 실패로 마무리 */
+        COMPENSATED,
+        /** 출금만 확정되었으나 되돌리지 못해 보상 실패로 마무리 */
+        COMPENSATION_FAILED,
+        /** 확정된 엔트리가 없어 보상 없이 실패로 마무리 */
+        FAILED,
+        /** 잠금 후 다시 확인했을 때 이미 종료되었거나 진행 중이어서 건너뜀 */
+        SKIPPED,
+        /** 복구 중 오류가 발생해 다음 실행에서 다시 시도 */
+        ERROR
+    }
+}
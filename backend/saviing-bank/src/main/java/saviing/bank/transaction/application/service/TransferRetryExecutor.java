@@ -0,0 +1,82 @@
+package saviing.bank.transaction.application.service;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+import saviing.bank.transaction.exception.TransferInProgressException;
+
+/**
+ * 계좌 행 잠금 경합(낙관적 락 충돌, 잠금 대기 시간 초과)으로 실패한 송금을 재시도하는 실행기.
+ * 경합 실패 시 트랜잭션 전체가 롤백되어 잔액 변경이 남지 않으므로, 보상 처리 대신 새 트랜잭션으로 다시 실행한다.
+ * 재시도는 최외곽 트랜잭션 경계에서만 의미가 있으므로 이미 트랜잭션 안에서 호출되면 한 번만 실행한다.
+ */
+@Slf4j
+@Component
+public class TransferRetryExecutor {
+
+    @Value("${transfer.concurrency.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${transfer.concurrency.retry-backoff-ms:50}")
+    private long retryBackoffMillis;
+
+    /**
+     * 경합 실패 시 설정된 횟수만큼 재시도하며 작업을 실행한다.
+     *
+     * @param action 트랜잭션 경계를 포함한 송금 작업
+     * @return 작업 결과
+     * @throws TransferInProgressException 재시도 횟수를 모두 소진한 경우
+     */
+    public <T> T execute(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        int attempts = Math.max(1, maxAttempts);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (ConcurrencyFailureException ex) {
+                if (attempt >= attempts) {
+                    log.warn("송금 경합 재시도 소진: attempts={}, reason={}", attempt, ex.getMessage());
+                    throw new TransferInProgressException(
+                        Map.of("attempts", attempt, "reason", "CONCURRENT_UPDATE")
+                    );
+                }
+                log.info("송금 경합 감지, 재시도합니다: attempt={}/{}, reason={}", attempt, attempts, ex.getMessage());
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 반환값이 없는 작업을 재시도 정책과 함께 실행한다.
+     *
+     * @param action 트랜잭션 경계를 포함한 작업
+     */
+    public void run(Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void backoff(int attempt) {
+        if (retryBackoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("송금 재시도 대기 중 인터럽트가 발생했습니다", ie);
+        }
+    }
+}
@@ -3,20 +3,22 @@ package saviing.bank.transaction.application.service;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Map;
+import java.util.Optional;
 
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import saviing.bank.account.api.AccountInternalApi;
-import saviing.bank.account.api.request.DepositAccountRequest;
-import saviing.bank.account.api.request.GetAccountRequest;
-import saviing.bank.account.api.request.WithdrawAccountRequest;
+import saviing.bank.account.api.request.ApplyTransferRequest;
 import saviing.bank.account.api.response.AccountApiResponse;
 import saviing.bank.account.api.response.AccountInfoResponse;
-import saviing.bank.account.api.response.BalanceUpdateResponse;
+import saviing.bank.account.api.response.ApplyTransferResponse;
 import saviing.bank.common.vo.MoneyWon;
 import saviing.bank.transaction.application.port.in.TransferUseCase;
 import saviing.bank.transaction.application.port.in.command.TransferCommand;
@@ -24,6 +26,7 @@ import saviing.bank.transaction.application.port.in.result.TransferResult;
 import saviing.bank.transaction.application.port.out.LoadCustomerNamePort;
 import saviing.bank.transaction.application.port.out.LoadTransactionPort;
 import saviing.bank.transaction.application.port.out.SaveTransactionPort;
+import saviing.bank.transaction.application.port.out.TransferReplayCachePort;
 import saviing.bank.transaction.domain.model.Transaction;
 import saviing.bank.transaction.domain.model.TransactionDirection;
 import saviing.bank.transaction.domain.model.TransactionType;
@@ -53,6 +56,7 @@ import saviing.common.annotation.ExecutionTime;
 public class TransferService implements TransferUseCase {
 
     private static final String GENERIC_FAILURE_MESSAGE = "내부 시스템 오류로 송금이 실패했습니다.";
+    private static final String UNKNOWN_CUSTOMER_NAME = "(알 수 없음)";
 
     private final LedgerService ledgerService;
     private final TransferDomainService transferDomainService;
@@ -60,6 +64,7 @@ public class TransferService implements TransferUseCase {
     private final LoadTransactionPort loadTransactionPort;
     private final LoadCustomerNamePort loadCustomerNamePort;
     private final AccountInternalApi accountInternalApi;
+    private final TransferReplayCachePort transferReplayCachePort;
 
     /**
      * 송금 명령을 처리한다. 멱등성을 확인하고 Ledger/Transaction/Account API를 순차적으로 실행한다.
@@ -81,6 +86,20 @@ public class TransferService implements TransferUseCase {
                 )
             );
         }
+        // 최근 완료된 송금의 재호출은 원장 조회 없이 캐시로 응답한다.
+        Optional<TransferStatus> replayedStatus = transferReplayCachePort.findCompletedStatus(
+            command.sourceAccountId(),
+            idempotencyKey
+        );
+        if (replayedStatus.isPresent()) {
+            log.info("멱등 재호출 감지(캐시): idempotencyKey={}, status={}", idempotencyKey.value(), replayedStatus.get());
+            throw new DuplicateTransferRequestException(
+                Map.of(
+                    "idempotencyKey", idempotencyKey.value(),
+                    "status", replayedStatus.get().name()
+                )
+            );
+        }
         log.info("송금 시작: idempotencyKey={}, sourceAccountId={}, targetAccountId={}, amount={}",
             idempotencyKey.value(), command.sourceAccountId(), command.targetAccountId(), command.amount().amount());
         TransferSnapshot ledgerSnapshot = ledgerService.initializeTransfer(
@@ -101,6 +120,7 @@ public class TransferService implements TransferUseCase {
                 idempotencyKey.value(),
                 ledgerSnapshot.status()
             );
+            transferReplayCachePort.putCompletedStatus(command.sourceAccountId(), idempotencyKey, ledgerSnapshot.status());
             throw new DuplicateTransferRequestException(
                 Map.of(
                     "idempotencyKey", idempotencyKey.value(),
@@ -118,41 +138,51 @@ public class TransferService implements TransferUseCase {
             );
         }
 
-        // Account BC의 도메인 엔티티 대신 응답 스냅샷만 사용해 경계를 분리한다.
-        AccountSnapshot sourceAccount = loadAccount(command.sourceAccountId());
-        AccountSnapshot targetAccount = loadAccount(command.targetAccountId());
-
-        // 고객 이름 미리 조회 (description 설정용)
-        String recipientName = loadCustomerNamePort.loadCustomerName(targetAccount.customerId())
-            .orElse("(알 수 없음)");
-        String senderName = loadCustomerNamePort.loadCustomerName(sourceAccount.customerId())
-            .orElse("(알 수 없음)");
-
-        transferDomainService.validatePreconditions(
-            sourceAccount,
-            targetAccount,
-            command.amount(),
-            command.valueDate(),
-            command.transferType()
-        );
-
         Instant startedAt = Instant.now();
         TransactionId debitTransactionId = null;
         TransactionId creditTransactionId = null;
         TransferSnapshot currentSnapshot = ledgerSnapshot;
-        boolean withdrawCompleted = false;
+        String recipientName = UNKNOWN_CUSTOMER_NAME;
+        String senderName = UNKNOWN_CUSTOMER_NAME;
+        boolean balanceApplied = false;
 
         try {
+            // Account BC에서 두 계좌를 한 번에 로드해 출금/입금을 반영하고, 반영 전 스냅샷을 함께 돌려받는다.
+            ApplyTransferResponse balanceUpdate = applyTransfer(command);
+            AccountSnapshot sourceAccount = toAccountSnapshot(balanceUpdate.source());
+            AccountSnapshot targetAccount = toAccountSnapshot(balanceUpdate.target());
+
+            // 고객 이름 미리 조회 (description 설정용)
+            recipientName = loadCustomerNamePort.loadCustomerName(targetAccount.customerId())
+                .orElse(UNKNOWN_CUSTOMER_NAME);
+            senderName = loadCustomerNamePort.loadCustomerName(sourceAccount.customerId())
+                .orElse(UNKNOWN_CUSTOMER_NAME);
+
+            // 반영 전 스냅샷으로 검증한다. 반영 이후 검증이 실패하면 트랜잭션 롤백으로 잔액도 함께 원복된다.
+            transferDomainService.validatePreconditions(
+                sourceAccount,
+                targetAccount,
+                command.amount(),
+                command.valueDate(),
+                command.transferType()
+            );
+            if (!balanceUpdate.applied()) {
+                throw new AccountApiCallException(
+                    "계좌 이체 반영에 실패했습니다",
+                    Map.of(
+                        "sourceAccountId", command.sourceAccountId(),
+                        "targetAccountId", command.targetAccountId()
+                    )
+                );
+            }
+            balanceApplied = true;
 
-            // 출금/입금은 AccountInternalApi를 통해 처리하며 실패 시 도메인 예외로 변환한다.
-            BalanceUpdateResponse withdrawResponse = withdraw(command.sourceAccountId(), command.amount());
-            withdrawCompleted = true;
             debitTransactionId = createTransaction(
                 command.sourceAccountId(),
                 TransactionType.TRANSFER_OUT,
                 TransactionDirection.DEBIT,
                 command.amount(),
-                MoneyWon.of(withdrawResponse.currentBalance()),
+                MoneyWon.of(balanceUpdate.withdrawal().currentBalance()),
                 command.valueDate(),
                 recipientName, // 출금 거래는 수취인 이름으로 설정
                 startedAt
@@ -165,7 +195,6 @@ public class TransferService implements TransferUseCase {
                 startedAt
             );
 
-            BalanceUpdateResponse depositResponse = deposit(command.targetAccountId(), command.amount());
             // 입금 거래는 memo > 송금자 이름 순으로 설정
             String depositDescription = (command.memo() != null && !command.memo().trim().isEmpty())
                 ? command.memo()
@@ -175,7 +204,7 @@ public class TransferService implements TransferUseCase {
                 TransactionType.TRANSFER_IN,
                 TransactionDirection.CREDIT,
                 command.amount(),
-                MoneyWon.of(depositResponse.currentBalance()),
+                MoneyWon.of(balanceUpdate.deposit().currentBalance()),
                 command.valueDate(),
                 depositDescription,
                 Instant.now()
@@ -191,69 +220,90 @@ public class TransferService implements TransferUseCase {
             currentSnapshot = ledgerService.markTransferSettled(command.sourceAccountId(), idempotencyKey, Instant.now());
             linkTransactions(debitTransactionId, creditTransactionId);
             transferDomainService.onTransferSettled(idempotencyKey, currentSnapshot);
+            cacheAfterCommit(command.sourceAccountId(), idempotencyKey, currentSnapshot.status());
             log.info("송금 완료: idempotencyKey={}, debitTxId={}, creditTxId={}, status={}",
                 idempotencyKey.value(),
                 debitTransactionId != null ? debitTransactionId.value() : null,
                 creditTransactionId != null ? creditTransactionId.value() : null,
                 currentSnapshot.status());
             return mapToResult(currentSnapshot);
+        } catch (ConcurrencyFailureException lockEx) {
+            // 계좌 잠금 경합은 트랜잭션 롤백으로 잔액이 원복되므로 보상 없이 상위 재시도에 맡긴다.
+            log.warn("송금 잠금 경합: idempotencyKey={}, reason={}", idempotencyKey.value(), lockEx.getMessage());
+            throw lockEx;
         } catch (TransactionException domainEx) {
-            handleDomainFailure(command, idempotencyKey, withdrawCompleted, recipientName, domainEx);
+            handleDomainFailure(command, idempotencyKey, balanceApplied, recipientName, senderName, domainEx);
             throw domainEx;
         } catch (RuntimeException systemEx) {
-            handleSystemFailure(command, idempotencyKey, withdrawCompleted, recipientName, systemEx);
+            handleSystemFailure(command, idempotencyKey, balanceApplied, recipientName, senderName, systemEx);
             throw systemEx;
         }
     }
 
     /**
-     * AccountInternalApi를 호출해 계좌 정보를 스냅샷 형태로 조회한다.
+     * AccountInternalApi를 호출해 출금/입금을 한 번에 반영하고 반영 전 계좌 스냅샷을 함께 반환받는다.
      */
-    private AccountSnapshot loadAccount(Long accountId) {
-        AccountApiResponse<AccountInfoResponse> response = accountInternalApi.getAccount(GetAccountRequest.of(accountId));
-        if (response instanceof AccountApiResponse.Success<AccountInfoResponse>(AccountInfoResponse data)) {
-            return new AccountSnapshot(
-                data.accountId(),
-                data.customerId(),
-                MoneyWon.of(data.balance()),
-                AccountStatusSnapshot.from(data.status())
-            );
+    private ApplyTransferResponse applyTransfer(TransferCommand command) {
+        AccountApiResponse<ApplyTransferResponse> response = accountInternalApi.applyTransfer(
+            ApplyTransferRequest.of(command.sourceAccountId(), command.targetAccountId(), command.amount().amount())
+        );
+        if (response instanceof AccountApiResponse.Success<ApplyTransferResponse>(ApplyTransferResponse data)) {
+            return data;
         }
         throw new AccountApiCallException(
             "계좌 조회에 실패했습니다",
-            Map.of("accountId", accountId)
+            Map.of(
+                "sourceAccountId", command.sourceAccountId(),
+                "targetAccountId", command.targetAccountId()
+            )
         );
     }
 
     /**
-     * AccountInternalApi를 통해 출금을 수행하고 잔액 변경 결과를 반환한다.
+     * 보상 처리를 위해 입금 계좌에서 출금 계좌로 금액을 되돌린다.
      */
-    private BalanceUpdateResponse withdraw(Long accountId, MoneyWon amount) {
-        AccountApiResponse<BalanceUpdateResponse> response = accountInternalApi.withdraw(
-            WithdrawAccountRequest.of(accountId, amount.amount())
+    private ApplyTransferResponse reverseTransfer(TransferCommand command) {
+        AccountApiResponse<ApplyTransferResponse> response = accountInternalApi.applyTransfer(
+            ApplyTransferRequest.of(command.targetAccountId(), command.sourceAccountId(), command.amount().amount())
         );
-        if (response instanceof AccountApiResponse.Success<BalanceUpdateResponse>(BalanceUpdateResponse data)) {
+        if (response instanceof AccountApiResponse.Success<ApplyTransferResponse>(ApplyTransferResponse data)
+            && data.applied()) {
             return data;
         }
         throw new AccountApiCallException(
-            "계좌 출금에 실패했습니다",
-            Map.of("accountId", accountId)
+            "송금 취소 반영에 실패했습니다",
+            Map.of(
+                "sourceAccountId", command.sourceAccountId(),
+                "targetAccountId", command.targetAccountId()
+            )
         );
     }
 
     /**
-     * AccountInternalApi를 통해 입금을 수행하고 잔액 변경 결과를 반환한다.
+     * 송금 결과가 커밋된 뒤에 재호출 캐시에 기록한다. 롤백된 결과가 캐시에 남지 않도록 커밋 이후로 미룬다.
      */
-    private BalanceUpdateResponse deposit(Long accountId, MoneyWon amount) {
-        AccountApiResponse<BalanceUpdateResponse> response = accountInternalApi.deposit(
-            DepositAccountRequest.of(accountId, amount.amount())
-        );
-        if (response instanceof AccountApiResponse.Success<BalanceUpdateResponse>(BalanceUpdateResponse data)) {
-            return data;
+    private void cacheAfterCommit(Long sourceAccountId, IdempotencyKey idempotencyKey, TransferStatus status) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transferReplayCachePort.putCompletedStatus(sourceAccountId, idempotencyKey, status);
+            return;
         }
-        throw new AccountApiCallException(
-            "계좌 입금에 실패했습니다",
-            Map.of("accountId", accountId)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                transferReplayCachePort.putCompletedStatus(sourceAccountId, idempotencyKey, status);
+            }
+        });
+    }
+
+    /**
+     * Account BC 응답의 계좌 정보를 송금 도메인의 스냅샷으로 변환한다.
+     */
+    private AccountSnapshot toAccountSnapshot(AccountInfoResponse data) {
+        return new AccountSnapshot(
+            data.accountId(),
+            data.customerId(),
+            MoneyWon.of(data.balance()),
+            AccountStatusSnapshot.from(data.status())
         );
     }
 
@@ -307,39 +357,40 @@ public class TransferService implements TransferUseCase {
      * Ledger 스냅샷을 REST 응답용 결과 객체로 변환한다.
      */
     private TransferResult mapToResult(TransferSnapshot snapshot) {
-        TransactionId debitId = snapshot.debitEntry() != null ? snapshot.debitEntry().transactionId() : null;
-        TransactionId creditId = snapshot.creditEntry() != null ? snapshot.creditEntry().transactionId() : null;
-        return TransferResult.builder()
-            .idempotencyKey(snapshot.idempotencyKey())
-            .sourceAccountId(snapshot.sourceAccountId())
-            .targetAccountId(snapshot.targetAccountId())
-            .amount(snapshot.amount())
-            .valueDate(snapshot.valueDate())
-            .debitTransactionId(debitId)
-            .creditTransactionId(creditId)
-            .requestedAt(snapshot.createdAt())
-            .status(snapshot.status())
-            .completedAt(snapshot.updatedAt())
-            .failureReason(snapshot.failureReason())
-            .build();
+        return TransferResult.from(snapshot);
     }
 
     /**
-     * 출금 성공 후 실패가 발생한 경우 원복을 시도한다.
+     * 잔액 반영 후 실패가 발생한 경우 입금 계좌에서 출금 계좌로 원복을 시도한다.
      */
-    private String attemptDebitCompensation(TransferCommand command, IdempotencyKey idempotencyKey, String recipientName) {
+    private String attemptDebitCompensation(
+        TransferCommand command,
+        IdempotencyKey idempotencyKey,
+        String recipientName,
+        String senderName
+    ) {
         try {
             log.warn("[COMPENSATION-START] 송금 보상 처리 시작 - idempotencyKey: {}, accountId: {}, amount: {}",
                 idempotencyKey.value(), command.sourceAccountId(), command.amount().amount());
 
-            BalanceUpdateResponse compensationResponse = deposit(command.sourceAccountId(), command.amount());
+            ApplyTransferResponse compensationResponse = reverseTransfer(command);
 
+            createTransaction(
+                command.targetAccountId(),
+                TransactionType.REVERSAL,
+                TransactionDirection.DEBIT,
+                command.amount(),
+                MoneyWon.of(compensationResponse.withdrawal().currentBalance()),
+                command.valueDate(),
+                senderName + " 송금취소",
+                Instant.now()
+            );
             TransactionId compensationTxId = createTransaction(
                 command.sourceAccountId(),
                 TransactionType.REVERSAL,
                 TransactionDirection.CREDIT,
                 command.amount(),
-                MoneyWon.of(compensationResponse.currentBalance()),
+                MoneyWon.of(compensationResponse.deposit().currentBalance()),
                 command.valueDate(),
                 recipientName + " 송금취소",
                 Instant.now()
@@ -359,13 +410,14 @@ public class TransferService implements TransferUseCase {
     private void handleDomainFailure(
         TransferCommand command,
         IdempotencyKey idempotencyKey,
-        boolean withdrawCompleted,
+        boolean balanceApplied,
         String recipientName,
+        String senderName,
         TransactionException domainEx
     ) {
         String failureReason = domainEx.getMessage();
-        if (withdrawCompleted) {
-            failureReason += attemptDebitCompensation(command, idempotencyKey, recipientName);
+        if (balanceApplied) {
+            failureReason += attemptDebitCompensation(command, idempotencyKey, recipientName, senderName);
         }
         TransferSnapshot failedSnapshot = ledgerService.markTransferFailed(command.sourceAccountId(), idempotencyKey, failureReason);
         transferDomainService.onTransferFailed(idempotencyKey, failedSnapshot, domainEx);
@@ -376,13 +428,14 @@ public class TransferService implements TransferUseCase {
     private void handleSystemFailure(
         TransferCommand command,
         IdempotencyKey idempotencyKey,
-        boolean withdrawCompleted,
+        boolean balanceApplied,
         String recipientName,
+        String senderName,
         RuntimeException systemEx
     ) {
         String failureReason = GENERIC_FAILURE_MESSAGE;
-        if (withdrawCompleted) {
-            failureReason += attemptDebitCompensation(command, idempotencyKey, recipientName);
+        if (balanceApplied) {
+            failureReason += attemptDebitCompensation(command, idempotencyKey, recipientName, senderName);
         }
         TransferSnapshot failedSnapshot = ledgerService.markTransferFailed(command.sourceAccountId(), idempotencyKey, failureReason);
         transferDomainService.onTransferFailed(idempotencyKey, failedSnapshot, systemEx);
@@ -32,7 +32,7 @@ public enum TransactionDirection {
      */
     public static TransactionDirection from(TransactionType transactionType) {
         return switch (transactionType) {
-            case TRANSFER_IN, INTEREST -> CREDIT;
+            case TRANSFER_IN, INTEREST, OPENING_DEPOSIT -> CREDIT;
             case TRANSFER_OUT -> DEBIT;
             case REVERSAL -> throw new IllegalArgumentException(
                 "REVERSAL은 원거래의 방향에 따라 결정되어야 합니다"
@@ -2,12 +2,13 @@ package saviing.bank.transaction.domain.model;
 
 /**
  * 거래 유형을 나타내는 열거형
- * 이체, 이자, 취소 등의 거래 종류를 정의한다.
+ * 이체, 이자, 개설 지급, 취소 등의 거래 종류를 정의한다.
  */
 public enum TransactionType {
     TRANSFER_OUT("이체 출금"),
     TRANSFER_IN("이체 입금"),
     INTEREST("이자"),
+    OPENING_DEPOSIT("개설 지급"),
     REVERSAL("취소");
 
     private final String description;
@@ -18,6 +18,7 @@ import saviing.bank.transaction.exception.InvalidLedgerStateException;
  */
 public class Transfer {
 
+    private final Long id;
     private final TransferType transferType;
     private TransferStatus status;
     private final IdempotencyKey idempotencyKey;
@@ -33,6 +34,7 @@ public class Transfer {
     /**
      * Transfer 생성자
      *
+     * @param id 송금 ID (신규 생성 시 null)
      * @param transferType 송금 유형
      * @param status 송금 상태
      * @param idempotencyKey 멱등키
@@ -42,6 +44,7 @@ public class Transfer {
      * @param failureReason 실패 사유
      */
     private Transfer(
+        Long id,
         TransferType transferType,
         TransferStatus status,
         IdempotencyKey idempotencyKey,
@@ -54,6 +57,7 @@ public class Transfer {
         Instant updatedAt,
         String failureReason
     ) {
+        this.id = id;
         this.transferType = Objects.requireNonNull(transferType, "transferType must not be null");
         this.status = Objects.requireNonNull(status, "status must not be null");
         this.idempotencyKey = idempotencyKey;
@@ -104,6 +108,7 @@ public class Transfer {
             now
         );
         return new Transfer(
+            null,
             transferType,
             TransferStatus.REQUESTED,
             idempotencyKey,
@@ -121,6 +126,7 @@ public class Transfer {
     /**
      * 저장소에서 읽어온 Transfer를 복원한다
      *
+     * @param id 송금 ID
      * @param transferType 송금 유형
      * @param status 송금 상태
      * @param idempotencyKey 멱등키
@@ -135,6 +141,7 @@ public class Transfer {
      * @return 복원된 원장 페어
      */
     public static Transfer restore(
+        Long id,
         TransferType transferType,
         TransferStatus status,
         IdempotencyKey idempotencyKey,
@@ -148,6 +155,7 @@ public class Transfer {
         String failureReason
     ) {
         return new Transfer(
+            id,
             transferType,
             status,
             idempotencyKey,
@@ -162,6 +170,14 @@ public class Transfer {
         );
     }
 
+    /**
+     * 송금 ID를 반환한다
+     *
+     * @return 송금 ID (저장 전이면 null)
+     */
+    public Long getId() {
+        return id;
+    }
 
     /**
      * 송금 유형을 반환한다
@@ -0,0 +1,31 @@
+package saviing.bank.transaction.domain.vo;
+
+import java.time.Instant;
+
+/**
+ * 거래 내역 키셋 페이지네이션의 커서를 나타내는 값 객체
+ * 직전 페이지 마지막 거래의 (처리 일시, 거래 ID)로 다음 페이지의 시작 위치를 가리킨다.
+ */
+public record TransactionCursor(Instant postedAt, Long transactionId) {
+
+    public TransactionCursor {
+        if (postedAt == null || transactionId == null) {
+            throw new IllegalArgumentException("거래 커서는 처리 일시와 거래 ID가 모두 필요합니다");
+        }
+    }
+
+    /**
+     * 처리 일시와 거래 ID로 커서를 생성한다. 두 값이 모두 없으면 첫 페이지를 뜻하는 null을 반환한다.
+     *
+     * @param postedAt 직전 페이지 마지막 거래의 처리 일시
+     * @param transactionId 직전 페이지 마지막 거래의 ID
+     * @return 거래 커서 (첫 페이지면 null)
+     * @throws IllegalArgumentException 두 값 중 하나만 주어진 경우
+     */
+    public static TransactionCursor ofNullable(Instant postedAt, Long transactionId) {
+        if (postedAt == null && transactionId == null) {
+            return null;
+        }
+        return new TransactionCursor(postedAt, transactionId);
+    }
+}
@@ -0,0 +1,56 @@
+package saviing.bank.account.adapter.in.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import saviing.bank.account.api.request.ApplyTransferRequest;
+import saviing.bank.account.api.response.AccountApiResponse;
+import saviing.bank.account.application.port.in.GetAccountUseCase;
+import saviing.bank.account.application.service.AccountBalanceService;
+import saviing.bank.account.exception.AccountNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class AccountInternalApiImplTest {
+
+    @Mock
+    private AccountBalanceService accountBalanceService;
+    @Mock
+    private GetAccountUseCase getAccountUseCase;
+
+    @InjectMocks
+    private AccountInternalApiImpl accountInternalApi;
+
+    @Test
+    void 계좌_도메인_예외는_실패_응답으로_변환한다() {
+        // given
+        when(accountBalanceService.applyTransfer(1L, 2L, 1_000L))
+            .thenThrow(new AccountNotFoundException(Map.of("accountId", 2L)));
+
+        // when
+        var response = accountInternalApi.applyTransfer(ApplyTransferRequest.of(1L, 2L, 1_000L));
+
+        // then
+        assertThat(response).isInstanceOf(AccountApiResponse.Failure.class);
+    }
+
+    @Test
+    void 잠금_경합은_재시도할_수_있도록_그대로_전파한다() {
+        // given
+        when(accountBalanceService.applyTransfer(1L, 2L, 1_000L))
+            .thenThrow(new PessimisticLockingFailureException("lock timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> accountInternalApi.applyTransfer(ApplyTransferRequest.of(1L, 2L, 1_000L)))
+            .isInstanceOf(PessimisticLockingFailureException.class);
+    }
+}
@@ -0,0 +1,168 @@
+package saviing.bank.account.adapter.out.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import saviing.bank.account.domain.model.Account;
+import saviing.bank.account.domain.model.AccountStatus;
+import saviing.bank.account.domain.model.CompoundingType;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.account.domain.vo.AccountNumber;
+import saviing.bank.account.domain.vo.BasisPoints;
+import saviing.bank.account.domain.vo.ProductId;
+import saviing.bank.account.domain.vo.TermPeriod;
+import saviing.bank.common.vo.MoneyWon;
+
+@ExtendWith(MockitoExtension.class)
+class AccountSnapshotCacheTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final String ACCOUNT_NUMBER = "110012345678";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private AccountSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AccountSnapshotCache(stringRedisTemplate, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "redisEnabled", false);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 저장한_스냅샷을_ID와_계좌번호로_조회하고_적중률을_기록한다() {
+        // given
+        cache.put(account(10_000L), 3L);
+
+        // when
+        AccountId resolved = cache.resolveId(new AccountNumber(ACCOUNT_NUMBER)).orElseThrow();
+        Account first = cache.get(resolved).orElseThrow();
+        boolean missed = cache.get(AccountId.of(2L)).isEmpty();
+
+        // then
+        assertThat(resolved).isEqualTo(AccountId.of(ACCOUNT_ID));
+        assertThat(first.getBalance()).isEqualTo(MoneyWon.of(10_000L));
+        assertThat(missed).isTrue();
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void 커밋된_버전보다_오래된_스냅샷은_저장하지_않는다() {
+        // given - 버전 4로 커밋된 뒤 버전 3 시점에 읽은 조회가 늦게 도착
+        cache.markCommitted(AccountId.of(ACCOUNT_ID), 4L);
+
+        // when
+        cache.put(account(10_000L), 3L);
+
+        // then
+        assertThat(cache.get(AccountId.of(ACCOUNT_ID))).isEmpty();
+
+        // when - 커밋된 버전을 읽은 조회는 저장된다
+        cache.put(account(20_000L), 4L);
+
+        // then
+        assertThat(cache.get(AccountId.of(ACCOUNT_ID)))
+            .hasValueSatisfying(account -> assertThat(account.getBalance()).isEqualTo(MoneyWon.of(20_000L)));
+    }
+
+    @Test
+    void 트랜잭션_커밋_후_커밋된_버전을_기록하고_이전_스냅샷을_버린다() {
+        // given
+        cache.put(account(10_000L), 3L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when - 쓰기 직후 바로 비우고, 커밋 시점에 버전을 기록
+        cache.evictOnCompletion(AccountId.of(ACCOUNT_ID), () -> 4L);
+        assertThat(cache.get(AccountId.of(ACCOUNT_ID))).isEmpty();
+        cache.put(account(10_000L), 3L);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+        cache.put(account(10_000L), 3L);
+
+        // then
+        assertThat(cache.get(AccountId.of(ACCOUNT_ID))).isEmpty();
+    }
+
+    @Test
+    void 로컬_스냅샷은_TTL이_지나면_반환하지_않는다() {
+        // given - 다른 노드의 쓰기는 버전 기록에 남지 않으므로 TTL로만 걸러진다
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        cache.put(account(10_000L), 3L);
+
+        // when
+        boolean expired = cache.get(AccountId.of(ACCOUNT_ID)).isEmpty();
+
+        // then
+        assertThat(expired).isTrue();
+        assertThat(cache.hitRatio()).isZero();
+    }
+
+    @Test
+    void 스냅샷은_JSON으로_왕복해도_같은_값을_유지한다() throws Exception {
+        // given
+        AccountSnapshot snapshot = AccountSnapshot.of(account(10_000L), 7L);
+
+        // when
+        String json = objectMapper.writeValueAsString(snapshot);
+        AccountSnapshot restored = objectMapper.readValue(json, AccountSnapshot.class);
+
+        // then
+        assertThat(restored).isEqualTo(snapshot);
+        assertThat(restored.toDomain().getTermPeriod()).isEqualTo(TermPeriod.weeks(10));
+    }
+
+    private Account account(long balance) {
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        return Account.restore(
+            AccountId.of(ACCOUNT_ID),
+            new AccountNumber(ACCOUNT_NUMBER),
+            1000L,
+            ProductId.of(2L),
+            CompoundingType.DAILY,
+            null,
+            MoneyWon.of(1_000_000L),
+            TermPeriod.weeks(10),
+            LocalDate.parse("2024-03-11"),
+            AccountStatus.ACTIVE,
+            now,
+            null,
+            now,
+            now,
+            now,
+            now,
+            MoneyWon.of(balance),
+            new BigDecimal("12.500000"),
+            BasisPoints.of(250),
+            BasisPoints.zero()
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package saviing.bank.account.adapter.out.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import saviing.bank.account.domain.vo.AccountNumber;
+
+/**
+ * 구간 할당 계좌번호 생성기가 여러 노드와 재기동 사이에서 중복 없이 검증 숫자가 붙은 계좌번호를 발급하는지 검증한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DefaultAccountNumberGeneratorTest {
+
+    private static final int THREADS_PER_NODE = 4;
+    private static final int NUMBERS_PER_THREAD = 250;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 여러_노드가_동시에_발급해도_계좌번호가_겹치지_않는다() throws Exception {
+        // given - 같은 카운터를 공유하는 두 노드
+        List<DefaultAccountNumberGenerator> nodes = List.of(newGenerator(), newGenerator());
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.size() * THREADS_PER_NODE);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (DefaultAccountNumberGenerator node : nodes) {
+                for (int t = 0; t < THREADS_PER_NODE; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < NUMBERS_PER_THREAD; i++) {
+                            issued.add(node.generateUniqueAccountNumber().value());
+                        }
+                    }));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(issued).hasSize(nodes.size() * THREADS_PER_NODE * NUMBERS_PER_THREAD);
+        assertThat(issued).allSatisfy(number -> {
+            assertThat(number).hasSize(14).startsWith("1");
+            assertThat(isLuhnValid(number)).isTrue();
+        });
+    }
+
+    @Test
+    void 재기동한_노드는_이전에_임대한_구간_이후부터_발급한다() {
+        // given
+        AccountNumber beforeRestart = newGenerator().generateUniqueAccountNumber();
+
+        // when - 새 인스턴스는 메모리의 구간을 잃고 카운터에서 다시 임대한다
+        AccountNumber afterRestart = newGenerator().generateUniqueAccountNumber();
+
+        // then
+        assertThat(serialOf(afterRestart)).isGreaterThan(serialOf(beforeRestart));
+    }
+
+    private DefaultAccountNumberGenerator newGenerator() {
+        DefaultAccountNumberGenerator generator = new DefaultAccountNumberGenerator(jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(generator, "blockSize", 7);
+        return generator;
+    }
+
+    private long serialOf(AccountNumber accountNumber) {
+        return Long.parseLong(accountNumber.value().substring(1, 13));
+    }
+
+    private boolean isLuhnValid(String number) {
+        int sum = 0;
+        for (int i = 0; i < number.length(); i++) {
+            int digit = number.charAt(number.length() - 1 - i) - '0';
+            if (i % 2 == 1) {
+                digit = digit * 2 > 9 ? digit * 2 - 9 : digit * 2;
+            }
+            sum += digit;
+        }
+        return sum % 10 == 0;
+    }
+}
@@ -0,0 +1,197 @@
+package saviing.bank.account.application.event;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 Redis 프로토콜(RESP2) 대역 서버.
+ * 스트림 릴레이 검증에 필요한 명령({@code PING}, {@code CLIENT}, {@code XADD}, {@code XLEN}, {@code XRANGE})만 처리하며,
+ * 받은 명령을 기록하고 {@code XADD} 실패를 흉내 낼 수 있다. {@code MAXLEN ~}은 정확한 길이로 트림한다.
+ */
+class RespStreamStandIn implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final Map<String, List<StreamEntry>> streams = new ConcurrentHashMap<>();
+    private final List<List<String>> commands = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile boolean failXadd;
+
+    RespStreamStandIn() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread.ofVirtual().start(this::acceptLoop);
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    void failXadd(boolean fail) {
+        this.failXadd = fail;
+    }
+
+    List<StreamEntry> entries(String key) {
+        synchronized (streams) {
+            return List.copyOf(streams.getOrDefault(key, List.of()));
+        }
+    }
+
+    List<List<String>> commands(String name) {
+        return commands.stream()
+            .filter(command -> command.get(0).equalsIgnoreCase(name))
+            .toList();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread.ofVirtual().start(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             InputStream in = new BufferedInputStream(socket.getInputStream());
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+            while (true) {
+                List<String> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                commands.add(command);
+                out.write(handle(command).getBytes(StandardCharsets.UTF_8));
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (IOException ignored) {
+            // 연결 종료
+        }
+    }
+
+    private String handle(List<String> command) {
+        return switch (command.get(0).toUpperCase(Locale.ROOT)) {
+            case "PING" -> "+PONG\r\n";
+            case "CLIENT", "SELECT", "AUTH" -> "+OK\r\n";
+            case "XADD" -> failXadd ? "-ERR simulated failure\r\n" : xadd(command);
+            case "XLEN" -> ":" + entries(command.get(1)).size() + "\r\n";
+            case "XRANGE" -> xrange(command.get(1));
+            default -> "-ERR unknown command '" + command.get(0) + "'\r\n";
+        };
+    }
+
+    private String xadd(List<String> command) {
+        String key = command.get(1);
+        int index = 2;
+        long maxlen = -1;
+        while (true) {
+            String option = command.get(index).toUpperCase(Locale.ROOT);
+            if (option.equals("NOMKSTREAM")) {
+                index++;
+            } else if (option.equals("MAXLEN")) {
+                index++;
+                if (command.get(index).equals("~") || command.get(index).equals("=")) {
+                    index++;
+                }
+                maxlen = Long.parseLong(command.get(index++));
+            } else {
+                break;
+            }
+        }
+        String id = command.get(index++);
+        if (id.equals("*")) {
+            id = System.currentTimeMillis() + "-" + sequence.incrementAndGet();
+        }
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = index; i + 1 < command.size(); i += 2) {
+            fields.put(command.get(i), command.get(i + 1));
+        }
+        synchronized (streams) {
+            List<StreamEntry> entries = streams.computeIfAbsent(key, ignored -> new ArrayList<>());
+            entries.add(new StreamEntry(id, Collections.unmodifiableMap(fields)));
+            while (maxlen >= 0 && entries.size() > maxlen) {
+                entries.remove(0);
+            }
+        }
+        return bulk(id);
+    }
+
+    private String xrange(String key) {
+        List<StreamEntry> entries = entries(key);
+        StringBuilder reply = new StringBuilder("*").append(entries.size()).append("\r\n");
+        for (StreamEntry entry : entries) {
+            reply.append("*2\r\n").append(bulk(entry.id()));
+            reply.append('*').append(entry.fields().size() * 2).append("\r\n");
+            entry.fields().forEach((field, value) -> reply.append(bulk(field)).append(bulk(value)));
+        }
+        return reply.toString();
+    }
+
+    private static String bulk(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return "$" + bytes.length + "\r\n" + value + "\r\n";
+    }
+
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        if (header.charAt(0) != '*') {
+            return List.of(header.trim().split("\\s+"));
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<String> arguments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] data = in.readNBytes(length);
+            in.readNBytes(2);
+            arguments.add(new String(data, StandardCharsets.UTF_8));
+        }
+        return arguments;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int previous = -1;
+        while (true) {
+            int current = in.read();
+            if (current == -1) {
+                return null;
+            }
+            if (previous == '\r' && current == '\n') {
+                line.setLength(line.length() - 1);
+                return line.toString();
+            }
+            line.append((char) current);
+            previous = current;
+        }
+    }
+
+    record StreamEntry(String id, Map<String, String> fields) {
+    }
+}
@@ -0,0 +1,72 @@
+package saviing.bank.account.application.event;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import saviing.bank.account.application.port.out.EventOutboxPort;
+import saviing.bank.account.application.service.ProductService;
+import saviing.bank.account.domain.model.Account;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.account.domain.vo.ProductId;
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.config.StreamProperties;
+
+/**
+ * 적금 입금 이벤트가 아웃박스 기록 실패를 삼키지 않고 입금 트랜잭션으로 전파하는지 검증한다.
+ */
+class SavingsDepositEventPublisherTest {
+
+    private final EventOutboxPort eventOutboxPort = mock(EventOutboxPort.class);
+    private SavingsDepositEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        StreamProperties streamProperties = new StreamProperties();
+        streamProperties.setKey("savings-deposit");
+        publisher = new SavingsDepositEventPublisher(eventOutboxPort, streamProperties, new ProductService());
+    }
+
+    @Test
+    void 아웃박스_기록_실패는_입금_트랜잭션으로_전파한다() {
+        // given
+        doThrow(new DataIntegrityViolationException("outbox insert failed")).when(eventOutboxPort).append(any());
+
+        // when & then
+        assertThatThrownBy(() -> publisher.publish(account(2L), MoneyWon.of(10_000L)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void 적금이_아닌_계좌는_이벤트를_기록하지_않는다() {
+        // when
+        publisher.publish(account(1L), MoneyWon.of(10_000L));
+
+        // then
+        verify(eventOutboxPort, never()).append(any());
+    }
+
+    @Test
+    void 상품을_찾을_수_없으면_이벤트만_건너뛴다() {
+        // when & then
+        assertThatNoException().isThrownBy(() -> publisher.publish(account(999L), MoneyWon.of(10_000L)));
+        verify(eventOutboxPort, never()).append(any());
+    }
+
+    private Account account(long productId) {
+        Account account = mock(Account.class);
+        when(account.getId()).thenReturn(AccountId.of(1L));
+        when(account.getCustomerId()).thenReturn(1L);
+        when(account.getProductId()).thenReturn(ProductId.of(productId));
+        return account;
+    }
+}
@@ -0,0 +1,157 @@
+package saviing.bank.account.application.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import saviing.bank.account.application.port.out.EventOutboxPort;
+import saviing.bank.account.application.port.out.EventOutboxPort.OutboxEvent;
+import saviing.bank.config.StreamProperties;
+
+/**
+ * 적금 입금 아웃박스 릴레이를 Redis 프로토콜 대역 서버({@link RespStreamStandIn})에 연결해 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class SavingsDepositOutboxRelayTest {
+
+    private static final String STREAM_KEY = "stream:test.savings.deposited";
+
+    @Mock
+    private TransactionTemplate txTemplate;
+    @Mock
+    private EventOutboxPort eventOutboxPort;
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private RespStreamStandIn redis;
+    private LettuceConnectionFactory connectionFactory;
+    private SavingsDepositOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new RespStreamStandIn();
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+            .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+            .build();
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration("127.0.0.1", redis.port()), clientConfiguration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        StreamProperties streamProperties = new StreamProperties();
+        streamProperties.setKey(STREAM_KEY);
+        streamProperties.setMaxlenApprox(1_000L);
+
+        lenient().when(txTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(transactionStatus);
+        });
+
+        relay = new SavingsDepositOutboxRelay(
+            txTemplate, eventOutboxPort, stringRedisTemplate, streamProperties, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "enabled", true);
+        ReflectionTestUtils.setField(relay, "batchSize", 3);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Test
+    void 대기_이벤트를_기록_순서대로_묶어서_발행하고_아웃박스에서_삭제한다() {
+        // given - 묶음 크기 3, 이벤트 5건 (두 계좌가 번갈아 입금)
+        List<OutboxEvent> pending = new ArrayList<>(List.of(
+            event(1L, 10L, "1000"), event(2L, 20L, "2000"), event(3L, 10L, "3000"),
+            event(4L, 20L, "4000"), event(5L, 10L, "5000")
+        ));
+        when(eventOutboxPort.lockPendingEvents(anyInt())).thenAnswer(invocation -> {
+            int limit = invocation.getArgument(0);
+            return List.copyOf(pending.subList(0, Math.min(limit, pending.size())));
+        });
+        doAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            pending.removeIf(event -> ids.contains(event.eventId()));
+            return null;
+        }).when(eventOutboxPort).deleteAll(any());
+
+        // when
+        relay.relayPendingEvents();
+
+        // then
+        assertThat(pending).isEmpty();
+        List<RespStreamStandIn.StreamEntry> entries = redis.entries(STREAM_KEY);
+        assertThat(entries).extracting(entry -> entry.fields().get(SavingsDepositOutboxRelay.EVENT_ID_FIELD))
+            .containsExactly("1", "2", "3", "4", "5");
+        assertThat(entries.stream().filter(entry -> "10".equals(entry.fields().get("accountId"))))
+            .extracting(entry -> entry.fields().get("amount"))
+            .containsExactly("1000", "3000", "5000");
+        assertThat(redis.commands("XADD")).allSatisfy(command ->
+            assertThat(command.subList(2, 5)).containsExactly("MAXLEN", "~", "1000"));
+    }
+
+    @Test
+    void 발행에_실패하면_이벤트를_남겨두고_다음_실행에서_다시_보낸다() {
+        // given
+        List<OutboxEvent> pending = List.of(event(1L, 10L, "1000"), event(2L, 10L, "2000"));
+        when(eventOutboxPort.lockPendingEvents(anyInt())).thenReturn(pending, List.of());
+        redis.failXadd(true);
+
+        // when - 첫 실행은 실패
+        relay.relayPendingEvents();
+
+        // then
+        verify(eventOutboxPort, never()).deleteAll(any());
+
+        // when - 복구 후 재실행
+        redis.failXadd(false);
+        when(eventOutboxPort.lockPendingEvents(anyInt())).thenReturn(pending, List.of());
+        relay.relayPendingEvents();
+
+        // then - 최소 한 번 전달
+        verify(eventOutboxPort).deleteAll(List.of(1L, 2L));
+        assertThat(redis.entries(STREAM_KEY))
+            .extracting(entry -> entry.fields().get(SavingsDepositOutboxRelay.EVENT_ID_FIELD))
+            .containsExactly("1", "2");
+    }
+
+    private OutboxEvent event(Long eventId, Long accountId, String amount) {
+        Map<String, String> payload = Map.of(
+            "version", "v1",
+            "accountId", String.valueOf(accountId),
+            "amount", amount
+        );
+        return new OutboxEvent(eventId, STREAM_KEY, accountId, payload, Instant.now());
+    }
+}
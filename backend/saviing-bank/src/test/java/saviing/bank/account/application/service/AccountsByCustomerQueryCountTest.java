@@ -0,0 +1,131 @@
+package saviing.bank.account.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import saviing.bank.account.application.port.in.GetAccountsByCustomerIdUseCase;
+import saviing.bank.account.application.port.in.result.GetAccountResult;
+import saviing.bank.account.application.port.out.AutoTransferSchedulePort;
+import saviing.bank.account.application.port.out.SaveAccountPort;
+import saviing.bank.account.domain.model.Account;
+import saviing.bank.account.domain.model.AutoTransferCycle;
+import saviing.bank.account.domain.model.AutoTransferSchedule;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.account.domain.vo.AccountNumber;
+import saviing.bank.account.domain.vo.ProductId;
+import saviing.bank.account.domain.vo.TermPeriod;
+import saviing.bank.common.vo.MoneyWon;
+
+/**
+ * 고객별 계좌 목록 조회가 적금 계좌 수와 무관하게 고정된 수의 쿼리로 처리되는지 Hibernate 통계로 검증한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AccountsByCustomerQueryCountTest {
+
+    private static final long SMALL_CUSTOMER_ID = 930_001L;
+    private static final long LARGE_CUSTOMER_ID = 930_002L;
+
+    @Autowired
+    private GetAccountsByCustomerIdUseCase getAccountsByCustomerIdUseCase;
+    @Autowired
+    private SaveAccountPort saveAccountPort;
+    @Autowired
+    private AutoTransferSchedulePort autoTransferSchedulePort;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void 적금_계좌_수와_무관하게_한_번의_쿼리로_계좌_목록을_조회한다() {
+        // given
+        openAccounts(SMALL_CUSTOMER_ID, "93000100", 1);
+        openAccounts(LARGE_CUSTOMER_ID, "93000200", 12);
+
+        // when
+        long smallQueries = countQueries(() -> getAccountsByCustomerIdUseCase.getAccountsByCustomerId(SMALL_CUSTOMER_ID));
+        long largeQueries = countQueries(() -> getAccountsByCustomerIdUseCase.getAccountsByCustomerId(LARGE_CUSTOMER_ID));
+
+        // then
+        assertThat(smallQueries).isEqualTo(1);
+        assertThat(largeQueries).isEqualTo(smallQueries);
+        List<GetAccountResult> results = getAccountsByCustomerIdUseCase.getAccountsByCustomerId(LARGE_CUSTOMER_ID);
+        assertThat(results).hasSize(13);
+        assertThat(results)
+            .filteredOn(result -> result.savings() != null && result.savings().autoTransfer() != null)
+            .hasSize(12);
+    }
+
+    @Test
+    void 여러_계좌의_자동이체_스케줄을_한_번의_쿼리로_조회한다() {
+        // given
+        List<AccountId> accountIds = openAccounts(930_003L, "93000300", 10);
+
+        // when
+        statistics.clear();
+        Map<AccountId, AutoTransferSchedule> schedules = autoTransferSchedulePort.findAllByAccountIds(accountIds);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(schedules).hasSize(10);
+        assertThat(schedules).allSatisfy((accountId, schedule) ->
+            assertThat(schedule.getAccountId()).isEqualTo(accountId));
+    }
+
+    private long countQueries(Runnable query) {
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 입출금 계좌 1개와 자동이체가 설정된 적금 계좌 {@code savingsCount}개를 개설한다.
+     *
+     * @return 개설한 적금 계좌 ID 목록
+     */
+    private List<AccountId> openAccounts(long customerId, String numberPrefix, int savingsCount) {
+        Instant now = Instant.now();
+        Account demand = saveAccountPort.save(
+            Account.open(new AccountNumber(numberPrefix + "0000"), customerId, ProductId.of(1L), now));
+        List<AccountId> savingsIds = new ArrayList<>();
+        for (int i = 1; i <= savingsCount; i++) {
+            Account savings = Account.open(
+                new AccountNumber(numberPrefix + String.format("%04d", i)), customerId, ProductId.of(2L), now);
+            savings.setSavingsSettings(MoneyWon.of(1_000_000L), TermPeriod.weeks(10), null, now);
+            AccountId savingsId = saveAccountPort.save(savings).getId();
+            autoTransferSchedulePort.create(AutoTransferSchedule.create(
+                savingsId, AutoTransferCycle.WEEKLY, demand.getId(), 1, MoneyWon.of(10_000L), true,
+                LocalDate.now(), now));
+            savingsIds.add(savingsId);
+        }
+        return savingsIds;
+    }
+}
@@ -0,0 +1,136 @@
+package saviing.bank.account.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static saviing.bank.support.AccountFixture.openAccount;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import saviing.bank.BankApplication;
+import saviing.bank.account.application.port.out.AutoTransferSchedulePort;
+import saviing.bank.account.application.port.out.LoadAccountPort;
+import saviing.bank.account.application.port.out.SaveAccountPort;
+import saviing.bank.account.domain.model.AutoTransferCycle;
+import saviing.bank.account.domain.model.AutoTransferSchedule;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.common.vo.MoneyWon;
+
+/**
+ * 같은 데이터베이스를 공유하는 두 애플리케이션 컨텍스트에서
+ * 자동이체 스케줄이 노드 간 중복 없이 정확히 한 번 실행되는지 검증한다.
+ */
+class AutoTransferClaimTest {
+
+    private static final int SCHEDULE_COUNT = 12;
+    private static final long INITIAL_BALANCE = 1_000_000L;
+    private static final long TRANSFER_AMOUNT = 10_000L;
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void 두_노드가_동시에_실행해도_각_스케줄은_한_번만_실행된다() throws Exception {
+        // given
+        SaveAccountPort saveAccountPort = nodeA.getBean(SaveAccountPort.class);
+        AutoTransferSchedulePort schedulePort = nodeA.getBean(AutoTransferSchedulePort.class);
+        LocalDate today = LocalDate.now();
+
+        List<AccountId> withdrawAccountIds = List.of(
+            openAccount(saveAccountPort, "810000000001", 1L, INITIAL_BALANCE).getId(),
+            openAccount(saveAccountPort, "810000000002", 1L, INITIAL_BALANCE).getId(),
+            openAccount(saveAccountPort, "810000000003", 1L, INITIAL_BALANCE).getId()
+        );
+        List<AccountId> savingsAccountIds = new ArrayList<>();
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            AccountId savingsAccountId = openAccount(saveAccountPort, "8200000000%02d".formatted(i), 1L, 0L).getId();
+            savingsAccountIds.add(savingsAccountId);
+            schedulePort.create(AutoTransferSchedule.create(
+                savingsAccountId,
+                AutoTransferCycle.MONTHLY,
+                withdrawAccountIds.get(i % withdrawAccountIds.size()),
+                today.getDayOfMonth(),
+                MoneyWon.of(TRANSFER_AMOUNT),
+                true,
+                today,
+                Instant.now()
+            ));
+        }
+        schedulePort.resetAllNextRunDate(today);
+
+        // when - 두 노드의 스케줄러를 동시에 실행
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> runs = new ArrayList<>();
+        for (ConfigurableApplicationContext node : List.of(nodeA, nodeB)) {
+            AutoTransferScheduler scheduler = node.getBean(AutoTransferScheduler.class);
+            runs.add(executor.submit(() -> {
+                startGate.await();
+                scheduler.processAutoTransferSchedules();
+                return null;
+            }));
+        }
+        startGate.countDown();
+        for (Future<?> run : runs) {
+            run.get(120, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then - 모든 적금 계좌에 정확히 한 번씩 입금되고 스케줄 실행 기록이 남는다
+        LoadAccountPort loadAccountPort = nodeA.getBean(LoadAccountPort.class);
+        for (AccountId savingsAccountId : savingsAccountIds) {
+            assertThat(loadAccountPort.findById(savingsAccountId).orElseThrow().getBalance().amount())
+                .isEqualTo(TRANSFER_AMOUNT);
+            AutoTransferSchedule schedule = schedulePort.findByAccountId(savingsAccountId).orElseThrow();
+            assertThat(schedule.getLastExecutedAt()).isNotNull();
+            assertThat(schedule.getNextRunDate()).isAfter(today);
+        }
+        long withdrawnTotal = withdrawAccountIds.stream()
+            .mapToLong(id -> INITIAL_BALANCE - loadAccountPort.findById(id).orElseThrow().getBalance().amount())
+            .sum();
+        assertThat(withdrawnTotal).isEqualTo(TRANSFER_AMOUNT * SCHEDULE_COUNT);
+    }
+
+    private ConfigurableApplicationContext startNode(String nodeId) {
+        return new SpringApplicationBuilder(BankApplication.class)
+            .profiles("test")
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:auto-transfer-claim;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=FALSE;mode=mysql",
+                "spring.jpa.hibernate.ddl-auto=update",
+                "server.port=0",
+                "auto-transfer.scheduler.cron=-",
+                "auto-transfer.scheduler.claim.enabled=true",
+                "auto-transfer.scheduler.claim.node-id=" + nodeId,
+                "auto-transfer.scheduler.claim.chunk-size=3"
+            )
+            .run();
+    }
+}
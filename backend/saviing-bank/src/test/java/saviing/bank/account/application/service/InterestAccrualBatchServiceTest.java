@@ -0,0 +1,163 @@
+package saviing.bank.account.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import saviing.bank.account.application.port.out.InterestAccrualBatchPort;
+import saviing.bank.account.application.port.out.InterestAccrualBatchPort.AccrualCheckpoint;
+import saviing.bank.account.application.port.out.InterestAccrualBatchPort.AccrualTarget;
+import saviing.bank.account.application.port.out.InterestAccrualBatchPort.AccrualUpdate;
+import saviing.bank.account.domain.model.CompoundingType;
+import saviing.bank.account.domain.service.InterestAccrualService;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.account.domain.vo.BasisPoints;
+
+@ExtendWith(MockitoExtension.class)
+class InterestAccrualBatchServiceTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2025, 3, 2);
+    private static final Instant AS_OF = RUN_DATE.atStartOfDay(ZoneId.systemDefault()).toInstant();
+
+    @Mock
+    private TransactionTemplate txTemplate;
+
+    @Mock
+    private InterestAccrualBatchPort interestAccrualBatchPort;
+
+    @Mock
+    private InterestAccrualService interestAccrualService;
+
+    private InterestAccrualBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new InterestAccrualBatchService(
+            txTemplate, interestAccrualBatchPort, interestAccrualService, new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        lenient().when(txTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(txTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void 중단된_실행은_체크포인트_다음_계좌부터_재개하고_완료를_기록한다() {
+        // given
+        when(interestAccrualBatchPort.findCheckpoint(InterestAccrualBatchService.JOB_NAME))
+            .thenReturn(Optional.of(new AccrualCheckpoint(InterestAccrualBatchService.JOB_NAME, RUN_DATE, 10L, false)));
+        when(interestAccrualBatchPort.findAccrualTargets(eq(10L), anyInt()))
+            .thenReturn(List.of(target(11L, 100_000L), target(12L, 200_000L)));
+        when(interestAccrualBatchPort.findAccrualTargets(eq(12L), anyInt()))
+            .thenReturn(List.of(target(13L, 300_000L)));
+        when(interestAccrualService.computeAccrual(
+            anyLong(), any(), any(), any(), any(), any(), eq(AS_OF)
+        )).thenReturn(new BigDecimal("1.500000"));
+        when(interestAccrualBatchPort.applyAccruals(anyList()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // when
+        service.accrue(RUN_DATE);
+
+        // then
+        verify(interestAccrualBatchPort, never()).findAccrualTargets(eq(0L), anyInt());
+        ArgumentCaptor<AccrualCheckpoint> checkpoints = ArgumentCaptor.forClass(AccrualCheckpoint.class);
+        verify(interestAccrualBatchPort, times(3)).saveCheckpoint(checkpoints.capture());
+        assertThat(checkpoints.getAllValues())
+            .extracting(AccrualCheckpoint::lastAccountId, AccrualCheckpoint::completed)
+            .containsExactly(
+                tuple(12L, false),
+                tuple(13L, false),
+                tuple(13L, true)
+            );
+    }
+
+    @Test
+    void 잔액이_0인_계좌는_이자없이_계산시점만_갱신하고_이미_적립된_계좌는_제외한다() {
+        // given
+        when(interestAccrualBatchPort.findCheckpoint(InterestAccrualBatchService.JOB_NAME)).thenReturn(Optional.empty());
+        AccrualTarget alreadyAccrued = new AccrualTarget(
+            AccountId.of(2L), 50_000L, BigDecimal.ZERO, BasisPoints.of(300), BasisPoints.zero(),
+            CompoundingType.DAILY, AS_OF, 1L
+        );
+        when(interestAccrualBatchPort.findAccrualTargets(eq(0L), anyInt()))
+            .thenReturn(List.of(target(1L, 0L), alreadyAccrued));
+        when(interestAccrualBatchPort.findAccrualTargets(eq(2L), anyInt())).thenReturn(List.of());
+        when(interestAccrualBatchPort.applyAccruals(anyList()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // when
+        service.accrue(RUN_DATE);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AccrualUpdate>> updates = ArgumentCaptor.forClass(List.class);
+        verify(interestAccrualBatchPort).applyAccruals(updates.capture());
+        assertThat(updates.getValue()).containsExactly(
+            new AccrualUpdate(AccountId.of(1L), new BigDecimal("0.250000"), AS_OF, 1L)
+        );
+        verify(interestAccrualService, never()).computeAccrual(
+            anyLong(), any(), any(), any(), any(), any(), any()
+        );
+    }
+
+    @Test
+    void 같은_기준일로_완료된_실행은_다시_처리하지_않는다() {
+        // given
+        when(interestAccrualBatchPort.findCheckpoint(InterestAccrualBatchService.JOB_NAME))
+            .thenReturn(Optional.of(new AccrualCheckpoint(InterestAccrualBatchService.JOB_NAME, RUN_DATE, 99L, true)));
+
+        // when
+        service.accrue(RUN_DATE);
+
+        // then
+        verify(interestAccrualBatchPort, never()).findAccrualTargets(anyLong(), anyInt());
+        verify(interestAccrualBatchPort, never()).saveCheckpoint(any());
+    }
+
+    private AccrualTarget target(long accountId, long balance) {
+        return new AccrualTarget(
+            AccountId.of(accountId),
+            balance,
+            new BigDecimal("0.250000"),
+            BasisPoints.of(300),
+            BasisPoints.of(50),
+            CompoundingType.DAILY,
+            AS_OF.minusSeconds(86_400),
+            1L
+        );
+    }
+}
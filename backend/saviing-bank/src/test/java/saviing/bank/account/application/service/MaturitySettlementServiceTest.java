@@ -0,0 +1,177 @@
+package saviing.bank.account.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static saviing.bank.support.AccountFixture.openAccount;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import saviing.bank.account.application.port.out.LoadAccountPort;
+import saviing.bank.account.application.port.out.SaveAccountPort;
+import saviing.bank.account.domain.model.Account;
+import saviing.bank.account.domain.model.AccountStatus;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.account.domain.vo.AccountNumber;
+import saviing.bank.account.domain.vo.BasisPoints;
+import saviing.bank.account.domain.vo.ProductId;
+import saviing.bank.account.domain.vo.TermPeriod;
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.out.LedgerPersistencePort;
+import saviing.bank.transaction.application.port.out.LoadTransactionPort;
+import saviing.bank.transaction.domain.model.Transaction;
+import saviing.bank.transaction.domain.model.TransactionType;
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+
+/**
+ * 만기 정산 배치가 이자 지급, 만기 출금 계좌 송금, 해지를 한 트랜잭션으로 처리하고,
+ * 실패한 계좌는 그대로 남겨 다음 실행에서 다시 정산하며 재실행으로 두 번 지급하지 않는지 검증한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MaturitySettlementServiceTest {
+
+    private static final long PRINCIPAL = 10_000_000L;
+    private static final long WITHDRAWAL_BALANCE = 1_000L;
+
+    @Autowired
+    private MaturitySettlementService maturitySettlementService;
+    @Autowired
+    private SaveAccountPort saveAccountPort;
+    @Autowired
+    private LoadAccountPort loadAccountPort;
+    @Autowired
+    private LoadTransactionPort loadTransactionPort;
+    @Autowired
+    private LedgerPersistencePort ledgerPersistencePort;
+
+    @Test
+    void 만기_이자를_지급하고_잔액을_만기_출금_계좌로_송금한_뒤_해지한다() {
+        // given
+        Account withdrawal = openAccount(saveAccountPort, 1L, WITHDRAWAL_BALANCE);
+        Long savingsId = openMaturedSavings(withdrawal.getAccountNumber());
+
+        // when
+        maturitySettlementService.settle(LocalDate.now());
+
+        // then
+        Account settled = load(savingsId);
+        assertThat(settled.getStatus()).isEqualTo(AccountStatus.CLOSED);
+        assertThat(settled.getBalance().amount()).isZero();
+        long interest = loadTransactionPort.loadTransactionsByAccount(savingsId, 0, 10).stream()
+            .filter(transaction -> transaction.getTransactionType() == TransactionType.INTEREST)
+            .mapToLong(transaction -> transaction.getAmount().amount())
+            .sum();
+        assertThat(interest).isPositive();
+        assertThat(load(withdrawal.getId().value()).getBalance().amount())
+            .isEqualTo(WITHDRAWAL_BALANCE + PRINCIPAL + interest);
+    }
+
+    @Test
+    void 송금이_실패하면_이자_지급까지_롤백하고_다음_실행에서_다시_정산한다() {
+        // given - 만기 출금 계좌가 동결되어 입금할 수 없다
+        Account withdrawal = openAccount(saveAccountPort, 1L, WITHDRAWAL_BALANCE);
+        Long savingsId = openMaturedSavings(withdrawal.getAccountNumber());
+        withdrawal.freeze();
+        saveAccountPort.save(withdrawal);
+
+        // when
+        maturitySettlementService.settle(LocalDate.now());
+
+        // then
+        Account pending = load(savingsId);
+        assertThat(pending.getStatus()).isEqualTo(AccountStatus.ACTIVE);
+        assertThat(pending.getBalance().amount()).isEqualTo(PRINCIPAL);
+        assertThat(interestTransactions(savingsId)).isZero();
+        assertThat(ledgerPersistencePort.findBySourceAccountIdAndIdempotencyKey(savingsId, settlementKey(savingsId)))
+            .isEmpty();
+
+        // when - 동결을 풀고 다시 실행
+        Account unfrozen = load(withdrawal.getId().value());
+        unfrozen.unfreeze();
+        saveAccountPort.save(unfrozen);
+        maturitySettlementService.settle(LocalDate.now());
+
+        // then
+        assertThat(load(savingsId).getStatus()).isEqualTo(AccountStatus.CLOSED);
+        assertThat(interestTransactions(savingsId)).isEqualTo(1);
+        assertThat(ledgerPersistencePort.findBySourceAccountIdAndIdempotencyKey(savingsId, settlementKey(savingsId)))
+            .get()
+            .extracting(transfer -> transfer.getStatus())
+            .isEqualTo(TransferStatus.SETTLED);
+    }
+
+    @Test
+    void 동시에_재실행해도_만기_금액은_한_번만_지급한다() {
+        // given
+        Account withdrawal = openAccount(saveAccountPort, 1L, WITHDRAWAL_BALANCE);
+        Long savingsId = openMaturedSavings(withdrawal.getAccountNumber());
+
+        // when
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> maturitySettlementService.settle(LocalDate.now()));
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> maturitySettlementService.settle(LocalDate.now()));
+        CompletableFuture.allOf(first, second).join();
+        maturitySettlementService.settle(LocalDate.now());
+
+        // then
+        assertThat(load(savingsId).getStatus()).isEqualTo(AccountStatus.CLOSED);
+        assertThat(interestTransactions(savingsId)).isEqualTo(1);
+        long paid = ledgerPersistencePort.findBySourceAccountIdAndIdempotencyKey(savingsId, settlementKey(savingsId))
+            .orElseThrow()
+            .getAmount()
+            .amount();
+        assertThat(load(withdrawal.getId().value()).getBalance().amount()).isEqualTo(WITHDRAWAL_BALANCE + paid);
+    }
+
+    @Test
+    void 만기_출금_계좌가_없으면_정산하지_않고_활성_상태로_남긴다() {
+        // given
+        Long unassignedId = openMaturedSavings(null);
+        Long danglingId = openMaturedSavings(new AccountNumber("93" + System.nanoTime()));
+
+        // when
+        maturitySettlementService.settle(LocalDate.now());
+
+        // then
+        for (Long savingsId : new Long[] {unassignedId, danglingId}) {
+            Account skipped = load(savingsId);
+            assertThat(skipped.getStatus()).isEqualTo(AccountStatus.ACTIVE);
+            assertThat(skipped.getBalance().amount()).isEqualTo(PRINCIPAL);
+            assertThat(interestTransactions(savingsId)).isZero();
+        }
+    }
+
+    /**
+     * 7일 적금으로 30일 전에 개설해 만기가 지난 적금 계좌를 만든다.
+     */
+    private Long openMaturedSavings(AccountNumber withdrawalAccountNumber) {
+        Instant openedAt = Instant.now().minus(30, ChronoUnit.DAYS);
+        Account account = Account.open(new AccountNumber("91" + System.nanoTime()), 1L, ProductId.of(2L), openedAt);
+        account.setSavingsSettings(MoneyWon.of(PRINCIPAL), TermPeriod.weeks(1), withdrawalAccountNumber, openedAt);
+        account.changeBaseRate(BasisPoints.of(365), openedAt);
+        account.deposit(MoneyWon.of(PRINCIPAL));
+        return saveAccountPort.save(account).getId().value();
+    }
+
+    private long interestTransactions(Long accountId) {
+        return loadTransactionPort.loadTransactionsByAccount(accountId, 0, 10).stream()
+            .map(Transaction::getTransactionType)
+            .filter(TransactionType.INTEREST::equals)
+            .count();
+    }
+
+    private IdempotencyKey settlementKey(Long savingsId) {
+        return IdempotencyKey.of("maturity-settlement-" + savingsId);
+    }
+
+    private Account load(Long accountId) {
+        return loadAccountPort.findById(AccountId.of(accountId)).orElseThrow();
+    }
+}
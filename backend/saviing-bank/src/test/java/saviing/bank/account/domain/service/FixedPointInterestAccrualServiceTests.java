@@ -0,0 +1,100 @@
+package saviing.bank.account.domain.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import saviing.bank.account.domain.model.CompoundingType;
+import saviing.bank.account.domain.vo.BasisPoints;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FixedPointInterestAccrualServiceTests {
+
+    private static final int CASES_PER_TYPE = 500;
+    private static final Instant BASE_TIME = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final InterestAccrualServiceImpl bigDecimalService = new InterestAccrualServiceImpl();
+    private final FixedPointInterestAccrualService fixedPointService =
+        new FixedPointInterestAccrualService(bigDecimalService);
+
+    @ParameterizedTest
+    @EnumSource(CompoundingType.class)
+    void 임의의_입력에서_BigDecimal_구현과_같은_결과를_낸다(CompoundingType compoundingType) {
+        Random random = new Random(20240101L + compoundingType.ordinal());
+
+        for (int i = 0; i < CASES_PER_TYPE; i++) {
+            long principal = randomPrincipal(random);
+            BigDecimal accrued = BigDecimal.valueOf(random.nextLong(0, 10_000_000_000L), 6);
+            BasisPoints baseRate = BasisPoints.of(random.nextInt(2_000));
+            BasisPoints bonusRate = BasisPoints.of(random.nextInt(500));
+            Instant from = BASE_TIME.plusSeconds(random.nextInt(86_400 * 30));
+            Instant to = from.plusSeconds((long) (random.nextDouble() * 86_400L * 365 * 3));
+
+            BigDecimal expected = bigDecimalService.computeAccrual(
+                principal, accrued, baseRate, bonusRate, compoundingType, from, to
+            );
+            BigDecimal actual = fixedPointService.computeAccrual(
+                principal, accrued, baseRate, bonusRate, compoundingType, from, to
+            );
+
+            assertThat(actual)
+                .as("principal=%d, accrued=%s, rate=%s+%s, from=%s, to=%s",
+                    principal, accrued, baseRate, bonusRate, from, to)
+                .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void 고정소수점으로_표현할_수_없는_누적이자는_BigDecimal_구현과_같은_결과를_낸다() {
+        BigDecimal accrued = new BigDecimal("0.12345678");
+        Instant to = BASE_TIME.plusSeconds(86_400L * 400);
+
+        BigDecimal expected = bigDecimalService.computeAccrual(
+            1_000_000L, accrued, BasisPoints.of(350), BasisPoints.of(50), CompoundingType.DAILY, BASE_TIME, to
+        );
+        BigDecimal actual = fixedPointService.computeAccrual(
+            1_000_000L, accrued, BasisPoints.of(350), BasisPoints.of(50), CompoundingType.DAILY, BASE_TIME, to
+        );
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void 계수_테이블_한도를_넘는_기간은_BigDecimal_구현과_같은_결과를_낸다() {
+        Instant to = BASE_TIME.plusSeconds(86_400L * 3_700);
+
+        BigDecimal expected = bigDecimalService.computeAccrual(
+            50_000_000L, BigDecimal.ZERO, BasisPoints.of(300), BasisPoints.zero(), CompoundingType.DAILY, BASE_TIME, to
+        );
+        BigDecimal actual = fixedPointService.computeAccrual(
+            50_000_000L, BigDecimal.ZERO, BasisPoints.of(300), BasisPoints.zero(), CompoundingType.DAILY, BASE_TIME, to
+        );
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void 월복리는_한_달_이상_경과하면_복리로_계산한다() {
+        Instant to = Instant.parse("2024-04-01T00:00:00Z");
+
+        BigDecimal actual = fixedPointService.computeAccrual(
+            1_000_000L, BigDecimal.ZERO, BasisPoints.of(1200), BasisPoints.zero(), CompoundingType.MONTH, BASE_TIME, to
+        );
+
+        // 1,000,000 × (1.01^3 - 1) = 30,301
+        assertThat(actual).isEqualByComparingTo("30301");
+    }
+
+    private long randomPrincipal(Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> random.nextInt(100_000);
+            case 1 -> random.nextLong(1, 100_000_000L);
+            default -> random.nextLong(1, 1_000_000_000_000L);
+        };
+    }
+}
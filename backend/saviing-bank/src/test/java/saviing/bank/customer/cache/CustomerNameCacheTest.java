@@ -0,0 +1,107 @@
+package saviing.bank.customer.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CustomerNameCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T00:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CustomerNameCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CustomerNameCache(meterRegistry);
+        ReflectionTestUtils.setField(cache, "maxSize", 2);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        setClock(NOW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 저장한_이름을_조회하고_적중과_미스를_기록한다() {
+        // given
+        cache.put(1L, "홍길동");
+
+        // when
+        var hit = cache.get(1L);
+        var miss = cache.get(2L);
+
+        // then
+        assertThat(hit).contains("홍길동");
+        assertThat(miss).isEmpty();
+        assertThat(meterRegistry.counter("customer_name_cache.requests", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("customer_name_cache.requests", "result", "miss").count()).isEqualTo(1.0);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void TTL이_지난_이름은_만료된다() {
+        // given
+        cache.put(1L, "홍길동");
+
+        // when
+        setClock(NOW.plusSeconds(60));
+
+        // then
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_조회되지_않은_이름을_제거한다() {
+        // given
+        cache.put(1L, "홍길동");
+        cache.put(2L, "김철수");
+        cache.get(1L);
+
+        // when
+        cache.put(3L, "이영희");
+
+        // then
+        assertThat(cache.get(2L)).isEmpty();
+        assertThat(cache.get(1L)).contains("홍길동");
+        assertThat(cache.get(3L)).contains("이영희");
+    }
+
+    @Test
+    void 트랜잭션_완료_시점에_다시_채워진_이전_이름도_제거한다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put(1L, "홍길동");
+
+        // when - 수정 직후 비워진 뒤 커밋 전에 다른 스레드가 이전 이름을 다시 채운 상황
+        cache.evictOnCompletion(1L);
+        assertThat(cache.get(1L)).isEmpty();
+        cache.put(1L, "홍길동");
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    private void setClock(Instant instant) {
+        ReflectionTestUtils.setField(cache, "clock", Clock.fixed(instant, ZoneOffset.UTC));
+    }
+}
@@ -1,16 +1,26 @@
 package saviing.bank.customer.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import saviing.bank.customer.cache.CustomerNameCache;
 import saviing.bank.customer.entity.Customer;
 import saviing.bank.customer.repository.CustomerRepository;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -19,9 +29,18 @@ class CustomerServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Spy
+    private CustomerNameCache customerNameCache = new CustomerNameCache(new SimpleMeterRegistry());
+
     @InjectMocks
     private CustomerService customerService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(customerNameCache, "maxSize", 100);
+        ReflectionTestUtils.setField(customerNameCache, "ttlSeconds", 600L);
+    }
+
     @Test
     void 존재하는_고객의_이름을_조회할_수_있다() {
         // Given
@@ -52,4 +71,43 @@ class CustomerServiceTest {
         // Then
         assertThat(result).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void 한_번_조회한_고객_이름은_캐시에서_돌려준다() {
+        // Given
+        Long customerId = 1L;
+        when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer(customerId, "홍길동")));
+        customerService.getCustomerName(customerId);
+
+        // When
+        Optional<String> result = customerService.getCustomerName(customerId);
+
+        // Then
+        assertThat(result).contains("홍길동");
+        verify(customerRepository, times(1)).findById(customerId);
+    }
+
+    @Test
+    void 여러_고객의_이름은_캐시에_없는_고객만_한_번에_조회한다() {
+        // Given
+        customerNameCache.put(1L, "홍길동");
+        when(customerRepository.findAllById(List.of(2L, 3L)))
+            .thenReturn(List.of(customer(2L, "김철수")));
+
+        // When
+        Map<Long, String> result = customerService.getCustomerNames(List.of(1L, 2L, 3L, 2L));
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "홍길동", 2L, "김철수"));
+        assertThat(customerService.getCustomerName(2L)).contains("김철수");
+        verify(customerRepository, never()).findById(2L);
+    }
+
+    private Customer customer(Long customerId, String name) {
+        Customer customer = Customer.builder()
+            .name(name)
+            .build();
+        ReflectionTestUtils.setField(customer, "customerId", customerId);
+        return customer;
+    }
+}
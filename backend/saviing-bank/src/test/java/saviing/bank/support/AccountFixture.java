@@ -0,0 +1,66 @@
+package saviing.bank.support;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import saviing.bank.account.application.port.out.LoadAccountPort;
+import saviing.bank.account.application.port.out.SaveAccountPort;
+import saviing.bank.account.domain.model.Account;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.account.domain.vo.AccountNumber;
+import saviing.bank.account.domain.vo.ProductId;
+import saviing.bank.common.vo.MoneyWon;
+
+/**
+ * 통합 테스트에서 자유입출금 계좌를 개설하고 잔액을 조회하는 공용 픽스처.
+ * 같은 테스트 컨텍스트의 데이터베이스를 여러 테스트가 공유하므로 계좌번호를 지정하지 않으면 겹치지 않는 번호를 만든다.
+ */
+public final class AccountFixture {
+
+    private static final ProductId DEMAND_DEPOSIT = ProductId.of(1L);
+    private static final AtomicLong ACCOUNT_NUMBER_SEQUENCE = new AtomicLong(System.nanoTime());
+
+    private AccountFixture() {
+    }
+
+    /**
+     * 자유입출금 계좌를 개설하고 초기 잔액을 입금해 저장한다.
+     *
+     * @param saveAccountPort 계좌 저장 포트
+     * @param customerId 고객 ID
+     * @param initialBalance 초기 잔액 (0이면 입금하지 않는다)
+     * @return 저장된 계좌
+     */
+    public static Account openAccount(SaveAccountPort saveAccountPort, Long customerId, long initialBalance) {
+        return openAccount(saveAccountPort, "88" + ACCOUNT_NUMBER_SEQUENCE.incrementAndGet(), customerId, initialBalance);
+    }
+
+    /**
+     * 지정한 계좌번호로 자유입출금 계좌를 개설하고 초기 잔액을 입금해 저장한다.
+     *
+     * @param saveAccountPort 계좌 저장 포트
+     * @param accountNumber 계좌번호
+     * @param customerId 고객 ID
+     * @param initialBalance 초기 잔액 (0이면 입금하지 않는다)
+     * @return 저장된 계좌
+     */
+    public static Account openAccount(SaveAccountPort saveAccountPort, String accountNumber, Long customerId,
+                                      long initialBalance) {
+        Account account = Account.open(new AccountNumber(accountNumber), customerId, DEMAND_DEPOSIT, Instant.now());
+        if (initialBalance > 0) {
+            account.deposit(MoneyWon.of(initialBalance));
+        }
+        return saveAccountPort.save(account);
+    }
+
+    /**
+     * 저장된 계좌의 현재 잔액을 조회한다.
+     *
+     * @param loadAccountPort 계좌 조회 포트
+     * @param accountId 계좌 ID
+     * @return 잔액 (원 단위)
+     */
+    public static long balanceOf(LoadAccountPort loadAccountPort, Long accountId) {
+        return loadAccountPort.findById(AccountId.of(accountId)).orElseThrow().getBalance().amount();
+    }
+}
@@ -0,0 +1,210 @@
+package saviing.bank.transaction.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static saviing.bank.support.AccountFixture.balanceOf;
+import static saviing.bank.support.AccountFixture.openAccount;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import lombok.extern.slf4j.Slf4j;
+
+import saviing.bank.account.application.port.out.LoadAccountPort;
+import saviing.bank.account.application.port.out.SaveAccountPort;
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.in.BulkTransferUseCase;
+import saviing.bank.transaction.application.port.in.TransferUseCase;
+import saviing.bank.transaction.application.port.in.command.BulkTransferCommand;
+import saviing.bank.transaction.application.port.in.command.TransferCommand;
+import saviing.bank.transaction.application.port.in.result.BulkTransferResult;
+import saviing.bank.transaction.application.port.in.result.BulkTransferResult.LegResult;
+import saviing.bank.transaction.application.port.in.result.TransferResult;
+import saviing.bank.transaction.application.port.out.LoadTransactionPort;
+import saviing.bank.transaction.domain.model.Transaction;
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+import saviing.bank.transaction.domain.model.transfer.TransferType;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+import saviing.bank.transaction.exception.TransferValidationException;
+
+/**
+ * 일괄 송금이 출금 계좌와 입금 계좌를 계좌별로 한 번씩 반영하고, 건별 실패와 멱등 재호출을 건 단위로 보고하는지 검증한다.
+ * 같은 건수를 단건 송금으로 반복했을 때와 일괄 송금의 건당 처리 시간을 측정해 로그로 남긴다
+ * (건수는 {@code transfer.bulk.benchmark.legs} 시스템 프로퍼티로 조정, 기본 100건).
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkTransferServiceTest {
+
+    private static final int BENCHMARK_LEGS = Integer.getInteger("transfer.bulk.benchmark.legs", 100);
+
+    @Autowired
+    private BulkTransferUseCase bulkTransferUseCase;
+    @Autowired
+    private TransferUseCase transferUseCase;
+    @Autowired
+    private SaveAccountPort saveAccountPort;
+    @Autowired
+    private LoadAccountPort loadAccountPort;
+    @Autowired
+    private LoadTransactionPort loadTransactionPort;
+
+    @Test
+    void 같은_입금_계좌로_가는_건을_합산해_반영하고_건별_거래를_서로_연결한다() {
+        // given
+        Long sourceId = openAccount(saveAccountPort, 1L, 100_000L).getId().value();
+        Long targetAId = openAccount(saveAccountPort, 2L, 0L).getId().value();
+        Long targetBId = openAccount(saveAccountPort, 3L, 0L).getId().value();
+        BulkTransferCommand command = bulkCommand(sourceId, List.of(
+            leg(targetAId, 10_000L, "월급"),
+            leg(targetBId, 20_000L, null),
+            leg(targetAId, 5_000L, "보너스")
+        ));
+
+        // when
+        BulkTransferResult result = bulkTransferUseCase.bulkTransfer(command);
+
+        // then
+        assertThat(result.settledCount()).isEqualTo(3);
+        assertThat(result.failedCount()).isZero();
+        assertThat(result.legs()).extracting(LegResult::index).containsExactly(0, 1, 2);
+        assertThat(balanceOf(loadAccountPort, sourceId)).isEqualTo(65_000L);
+        assertThat(balanceOf(loadAccountPort, targetAId)).isEqualTo(15_000L);
+        assertThat(balanceOf(loadAccountPort, targetBId)).isEqualTo(20_000L);
+
+        TransferResult last = result.legs().get(2).transfer();
+        Transaction debit = loadTransactionPort.loadTransaction(last.debitTransactionId()).orElseThrow();
+        Transaction credit = loadTransactionPort.loadTransaction(last.creditTransactionId()).orElseThrow();
+        assertThat(debit.getRelatedTransactionId()).isEqualTo(last.creditTransactionId());
+        assertThat(credit.getRelatedTransactionId()).isEqualTo(last.debitTransactionId());
+        assertThat(debit.getBalanceAfter()).isEqualTo(MoneyWon.of(65_000L));
+        assertThat(credit.getBalanceAfter()).isEqualTo(MoneyWon.of(15_000L));
+        assertThat(credit.getDescription()).isEqualTo("보너스");
+    }
+
+    @Test
+    void 잔액이_부족한_건만_실패로_기록하고_나머지_건은_정산한다() {
+        // given
+        Long sourceId = openAccount(saveAccountPort, 1L, 5_000L).getId().value();
+        Long targetId = openAccount(saveAccountPort, 2L, 0L).getId().value();
+        BulkTransferCommand command = bulkCommand(sourceId, List.of(
+            leg(targetId, 3_000L, null),
+            leg(targetId, 3_000L, null),
+            leg(targetId, 1_000L, null)
+        ));
+
+        // when
+        BulkTransferResult result = bulkTransferUseCase.bulkTransfer(command);
+
+        // then
+        assertThat(result.legs())
+            .extracting(leg -> leg.transfer().status())
+            .containsExactly(TransferStatus.SETTLED, TransferStatus.FAILED, TransferStatus.SETTLED);
+        assertThat(result.legs().get(1).transfer().failureReason()).contains("INSUFFICIENT_BALANCE");
+        assertThat(balanceOf(loadAccountPort, sourceId)).isEqualTo(1_000L);
+        assertThat(balanceOf(loadAccountPort, targetId)).isEqualTo(4_000L);
+    }
+
+    @Test
+    void 같은_멱등키로_다시_요청하면_잔액을_바꾸지_않고_기존_결과를_돌려준다() {
+        // given
+        Long sourceId = openAccount(saveAccountPort, 1L, 10_000L).getId().value();
+        Long targetId = openAccount(saveAccountPort, 2L, 0L).getId().value();
+        BulkTransferCommand command = bulkCommand(sourceId, List.of(
+            leg(targetId, 1_000L, null),
+            leg(targetId, 2_000L, null)
+        ));
+        bulkTransferUseCase.bulkTransfer(command);
+
+        // when
+        BulkTransferResult replay = bulkTransferUseCase.bulkTransfer(command);
+
+        // then
+        assertThat(replay.replayedCount()).isEqualTo(2);
+        assertThat(replay.legs()).allSatisfy(leg -> {
+            assertThat(leg.replayed()).isTrue();
+            assertThat(leg.transfer().status()).isEqualTo(TransferStatus.SETTLED);
+        });
+        assertThat(balanceOf(loadAccountPort, sourceId)).isEqualTo(7_000L);
+        assertThat(balanceOf(loadAccountPort, targetId)).isEqualTo(3_000L);
+    }
+
+    @Test
+    void 요청_안에_중복된_멱등키가_있으면_아무것도_반영하지_않는다() {
+        // given
+        Long sourceId = openAccount(saveAccountPort, 1L, 10_000L).getId().value();
+        Long targetId = openAccount(saveAccountPort, 2L, 0L).getId().value();
+        BulkTransferCommand.Leg leg = leg(targetId, 1_000L, null);
+        BulkTransferCommand command = bulkCommand(sourceId, List.of(leg, leg));
+
+        // when & then
+        assertThatThrownBy(() -> bulkTransferUseCase.bulkTransfer(command))
+            .isInstanceOf(TransferValidationException.class);
+        assertThat(balanceOf(loadAccountPort, sourceId)).isEqualTo(10_000L);
+    }
+
+    @Test
+    void 단건_송금_반복_대비_일괄_송금의_건당_처리_시간을_기록한다() {
+        // given
+        Long singleSourceId = openAccount(saveAccountPort, 1L, 100_000_000L).getId().value();
+        Long bulkSourceId = openAccount(saveAccountPort, 1L, 100_000_000L).getId().value();
+        List<Long> targetIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            targetIds.add(openAccount(saveAccountPort, 2L + i, 0L).getId().value());
+        }
+        List<BulkTransferCommand.Leg> legs = new ArrayList<>();
+        for (int i = 0; i < BENCHMARK_LEGS; i++) {
+            legs.add(leg(targetIds.get(i % targetIds.size()), 1_000L, null));
+        }
+
+        // when
+        long singleStartedAt = System.nanoTime();
+        for (BulkTransferCommand.Leg leg : legs) {
+            transferUseCase.transfer(TransferCommand.builder()
+                .sourceAccountId(singleSourceId)
+                .targetAccountId(leg.targetAccountId())
+                .amount(leg.amount())
+                .valueDate(LocalDate.now())
+                .transferType(TransferType.INTERNAL)
+                .idempotencyKey(IdempotencyKey.of("single-" + System.nanoTime()))
+                .build());
+        }
+        long singleNanos = System.nanoTime() - singleStartedAt;
+
+        long bulkStartedAt = System.nanoTime();
+        BulkTransferResult result = bulkTransferUseCase.bulkTransfer(bulkCommand(bulkSourceId, legs));
+        long bulkNanos = System.nanoTime() - bulkStartedAt;
+
+        // then
+        assertThat(result.settledCount()).isEqualTo(BENCHMARK_LEGS);
+        assertThat(balanceOf(loadAccountPort, bulkSourceId)).isEqualTo(balanceOf(loadAccountPort, singleSourceId));
+
+        long singleMicrosPerLeg = singleNanos / 1_000 / BENCHMARK_LEGS;
+        long bulkMicrosPerLeg = bulkNanos / 1_000 / BENCHMARK_LEGS;
+        log.info("일괄 송금 건당 처리 시간: legs={}, singleMicrosPerLeg={}, bulkMicrosPerLeg={}, speedup={}",
+            BENCHMARK_LEGS, singleMicrosPerLeg, bulkMicrosPerLeg,
+            bulkNanos == 0 ? 0 : singleNanos / bulkNanos);
+    }
+
+    private BulkTransferCommand bulkCommand(Long sourceAccountId, List<BulkTransferCommand.Leg> legs) {
+        return BulkTransferCommand.builder()
+            .sourceAccountId(sourceAccountId)
+            .legs(legs)
+            .valueDate(LocalDate.now())
+            .transferType(TransferType.INTERNAL)
+            .requestedAt(Instant.now())
+            .build();
+    }
+
+    private BulkTransferCommand.Leg leg(Long targetAccountId, long amount, String memo) {
+        return BulkTransferCommand.Leg.of(targetAccountId, amount, memo, "bulk-" + System.nanoTime());
+    }
+}
@@ -0,0 +1,220 @@
+package saviing.bank.transaction.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.in.GetDailyBalancesUseCase;
+import saviing.bank.transaction.application.port.in.result.DailyBalanceResult;
+import saviing.bank.transaction.application.port.in.result.PeriodBalanceResult;
+import saviing.bank.transaction.application.port.out.DailyBalancePort;
+import saviing.bank.transaction.application.port.out.DailyBalancePort.DailyBalance;
+import saviing.bank.transaction.application.port.out.SaveTransactionPort;
+import saviing.bank.transaction.domain.model.Transaction;
+import saviing.bank.transaction.domain.model.TransactionDirection;
+import saviing.bank.transaction.domain.model.TransactionType;
+import saviing.bank.transaction.exception.InvalidValueDateException;
+
+/**
+ * 거래 저장 시 누적되는 일별 잔액 스냅샷이 기존 거래로 재구성한 결과와 같고,
+ * 기간 조회가 스냅샷만으로 시작/마감 잔액과 입출금 합계를 계산하는지 검증한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DailyBalanceSnapshotTest {
+
+    private static final long ACCOUNT_ID = 990_004L;
+    private static final long BACKFILL_ACCOUNT_ID = 990_005L;
+    private static final long TRANSACTION_ID_BASE = 940_000_000L;
+    private static final LocalDate DAY1 = LocalDate.of(2024, 5, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2024, 5, 2);
+    private static final LocalDate DAY4 = LocalDate.of(2024, 5, 4);
+    private static final Instant BASE_TIME = Instant.parse("2024-05-01T00:00:00Z");
+
+    @Autowired
+    private SaveTransactionPort saveTransactionPort;
+    @Autowired
+    private DailyBalancePort dailyBalancePort;
+    @Autowired
+    private GetDailyBalancesUseCase getDailyBalancesUseCase;
+    @Autowired
+    private DailyBalanceBackfillService dailyBalanceBackfillService;
+    @Autowired
+    private TransactionTemplate txTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long balance;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        for (long accountId : List.of(ACCOUNT_ID, BACKFILL_ACCOUNT_ID)) {
+            jdbcTemplate.update("delete from transaction where account_id = ?", accountId);
+            jdbcTemplate.update("delete from account_daily_balance where account_id = ?", accountId);
+        }
+        balance = 0L;
+        sequence = 0;
+    }
+
+    @Test
+    void 거래를_저장하면_가치일별_잔액과_입출금_합계가_누적된다() {
+        // given & when
+        post(DAY1, TransactionDirection.CREDIT, 100_000L);
+        post(DAY1, TransactionDirection.DEBIT, 30_000L);
+        post(DAY2, TransactionDirection.CREDIT, 50_000L);
+        post(DAY4, TransactionDirection.DEBIT, 20_000L);
+        post(DAY4, TransactionDirection.CREDIT, 5_000L);
+
+        // then
+        List<DailyBalance> days = dailyBalancePort.loadDailyBalances(ACCOUNT_ID, DAY1, DAY4);
+        assertThat(days).extracting(DailyBalance::valueDate).containsExactly(DAY1, DAY2, DAY4);
+        assertThat(days.get(0)).isEqualTo(new DailyBalance(ACCOUNT_ID, DAY1,
+            MoneyWon.of(0L), MoneyWon.of(70_000L), MoneyWon.of(100_000L), MoneyWon.of(30_000L), 2));
+        assertThat(days.get(1)).isEqualTo(new DailyBalance(ACCOUNT_ID, DAY2,
+            MoneyWon.of(70_000L), MoneyWon.of(120_000L), MoneyWon.of(50_000L), MoneyWon.of(0L), 1));
+        assertThat(days.get(2)).isEqualTo(new DailyBalance(ACCOUNT_ID, DAY4,
+            MoneyWon.of(120_000L), MoneyWon.of(105_000L), MoneyWon.of(5_000L), MoneyWon.of(20_000L), 2));
+    }
+
+    @Test
+    void 기존_거래로_재구성한_스냅샷이_누적된_스냅샷과_같다() {
+        // given
+        post(DAY1, TransactionDirection.CREDIT, 100_000L);
+        post(DAY1, TransactionDirection.DEBIT, 30_000L);
+        post(DAY2, TransactionDirection.CREDIT, 50_000L);
+        post(DAY4, TransactionDirection.DEBIT, 20_000L);
+        List<DailyBalance> incremental = dailyBalancePort.loadDailyBalances(ACCOUNT_ID, DAY1, DAY4);
+
+        // when
+        Integer rebuilt = txTemplate.execute(status -> dailyBalancePort.rebuildDailyBalances(ACCOUNT_ID, DAY4));
+
+        // then
+        assertThat(rebuilt).isEqualTo(3);
+        assertThat(dailyBalancePort.loadDailyBalances(ACCOUNT_ID, DAY1, DAY4)).isEqualTo(incremental);
+    }
+
+    @Test
+    void 소급_거래는_이후_가치일의_시작_마감_잔액을_다시_잇고_재구성_결과와_같다() {
+        // given
+        post(DAY1, TransactionDirection.CREDIT, 100_000L);
+        post(DAY4, TransactionDirection.DEBIT, 20_000L);
+
+        // when - 더 늦은 가치일 행이 있는 상태에서 이전 가치일로 입금
+        post(DAY2, TransactionDirection.CREDIT, 50_000L);
+
+        // then
+        List<DailyBalance> days = dailyBalancePort.loadDailyBalances(ACCOUNT_ID, DAY1, DAY4);
+        assertThat(days).containsExactly(
+            new DailyBalance(ACCOUNT_ID, DAY1,
+                MoneyWon.of(0L), MoneyWon.of(100_000L), MoneyWon.of(100_000L), MoneyWon.of(0L), 1),
+            new DailyBalance(ACCOUNT_ID, DAY2,
+                MoneyWon.of(100_000L), MoneyWon.of(150_000L), MoneyWon.of(50_000L), MoneyWon.of(0L), 1),
+            new DailyBalance(ACCOUNT_ID, DAY4,
+                MoneyWon.of(150_000L), MoneyWon.of(130_000L), MoneyWon.of(0L), MoneyWon.of(20_000L), 1)
+        );
+        txTemplate.execute(status -> dailyBalancePort.rebuildDailyBalances(ACCOUNT_ID, DAY4));
+        assertThat(dailyBalancePort.loadDailyBalances(ACCOUNT_ID, DAY1, DAY4)).isEqualTo(days);
+    }
+
+    @Test
+    void 백필은_스냅샷이_없는_기존_거래의_일별_잔액을_만든다() {
+        // given - 스냅샷 도입 전에 저장된 거래
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        List<long[]> rows = List.of(
+            new long[] {0, 10_000L, 10_000L},
+            new long[] {0, 2_000L, 12_000L},
+            new long[] {1, 4_000L, 16_000L}
+        );
+        for (int i = 0; i < rows.size(); i++) {
+            long[] row = rows.get(i);
+            Timestamp postedAt = Timestamp.from(BASE_TIME.plusSeconds(i));
+            jdbcTemplate.update("""
+                insert into transaction (txn_id, account_id, txn_type, direction, amount, balance_after, value_date,
+                                         posted_at, status, created_at, updated_at)
+                values (?, ?, 'TRANSFER_IN', 'CREDIT', ?, ?, ?, ?, 'POSTED', ?, ?)
+                """, ps -> {
+                ps.setLong(1, TRANSACTION_ID_BASE + sequence++);
+                ps.setLong(2, BACKFILL_ACCOUNT_ID);
+                ps.setLong(3, row[1]);
+                ps.setLong(4, row[2]);
+                ps.setObject(5, DAY1.plusDays(row[0]));
+                ps.setTimestamp(6, postedAt, utc);
+                ps.setTimestamp(7, postedAt, utc);
+                ps.setTimestamp(8, postedAt, utc);
+            });
+        }
+
+        // when
+        dailyBalanceBackfillService.backfill(DAY4);
+
+        // then
+        List<DailyBalance> days = dailyBalancePort.loadDailyBalances(BACKFILL_ACCOUNT_ID, DAY1, DAY4);
+        assertThat(days).hasSize(2);
+        assertThat(days.get(0)).isEqualTo(new DailyBalance(BACKFILL_ACCOUNT_ID, DAY1,
+            MoneyWon.of(0L), MoneyWon.of(12_000L), MoneyWon.of(12_000L), MoneyWon.of(0L), 2));
+        assertThat(days.get(1)).isEqualTo(new DailyBalance(BACKFILL_ACCOUNT_ID, DAY2,
+            MoneyWon.of(12_000L), MoneyWon.of(16_000L), MoneyWon.of(4_000L), MoneyWon.of(0L), 1));
+    }
+
+    @Test
+    void 기간_조회는_일별_스냅샷으로_시작_마감_잔액과_입출금_합계를_계산한다() {
+        // given
+        post(DAY1, TransactionDirection.CREDIT, 100_000L);
+        post(DAY2, TransactionDirection.DEBIT, 30_000L);
+        post(DAY2, TransactionDirection.CREDIT, 10_000L);
+        post(DAY4, TransactionDirection.CREDIT, 50_000L);
+
+        // when
+        PeriodBalanceResult period = getDailyBalancesUseCase.getDailyBalances(ACCOUNT_ID, DAY2, DAY4);
+        PeriodBalanceResult quiet = getDailyBalancesUseCase.getDailyBalances(ACCOUNT_ID, DAY2.plusDays(1), DAY2.plusDays(1));
+
+        // then
+        assertThat(period.openingBalance()).isEqualByComparingTo(BigDecimal.valueOf(100_000L));
+        assertThat(period.closingBalance()).isEqualByComparingTo(BigDecimal.valueOf(130_000L));
+        assertThat(period.totalCredit()).isEqualByComparingTo(BigDecimal.valueOf(60_000L));
+        assertThat(period.totalDebit()).isEqualByComparingTo(BigDecimal.valueOf(30_000L));
+        assertThat(period.days()).extracting(DailyBalanceResult::valueDate).containsExactly(DAY2, DAY4);
+
+        assertThat(quiet.days()).isEmpty();
+        assertThat(quiet.openingBalance()).isEqualByComparingTo(BigDecimal.valueOf(80_000L));
+        assertThat(quiet.closingBalance()).isEqualByComparingTo(BigDecimal.valueOf(80_000L));
+        assertThat(quiet.totalCredit()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void 시작_가치일이_종료_가치일보다_늦으면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> getDailyBalancesUseCase.getDailyBalances(ACCOUNT_ID, DAY2, DAY1))
+            .isInstanceOf(InvalidValueDateException.class);
+    }
+
+    /**
+     * 잔액을 갱신하며 거래 하나를 저장 포트로 저장한다.
+     */
+    private void post(LocalDate valueDate, TransactionDirection direction, long amount) {
+        balance += direction == TransactionDirection.CREDIT ? amount : -amount;
+        TransactionType type = direction == TransactionDirection.CREDIT
+            ? TransactionType.TRANSFER_IN
+            : TransactionType.TRANSFER_OUT;
+        Transaction transaction = Transaction.create(ACCOUNT_ID, type, direction, MoneyWon.of(amount),
+            MoneyWon.of(balance), valueDate, BASE_TIME.plusSeconds(sequence++), "daily-balance");
+        txTemplate.executeWithoutResult(status -> saveTransactionPort.saveTransaction(transaction));
+    }
+}
@@ -0,0 +1,174 @@
+package saviing.bank.transaction.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static saviing.bank.support.AccountFixture.balanceOf;
+import static saviing.bank.support.AccountFixture.openAccount;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import lombok.extern.slf4j.Slf4j;
+
+import saviing.bank.account.application.port.out.LoadAccountPort;
+import saviing.bank.account.application.port.out.SaveAccountPort;
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.in.TransferUseCase;
+import saviing.bank.transaction.application.port.in.command.TransferCommand;
+import saviing.bank.transaction.application.port.in.result.TransferResult;
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+import saviing.bank.transaction.domain.model.transfer.TransferType;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+import saviing.bank.transaction.exception.TransferInProgressException;
+
+/**
+ * 동시 송금자들이 한 계좌로 몰리는 경우와 서로 다른 계좌로 흩어지는 경우의 처리량과 중단 비율을 측정해 로그로 남기고,
+ * 계좌 행 잠금과 {@link TransferRetryExecutor} 재시도 경로에서 중단된 송금이 잔액에 반영되지 않는지 검증한다.
+ * 동시 송금자 수는 {@code transfer.hot-account.benchmark.writers} 시스템 프로퍼티로 조정할 수 있다 (기본 64명).
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class HotAccountTransferThroughputTest {
+
+    private static final int WRITERS = Integer.getInteger("transfer.hot-account.benchmark.writers", 64);
+    private static final int TRANSFERS_PER_WRITER = 5;
+    private static final long INITIAL_BALANCE = 1_000_000L;
+    private static final long TRANSFER_AMOUNT = 1_000L;
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+    @Autowired
+    private SaveAccountPort saveAccountPort;
+    @Autowired
+    private LoadAccountPort loadAccountPort;
+
+    @Test
+    void 한_계좌로_몰리는_동시_송금의_처리량과_중단_비율을_분산_송금과_비교해_기록한다() throws Exception {
+        // given - 송금자마다 출금 계좌를 두고, 입금 계좌는 한 곳(집중) 또는 송금자별(분산)
+        List<Long> hotSources = openAccounts(WRITERS);
+        Long hotTarget = openAccount(saveAccountPort, 9L, 0L).getId().value();
+        List<Long> spreadSources = openAccounts(WRITERS);
+        List<Long> spreadTargets = openAccounts(WRITERS);
+
+        // when
+        Outcome hot = runWriters("hot", hotSources, index -> hotTarget);
+        Outcome spread = runWriters("spread", spreadSources, spreadTargets::get);
+
+        // then - 정산된 송금만 잔액에 반영되고 중단된 송금은 흔적이 없다
+        assertThat(balanceOf(loadAccountPort, hotTarget)).isEqualTo(hot.settled() * TRANSFER_AMOUNT);
+        assertThat(totalBalance(hotSources)).isEqualTo(WRITERS * INITIAL_BALANCE - hot.settled() * TRANSFER_AMOUNT);
+        assertThat(totalBalance(spreadSources) + totalBalance(spreadTargets))
+            .isEqualTo(WRITERS * INITIAL_BALANCE * 2);
+        assertThat(hot.settled() + hot.aborted()).isEqualTo((long) WRITERS * TRANSFERS_PER_WRITER);
+        assertThat(spread.settled() + spread.aborted()).isEqualTo((long) WRITERS * TRANSFERS_PER_WRITER);
+
+        log.info("집중/분산 송금 비교: writers={}, hotTransfersPerSec={}, spreadTransfersPerSec={}, "
+                + "hotAbortRate={}, spreadAbortRate={}",
+            WRITERS, hot.transfersPerSec(), spread.transfersPerSec(), hot.abortRate(), spread.abortRate());
+    }
+
+    private Outcome runWriters(String label, List<Long> sources, TargetSelector targets) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<Outcome>> futures = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            futures.add(executor.submit(writer(startGate, label + "-" + i, sources.get(i), targets.targetOf(i))));
+        }
+
+        long startedAt = System.nanoTime();
+        startGate.countDown();
+        long settled = 0;
+        long aborted = 0;
+        for (Future<Outcome> future : futures) {
+            Outcome outcome = future.get(120, TimeUnit.SECONDS);
+            settled += outcome.settled();
+            aborted += outcome.aborted();
+        }
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        executor.shutdown();
+
+        Outcome outcome = new Outcome(settled, aborted, elapsedMs);
+        log.info("동시 송금 처리량({}): writers={}, settled={}, aborted={}, elapsedMs={}, transfersPerSec={}, abortRate={}",
+            label, WRITERS, settled, aborted, elapsedMs, outcome.transfersPerSec(), outcome.abortRate());
+        return outcome;
+    }
+
+    private Callable<Outcome> writer(CountDownLatch startGate, String keyPrefix, Long sourceAccountId,
+                                     Long targetAccountId) {
+        return () -> {
+            startGate.await();
+            long settled = 0;
+            long aborted = 0;
+            for (int i = 0; i < TRANSFERS_PER_WRITER; i++) {
+                try {
+                    TransferResult result = transferUseCase.transfer(
+                        transferCommand(sourceAccountId, targetAccountId, keyPrefix + "-" + i));
+                    if (result.status() == TransferStatus.SETTLED) {
+                        settled++;
+                    } else {
+                        aborted++;
+                    }
+                } catch (TransferInProgressException ex) {
+                    // 재시도를 모두 소진해 롤백된 송금
+                    aborted++;
+                }
+            }
+            return new Outcome(settled, aborted, 0);
+        };
+    }
+
+    private List<Long> openAccounts(int count) {
+        List<Long> accountIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            accountIds.add(openAccount(saveAccountPort, (long) i + 1, INITIAL_BALANCE).getId().value());
+        }
+        return accountIds;
+    }
+
+    private long totalBalance(List<Long> accountIds) {
+        return accountIds.stream().mapToLong(accountId -> balanceOf(loadAccountPort, accountId)).sum();
+    }
+
+    private TransferCommand transferCommand(Long sourceAccountId, Long targetAccountId, String keySuffix) {
+        return TransferCommand.builder()
+            .sourceAccountId(sourceAccountId)
+            .targetAccountId(targetAccountId)
+            .amount(MoneyWon.of(TRANSFER_AMOUNT))
+            .valueDate(LocalDate.now())
+            .memo("집중 송금 측정")
+            .idempotencyKey(IdempotencyKey.of("hot-account-" + keySuffix + "-" + System.nanoTime()))
+            .transferType(TransferType.INTERNAL)
+            .requestedAt(Instant.now())
+            .build();
+    }
+
+    @FunctionalInterface
+    private interface TargetSelector {
+        Long targetOf(int writerIndex);
+    }
+
+    private record Outcome(long settled, long aborted, long elapsedMs) {
+
+        long transfersPerSec() {
+            return elapsedMs == 0 ? settled : settled * 1_000L / elapsedMs;
+        }
+
+        double abortRate() {
+            long total = settled + aborted;
+            return total == 0 ? 0.0 : (double) aborted / total;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package saviing.bank.transaction.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static saviing.bank.support.AccountFixture.openAccount;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import saviing.bank.account.application.port.in.CreateAccountUseCase;
+import saviing.bank.account.application.port.in.command.CreateDemandDepositCommand;
+import saviing.bank.account.application.port.out.SaveAccountPort;
+import saviing.bank.account.domain.vo.ProductId;
+import saviing.bank.transaction.application.port.out.LedgerReconciliationPort;
+import saviing.bank.transaction.application.port.out.LedgerReconciliationPort.TransferFinding;
+import saviing.bank.transaction.application.service.LedgerReconciliationReport.AccountMismatch;
+
+/**
+ * 원장 대사 배치가 여러 묶음에 걸쳐 잔액 불일치 계좌를 찾고, 정체된 송금과 보상 실패 송금을 보고하는지 검증한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LedgerReconciliationServiceTest {
+
+    private static final long TRANSACTION_ID_BASE = 950_000_000L;
+    private static final long TRANSFER_ID_BASE = 950_000_000L;
+    private static final LocalDate VALUE_DATE = LocalDate.of(2024, 6, 1);
+
+    @Autowired
+    private LedgerReconciliationPort ledgerReconciliationPort;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private SaveAccountPort saveAccountPort;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CreateAccountUseCase createAccountUseCase;
+
+    private LedgerReconciliationService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from transaction where txn_id between ? and ?",
+            TRANSACTION_ID_BASE, TRANSACTION_ID_BASE + 99);
+        jdbcTemplate.update("delete from transfer where transfer_id between ? and ?",
+            TRANSFER_ID_BASE, TRANSFER_ID_BASE + 99);
+
+        // 묶음 경계를 여러 번 넘도록 작은 묶음 크기로 별도 인스턴스를 만든다.
+        service = new LedgerReconciliationService(ledgerReconciliationPort, transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        ReflectionTestUtils.setField(service, "parallelism", 2);
+        ReflectionTestUtils.setField(service, "stuckTransferMinutes", 30L);
+        ReflectionTestUtils.setField(service, "maxReportedFindings", 100_000);
+    }
+
+    @Test
+    void 잔액이_확정_거래_합계와_다른_계좌만_불일치로_보고한다() {
+        // given - 잔액 0인 계좌 셋 중 하나에만 잔액에 반영되지 않은 입금 거래가 있다
+        long cleanAccountId = openAccount(saveAccountPort, "940001000001", 940_001L, 0L).getId().value();
+        long mismatchedAccountId = openAccount(saveAccountPort, "940001000002", 940_001L, 0L).getId().value();
+        long balancedAccountId = openAccount(saveAccountPort, "940001000003", 940_001L, 0L).getId().value();
+        insertTransaction(0, mismatchedAccountId, "CREDIT", 5_000L);
+        insertTransaction(1, balancedAccountId, "CREDIT", 3_000L);
+        insertTransaction(2, balancedAccountId, "DEBIT", 3_000L);
+
+        // when
+        LedgerReconciliationReport report = service.reconcile();
+
+        // then
+        assertThat(report.accountsScanned()).isGreaterThanOrEqualTo(3);
+        assertThat(report.mismatches())
+            .extracting(AccountMismatch::accountId)
+            .contains(mismatchedAccountId)
+            .doesNotContain(cleanAccountId, balancedAccountId);
+        AccountMismatch mismatch = report.mismatches().stream()
+            .filter(candidate -> candidate.accountId() == mismatchedAccountId)
+            .findFirst()
+            .orElseThrow();
+        assertThat(mismatch.balance()).isZero();
+        assertThat(mismatch.transactionNetAmount()).isEqualTo(5_000L);
+        assertThat(mismatch.isBalanceMismatch()).isTrue();
+        assertThat(report.isClean()).isFalse();
+        assertThat(service.getLastReport()).isSameAs(report);
+    }
+
+    @Test
+    void 개설_지급액이_있는_자유입출금_계좌는_불일치로_보고하지_않는다() {
+        // given
+        long accountId = createAccountUseCase.createAccount(
+            new CreateDemandDepositCommand(940_001L, ProductId.of(1L))).accountId();
+
+        // when
+        LedgerReconciliationReport report = service.reconcile();
+
+        // then
+        assertThat(report.mismatches())
+            .extracting(AccountMismatch::accountId)
+            .doesNotContain(accountId);
+    }
+
+    @Test
+    void 오래된_미종료_송금과_보상_실패_송금을_보고한다() {
+        // given
+        Instant now = Instant.now();
+        insertTransfer(0, "DEBIT_PENDING", null, now.minus(2, ChronoUnit.HOURS));
+        insertTransfer(1, "DEBIT_PENDING", null, now);
+        insertTransfer(2, "FAILED", "송금 처리 중 오류가 발생했습니다; compensationStatus=FAILED", now);
+        insertTransfer(3, "FAILED", "송금 처리 중 오류가 발생했습니다; compensationStatus=SUCCESS; compensationTxId=1", now);
+        insertTransfer(4, "SETTLED", null, now.minus(2, ChronoUnit.HOURS));
+
+        // when
+        LedgerReconciliationReport report = service.reconcile();
+
+        // then
+        assertThat(report.stuckTransfers())
+            .extracting(TransferFinding::transferId)
+            .contains(TRANSFER_ID_BASE)
+            .doesNotContain(TRANSFER_ID_BASE + 1, TRANSFER_ID_BASE + 4);
+        assertThat(report.compensationFailures())
+            .extracting(TransferFinding::transferId)
+            .contains(TRANSFER_ID_BASE + 2)
+            .doesNotContain(TRANSFER_ID_BASE + 3);
+        assertThat(report.stuckTransferCount()).isGreaterThanOrEqualTo(1);
+        assertThat(report.compensationFailureCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    private void insertTransaction(int offset, long accountId, String direction, long amount) {
+        Timestamp postedAt = Timestamp.from(Instant.now());
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        jdbcTemplate.update("""
+            insert into transaction (txn_id, account_id, txn_type, direction, amount, balance_after, value_date,
+                                     posted_at, status, created_at, updated_at)
+            values (?, ?, ?, ?, ?, 0, ?, ?, 'POSTED', ?, ?)
+            """, ps -> {
+            ps.setLong(1, TRANSACTION_ID_BASE + offset);
+            ps.setLong(2, accountId);
+            ps.setString(3, "CREDIT".equals(direction) ? "TRANSFER_IN" : "TRANSFER_OUT");
+            ps.setString(4, direction);
+            ps.setLong(5, amount);
+            ps.setObject(6, VALUE_DATE);
+            ps.setTimestamp(7, postedAt, utc);
+            ps.setTimestamp(8, postedAt, utc);
+            ps.setTimestamp(9, postedAt, utc);
+        });
+    }
+
+    private void insertTransfer(int offset, String status, String failureReason, Instant updatedAt) {
+        Timestamp timestamp = Timestamp.from(updatedAt);
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        jdbcTemplate.update("""
+            insert into transfer (transfer_id, transfer_type, status, source_account_id, target_account_id, amount,
+                                  currency, value_date, idempotency_key, failure_reason, created_at, updated_at)
+            values (?, 'INTERNAL', ?, 1, 2, 1000, 'KRW', ?, ?, ?, ?, ?)
+            """, ps -> {
+            ps.setLong(1, TRANSFER_ID_BASE + offset);
+            ps.setString(2, status);
+            ps.setObject(3, VALUE_DATE);
+            ps.setString(4, "reconciliation-" + offset);
+            ps.setString(5, failureReason);
+            ps.setTimestamp(6, timestamp, utc);
+            ps.setTimestamp(7, timestamp, utc);
+        });
+    }
+}
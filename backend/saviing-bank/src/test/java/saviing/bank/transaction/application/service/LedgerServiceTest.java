@@ -0,0 +1,124 @@
+package saviing.bank.transaction.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.out.LedgerPersistencePort;
+import saviing.bank.transaction.domain.model.TransactionDirection;
+import saviing.bank.transaction.domain.model.transfer.Transfer;
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+import saviing.bank.transaction.domain.model.transfer.TransferType;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+import saviing.bank.transaction.domain.vo.TransactionId;
+import saviing.bank.transaction.domain.vo.TransferSnapshot;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerServiceTest {
+
+    private static final Long SOURCE_ACCOUNT_ID = 100L;
+    private static final Long TARGET_ACCOUNT_ID = 200L;
+
+    @Mock
+    private LedgerPersistencePort ledgerPersistencePort;
+
+    @InjectMocks
+    private LedgerService ledgerService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        TransactionSynchronizationManager.unbindResourceIfPossible(LedgerService.class.getName() + ".WORKING_SET");
+    }
+
+    @Test
+    void 쓰기_지연_모드에서는_상태_전이마다_재조회와_플러시를_하지_않는다() {
+        // given
+        ReflectionTestUtils.setField(ledgerService, "writeBehindEnabled", true);
+        IdempotencyKey idempotencyKey = IdempotencyKey.of("write-behind-1");
+        when(ledgerPersistencePort.lockBySourceAccountIdAndIdempotencyKey(SOURCE_ACCOUNT_ID, idempotencyKey))
+            .thenReturn(Optional.empty());
+        when(ledgerPersistencePort.save(any(Transfer.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+        when(ledgerPersistencePort.update(any(Transfer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ledgerService.initializeTransfer(
+            idempotencyKey, SOURCE_ACCOUNT_ID, TARGET_ACCOUNT_ID, MoneyWon.of(1000L), LocalDate.now(), TransferType.INTERNAL
+        );
+        ledgerService.markEntryPosted(SOURCE_ACCOUNT_ID, idempotencyKey, TransactionDirection.DEBIT, TransactionId.of(1L), Instant.now());
+        ledgerService.markEntryPosted(SOURCE_ACCOUNT_ID, idempotencyKey, TransactionDirection.CREDIT, TransactionId.of(2L), Instant.now());
+        TransferSnapshot settled = ledgerService.markTransferSettled(SOURCE_ACCOUNT_ID, idempotencyKey, Instant.now());
+
+        // then
+        assertThat(settled.status()).isEqualTo(TransferStatus.SETTLED);
+        assertThat(ledgerService.getStatus(SOURCE_ACCOUNT_ID, idempotencyKey)).isEqualTo(TransferStatus.SETTLED);
+        verify(ledgerPersistencePort, times(3)).update(any(Transfer.class));
+        verify(ledgerPersistencePort, never()).findBySourceAccountIdAndIdempotencyKey(any(), any());
+        verify(ledgerPersistencePort, never()).saveAndFlush(any(Transfer.class));
+    }
+
+    @Test
+    void 쓰기_지연_모드가_꺼져_있으면_상태_전이마다_즉시_플러시한다() {
+        // given
+        ReflectionTestUtils.setField(ledgerService, "writeBehindEnabled", false);
+        IdempotencyKey idempotencyKey = IdempotencyKey.of("write-through-1");
+        Transfer requested = withId(Transfer.create(
+            SOURCE_ACCOUNT_ID, TARGET_ACCOUNT_ID, MoneyWon.of(1000L), LocalDate.now(),
+            TransferType.INTERNAL, idempotencyKey, Instant.now()
+        ));
+        when(ledgerPersistencePort.findBySourceAccountIdAndIdempotencyKey(SOURCE_ACCOUNT_ID, idempotencyKey))
+            .thenReturn(Optional.of(requested));
+        when(ledgerPersistencePort.saveAndFlush(any(Transfer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ledgerService.initializeTransfer(
+            idempotencyKey, SOURCE_ACCOUNT_ID, TARGET_ACCOUNT_ID, MoneyWon.of(1000L), LocalDate.now(), TransferType.INTERNAL
+        );
+        ledgerService.markEntryPosted(SOURCE_ACCOUNT_ID, idempotencyKey, TransactionDirection.DEBIT, TransactionId.of(1L), Instant.now());
+
+        // then
+        verify(ledgerPersistencePort, times(2)).findBySourceAccountIdAndIdempotencyKey(SOURCE_ACCOUNT_ID, idempotencyKey);
+        verify(ledgerPersistencePort).saveAndFlush(any(Transfer.class));
+        verify(ledgerPersistencePort, never()).update(any(Transfer.class));
+    }
+
+    private Transfer withId(Transfer transfer) {
+        return Transfer.restore(
+            1L,
+            transfer.getTransferType(),
+            transfer.getStatus(),
+            transfer.getIdempotencyKey(),
+            transfer.getSourceAccountId(),
+            transfer.getTargetAccountId(),
+            transfer.getAmount(),
+            transfer.getValueDate(),
+            transfer.getEntries(),
+            transfer.getCreatedAt(),
+            transfer.getUpdatedAt(),
+            transfer.getFailureReason()
+        );
+    }
+}
@@ -0,0 +1,141 @@
+package saviing.bank.transaction.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import lombok.extern.slf4j.Slf4j;
+
+import saviing.bank.transaction.application.port.in.GetTransactionsByAccountUseCase;
+import saviing.bank.transaction.application.port.in.result.TransactionHistoryResult;
+import saviing.bank.transaction.application.port.in.result.TransactionResult;
+import saviing.bank.transaction.domain.vo.TransactionCursor;
+
+/**
+ * 커서 기반 거래 내역 조회가 동일 처리 일시를 포함한 대량 거래에서도 누락/중복 없이 전체를 순회하는지 검증하고,
+ * 깊은 페이지에서 오프셋 방식과 커서 방식의 조회 시간을 비교해 로그로 남긴다.
+ * 계좌당 거래 수는 {@code transaction.history.benchmark.rows} 시스템 프로퍼티로 조정할 수 있다 (기본 10,000건).
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionHistoryPaginationTest {
+
+    private static final long ACCOUNT_ID = 990_001L;
+    private static final long TRANSACTION_ID_BASE = 900_000_000L;
+    private static final int PAGE_SIZE = 30;
+    private static final int ROWS = Integer.getInteger("transaction.history.benchmark.rows", 10_000);
+    private static final Instant BASE_TIME = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Autowired
+    private GetTransactionsByAccountUseCase getTransactionsByAccountUseCase;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from transaction where account_id = ?", ACCOUNT_ID);
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        List<Integer> rows = IntStream.range(0, ROWS).boxed().toList();
+        jdbcTemplate.batchUpdate("""
+            insert into transaction (txn_id, account_id, txn_type, direction, amount, balance_after, value_date,
+                                     posted_at, status, description, created_at, updated_at)
+            values (?, ?, 'TRANSFER_IN', 'CREDIT', ?, ?, ?, ?, 'POSTED', ?, ?, ?)
+            """, rows, 1_000, (ps, i) -> {
+            // 세 건씩 같은 처리 일시를 갖게 해 거래 ID로 순서를 구분하는 경우를 포함한다.
+            Timestamp postedAt = Timestamp.from(BASE_TIME.plusSeconds(i / 3));
+            // 거래 ID는 애플리케이션 채번(id_sequence)이므로 다른 테스트와 겹치지 않는 구간을 직접 지정한다.
+            ps.setLong(1, TRANSACTION_ID_BASE + i);
+            ps.setLong(2, ACCOUNT_ID);
+            ps.setLong(3, 1_000L);
+            ps.setLong(4, 1_000L * (i + 1));
+            ps.setObject(5, LocalDate.of(2024, 1, 1));
+            ps.setTimestamp(6, postedAt, utc);
+            ps.setString(7, "history-" + i);
+            ps.setTimestamp(8, postedAt, utc);
+            ps.setTimestamp(9, postedAt, utc);
+        });
+    }
+
+    @Test
+    void 커서로_전체_거래내역을_누락과_중복없이_최신순으로_순회한다() {
+        // given
+        List<TransactionResult> collected = new ArrayList<>();
+        TransactionCursor cursor = null;
+
+        // when
+        long startedAt = System.nanoTime();
+        while (true) {
+            TransactionHistoryResult page = getTransactionsByAccountUseCase.getTransactionHistory(ACCOUNT_ID, cursor, PAGE_SIZE);
+            collected.addAll(page.transactions());
+            if (!page.hasNext()) {
+                break;
+            }
+            cursor = new TransactionCursor(page.nextCursorPostedAt(), page.nextCursorTransactionId());
+        }
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertThat(collected).hasSize(ROWS);
+        Set<Long> ids = new HashSet<>();
+        collected.forEach(result -> ids.add(result.transactionId()));
+        assertThat(ids).hasSize(ROWS);
+        for (int i = 1; i < collected.size(); i++) {
+            TransactionResult previous = collected.get(i - 1);
+            TransactionResult current = collected.get(i);
+            int byPostedAt = previous.postedAt().compareTo(current.postedAt());
+            assertThat(byPostedAt > 0 || (byPostedAt == 0 && previous.transactionId() > current.transactionId()))
+                .as("index %d", i)
+                .isTrue();
+        }
+        log.info("커서 조회 전체 순회: rows={}, pages={}, elapsedMs={}", ROWS, (ROWS + PAGE_SIZE - 1) / PAGE_SIZE, elapsedMs);
+    }
+
+    @Test
+    void 깊은_페이지에서_오프셋과_커서_조회_시간을_비교한다() {
+        // given - 마지막에 가까운 페이지
+        int deepPage = ROWS / PAGE_SIZE - 1;
+        List<TransactionResult> offsetPage = getTransactionsByAccountUseCase
+            .getTransactionsByAccount(ACCOUNT_ID, deepPage - 1, PAGE_SIZE);
+        TransactionResult last = offsetPage.get(offsetPage.size() - 1);
+        TransactionCursor cursor = new TransactionCursor(last.postedAt(), last.transactionId());
+
+        // when
+        long offsetNanos = measure(() -> getTransactionsByAccountUseCase.getTransactionsByAccount(ACCOUNT_ID, deepPage, PAGE_SIZE));
+        long seekNanos = measure(() -> getTransactionsByAccountUseCase.getTransactionHistory(ACCOUNT_ID, cursor, PAGE_SIZE));
+
+        // then
+        TransactionHistoryResult seekPage = getTransactionsByAccountUseCase.getTransactionHistory(ACCOUNT_ID, cursor, PAGE_SIZE);
+        assertThat(seekPage.transactions()).hasSize(PAGE_SIZE);
+        log.info("깊은 페이지 조회 비교: rows={}, page={}, offsetMicros={}, seekMicros={}",
+            ROWS, deepPage, offsetNanos / 1_000, seekNanos / 1_000);
+    }
+
+    private long measure(Runnable query) {
+        int iterations = 20;
+        for (int i = 0; i < 5; i++) {
+            query.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - startedAt) / iterations;
+    }
+}
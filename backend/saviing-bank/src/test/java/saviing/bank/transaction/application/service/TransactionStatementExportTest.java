@@ -0,0 +1,155 @@
+package saviing.bank.transaction.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+
+import saviing.bank.transaction.adapter.in.web.statement.StatementFormat;
+import saviing.bank.transaction.adapter.in.web.statement.TransactionStatementWriter;
+import saviing.bank.transaction.application.port.in.ExportTransactionStatementUseCase;
+import saviing.bank.transaction.application.port.in.result.TransactionResult;
+import saviing.bank.transaction.exception.InvalidValueDateException;
+
+/**
+ * 거래 명세 내보내기가 가치일 구간의 거래를 가치일, 거래 ID 순으로 빠짐없이 전달하고
+ * CSV/NDJSON으로 응답 스트림에 쓰는지 검증한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionStatementExportTest {
+
+    private static final long ACCOUNT_ID = 990_003L;
+    private static final long TRANSACTION_ID_BASE = 920_000_000L;
+    private static final int DAYS = 30;
+    private static final int ROWS_PER_DAY = 50;
+    private static final LocalDate FIRST_VALUE_DATE = LocalDate.of(2024, 3, 1);
+    private static final Instant BASE_TIME = Instant.parse("2024-03-01T00:00:00Z");
+
+    @Autowired
+    private ExportTransactionStatementUseCase exportTransactionStatementUseCase;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from transaction where account_id = ?", ACCOUNT_ID);
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        List<Integer> rows = IntStream.range(0, DAYS * ROWS_PER_DAY).boxed().toList();
+        jdbcTemplate.batchUpdate("""
+            insert into transaction (txn_id, account_id, txn_type, direction, amount, balance_after, value_date,
+                                     posted_at, status, description, created_at, updated_at)
+            values (?, ?, 'TRANSFER_IN', 'CREDIT', ?, ?, ?, ?, 'POSTED', ?, ?, ?)
+            """, rows, 1_000, (ps, i) -> {
+            // 가치일 역순으로 거래 ID를 부여해 정렬이 거래 ID가 아닌 가치일 기준인지 확인한다.
+            int day = DAYS - 1 - i / ROWS_PER_DAY;
+            Timestamp postedAt = Timestamp.from(BASE_TIME.plusSeconds(i));
+            ps.setLong(1, TRANSACTION_ID_BASE + i);
+            ps.setLong(2, ACCOUNT_ID);
+            ps.setLong(3, 1_000L);
+            ps.setLong(4, 1_000L * (i + 1));
+            ps.setObject(5, FIRST_VALUE_DATE.plusDays(day));
+            ps.setTimestamp(6, postedAt, utc);
+            ps.setString(7, i == 0 ? "=SUM(A1), \"급여\"" : "statement-" + i);
+            ps.setTimestamp(8, postedAt, utc);
+            ps.setTimestamp(9, postedAt, utc);
+        });
+    }
+
+    @Test
+    void 가치일_구간의_거래를_가치일과_거래ID_오름차순으로_전달한다() {
+        // given
+        LocalDate from = FIRST_VALUE_DATE.plusDays(5);
+        LocalDate to = FIRST_VALUE_DATE.plusDays(14);
+        List<TransactionResult> exported = new ArrayList<>();
+
+        // when
+        exportTransactionStatementUseCase.exportStatement(ACCOUNT_ID, from, to, exported::add);
+
+        // then
+        assertThat(exported).hasSize(10 * ROWS_PER_DAY);
+        assertThat(exported).allSatisfy(result ->
+            assertThat(result.valueDate()).isBetween(from, to));
+        for (int i = 1; i < exported.size(); i++) {
+            TransactionResult previous = exported.get(i - 1);
+            TransactionResult current = exported.get(i);
+            int byValueDate = previous.valueDate().compareTo(current.valueDate());
+            assertThat(byValueDate < 0 || (byValueDate == 0 && previous.transactionId() < current.transactionId()))
+                .as("index %d", i)
+                .isTrue();
+        }
+    }
+
+    @Test
+    void 시작_가치일이_종료_가치일보다_늦으면_예외가_발생한다() {
+        // given
+        List<TransactionResult> exported = new ArrayList<>();
+
+        // when & then
+        assertThatThrownBy(() -> exportTransactionStatementUseCase.exportStatement(
+            ACCOUNT_ID, FIRST_VALUE_DATE.plusDays(1), FIRST_VALUE_DATE, exported::add))
+            .isInstanceOf(InvalidValueDateException.class);
+        assertThat(exported).isEmpty();
+    }
+
+    @Test
+    void CSV로_내보내면_헤더와_이스케이프된_거래_행을_쓴다() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        TransactionStatementWriter writer =
+            new TransactionStatementWriter(response, StatementFormat.CSV, objectMapper, "statement");
+        LocalDate lastDay = FIRST_VALUE_DATE.plusDays(DAYS - 1);
+
+        // when
+        exportTransactionStatementUseCase.exportStatement(ACCOUNT_ID, lastDay, lastDay, writer);
+        writer.finish();
+
+        // then
+        String[] lines = response.getContentAsString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(response.getContentType()).startsWith("text/csv");
+        assertThat(response.getHeader("Content-Disposition")).contains("statement.csv");
+        assertThat(lines).hasSize(1 + ROWS_PER_DAY);
+        assertThat(lines[0]).startsWith("\uFEFFtransactionId,valueDate");
+        assertThat(lines[1]).startsWith(TRANSACTION_ID_BASE + "," + lastDay + ",")
+            .endsWith(",\"'=SUM(A1), \"\"급여\"\"\"");
+    }
+
+    @Test
+    void NDJSON으로_내보내면_거래마다_한_줄의_JSON을_쓴다() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        TransactionStatementWriter writer =
+            new TransactionStatementWriter(response, StatementFormat.NDJSON, objectMapper, "statement");
+
+        // when
+        exportTransactionStatementUseCase.exportStatement(ACCOUNT_ID, FIRST_VALUE_DATE, FIRST_VALUE_DATE, writer);
+        writer.finish();
+
+        // then
+        String[] lines = response.getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertThat(response.getContentType()).startsWith("application/x-ndjson");
+        assertThat(lines).hasSize(ROWS_PER_DAY);
+        TransactionResult first = objectMapper.readValue(lines[0], TransactionResult.class);
+        assertThat(first.accountId()).isEqualTo(ACCOUNT_ID);
+        assertThat(first.valueDate()).isEqualTo(FIRST_VALUE_DATE);
+    }
+}
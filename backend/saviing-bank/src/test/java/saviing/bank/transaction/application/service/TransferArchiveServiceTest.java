@@ -0,0 +1,146 @@
+package saviing.bank.transaction.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static saviing.bank.support.AccountFixture.openAccount;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import saviing.bank.account.application.port.out.SaveAccountPort;
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.in.TransferUseCase;
+import saviing.bank.transaction.application.port.in.command.TransferCommand;
+import saviing.bank.transaction.application.port.in.result.TransferResult;
+import saviing.bank.transaction.application.port.out.LoadTransactionPort;
+import saviing.bank.transaction.application.port.out.LoadTransactionPort.TransactionSummary;
+import saviing.bank.transaction.application.port.out.TransferArchivePort;
+import saviing.bank.transaction.domain.model.transfer.TransferType;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+
+/**
+ * 송금 보관 배치가 종료된 송금과 그 원장 엔트리/거래를 여러 묶음에 걸쳐 보관 테이블로 옮기고,
+ * 옮긴 거래가 거래 조회에서 계속 보이는지 검증한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TransferArchiveServiceTest {
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+    @Autowired
+    private TransferArchivePort transferArchivePort;
+    @Autowired
+    private LoadTransactionPort loadTransactionPort;
+    @Autowired
+    private SaveAccountPort saveAccountPort;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransferArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        // 묶음 경계를 여러 번 넘도록 작은 묶음 크기로 별도 인스턴스를 만든다.
+        service = new TransferArchiveService(
+            new TransactionTemplate(transactionManager), transferArchivePort, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "chunkSize", 1);
+    }
+
+    @Test
+    void 종료된_송금과_원장_엔트리_거래를_보관_테이블로_옮긴다() {
+        // given
+        Long sourceId = openAccount(saveAccountPort, 1L, 10_000L).getId().value();
+        Long targetId = openAccount(saveAccountPort, 1L, 0L).getId().value();
+        TransferResult first = transfer(sourceId, targetId, 1_000L);
+        TransferResult second = transfer(sourceId, targetId, 2_000L);
+        List<String> keys = List.of(first.idempotencyKey().value(), second.idempotencyKey().value());
+
+        // when
+        service.archive(Instant.now().plusSeconds(60));
+
+        // then
+        assertThat(countTransfers("transfer", keys)).isZero();
+        assertThat(countTransfers("transfer_archive", keys)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from ledger_entry_archive where account_id = ?", Integer.class, sourceId))
+            .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from transaction where account_id in (?, ?)", Integer.class, sourceId, targetId))
+            .isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from transaction_archive where account_id in (?, ?)", Integer.class, sourceId, targetId))
+            .isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject(
+            "select last_id from archive_checkpoint where job_name = ?", Long.class, TransferArchiveService.JOB_NAME))
+            .isZero();
+    }
+
+    @Test
+    void 보관된_거래도_원본_거래와_함께_조회한다() {
+        // given - 보관된 송금 뒤에 새 송금이 원본 테이블에 남아 있다
+        Long sourceId = openAccount(saveAccountPort, 1L, 10_000L).getId().value();
+        Long targetId = openAccount(saveAccountPort, 1L, 0L).getId().value();
+        TransferResult archived = transfer(sourceId, targetId, 1_000L);
+        service.archive(Instant.now().plusSeconds(60));
+        TransferResult hot = transfer(sourceId, targetId, 2_000L);
+
+        // when
+        List<TransactionSummary> firstPage = loadTransactionPort.loadTransactionHistory(sourceId, null, 1);
+        List<TransactionSummary> all = loadTransactionPort.loadTransactionHistory(sourceId, null, 10);
+
+        // then
+        assertThat(firstPage).extracting(TransactionSummary::transactionId)
+            .containsExactly(hot.debitTransactionId());
+        assertThat(all).extracting(TransactionSummary::transactionId)
+            .containsExactly(hot.debitTransactionId(), archived.debitTransactionId());
+        assertThat(loadTransactionPort.loadTransaction(archived.creditTransactionId()))
+            .hasValueSatisfying(credit -> assertThat(credit.getAmount()).isEqualTo(MoneyWon.of(1_000L)));
+    }
+
+    @Test
+    void 보관_기간이_지나지_않은_송금은_옮기지_않는다() {
+        // given
+        Long sourceId = openAccount(saveAccountPort, 1L, 10_000L).getId().value();
+        Long targetId = openAccount(saveAccountPort, 1L, 0L).getId().value();
+        TransferResult recent = transfer(sourceId, targetId, 1_000L);
+
+        // when
+        service.archive(Instant.now().minusSeconds(3_600));
+
+        // then
+        assertThat(countTransfers("transfer", List.of(recent.idempotencyKey().value()))).isEqualTo(1);
+        assertThat(loadTransactionPort.loadTransaction(recent.debitTransactionId())).isPresent();
+    }
+
+    private TransferResult transfer(Long sourceId, Long targetId, long amount) {
+        return transferUseCase.transfer(TransferCommand.builder()
+            .sourceAccountId(sourceId)
+            .targetAccountId(targetId)
+            .amount(MoneyWon.of(amount))
+            .valueDate(LocalDate.now())
+            .transferType(TransferType.INTERNAL)
+            .idempotencyKey(IdempotencyKey.of("archive-" + System.nanoTime()))
+            .build());
+    }
+
+    private int countTransfers(String table, List<String> idempotencyKeys) {
+        String placeholders = String.join(", ", idempotencyKeys.stream().map(key -> "?").toList());
+        return jdbcTemplate.queryForObject(
+            "select count(*) from " + table + " where idempotency_key in (" + placeholders + ")",
+            Integer.class, idempotencyKeys.toArray());
+    }
+}
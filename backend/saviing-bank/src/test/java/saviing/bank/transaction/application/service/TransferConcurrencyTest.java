@@ -0,0 +1,108 @@
+package saviing.bank.transaction.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static saviing.bank.support.AccountFixture.openAccount;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import saviing.bank.account.application.port.out.LoadAccountPort;
+import saviing.bank.account.application.port.out.SaveAccountPort;
+import saviing.bank.account.domain.model.Account;
+import saviing.bank.account.domain.vo.AccountId;
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.in.TransferUseCase;
+import saviing.bank.transaction.application.port.in.command.TransferCommand;
+import saviing.bank.transaction.application.port.in.result.TransferResult;
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+import saviing.bank.transaction.domain.model.transfer.TransferType;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TransferConcurrencyTest {
+
+    private static final int TRANSFERS_PER_DIRECTION = 10;
+    private static final long INITIAL_BALANCE = 1_000_000L;
+    private static final long TRANSFER_AMOUNT = 1_000L;
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+    @Autowired
+    private SaveAccountPort saveAccountPort;
+    @Autowired
+    private LoadAccountPort loadAccountPort;
+
+    @Test
+    void 양방향_동시_송금은_교착없이_모두_완료되고_잔액_합계가_보존된다() throws Exception {
+        // given
+        Account accountA = openAccount(saveAccountPort, "900000000001", 1L, INITIAL_BALANCE);
+        Account accountB = openAccount(saveAccountPort, "900000000002", 2L, INITIAL_BALANCE);
+        Long accountAId = accountA.getId().value();
+        Long accountBId = accountB.getId().value();
+
+        ExecutorService executor = Executors.newFixedThreadPool(TRANSFERS_PER_DIRECTION * 2);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<TransferResult>> futures = new ArrayList<>();
+        for (int i = 0; i < TRANSFERS_PER_DIRECTION; i++) {
+            futures.add(executor.submit(transferTask(startGate, accountAId, accountBId, "a-to-b-" + i)));
+            futures.add(executor.submit(transferTask(startGate, accountBId, accountAId, "b-to-a-" + i)));
+        }
+
+        // when
+        startGate.countDown();
+        List<TransferResult> results = new ArrayList<>();
+        for (Future<TransferResult> future : futures) {
+            results.add(future.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // then - 모든 송금이 교착/보상 없이 정산 완료
+        assertThat(results).hasSize(TRANSFERS_PER_DIRECTION * 2);
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.status()).isEqualTo(TransferStatus.SETTLED);
+            assertThat(result.failureReason()).isNull();
+        });
+
+        long balanceA = loadAccountPort.findById(AccountId.of(accountAId)).orElseThrow().getBalance().amount();
+        long balanceB = loadAccountPort.findById(AccountId.of(accountBId)).orElseThrow().getBalance().amount();
+        assertThat(balanceA + balanceB).isEqualTo(INITIAL_BALANCE * 2);
+        assertThat(balanceA).isEqualTo(INITIAL_BALANCE);
+        assertThat(balanceB).isEqualTo(INITIAL_BALANCE);
+    }
+
+    private Callable<TransferResult> transferTask(
+        CountDownLatch startGate,
+        Long sourceAccountId,
+        Long targetAccountId,
+        String keySuffix
+    ) {
+        return () -> {
+            startGate.await();
+            TransferCommand command = TransferCommand.builder()
+                .sourceAccountId(sourceAccountId)
+                .targetAccountId(targetAccountId)
+                .amount(MoneyWon.of(TRANSFER_AMOUNT))
+                .valueDate(LocalDate.now())
+                .memo("동시성 테스트")
+                .idempotencyKey(IdempotencyKey.of("concurrency-" + keySuffix + "-" + System.nanoTime()))
+                .transferType(TransferType.INTERNAL)
+                .requestedAt(Instant.now())
+                .build();
+            return transferUseCase.transfer(command);
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package saviing.bank.transaction.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static saviing.bank.support.AccountFixture.openAccount;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import lombok.extern.slf4j.Slf4j;
+
+import saviing.bank.account.application.port.out.SaveAccountPort;
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.in.TransferUseCase;
+import saviing.bank.transaction.application.port.in.command.TransferCommand;
+import saviing.bank.transaction.application.port.in.result.TransferResult;
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+import saviing.bank.transaction.domain.model.transfer.TransferType;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+import saviing.common.persistence.PooledIdGeneration;
+import saviing.common.persistence.PooledIdSequenceInitializer;
+
+/**
+ * 풀링 식별자 채번으로 송금 한 건의 거래/원장 INSERT가 배치로 묶인 상태에서 송금 처리량을 측정해 로그로 남기고,
+ * 기존 데이터보다 큰 식별자 구간에서 채번을 시작하는지 검증한다.
+ * 송금 건수는 {@code transfer.insert.benchmark.count} 시스템 프로퍼티로 조정할 수 있다 (기본 200건).
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class TransferInsertThroughputTest {
+
+    private static final int TRANSFERS = Integer.getInteger("transfer.insert.benchmark.count", 200);
+    private static final long INITIAL_BALANCE = 100_000_000L;
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+    @Autowired
+    private SaveAccountPort saveAccountPort;
+    @Autowired
+    private PooledIdSequenceInitializer pooledIdSequenceInitializer;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 송금마다_고유한_거래ID가_채번되고_처리량을_기록한다() {
+        // given
+        Long sourceAccountId = openAccount(saveAccountPort, "910000000001", 1L, INITIAL_BALANCE).getId().value();
+        Long targetAccountId = openAccount(saveAccountPort, "910000000002", 2L, INITIAL_BALANCE).getId().value();
+        List<TransferResult> results = new ArrayList<>();
+
+        // when
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < TRANSFERS; i++) {
+            results.add(transferUseCase.transfer(transferCommand(sourceAccountId, targetAccountId, i)));
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // then
+        assertThat(results).allSatisfy(result -> assertThat(result.status()).isEqualTo(TransferStatus.SETTLED));
+        Set<Long> transactionIds = new HashSet<>();
+        results.forEach(result -> {
+            transactionIds.add(result.debitTransactionId().value());
+            transactionIds.add(result.creditTransactionId().value());
+        });
+        assertThat(transactionIds).hasSize(TRANSFERS * 2);
+
+        long elapsedMs = elapsedNanos / 1_000_000;
+        log.info("송금 INSERT 처리량: transfers={}, elapsedMs={}, transfersPerSec={}",
+            TRANSFERS, elapsedMs, elapsedMs == 0 ? TRANSFERS : TRANSFERS * 1_000L / elapsedMs);
+    }
+
+    @Test
+    void 기존_최대_식별자_이후로_식별자_구간을_끌어올린다() {
+        // given - IDENTITY 시절 데이터처럼 채번 구간보다 큰 ID가 이미 존재
+        long existingId = 800_000_000L;
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("delete from transaction where txn_id = ?", existingId);
+        jdbcTemplate.update("""
+            insert into transaction (txn_id, account_id, txn_type, direction, amount, balance_after, value_date,
+                                     posted_at, status, created_at, updated_at)
+            values (?, 990002, 'TRANSFER_IN', 'CREDIT', 1000, 1000, ?, ?, 'POSTED', ?, ?)
+            """, existingId, LocalDate.now(), now, now, now);
+
+        // when
+        pooledIdSequenceInitializer.afterSingletonsInstantiated();
+
+        // then
+        Long nextVal = jdbcTemplate.queryForObject(
+            "select " + PooledIdGeneration.VALUE_COLUMN + " from " + PooledIdGeneration.TABLE
+                + " where " + PooledIdGeneration.SEGMENT_COLUMN + " = 'transaction'",
+            Long.class);
+        assertThat(nextVal).isGreaterThanOrEqualTo(existingId + PooledIdGeneration.ALLOCATION_SIZE);
+    }
+
+    private TransferCommand transferCommand(Long sourceAccountId, Long targetAccountId, int sequence) {
+        return TransferCommand.builder()
+            .sourceAccountId(sourceAccountId)
+            .targetAccountId(targetAccountId)
+            .amount(MoneyWon.of(1_000L))
+            .valueDate(LocalDate.now())
+            .memo("처리량 측정")
+            .idempotencyKey(IdempotencyKey.of("throughput-" + sequence + "-" + System.nanoTime()))
+            .transferType(TransferType.INTERNAL)
+            .requestedAt(Instant.now())
+            .build();
+    }
+}
@@ -0,0 +1,171 @@
+package saviing.bank.transaction.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static saviing.bank.support.AccountFixture.balanceOf;
+import static saviing.bank.support.AccountFixture.openAccount;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import saviing.bank.account.application.port.out.LoadAccountPort;
+import saviing.bank.account.application.port.out.SaveAccountPort;
+import saviing.bank.common.vo.MoneyWon;
+import saviing.bank.transaction.application.port.out.LedgerPersistencePort;
+import saviing.bank.transaction.application.port.out.LoadTransactionPort;
+import saviing.bank.transaction.application.port.out.SaveTransactionPort;
+import saviing.bank.transaction.domain.model.Transaction;
+import saviing.bank.transaction.domain.model.TransactionDirection;
+import saviing.bank.transaction.domain.model.TransactionType;
+import saviing.bank.transaction.domain.model.transfer.Transfer;
+import saviing.bank.transaction.domain.model.transfer.TransferStatus;
+import saviing.bank.transaction.domain.model.transfer.TransferType;
+import saviing.bank.transaction.domain.vo.IdempotencyKey;
+import saviing.bank.transaction.domain.vo.TransactionId;
+
+/**
+ * 정체 송금 복구 배치가 원장 엔트리 상태에 따라 송금을 정산하거나 금액을 되돌려 실패 처리하고,
+ * 아직 정체 기준에 이르지 않은 송금은 건드리지 않는지 검증한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TransferRecoveryServiceTest {
+
+    private static final long AMOUNT = 1_000L;
+
+    @Autowired
+    private TransferRecoveryService transferRecoveryService;
+    @Autowired
+    private LedgerPersistencePort ledgerPersistencePort;
+    @Autowired
+    private SaveTransactionPort saveTransactionPort;
+    @Autowired
+    private LoadTransactionPort loadTransactionPort;
+    @Autowired
+    private SaveAccountPort saveAccountPort;
+    @Autowired
+    private LoadAccountPort loadAccountPort;
+
+    @Test
+    void 입금_엔트리까지_확정된_송금은_거래를_연결하고_정산한다() {
+        // given
+        Long sourceId = openAccount(saveAccountPort, 1L, 9_000L).getId().value();
+        Long targetId = openAccount(saveAccountPort, 1L, AMOUNT).getId().value();
+        Transfer stuck = stuckTransfer(sourceId, targetId, true, true, stuckAt());
+
+        // when
+        transferRecoveryService.recover(Instant.now());
+
+        // then
+        Transfer recovered = reload(stuck);
+        assertThat(recovered.getStatus()).isEqualTo(TransferStatus.SETTLED);
+        TransactionId debitId = recovered.getEntry(TransactionDirection.DEBIT).getTransactionId();
+        TransactionId creditId = recovered.getEntry(TransactionDirection.CREDIT).getTransactionId();
+        assertThat(loadTransactionPort.loadTransaction(debitId).orElseThrow().getRelatedTransactionId())
+            .isEqualTo(creditId);
+        assertThat(balanceOf(loadAccountPort, sourceId)).isEqualTo(9_000L);
+        assertThat(balanceOf(loadAccountPort, targetId)).isEqualTo(AMOUNT);
+    }
+
+    @Test
+    void 출금_엔트리만_확정된_송금은_금액을_되돌리고_실패_처리한다() {
+        // given - 잔액은 양쪽 모두 반영되었지만 입금 거래가 기록되기 전에 중단되었다
+        Long sourceId = openAccount(saveAccountPort, 1L, 9_000L).getId().value();
+        Long targetId = openAccount(saveAccountPort, 1L, AMOUNT).getId().value();
+        Transfer stuck = stuckTransfer(sourceId, targetId, true, false, stuckAt());
+
+        // when
+        transferRecoveryService.recover(Instant.now());
+
+        // then
+        Transfer recovered = reload(stuck);
+        assertThat(recovered.getStatus()).isEqualTo(TransferStatus.FAILED);
+        assertThat(recovered.getFailureReason()).contains("compensationStatus=SUCCESS");
+        assertThat(balanceOf(loadAccountPort, sourceId)).isEqualTo(10_000L);
+        assertThat(balanceOf(loadAccountPort, targetId)).isZero();
+    }
+
+    @Test
+    void 입금_계좌에서_되돌릴_수_없으면_보상_실패로_남긴다() {
+        // given - 입금 계좌가 이미 금액을 사용했다
+        Long sourceId = openAccount(saveAccountPort, 1L, 9_000L).getId().value();
+        Long targetId = openAccount(saveAccountPort, 1L, 0L).getId().value();
+        Transfer stuck = stuckTransfer(sourceId, targetId, true, false, stuckAt());
+
+        // when
+        transferRecoveryService.recover(Instant.now());
+
+        // then
+        Transfer recovered = reload(stuck);
+        assertThat(recovered.getStatus()).isEqualTo(TransferStatus.FAILED);
+        assertThat(recovered.getFailureReason()).contains("compensationStatus=FAILED");
+        assertThat(balanceOf(loadAccountPort, sourceId)).isEqualTo(9_000L);
+    }
+
+    @Test
+    void 확정된_엔트리가_없으면_보상_없이_실패_처리하고_최근_송금은_건드리지_않는다() {
+        // given
+        Long sourceId = openAccount(saveAccountPort, 1L, 10_000L).getId().value();
+        Long targetId = openAccount(saveAccountPort, 1L, 0L).getId().value();
+        Transfer stuck = stuckTransfer(sourceId, targetId, false, false, stuckAt());
+        Transfer recent = stuckTransfer(sourceId, targetId, false, false, Instant.now());
+
+        // when
+        transferRecoveryService.recover(Instant.now().minus(30, ChronoUnit.MINUTES));
+
+        // then
+        Transfer recovered = reload(stuck);
+        assertThat(recovered.getStatus()).isEqualTo(TransferStatus.FAILED);
+        assertThat(recovered.getFailureReason()).isEqualTo(TransferRecoveryService.RECOVERY_FAILURE_MESSAGE);
+        assertThat(reload(recent).getStatus()).isEqualTo(TransferStatus.REQUESTED);
+        assertThat(balanceOf(loadAccountPort, sourceId)).isEqualTo(10_000L);
+    }
+
+    private Instant stuckAt() {
+        return Instant.now().minus(1, ChronoUnit.HOURS);
+    }
+
+    /**
+     * 지정한 엔트리까지 확정된 상태로 멈춘 송금을 만든다.
+     */
+    private Transfer stuckTransfer(Long sourceId, Long targetId, boolean debitPosted, boolean creditPosted,
+                                   Instant updatedAt) {
+        Transfer transfer = Transfer.create(
+            sourceId,
+            targetId,
+            MoneyWon.of(AMOUNT),
+            LocalDate.now(),
+            TransferType.INTERNAL,
+            IdempotencyKey.of("recovery-" + System.nanoTime()),
+            updatedAt
+        );
+        if (debitPosted) {
+            TransactionId debitId = saveTransaction(sourceId, TransactionType.TRANSFER_OUT, TransactionDirection.DEBIT,
+                balanceOf(loadAccountPort, sourceId), updatedAt);
+            transfer.markEntryPosted(TransactionDirection.DEBIT, debitId, updatedAt);
+        }
+        if (creditPosted) {
+            TransactionId creditId = saveTransaction(targetId, TransactionType.TRANSFER_IN, TransactionDirection.CREDIT,
+                balanceOf(loadAccountPort, targetId), updatedAt);
+            transfer.markEntryPosted(TransactionDirection.CREDIT, creditId, updatedAt);
+        }
+        return ledgerPersistencePort.save(transfer);
+    }
+
+    private TransactionId saveTransaction(Long accountId, TransactionType type, TransactionDirection direction,
+                                          long balanceAfter, Instant postedAt) {
+        return saveTransactionPort.saveTransaction(Transaction.create(
+            accountId, type, direction, MoneyWon.of(AMOUNT), MoneyWon.of(balanceAfter), LocalDate.now(), postedAt, null
+        ));
+    }
+
+    private Transfer reload(Transfer transfer) {
+        return ledgerPersistencePort.findBySourceAccountIdAndIdempotencyKey(
+            transfer.getSourceAccountId(), transfer.getIdempotencyKey()).orElseThrow();
+    }
+}
@@ -24,17 +24,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import saviing.bank.account.api.AccountInternalApi;
-import saviing.bank.account.api.request.DepositAccountRequest;
-import saviing.bank.account.api.request.GetAccountRequest;
-import saviing.bank.account.api.request.WithdrawAccountRequest;
+import saviing.bank.account.api.request.ApplyTransferRequest;
 import saviing.bank.account.api.response.AccountApiResponse;
 import saviing.bank.account.api.response.AccountInfoResponse;
+import saviing.bank.account.api.response.ApplyTransferResponse;
 import saviing.bank.account.api.response.BalanceUpdateResponse;
 import saviing.bank.common.vo.MoneyWon;
 import saviing.bank.transaction.application.port.in.command.TransferCommand;
 import saviing.bank.transaction.application.port.out.LoadCustomerNamePort;
 import saviing.bank.transaction.application.port.out.LoadTransactionPort;
 import saviing.bank.transaction.application.port.out.SaveTransactionPort;
+import saviing.bank.transaction.application.port.out.TransferReplayCachePort;
 import saviing.bank.transaction.domain.model.Transaction;
 import saviing.bank.transaction.domain.model.TransactionDirection;
 import saviing.bank.transaction.domain.model.TransactionType;
@@ -64,6 +64,8 @@ class TransferServiceTest {
     private LoadCustomerNamePort loadCustomerNamePort;
     @Mock
     private AccountInternalApi accountInternalApi;
+    @Mock
+    private TransferReplayCachePort transferReplayCachePort;
 
     @InjectMocks
     private TransferService transferService;
@@ -136,12 +138,39 @@ class TransferServiceTest {
             .hasMessageContaining("중복된 송금");
 
         verify(transferDomainService).ensureIdempotency(idempotencyKey);
+        verify(transferReplayCachePort).putCompletedStatus(100L, idempotencyKey, TransferStatus.SETTLED);
         verifyNoInteractions(accountInternalApi, saveTransactionPort, loadTransactionPort);
     }
 
+    @Test
+    void 캐시에_완료된_송금은_원장_조회없이_중복_예외를_던진다() {
+        // given
+        IdempotencyKey idempotencyKey = IdempotencyKey.of("auto-transfer-1-2025-01-01");
+        when(transferReplayCachePort.findCompletedStatus(100L, idempotencyKey))
+            .thenReturn(Optional.of(TransferStatus.SETTLED));
+
+        TransferCommand command = TransferCommand.builder()
+            .sourceAccountId(100L)
+            .targetAccountId(200L)
+            .amount(MoneyWon.of(1000L))
+            .valueDate(LocalDate.now())
+            .memo("test")
+            .idempotencyKey(idempotencyKey)
+            .transferType(TransferType.INTERNAL)
+            .requestedAt(Instant.now())
+            .build();
+
+        // when & then
+        assertThatThrownBy(() -> transferService.transfer(command))
+            .isInstanceOf(DuplicateTransferRequestException.class)
+            .hasMessageContaining("중복된 송금");
+
+        verifyNoInteractions(ledgerService, accountInternalApi, saveTransactionPort, loadTransactionPort);
+    }
+
     @Test
     void 시스템_예외_발생시_일반화된_실패사유와_보상이_기록된다() {
-        // given - withdraw 성공 후 createTransaction에서 시스템 예외 발생
+        // given - 잔액 반영 후 createTransaction에서 시스템 예외 발생
         IdempotencyKey idempotencyKey = IdempotencyKey.of("transfer-fail-1");
 
         TransferSnapshot requestedSnapshot = createRequestedSnapshot(idempotencyKey);
@@ -150,34 +179,15 @@ class TransferServiceTest {
         when(ledgerService.initializeTransfer(any(), any(), any(), any(), any(), any()))
             .thenReturn(requestedSnapshot);
 
-        // Account 조회 성공
-        AccountApiResponse<AccountInfoResponse> sourceAccountResponse = new AccountApiResponse.Success<>(
-            new AccountInfoResponse(100L, "1234567890", 1L, 5000L, "ACTIVE", 1L)
-        );
-        AccountApiResponse<AccountInfoResponse> targetAccountResponse = new AccountApiResponse.Success<>(
-            new AccountInfoResponse(200L, "0987654321", 2L, 3000L, "ACTIVE", 1L)
-        );
-
-        when(accountInternalApi.getAccount(any(GetAccountRequest.class)))
-            .thenReturn(sourceAccountResponse)
-            .thenReturn(targetAccountResponse);
-
-        // withdraw 성공
-        when(accountInternalApi.withdraw(any(WithdrawAccountRequest.class)))
-            .thenReturn(new AccountApiResponse.Success<>(
-                new BalanceUpdateResponse(100L, 5000L, 4000L, 1000L)
-            ));
-
-        // 보상 deposit 성공
-        when(accountInternalApi.deposit(any(DepositAccountRequest.class)))
-            .thenReturn(new AccountApiResponse.Success<>(
-                new BalanceUpdateResponse(100L, 4000L, 5000L, 1000L)
-            ));
+        // 이체 반영 성공, 보상 반영 성공
+        when(accountInternalApi.applyTransfer(any(ApplyTransferRequest.class)))
+            .thenReturn(appliedTransferResponse())
+            .thenReturn(compensationTransferResponse());
 
         // createTransaction: 첫 번째 호출(출금) 실패, 두 번째 호출(보상) 성공
         when(saveTransactionPort.saveTransaction(any(Transaction.class)))
             .thenThrow(new RuntimeException("Transaction creation failed")) // 첫 번째 호출
-            .thenReturn(TransactionId.of(999L)); // 두 번째 호출 (보상)
+            .thenReturn(TransactionId.of(999L)); // 이후 호출 (보상)
 
         when(ledgerService.markTransferFailed(anyLong(), any(), anyString()))
             .thenReturn(failedSnapshot);
@@ -199,7 +209,7 @@ class TransferServiceTest {
             .hasMessage("Transaction creation failed");
 
         // then - 보상 트랜잭션이 실행되었는지 및 일반화된 실패 사유가 기록됐는지 확인
-        verify(accountInternalApi).deposit(DepositAccountRequest.of(100L, 1000L));
+        verify(accountInternalApi).applyTransfer(ApplyTransferRequest.of(200L, 100L, 1000L));
         ArgumentCaptor<String> failureReasonCaptor = ArgumentCaptor.forClass(String.class);
         verify(ledgerService).markTransferFailed(eq(100L), eq(idempotencyKey), failureReasonCaptor.capture());
         assertThat(failureReasonCaptor.getValue())
@@ -208,7 +218,7 @@ class TransferServiceTest {
 
     @Test
     void 도메인_예외_발생시_도메인_메시지와_보상이_기록된다() {
-        // given - withdraw 이후 도메인 예외 발생
+        // given - 잔액 반영 이후 도메인 예외 발생
         IdempotencyKey idempotencyKey = IdempotencyKey.of("transfer-domain-fail");
 
         TransferSnapshot requestedSnapshot = createRequestedSnapshot(idempotencyKey);
@@ -217,26 +227,10 @@ class TransferServiceTest {
         when(ledgerService.initializeTransfer(any(), any(), any(), any(), any(), any()))
             .thenReturn(requestedSnapshot);
 
-        AccountApiResponse<AccountInfoResponse> sourceAccountResponse = new AccountApiResponse.Success<>(
-            new AccountInfoResponse(100L, "1234567890", 1L, 5000L, "ACTIVE", 1L)
-        );
-        AccountApiResponse<AccountInfoResponse> targetAccountResponse = new AccountApiResponse.Success<>(
-            new AccountInfoResponse(200L, "0987654321", 2L, 3000L, "ACTIVE", 1L)
-        );
-
-        when(accountInternalApi.getAccount(any(GetAccountRequest.class)))
-            .thenReturn(sourceAccountResponse)
-            .thenReturn(targetAccountResponse);
-
-        when(accountInternalApi.withdraw(any(WithdrawAccountRequest.class)))
-            .thenReturn(new AccountApiResponse.Success<>(
-                new BalanceUpdateResponse(100L, 5000L, 4000L, 1000L)
-            ));
-
-        when(accountInternalApi.deposit(any(DepositAccountRequest.class)))
-            .thenReturn(new AccountApiResponse.Success<>(
-                new BalanceUpdateResponse(100L, 4000L, 5000L, 1000L)
-            ));
+        // 이체 반영 성공, 보상 반영 성공
+        when(accountInternalApi.applyTransfer(any(ApplyTransferRequest.class)))
+            .thenReturn(appliedTransferResponse())
+            .thenReturn(compensationTransferResponse());
 
         TransferValidationException domainException = new TransferValidationException(
             "도메인 검증 실패",
@@ -266,7 +260,7 @@ class TransferServiceTest {
             .isInstanceOf(TransferValidationException.class)
             .hasMessage("도메인 검증 실패");
 
-        verify(accountInternalApi).deposit(DepositAccountRequest.of(100L, 1000L));
+        verify(accountInternalApi).applyTransfer(ApplyTransferRequest.of(200L, 100L, 1000L));
         ArgumentCaptor<String> failureReasonCaptor = ArgumentCaptor.forClass(String.class);
         verify(ledgerService).markTransferFailed(eq(100L), eq(idempotencyKey), failureReasonCaptor.capture());
         assertThat(failureReasonCaptor.getValue())
@@ -284,30 +278,15 @@ class TransferServiceTest {
         when(ledgerService.initializeTransfer(any(), any(), any(), any(), any(), any()))
             .thenReturn(requestedSnapshot);
 
-        // Account 조회 성공
-        AccountApiResponse<AccountInfoResponse> accountResponse = new AccountApiResponse.Success<>(
-            new AccountInfoResponse(100L, "1234567890", 1L, 5000L, "ACTIVE", 1L)
-        );
-        when(accountInternalApi.getAccount(any(GetAccountRequest.class)))
-            .thenReturn(accountResponse)
-            .thenReturn(accountResponse);
-
-        // withdraw 성공
-        when(accountInternalApi.withdraw(any(WithdrawAccountRequest.class)))
-            .thenReturn(new AccountApiResponse.Success<>(
-                new BalanceUpdateResponse(100L, 5000L, 4000L, 1000L)
-            ));
+        // 이체 반영 성공
+        when(accountInternalApi.applyTransfer(any(ApplyTransferRequest.class)))
+            .thenReturn(appliedTransferResponse())
+            .thenReturn(compensationTransferResponse());
 
         // createTransaction 실패
         when(saveTransactionPort.saveTransaction(any(Transaction.class)))
             .thenThrow(new RuntimeException("Transaction creation failed"));
 
-        // 보상 deposit 성공
-        when(accountInternalApi.deposit(any(DepositAccountRequest.class)))
-            .thenReturn(new AccountApiResponse.Success<>(
-                new BalanceUpdateResponse(100L, 4000L, 5000L, 1000L)
-            ));
-
         when(ledgerService.markTransferFailed(anyLong(), any(), anyString()))
             .thenReturn(failedSnapshot);
 
@@ -328,12 +307,12 @@ class TransferServiceTest {
 
         // then - saveTransaction이 멱등성 키를 포함하여 호출되었는지 확인
         // 실제로는 멱등성이 Transaction 저장 레벨에서 처리되므로 여기서는 호출 확인만
-        verify(accountInternalApi).deposit(DepositAccountRequest.of(100L, 1000L));
+        verify(accountInternalApi).applyTransfer(ApplyTransferRequest.of(200L, 100L, 1000L));
     }
 
     @Test
     void 출금_실패시_보상_트랜잭션이_실행되지_않는다() {
-        // given - withdraw 자체가 실패한 경우
+        // given - 잔액 반영 자체가 실패한 경우
         IdempotencyKey idempotencyKey = IdempotencyKey.of("transfer-no-comp-1");
 
         TransferSnapshot requestedSnapshot = createRequestedSnapshot(idempotencyKey);
@@ -342,16 +321,8 @@ class TransferServiceTest {
         when(ledgerService.initializeTransfer(any(), any(), any(), any(), any(), any()))
             .thenReturn(requestedSnapshot);
 
-        // Account 조회 성공
-        AccountApiResponse<AccountInfoResponse> accountResponse = new AccountApiResponse.Success<>(
-            new AccountInfoResponse(100L, "1234567890", 1L, 5000L, "ACTIVE", 1L)
-        );
-        when(accountInternalApi.getAccount(any(GetAccountRequest.class)))
-            .thenReturn(accountResponse)
-            .thenReturn(accountResponse);
-
-        // withdraw 실패
-        when(accountInternalApi.withdraw(any(WithdrawAccountRequest.class)))
+        // 잔액 반영 실패
+        when(accountInternalApi.applyTransfer(any(ApplyTransferRequest.class)))
             .thenThrow(new RuntimeException("Insufficient balance"));
 
         when(ledgerService.markTransferFailed(anyLong(), any(), anyString()))
@@ -377,7 +348,7 @@ class TransferServiceTest {
         verify(ledgerService).markTransferFailed(eq(100L), eq(idempotencyKey), failureReasonCaptor.capture());
         assertThat(failureReasonCaptor.getValue()).isEqualTo("내부 시스템 오류로 송금이 실패했습니다.");
 
-        // then - 보상 트랜잭션이 실행되지 않았는지 확인 (deposit 호출 없음)
+        // then - 보상 트랜잭션이 실행되지 않았는지 확인 (보상 반영 호출 없음)
         verifyNoInteractions(saveTransactionPort);
     }
 
@@ -395,23 +366,9 @@ class TransferServiceTest {
         when(loadCustomerNamePort.loadCustomerName(1L)).thenReturn(Optional.of("홍길동")); // source customer
         when(loadCustomerNamePort.loadCustomerName(2L)).thenReturn(Optional.of("김철수")); // target customer
 
-        // Account 조회 성공 (customerId 포함)
-        AccountApiResponse<AccountInfoResponse> sourceAccountResponse = new AccountApiResponse.Success<>(
-            new AccountInfoResponse(100L, "1234567890", 1L, 5000L, "ACTIVE", 1L)
-        );
-        AccountApiResponse<AccountInfoResponse> targetAccountResponse = new AccountApiResponse.Success<>(
-            new AccountInfoResponse(200L, "0987654321", 2L, 3000L, "ACTIVE", 1L)
-        );
-        when(accountInternalApi.getAccount(any(GetAccountRequest.class)))
-            .thenReturn(sourceAccountResponse, targetAccountResponse);
-
-        // withdraw/deposit 성공
-        BalanceUpdateResponse withdrawResponse = new BalanceUpdateResponse(100L, 5000L, 4000L, 1000L);
-        BalanceUpdateResponse depositResponse = new BalanceUpdateResponse(200L, 3000L, 4000L, 1000L);
-        when(accountInternalApi.withdraw(any(WithdrawAccountRequest.class)))
-            .thenReturn(new AccountApiResponse.Success<>(withdrawResponse));
-        when(accountInternalApi.deposit(any(DepositAccountRequest.class)))
-            .thenReturn(new AccountApiResponse.Success<>(depositResponse));
+        // 이체 반영 성공 (customerId 포함)
+        when(accountInternalApi.applyTransfer(any(ApplyTransferRequest.class)))
+            .thenReturn(appliedTransferResponse());
 
         when(saveTransactionPort.saveTransaction(any(Transaction.class)))
             .thenReturn(TransactionId.of(1L), TransactionId.of(2L));
@@ -476,23 +433,9 @@ class TransferServiceTest {
         when(loadCustomerNamePort.loadCustomerName(1L)).thenReturn(Optional.of("홍길동")); // source customer
         when(loadCustomerNamePort.loadCustomerName(2L)).thenReturn(Optional.of("김철수")); // target customer
 
-        // Account 조회 성공
-        AccountApiResponse<AccountInfoResponse> sourceAccountResponse = new AccountApiResponse.Success<>(
-            new AccountInfoResponse(100L, "1234567890", 1L, 5000L, "ACTIVE", 1L)
-        );
-        AccountApiResponse<AccountInfoResponse> targetAccountResponse = new AccountApiResponse.Success<>(
-            new AccountInfoResponse(200L, "0987654321", 2L, 3000L, "ACTIVE", 1L)
-        );
-        when(accountInternalApi.getAccount(any(GetAccountRequest.class)))
-            .thenReturn(sourceAccountResponse, targetAccountResponse);
-
-        // withdraw/deposit 성공
-        BalanceUpdateResponse withdrawResponse = new BalanceUpdateResponse(100L, 5000L, 4000L, 1000L);
-        BalanceUpdateResponse depositResponse = new BalanceUpdateResponse(200L, 3000L, 4000L, 1000L);
-        when(accountInternalApi.withdraw(any(WithdrawAccountRequest.class)))
-            .thenReturn(new AccountApiResponse.Success<>(withdrawResponse));
-        when(accountInternalApi.deposit(any(DepositAccountRequest.class)))
-            .thenReturn(new AccountApiResponse.Success<>(depositResponse));
+        // 이체 반영 성공 (customerId 포함)
+        when(accountInternalApi.applyTransfer(any(ApplyTransferRequest.class)))
+            .thenReturn(appliedTransferResponse());
 
         when(saveTransactionPort.saveTransaction(any(Transaction.class)))
             .thenReturn(TransactionId.of(1L), TransactionId.of(2L));
@@ -540,7 +483,7 @@ class TransferServiceTest {
 
     @Test
     void 보상_트랜잭션의_설명이_올바르게_설정된다() {
-        // given - 출금 성공 후 입금에서 실패 발생하여 보상 트랜잭션 생성
+        // given - 잔액 반영 후 입금 거래 저장에서 실패 발생하여 보상 트랜잭션 생성
         IdempotencyKey idempotencyKey = IdempotencyKey.of("transfer-compensation-test");
         TransferSnapshot requestedSnapshot = createRequestedSnapshot(idempotencyKey);
         TransferSnapshot failedSnapshot = createFailedSnapshot(idempotencyKey);
@@ -552,27 +495,15 @@ class TransferServiceTest {
         when(loadCustomerNamePort.loadCustomerName(1L)).thenReturn(Optional.of("홍길동")); // source customer
         when(loadCustomerNamePort.loadCustomerName(2L)).thenReturn(Optional.of("김철수")); // target customer
 
-        // Account 조회 성공
-        AccountApiResponse<AccountInfoResponse> sourceAccountResponse = new AccountApiResponse.Success<>(
-            new AccountInfoResponse(100L, "1234567890", 1L, 5000L, "ACTIVE", 1L)
-        );
-        AccountApiResponse<AccountInfoResponse> targetAccountResponse = new AccountApiResponse.Success<>(
-            new AccountInfoResponse(200L, "0987654321", 2L, 3000L, "ACTIVE", 1L)
-        );
-        when(accountInternalApi.getAccount(any(GetAccountRequest.class)))
-            .thenReturn(sourceAccountResponse, targetAccountResponse);
-
-        // withdraw 성공, deposit 실패로 보상 트랜잭션 발생
-        BalanceUpdateResponse withdrawResponse = new BalanceUpdateResponse(100L, 5000L, 4000L, 1000L);
-        BalanceUpdateResponse compensationResponse = new BalanceUpdateResponse(100L, 4000L, 5000L, 1000L);
-        when(accountInternalApi.withdraw(any(WithdrawAccountRequest.class)))
-            .thenReturn(new AccountApiResponse.Success<>(withdrawResponse));
-        when(accountInternalApi.deposit(any(DepositAccountRequest.class)))
-            .thenThrow(new RuntimeException("Deposit failed"))  // 입금 실패
-            .thenReturn(new AccountApiResponse.Success<>(compensationResponse)); // 보상 입금 성공
+        // 이체 반영 성공, 보상 반영 성공
+        when(accountInternalApi.applyTransfer(any(ApplyTransferRequest.class)))
+            .thenReturn(appliedTransferResponse())
+            .thenReturn(compensationTransferResponse());
 
         when(saveTransactionPort.saveTransaction(any(Transaction.class)))
-            .thenReturn(TransactionId.of(1L), TransactionId.of(2L));
+            .thenReturn(TransactionId.of(1L))
+            .thenThrow(new RuntimeException("Deposit failed"))  // 입금 거래 저장 실패
+            .thenReturn(TransactionId.of(2L), TransactionId.of(3L)); // 보상 거래 저장 성공
 
         when(ledgerService.markEntryPosted(any(), any(), eq(TransactionDirection.DEBIT), any(), any()))
             .thenReturn(requestedSnapshot);
@@ -597,20 +528,43 @@ class TransferServiceTest {
 
         // 보상 트랜잭션이 생성되었는지 확인
         ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
-        verify(saveTransactionPort, times(2)).saveTransaction(transactionCaptor.capture());
+        verify(saveTransactionPort, times(4)).saveTransaction(transactionCaptor.capture());
 
         List<Transaction> capturedTransactions = transactionCaptor.getAllValues();
         Transaction debitTransaction = capturedTransactions.get(0);  // 출금 거래
-        Transaction compensationTransaction = capturedTransactions.get(1); // 보상 거래
+        Transaction reversalDebitTransaction = capturedTransactions.get(2); // 입금 계좌 보상 거래
+        Transaction compensationTransaction = capturedTransactions.get(3); // 출금 계좌 보상 거래
 
         // 출금 거래는 수취인 이름으로 설정
         assertThat(debitTransaction.getDescription()).isEqualTo("김철수");
 
-        // 보상 거래는 "수취인 이름 + 송금취소"로 설정
+        // 입금 계좌 보상 거래는 "송금자 이름 + 송금취소"로 설정
+        assertThat(reversalDebitTransaction.getDescription()).isEqualTo("홍길동 송금취소");
+        assertThat(reversalDebitTransaction.getDirection()).isEqualTo(TransactionDirection.DEBIT);
+
+        // 출금 계좌 보상 거래는 "수취인 이름 + 송금취소"로 설정
         assertThat(compensationTransaction.getDescription()).isEqualTo("김철수 송금취소");
         assertThat(compensationTransaction.getDirection()).isEqualTo(TransactionDirection.CREDIT);
     }
 
+    private AccountApiResponse<ApplyTransferResponse> appliedTransferResponse() {
+        return new AccountApiResponse.Success<>(ApplyTransferResponse.applied(
+            new AccountInfoResponse(100L, "1234567890", 1L, 5000L, "ACTIVE", 1L),
+            new AccountInfoResponse(200L, "0987654321", 2L, 3000L, "ACTIVE", 1L),
+            new BalanceUpdateResponse(100L, 5000L, 4000L, 1000L),
+            new BalanceUpdateResponse(200L, 3000L, 4000L, 1000L)
+        ));
+    }
+
+    private AccountApiResponse<ApplyTransferResponse> compensationTransferResponse() {
+        return new AccountApiResponse.Success<>(ApplyTransferResponse.applied(
+            new AccountInfoResponse(200L, "0987654321", 2L, 4000L, "ACTIVE", 1L),
+            new AccountInfoResponse(100L, "1234567890", 1L, 4000L, "ACTIVE", 1L),
+            new BalanceUpdateResponse(200L, 4000L, 3000L, 1000L),
+            new BalanceUpdateResponse(100L, 4000L, 5000L, 1000L)
+        ));
+    }
+
     private TransferSnapshot createRequestedSnapshot(IdempotencyKey idempotencyKey) {
         LedgerEntrySnapshot debitSnapshot = new LedgerEntrySnapshot(
             1L, 100L, TransactionDirection.DEBIT, MoneyWon.of(1000L),
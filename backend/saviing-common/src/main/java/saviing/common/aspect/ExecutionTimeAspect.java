@@ -1,6 +1,9 @@
 package saviing.common.aspect;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -11,89 +14,196 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import saviing.common.annotation.ExecutionTime;
 import saviing.common.annotation.LogLevel;
 
+/**
+ * {@link ExecutionTime}이 붙은 메서드의 실행 시간을 측정한다.
+ *
+ * <p>{@link Mode#LOG}는 호출 깊이에 따라 들여쓴 시작/종료 로그를 남기고,
+ * {@link Mode#METRICS}는 클래스/메서드 태그의 Micrometer {@link Timer}에 기록한 뒤
+ * 임계값을 넘거나 샘플링된 호출만 로그로 남긴다.
+ * 어노테이션 조회 결과와 Timer는 대상 클래스/메서드별로 캐시한다.</p>
+ *
+ * <p>컴파일 타임 위빙으로 생성되는 싱글톤이라 스프링 빈이 아니므로
+ * {@link saviing.common.config.AopConfig}가 기동 시점에 {@link #configure}로 설정을 주입한다.</p>
+ */
 @Aspect
 @Slf4j
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class ExecutionTimeAspect {
 
+    public static final String METRIC_NAME = "execution_time";
+
     private static final String INDENT = "──";
-    
+
     private static final ThreadLocal<Integer> EXECUTION_DEPTH = ThreadLocal.withInitial(() -> 0);
-    
+
+    /**
+     * 어노테이션이 없는 메서드를 캐시에 표시하기 위한 값
+     */
+    private static final MethodMetadata NOT_ANNOTATED = new MethodMetadata(null, null, null, null);
+
+    private final Map<Class<?>, Map<Method, MethodMetadata>> metadataCache = new ConcurrentHashMap<>();
+
+    private volatile Mode mode = Mode.LOG;
+    private volatile MeterRegistry meterRegistry;
+    private volatile double logSampleRate;
+
     @Pointcut("@annotation(saviing.common.annotation.ExecutionTime)")
     public void annotatedMethod() {}
-    
+
     @Pointcut("@within(saviing.common.annotation.ExecutionTime)")
     public void annotatedClass() {}
-    
+
+    /**
+     * 측정 방식을 설정한다. 기존에 캐시된 Timer는 새 레지스트리로 다시 만든다.
+     *
+     * @param mode 측정 방식
+     * @param meterRegistry METRICS 방식에서 사용할 레지스트리 (없으면 LOG 방식으로 동작)
+     * @param logSampleRate METRICS 방식에서 임계값 미만 호출을 로그로 남길 비율 (0.0 ~ 1.0)
+     */
+    public void configure(Mode mode, MeterRegistry meterRegistry, double logSampleRate) {
+        this.mode = mode == Mode.METRICS && meterRegistry == null ? Mode.LOG : mode;
+        this.meterRegistry = meterRegistry;
+        this.logSampleRate = Math.max(0.0, Math.min(1.0, logSampleRate));
+        metadataCache.clear();
+    }
+
     @Around("execution(* *(..)) && !execution(static * *..*(..)) && (annotatedMethod() || annotatedClass())")
     public Object measureExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        
-        ExecutionTime executionTime = getExecutionTimeAnnotation(method, joinPoint.getTarget().getClass());
-        if (executionTime == null) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodMetadata metadata = getMetadata(method, joinPoint.getTarget().getClass());
+        if (metadata == NOT_ANNOTATED) {
             return joinPoint.proceed();
         }
-        
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = method.getName();
-        
+
+        if (metadata.timer() != null) {
+            return measureWithTimer(joinPoint, metadata);
+        }
+        return measureWithLog(joinPoint, metadata);
+    }
+
+    private Object measureWithTimer(ProceedingJoinPoint joinPoint, MethodMetadata metadata) throws Throwable {
+        long startTime = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long elapsedNanos = System.nanoTime() - startTime;
+            metadata.timer().record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            long executionTimeMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            ExecutionTime executionTime = metadata.annotation();
+            if (executionTimeMs >= executionTime.threshold()) {
+                log.warn("{}.{}() 메서드 종료. [실행 시간: {} ms] (임계값 초과: {} ms)",
+                    metadata.className(), metadata.methodName(), executionTimeMs, executionTime.threshold());
+            } else if (isSampled() && isEnabled(executionTime.level())) {
+                logMessage(String.format("%s.%s() 메서드 종료. [실행 시간: %d ms]",
+                    metadata.className(), metadata.methodName(), executionTimeMs), executionTime.level());
+            }
+        }
+    }
+
+    private Object measureWithLog(ProceedingJoinPoint joinPoint, MethodMetadata metadata) throws Throwable {
+        ExecutionTime executionTime = metadata.annotation();
+
         int currentDepth = EXECUTION_DEPTH.get();
         EXECUTION_DEPTH.set(currentDepth + 1);
-        
-        String indent = INDENT.repeat(currentDepth);
-        
+
         long startTime = System.nanoTime();
-        
-        logMessage(String.format("%s %s.%s() 메서드 시작", indent, className, methodName), executionTime.level());
-        
+
+        if (isEnabled(executionTime.level())) {
+            logMessage(String.format("%s %s.%s() 메서드 시작",
+                INDENT.repeat(currentDepth), metadata.className(), metadata.methodName()), executionTime.level());
+        }
+
         try {
             Object result = joinPoint.proceed();
             return result;
         } finally {
             long endTime = System.nanoTime();
             long executionTimeMs = TimeUnit.NANOSECONDS.toMillis(endTime - startTime);
-            
+
             EXECUTION_DEPTH.set(currentDepth);
             if (currentDepth == 0) {
                 EXECUTION_DEPTH.remove();
             }
-            
-            logExecutionTime(className, methodName, executionTimeMs, executionTime);
+
+            logExecutionTime(metadata, executionTimeMs, currentDepth);
+        }
+    }
+
+    private MethodMetadata getMetadata(Method method, Class<?> targetClass) {
+        return metadataCache
+            .computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(method, key -> createMetadata(key, targetClass));
+    }
+
+    private MethodMetadata createMetadata(Method method, Class<?> targetClass) {
+        ExecutionTime annotation = getExecutionTimeAnnotation(method, targetClass);
+        if (annotation == null) {
+            return NOT_ANNOTATED;
         }
+
+        String className = targetClass.getSimpleName();
+        String methodName = method.getName();
+        MeterRegistry registry = meterRegistry;
+        Timer timer = mode == Mode.METRICS && registry != null
+            ? Timer.builder(METRIC_NAME)
+                .description("@ExecutionTime 메서드 실행 시간")
+                .tag("class", className)
+                .tag("method", methodName)
+                .publishPercentileHistogram()
+                .register(registry)
+            : null;
+        return new MethodMetadata(annotation, className, methodName, timer);
     }
-    
+
     private ExecutionTime getExecutionTimeAnnotation(Method method, Class<?> targetClass) {
         ExecutionTime annotation = method.getAnnotation(ExecutionTime.class);
         if (annotation != null) {
             return annotation;
         }
-        
+
         return targetClass.getAnnotation(ExecutionTime.class);
     }
-    
-    private void logExecutionTime(String className, String methodName, 
-            long executionTimeMs, ExecutionTime executionTime) {
 
-        int currentDepth = EXECUTION_DEPTH.get();
-        String indent = INDENT.repeat(currentDepth);
-        String message = String.format("%s %s.%s() 메서드 종료. [실행 시간: %d ms]",  indent, className, methodName, executionTimeMs);
-        
+    private void logExecutionTime(MethodMetadata metadata, long executionTimeMs, int currentDepth) {
+        ExecutionTime executionTime = metadata.annotation();
         LogLevel logLevel = executionTime.level();
         boolean isOverThreshold = executionTimeMs >= executionTime.threshold();
-        
+        if (!isOverThreshold && !isEnabled(logLevel)) {
+            return;
+        }
+
+        String indent = INDENT.repeat(currentDepth);
+        String message = String.format("%s %s.%s() 메서드 종료. [실행 시간: %d ms]",
+            indent, metadata.className(), metadata.methodName(), executionTimeMs);
+
         if (isOverThreshold) {
             log.warn("{} (임계값 초과: {} ms)", message, executionTime.threshold());
         } else {
             logMessage(message, logLevel);
         }
     }
-    
+
+    private boolean isSampled() {
+        double rate = logSampleRate;
+        return rate > 0.0 && (rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private boolean isEnabled(LogLevel logLevel) {
+        return switch (logLevel) {
+            case DEBUG -> log.isDebugEnabled();
+            case INFO -> log.isInfoEnabled();
+            case WARN -> log.isWarnEnabled();
+            case ERROR -> log.isErrorEnabled();
+        };
+    }
+
     private void logMessage(String message, LogLevel logLevel) {
         switch (logLevel) {
             case DEBUG -> log.debug(message);
@@ -103,4 +213,20 @@ public class ExecutionTimeAspect {
             default -> log.info(message);
         }
     }
+
+    /**
+     * 실행 시간 측정 방식
+     */
+    public enum Mode {
+        /** 호출마다 시작/종료 로그를 남긴다 */
+        LOG,
+        /** Micrometer Timer에 기록하고 임계값 초과 또는 샘플링된 호출만 로그로 남긴다 */
+        METRICS
+    }
+
+    /**
+     * 대상 클래스/메서드별로 캐시하는 어노테이션 정보와 Timer
+     */
+    private record MethodMetadata(ExecutionTime annotation, String className, String methodName, Timer timer) {
+    }
 }
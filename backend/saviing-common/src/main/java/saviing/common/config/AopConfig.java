@@ -1,9 +1,38 @@
 package saviing.common.config;
 
+import org.aspectj.lang.Aspects;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import saviing.common.aspect.ExecutionTimeAspect;
+
 @Configuration
-public class AopConfig {
+public class AopConfig implements SmartInitializingSingleton {
     // AspectJ CTW 활성화
     // 컴파일 타임에 바이트코드 조작으로 self-invocation 문제 해결
-}
\ No newline at end of file
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Value("${execution-time.mode:LOG}")
+    private ExecutionTimeAspect.Mode executionTimeMode;
+
+    @Value("${execution-time.log-sample-rate:0.0}")
+    private double executionTimeLogSampleRate;
+
+    public AopConfig(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    // CTW 애스펙트는 스프링 빈이 아니므로 싱글톤 인스턴스에 측정 방식과 레지스트리를 직접 주입한다.
+    @Override
+    public void afterSingletonsInstantiated() {
+        Aspects.aspectOf(ExecutionTimeAspect.class).configure(
+            executionTimeMode,
+            meterRegistryProvider.getIfAvailable(),
+            executionTimeLogSampleRate
+        );
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
@@ -21,15 +22,20 @@ public class JwtConfig {
     private final Duration tokenExpiry;
     private final JwtParser jwtParser;
     private final String refreshTokenCookieName;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public JwtConfig(
             @Value("${jwt.secret:default-secret-key-for-development-only-please-change-in-production-minimum-32-characters}") String secret,
             @Value("${jwt.token-expiry:P7D}") Duration tokenExpiry,
-            @Value("${jwt.refresh-token-cookie-name:refresh_token}") String refreshTokenCookieName) {
+            @Value("${jwt.refresh-token-cookie-name:refresh_token}") String refreshTokenCookieName,
+            @Value("${jwt.verified-token-cache.max-size:10000}") int verifiedTokenCacheMaxSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.tokenExpiry = tokenExpiry;
         this.refreshTokenCookieName = refreshTokenCookieName;
         this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokenCache = verifiedTokenCacheMaxSize > 0
+                ? new VerifiedTokenCache(verifiedTokenCacheMaxSize, Clock.systemUTC())
+                : null;
     }
 
     // Access Token - 헤더에서 사용
@@ -54,13 +60,25 @@ public class JwtConfig {
                 .compact();
     }
 
+    // 검증된 토큰은 exp까지 캐시해 같은 토큰의 반복 요청에서 서명 검증과 클레임 파싱을 생략한다.
+    // 필터와 아래 헬퍼 메서드가 모두 이 메서드를 거치므로 캐시를 함께 사용한다.
     public Claims parseToken(String token) {
-        return jwtParser.parseSignedClaims(token).getPayload();
+        if (verifiedTokenCache == null) {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        }
+        String key = VerifiedTokenCache.keyOf(token);
+        Claims cached = verifiedTokenCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        verifiedTokenCache.put(key, claims);
+        return claims;
     }
 
     public boolean isTokenValid(String token) {
         try {
-            jwtParser.parseSignedClaims(token);
+            parseToken(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -0,0 +1,94 @@
+package saviing.common.config;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증을 통과한 토큰의 클레임을 보관하는 LRU 캐시.
+ * 원본 토큰 대신 SHA-256 다이제스트를 키로 사용하고, 항목은 토큰의 {@code exp} 시각에 만료된다.
+ * 검증에 실패한 토큰은 저장하지 않으며, {@code exp}가 없는 토큰도 만료 시점을 알 수 없으므로 저장하지 않는다.
+ */
+final class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Clock clock;
+    private final Object lock = new Object();
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    VerifiedTokenCache(int maxSize, Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시된 클레임을 조회한다. 만료된 항목은 제거하고 null을 반환한다.
+     *
+     * @param key {@link #keyOf(String)}로 계산한 토큰 다이제스트
+     * @return 검증된 클레임 (없거나 만료된 경우 null)
+     */
+    Claims get(String key) {
+        long now = clock.millis();
+        synchronized (lock) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now >= entry.expiresAtMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.claims();
+        }
+    }
+
+    /**
+     * 검증된 클레임을 토큰의 만료 시각까지 저장한다.
+     *
+     * @param key {@link #keyOf(String)}로 계산한 토큰 다이제스트
+     * @param claims 서명 검증을 통과한 클레임
+     */
+    void put(String key, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (maxSize <= 0 || expiration == null || expiration.getTime() <= clock.millis()) {
+            return;
+        }
+        synchronized (lock) {
+            entries.put(key, new Entry(claims, expiration.getTime()));
+        }
+    }
+
+    int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트를 캐시 키로 계산한다.
+     */
+    static String keyOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,43 @@
+package saviing.common.persistence;
+
+/**
+ * 모든 JPA 엔티티가 공유하는 풀링(pooled) 식별자 채번 설정입니다.
+ *
+ * <p>IDENTITY 전략은 INSERT 실행 후에야 식별자를 알 수 있어 Hibernate가 JDBC 배치 INSERT를 사용하지 않습니다.
+ * 대신 {@value #TABLE} 테이블에서 엔티티별 구간을 {@value #ALLOCATION_SIZE}개 단위로 미리 할당받아
+ * 애플리케이션에서 식별자를 부여하므로, {@code hibernate.jdbc.batch_size}/{@code order_inserts} 설정이 적용됩니다.</p>
+ *
+ * <pre>{@code
+ * @Id
+ * @GeneratedValue(strategy = GenerationType.TABLE, generator = "account_id")
+ * @TableGenerator(
+ *     name = "account_id",
+ *     table = PooledIdGeneration.TABLE,
+ *     pkColumnName = PooledIdGeneration.SEGMENT_COLUMN,
+ *     valueColumnName = PooledIdGeneration.VALUE_COLUMN,
+ *     pkColumnValue = "account",
+ *     allocationSize = PooledIdGeneration.ALLOCATION_SIZE
+ * )
+ * private Long id;
+ * }</pre>
+ *
+ * <p>기존 AUTO_INCREMENT 데이터와 충돌하지 않도록 기동 시 {@link PooledIdSequenceInitializer}가
+ * 각 구간의 시작 값을 테이블의 최대 식별자 이후로 맞춥니다.</p>
+ */
+public final class PooledIdGeneration {
+
+    /** 구간 할당 상태를 저장하는 테이블 */
+    public static final String TABLE = "id_sequence";
+
+    /** 엔티티별 구간 이름 컬럼 */
+    public static final String SEGMENT_COLUMN = "sequence_name";
+
+    /** 다음 할당 값 컬럼 */
+    public static final String VALUE_COLUMN = "next_val";
+
+    /** 한 번에 할당받는 식별자 수 (hibernate.jdbc.batch_size와 맞춘다) */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private PooledIdGeneration() {
+    }
+}
@@ -0,0 +1,102 @@
+package saviing.common.persistence;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 풀링 식별자 구간의 시작 값을 각 엔티티 테이블의 최대 식별자 이후로 맞춥니다.
+ *
+ * <p>IDENTITY 전략으로 쌓인 기존 데이터가 있는 상태에서 {@link PooledIdGeneration} 테이블 채번으로 전환하면
+ * 첫 구간이 1부터 시작해 기존 식별자와 충돌합니다. 모든 싱글톤 빈이 생성된 직후(스케줄러 시작 전)
+ * {@link TableGenerator}를 사용하는 엔티티를 찾아, 할당 값이 {@code max(id) + allocationSize} 미만이면 끌어올립니다.
+ * 값을 낮추지는 않으므로 여러 인스턴스가 동시에 기동해도 안전합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PooledIdSequenceInitializer implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<String, Segment> segments = new LinkedHashMap<>();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getMappingMetamodel()
+            .forEachEntityDescriptor(persister -> {
+                if (!(persister.getGenerator() instanceof TableGenerator generator)
+                    || !(persister instanceof AbstractEntityPersister entityPersister)
+                    || !persister.getEntityName().equals(persister.getRootEntityName())) {
+                    return;
+                }
+                long maxId = findMaxId(entityPersister.getTableName(), entityPersister.getIdentifierColumnNames()[0]);
+                segments.merge(
+                    generator.getSegmentValue(),
+                    new Segment(generator, maxId),
+                    (existing, added) -> existing.maxId() >= added.maxId() ? existing : added
+                );
+            });
+
+        segments.values().forEach(this::alignSegment);
+    }
+
+    private long findMaxId(String tableName, String idColumnName) {
+        Long maxId = jdbcTemplate.queryForObject(
+            "select coalesce(max(" + idColumnName + "), 0) from " + tableName, Long.class);
+        return maxId == null ? 0L : maxId;
+    }
+
+    /**
+     * pooled 최적화기는 조회한 값 V에 대해 (V - allocationSize, V] 구간을 사용하므로,
+     * V가 {@code maxId + allocationSize} 이상이면 새 식별자는 항상 기존 최대값보다 크다.
+     */
+    private void alignSegment(Segment segment) {
+        TableGenerator generator = segment.generator();
+        long floor = segment.maxId() + generator.getIncrementSize();
+        String update = "update " + generator.getTableName()
+            + " set " + generator.getValueColumnName() + " = ?"
+            + " where " + generator.getSegmentColumnName() + " = ? and " + generator.getValueColumnName() + " < ?";
+
+        int updated = jdbcTemplate.update(update, floor, generator.getSegmentValue(), floor);
+        if (updated == 0 && !segmentExists(generator)) {
+            try {
+                jdbcTemplate.update(
+                    "insert into " + generator.getTableName()
+                        + " (" + generator.getSegmentColumnName() + ", " + generator.getValueColumnName() + ") values (?, ?)",
+                    generator.getSegmentValue(), floor);
+                updated = 1;
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 먼저 구간을 만들었다. 그 값이 더 작을 수 있으므로 다시 끌어올린다.
+                updated = jdbcTemplate.update(update, floor, generator.getSegmentValue(), floor);
+            }
+        }
+
+        if (updated > 0) {
+            log.info("식별자 구간 정렬: segment={}, maxId={}, nextVal={}",
+                generator.getSegmentValue(), segment.maxId(), floor);
+        }
+    }
+
+    private boolean segmentExists(TableGenerator generator) {
+        Integer count = jdbcTemplate.queryForObject(
+            "select count(*) from " + generator.getTableName() + " where " + generator.getSegmentColumnName() + " = ?",
+            Integer.class, generator.getSegmentValue());
+        return count != null && count > 0;
+    }
+
+    private record Segment(TableGenerator generator, long maxId) {
+    }
+}
@@ -0,0 +1,59 @@
+package saviing.common.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * JDBC로 직접 읽고 쓰는 타임스탬프 컬럼을 UTC 기준으로 다루는 도우미입니다.
+ *
+ * <p>Hibernate는 {@link Instant} 컬럼을 UTC 기준으로 저장하므로,
+ * 같은 컬럼을 {@link java.sql.Connection}으로 직접 다루는 어댑터도 JVM 기본 시간대가 아닌 UTC 달력을 넘겨야
+ * JPA로 쓴 값과 JDBC로 쓴 값이 같은 시각을 가리킵니다.
+ * {@link Calendar}는 스레드 안전하지 않으므로 호출마다 새로 만듭니다.</p>
+ */
+public final class UtcJdbcTimestamps {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private UtcJdbcTimestamps() {
+    }
+
+    /**
+     * UTC 기준 달력을 새로 만든다.
+     *
+     * @return UTC 달력
+     */
+    public static Calendar utcCalendar() {
+        return Calendar.getInstance(UTC);
+    }
+
+    /**
+     * 파라미터에 UTC 기준 타임스탬프를 바인딩한다.
+     *
+     * @param ps 바인딩할 문장
+     * @param index 파라미터 위치 (1부터)
+     * @param timestamp 바인딩할 값
+     * @throws SQLException 바인딩 실패 시
+     */
+    public static void setTimestamp(PreparedStatement ps, int index, Timestamp timestamp) throws SQLException {
+        ps.setTimestamp(index, timestamp, utcCalendar());
+    }
+
+    /**
+     * UTC 기준으로 저장된 타임스탬프 컬럼을 읽는다.
+     *
+     * @param rs 결과 집합
+     * @param column 컬럼 이름
+     * @return 읽은 시각 (NULL이면 null)
+     * @throws SQLException 조회 실패 시
+     */
+    public static Instant getInstant(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column, utcCalendar());
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
@@ -0,0 +1,140 @@
+package saviing.common.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+import saviing.common.annotation.ExecutionTime;
+
+/**
+ * METRICS 방식이 클래스/메서드 태그의 Timer에 기록하고 메서드별 정보를 재사용하는지 검증하고,
+ * 단순 메서드에 대한 방식별 애스펙트 오버헤드를 측정해 로그로 남긴다.
+ * 호출 횟수는 {@code execution.time.benchmark.invocations} 시스템 프로퍼티로 조정할 수 있다 (기본 200,000회).
+ */
+@Slf4j
+class ExecutionTimeAspectTest {
+
+    private static final int INVOCATIONS = Integer.getInteger("execution.time.benchmark.invocations", 200_000);
+    private static final int WARMUP_INVOCATIONS = 20_000;
+
+    @Test
+    void METRICS_방식은_클래스와_메서드_태그의_Timer에_히스토그램과_함께_기록한다() throws Throwable {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ExecutionTimeAspect aspect = new ExecutionTimeAspect();
+        aspect.configure(ExecutionTimeAspect.Mode.METRICS, registry, 0.0);
+        ProceedingJoinPoint joinPoint = joinPoint(new TrivialService());
+
+        // when
+        Object first = aspect.measureExecutionTime(joinPoint);
+        Object second = aspect.measureExecutionTime(joinPoint);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        Timer timer = registry.get(ExecutionTimeAspect.METRIC_NAME)
+            .tag("class", "TrivialService")
+            .tag("method", "increment")
+            .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.takeSnapshot().histogramCounts()).isNotEmpty();
+        assertThat(registry.getMeters()).hasSize(1);
+    }
+
+    @Test
+    void 어노테이션이_없는_메서드는_기록하지_않고_그대로_실행한다() throws Throwable {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ExecutionTimeAspect aspect = new ExecutionTimeAspect();
+        aspect.configure(ExecutionTimeAspect.Mode.METRICS, registry, 1.0);
+
+        // when
+        Object result = aspect.measureExecutionTime(joinPoint(new PlainService()));
+
+        // then
+        assertThat(result).isEqualTo(1);
+        assertThat(registry.getMeters()).isEmpty();
+    }
+
+    @Test
+    void 측정_방식별_단순_메서드_호출_오버헤드를_기록한다() throws Throwable {
+        // given
+        ExecutionTimeAspect logAspect = new ExecutionTimeAspect();
+        ExecutionTimeAspect metricsAspect = new ExecutionTimeAspect();
+        metricsAspect.configure(ExecutionTimeAspect.Mode.METRICS, new SimpleMeterRegistry(), 0.0);
+        ProceedingJoinPoint joinPoint = joinPoint(new TrivialService());
+
+        // when
+        long baselineNanos = measure(null, joinPoint);
+        long logNanos = measure(logAspect, joinPoint);
+        long metricsNanos = measure(metricsAspect, joinPoint);
+
+        // then
+        assertThat(metricsAspect.measureExecutionTime(joinPoint)).isEqualTo(1);
+        log.info("@ExecutionTime 호출당 처리 시간: invocations={}, baselineNs={}, logModeNs={}, metricsModeNs={}",
+            INVOCATIONS, baselineNanos / INVOCATIONS, logNanos / INVOCATIONS, metricsNanos / INVOCATIONS);
+    }
+
+    private long measure(ExecutionTimeAspect aspect, ProceedingJoinPoint joinPoint) throws Throwable {
+        for (int i = 0; i < WARMUP_INVOCATIONS; i++) {
+            invoke(aspect, joinPoint);
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < INVOCATIONS; i++) {
+            invoke(aspect, joinPoint);
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private Object invoke(ExecutionTimeAspect aspect, ProceedingJoinPoint joinPoint) throws Throwable {
+        return aspect == null ? joinPoint.proceed() : aspect.measureExecutionTime(joinPoint);
+    }
+
+    /**
+     * 위빙 없이 애스펙트를 호출할 수 있도록 대상 객체의 {@code increment(0)} 호출을 감싼 조인 포인트를 만든다.
+     */
+    private ProceedingJoinPoint joinPoint(Object target) throws NoSuchMethodException {
+        Method method = target.getClass().getDeclaredMethod("increment", int.class);
+        MethodSignature signature = (MethodSignature) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {MethodSignature.class},
+            (proxy, invoked, args) -> switch (invoked.getName()) {
+                case "getMethod" -> method;
+                case "getName" -> method.getName();
+                default -> throw new UnsupportedOperationException(invoked.getName());
+            });
+        return (ProceedingJoinPoint) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {ProceedingJoinPoint.class},
+            (proxy, invoked, args) -> switch (invoked.getName()) {
+                case "getSignature" -> signature;
+                case "getTarget", "getThis" -> target;
+                case "proceed" -> method.invoke(target, 0);
+                default -> throw new UnsupportedOperationException(invoked.getName());
+            });
+    }
+
+    @ExecutionTime
+    static class TrivialService {
+
+        int increment(int value) {
+            return value + 1;
+        }
+    }
+
+    static class PlainService {
+
+        int increment(int value) {
+            return value + 1;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package saviing.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Map;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 검증된 토큰 캐시가 토큰 만료 시각까지만 클레임을 돌려주고, 크기 상한과 검증 실패 토큰 제외 규칙을 지키는지 검증한다.
+ */
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "test-secret-key-for-verified-token-cache-minimum-32-characters";
+
+    @Test
+    void 토큰_만료_시각이_지나면_캐시된_클레임을_돌려주지_않는다() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2024-06-01T00:00:00Z"));
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+        Claims claims = claimsExpiringAt(clock.instant().plusSeconds(60));
+        String key = VerifiedTokenCache.keyOf("token");
+        cache.put(key, claims);
+
+        // when
+        Claims beforeExpiry = cache.get(key);
+        clock.advance(Duration.ofSeconds(60));
+        Claims atExpiry = cache.get(key);
+
+        // then
+        assertThat(beforeExpiry).isSameAs(claims);
+        assertThat(atExpiry).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_사용하지_않은_토큰부터_제거한다() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2024-06-01T00:00:00Z"));
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, clock);
+        Claims claims = claimsExpiringAt(clock.instant().plusSeconds(3_600));
+        cache.put(VerifiedTokenCache.keyOf("first"), claims);
+        cache.put(VerifiedTokenCache.keyOf("second"), claims);
+
+        // when - first를 다시 사용한 뒤 세 번째 토큰을 저장
+        cache.get(VerifiedTokenCache.keyOf("first"));
+        cache.put(VerifiedTokenCache.keyOf("third"), claims);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(VerifiedTokenCache.keyOf("first"))).isNotNull();
+        assertThat(cache.get(VerifiedTokenCache.keyOf("second"))).isNull();
+        assertThat(cache.get(VerifiedTokenCache.keyOf("third"))).isNotNull();
+    }
+
+    @Test
+    void 만료_시각이_없거나_이미_만료된_클레임은_저장하지_않는다() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2024-06-01T00:00:00Z"));
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+
+        // when
+        cache.put(VerifiedTokenCache.keyOf("no-exp"), Jwts.claims().subject("1").build());
+        cache.put(VerifiedTokenCache.keyOf("expired"), claimsExpiringAt(clock.instant()));
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 같은_토큰은_한_번만_검증하고_헬퍼_메서드도_캐시된_클레임을_사용한다() {
+        // given
+        JwtConfig jwtConfig = new JwtConfig(SECRET, Duration.ofMinutes(30), "refresh_token", 100);
+        String accessToken = jwtConfig.generateAccessToken("42", Map.of());
+        String refreshToken = jwtConfig.generateRefreshToken("42");
+
+        // when
+        Claims first = jwtConfig.parseToken(accessToken);
+        Claims second = jwtConfig.parseToken(accessToken);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(jwtConfig.isTokenValid(accessToken)).isTrue();
+        assertThat(jwtConfig.isRefreshToken(accessToken)).isFalse();
+        assertThat(jwtConfig.isRefreshToken(refreshToken)).isTrue();
+        assertThat(jwtConfig.getSubjectFromToken(refreshToken)).isEqualTo("42");
+        assertThat(verifiedTokenCache(jwtConfig).size()).isEqualTo(2);
+    }
+
+    @Test
+    void 서명_검증에_실패한_토큰은_캐시하지_않는다() {
+        // given
+        JwtConfig jwtConfig = new JwtConfig(SECRET, Duration.ofMinutes(30), "refresh_token", 100);
+        JwtConfig otherIssuer = new JwtConfig(SECRET.replace('t', 'x'), Duration.ofMinutes(30), "refresh_token", 0);
+        String forgedToken = otherIssuer.generateAccessToken("42", Map.of());
+
+        // when & then
+        assertThat(jwtConfig.isTokenValid(forgedToken)).isFalse();
+        assertThatThrownBy(() -> jwtConfig.parseToken(forgedToken)).isInstanceOf(JwtException.class);
+        assertThat(verifiedTokenCache(jwtConfig).size()).isZero();
+    }
+
+    private Claims claimsExpiringAt(Instant expiresAt) {
+        return Jwts.claims().subject("1").expiration(Date.from(expiresAt)).build();
+    }
+
+    private VerifiedTokenCache verifiedTokenCache(JwtConfig jwtConfig) {
+        return (VerifiedTokenCache) ReflectionTestUtils.getField(jwtConfig, "verifiedTokenCache");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
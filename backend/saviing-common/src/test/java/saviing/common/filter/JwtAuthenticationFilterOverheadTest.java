@@ -0,0 +1,74 @@
+package saviing.common.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import lombok.extern.slf4j.Slf4j;
+
+import saviing.common.config.JwtConfig;
+
+/**
+ * 같은 액세스 토큰으로 반복 요청할 때 검증된 토큰 캐시 유무에 따른 필터의 요청당 처리 시간을 측정해 로그로 남긴다.
+ * 요청 횟수는 {@code jwt.filter.benchmark.requests} 시스템 프로퍼티로 조정할 수 있다 (기본 20,000회).
+ */
+@Slf4j
+class JwtAuthenticationFilterOverheadTest {
+
+    private static final int REQUESTS = Integer.getInteger("jwt.filter.benchmark.requests", 20_000);
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final String SECRET = "test-secret-key-for-jwt-filter-overhead-minimum-32-characters";
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 캐시_유무에_따른_요청당_필터_처리_시간을_기록한다() throws Exception {
+        // given
+        JwtConfig uncached = new JwtConfig(SECRET, Duration.ofMinutes(30), "refresh_token", 0);
+        JwtConfig cached = new JwtConfig(SECRET, Duration.ofMinutes(30), "refresh_token", 1_000);
+        String accessToken = cached.generateAccessToken("42", Map.of());
+
+        // when
+        long uncachedNanos = measure(new JwtAuthenticationFilter(uncached), accessToken);
+        long cachedNanos = measure(new JwtAuthenticationFilter(cached), accessToken);
+
+        // then
+        Authentication authentication = authenticate(new JwtAuthenticationFilter(cached), accessToken);
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isEqualTo("42");
+
+        log.info("JWT 필터 요청당 처리 시간: requests={}, uncachedNsPerRequest={}, cachedNsPerRequest={}",
+            REQUESTS, uncachedNanos / REQUESTS, cachedNanos / REQUESTS);
+    }
+
+    private long measure(JwtAuthenticationFilter filter, String accessToken) throws Exception {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            authenticate(filter, accessToken);
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            authenticate(filter, accessToken);
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private Authentication authenticate(JwtAuthenticationFilter filter, String accessToken) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/accounts");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -12,11 +12,13 @@ import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import saviing.game.character.domain.model.enums.ConnectionStatus;
+import saviing.common.persistence.PooledIdGeneration;
 
 /**
  * Character JPA Entity
@@ -29,7 +31,15 @@ import saviing.game.character.domain.model.enums.ConnectionStatus;
 public class CharacterEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "characters_id")
+    @TableGenerator(
+        name = "characters_id",
+        table = PooledIdGeneration.TABLE,
+        pkColumnName = PooledIdGeneration.SEGMENT_COLUMN,
+        valueColumnName = PooledIdGeneration.VALUE_COLUMN,
+        pkColumnValue = "characters",
+        allocationSize = PooledIdGeneration.ALLOCATION_SIZE
+    )
     @Column(name = "character_id")
     private Long characterId;
 
@@ -12,12 +12,14 @@ import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import saviing.game.room.domain.model.aggregate.Category;
+import saviing.common.persistence.PooledIdGeneration;
 
     /**
      * room_placement 테이블과 매핑되는 JPA 엔티티입니다.
@@ -34,7 +36,15 @@ import saviing.game.room.domain.model.aggregate.Category;
 public class PlacementEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "room_placement_id")
+    @TableGenerator(
+        name = "room_placement_id",
+        table = PooledIdGeneration.TABLE,
+        pkColumnName = PooledIdGeneration.SEGMENT_COLUMN,
+        valueColumnName = PooledIdGeneration.VALUE_COLUMN,
+        pkColumnValue = "room_placement",
+        allocationSize = PooledIdGeneration.ALLOCATION_SIZE
+    )
     @Column(name = "placement_id")
     private Long placementId;
 
@@ -9,9 +9,11 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import saviing.common.persistence.PooledIdGeneration;
 
 /**
  * Room 도메인 객체의 JPA 엔티티
@@ -31,7 +33,15 @@ import lombok.NoArgsConstructor;
 public class RoomEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "room_id")
+    @TableGenerator(
+        name = "room_id",
+        table = PooledIdGeneration.TABLE,
+        pkColumnName = PooledIdGeneration.SEGMENT_COLUMN,
+        valueColumnName = PooledIdGeneration.VALUE_COLUMN,
+        pkColumnValue = "room",
+        allocationSize = PooledIdGeneration.ALLOCATION_SIZE
+    )
     private Long roomId;
 
     @Column(nullable = false)
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import saviing.game.shop.domain.model.vo.PaymentMethod;
+import saviing.common.persistence.PooledIdGeneration;
 
 import java.time.LocalDateTime;
 
@@ -20,7 +21,15 @@ import java.time.LocalDateTime;
 public class PurchaseRecordEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "purchase_records_id")
+    @TableGenerator(
+        name = "purchase_records_id",
+        table = PooledIdGeneration.TABLE,
+        pkColumnName = PooledIdGeneration.SEGMENT_COLUMN,
+        valueColumnName = PooledIdGeneration.VALUE_COLUMN,
+        pkColumnValue = "purchase_records",
+        allocationSize = PooledIdGeneration.ALLOCATION_SIZE
+    )
     @Column(name = "purchase_id")
     private Long purchaseId;
 
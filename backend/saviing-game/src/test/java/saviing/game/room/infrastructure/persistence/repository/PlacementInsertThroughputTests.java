@@ -0,0 +1,81 @@
+package saviing.game.room.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import lombok.extern.slf4j.Slf4j;
+
+import saviing.game.room.domain.model.aggregate.Category;
+import saviing.game.room.domain.model.aggregate.PlacedItem;
+import saviing.game.room.domain.model.aggregate.Placement;
+import saviing.game.room.domain.model.vo.ItemSize;
+import saviing.game.room.domain.model.vo.Position;
+import saviing.game.room.domain.model.vo.RoomId;
+import saviing.game.room.domain.repository.PlacementRepository;
+import saviing.game.room.infrastructure.persistence.entity.PlacementEntity;
+
+/**
+ * 풀링 식별자 채번으로 배치 저장(saveAll)이 JDBC 배치 INSERT로 묶인 상태에서 배치 저장 처리량을 측정해 로그로 남긴다.
+ * 방 수와 방당 아이템 수는 {@code placement.insert.benchmark.rooms}, {@code placement.insert.benchmark.items}
+ * 시스템 프로퍼티로 조정할 수 있다 (기본 50개 방, 방당 40개 아이템).
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class PlacementInsertThroughputTests {
+
+    private static final int ROOMS = Integer.getInteger("placement.insert.benchmark.rooms", 50);
+    private static final int ITEMS_PER_ROOM = Integer.getInteger("placement.insert.benchmark.items", 40);
+    private static final long ROOM_ID_BASE = 910_000L;
+    private static final long INVENTORY_ITEM_ID_BASE = 910_000_000L;
+
+    @Autowired
+    private PlacementRepository placementRepository;
+    @Autowired
+    private PlacementJpaRepository placementJpaRepository;
+
+    @Test
+    void 방마다_배치를_저장하고_처리량을_기록한다() {
+        // when
+        long startedAt = System.nanoTime();
+        for (int room = 0; room < ROOMS; room++) {
+            placementRepository.save(placementOf(room));
+        }
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        Set<Long> placementIds = new HashSet<>();
+        for (int room = 0; room < ROOMS; room++) {
+            List<PlacementEntity> entities = placementJpaRepository.findByRoomIdOrderByPlacementIdAsc(ROOM_ID_BASE + room);
+            assertThat(entities).hasSize(ITEMS_PER_ROOM);
+            entities.forEach(entity -> placementIds.add(entity.getPlacementId()));
+        }
+        assertThat(placementIds).hasSize(ROOMS * ITEMS_PER_ROOM);
+        log.info("배치 INSERT 처리량: rooms={}, itemsPerRoom={}, elapsedMs={}, rowsPerSec={}",
+            ROOMS, ITEMS_PER_ROOM, elapsedMs,
+            elapsedMs == 0 ? ROOMS * ITEMS_PER_ROOM : ROOMS * ITEMS_PER_ROOM * 1_000L / elapsedMs);
+    }
+
+    private Placement placementOf(int room) {
+        Placement placement = Placement.create(new RoomId(ROOM_ID_BASE + room));
+        for (int i = 0; i < ITEMS_PER_ROOM; i++) {
+            long inventoryItemId = INVENTORY_ITEM_ID_BASE + (long) room * ITEMS_PER_ROOM + i;
+            placement.addItem(PlacedItem.create(
+                inventoryItemId,
+                1L,
+                new Position(i, 0),
+                new ItemSize(1, 1),
+                Category.LEFT
+            ));
+        }
+        return placement;
+    }
+}